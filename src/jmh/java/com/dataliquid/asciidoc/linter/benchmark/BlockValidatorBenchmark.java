@@ -0,0 +1,148 @@
+package com.dataliquid.asciidoc.linter.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Options;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.StructuralNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.dataliquid.asciidoc.linter.ast.AstSnapshot;
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.blocks.Block;
+import com.dataliquid.asciidoc.linter.config.blocks.BlockType;
+import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
+import com.dataliquid.asciidoc.linter.config.rule.SectionConfig;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
+import com.dataliquid.asciidoc.linter.validator.block.AdmonitionBlockValidator;
+import com.dataliquid.asciidoc.linter.validator.block.BlockTypeDetector;
+import com.dataliquid.asciidoc.linter.validator.block.BlockTypeValidator;
+import com.dataliquid.asciidoc.linter.validator.block.BlockValidationContext;
+import com.dataliquid.asciidoc.linter.validator.block.ImageBlockValidator;
+import com.dataliquid.asciidoc.linter.validator.block.ListingBlockValidator;
+import com.dataliquid.asciidoc.linter.validator.block.ParagraphBlockValidator;
+import com.dataliquid.asciidoc.linter.validator.block.TableBlockValidator;
+import com.dataliquid.asciidoc.linter.validator.block.UlistBlockValidator;
+
+/**
+ * Cost of a single {@link BlockTypeValidator} in isolation. Every block of the
+ * measured type in the example documents is validated against the first rule
+ * for that type found in the example rule sets; parsing is done once during
+ * setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockValidatorBenchmark {
+
+    @Param({ "PARAGRAPH", "LISTING", "TABLE", "ULIST", "ADMONITION", "IMAGE" })
+    private BlockType blockType;
+
+    private BlockTypeValidator validator;
+    private Block rule;
+    private final List<StructuralNode> blocks = new ArrayList<>();
+    private final List<BlockValidationContext> contexts = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        validator = createValidator(blockType);
+        ConfigurationLoader loader = new ConfigurationLoader();
+        BlockTypeDetector detector = new BlockTypeDetector();
+        SourceRegistry sourceRegistry = new SourceRegistry();
+
+        Asciidoctor asciidoctor = Asciidoctor.Factory.create();
+        try {
+            for (String ruleSet : Fixtures.RULE_SETS) {
+                if (rule == null) {
+                    LinterConfiguration configuration = loader.loadConfiguration(Fixtures.ruleFile(ruleSet));
+                    rule = findRule(configuration.document().sections(), blockType);
+                }
+
+                String filename = Fixtures.documentFile(ruleSet).toString();
+                String content = Fixtures.document(ruleSet);
+                sourceRegistry.register(filename, content);
+                Document document = AstSnapshot
+                        .capture(asciidoctor.load(content, Options.builder().sourcemap(true).build()));
+
+                int before = blocks.size();
+                collectBlocks(document, detector, blocks);
+                BlockValidationContext context = new BlockValidationContext(document, filename, sourceRegistry);
+                for (int i = before; i < blocks.size(); i++) {
+                    contexts.add(context);
+                }
+            }
+        } finally {
+            asciidoctor.close();
+        }
+
+        if (rule == null || blocks.isEmpty()) {
+            throw new IllegalStateException("Example fixtures contain no rule or block of type " + blockType);
+        }
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        for (int i = 0; i < blocks.size(); i++) {
+            blackhole.consume(validator.validate(blocks.get(i), rule, contexts.get(i)));
+        }
+    }
+
+    private void collectBlocks(StructuralNode node, BlockTypeDetector detector, List<StructuralNode> found) {
+        for (StructuralNode child : node.getBlocks()) {
+            if (detector.detectType(child) == blockType) {
+                found.add(child);
+            }
+            collectBlocks(child, detector, found);
+        }
+    }
+
+    private static Block findRule(List<SectionConfig> sections, BlockType type) {
+        for (SectionConfig section : sections) {
+            if (section.allowedBlocks() != null) {
+                for (Block block : section.allowedBlocks()) {
+                    if (block.getType() == type) {
+                        return block;
+                    }
+                }
+            }
+            if (section.subsections() != null) {
+                Block block = findRule(section.subsections(), type);
+                if (block != null) {
+                    return block;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static BlockTypeValidator createValidator(BlockType type) {
+        return switch (type) {
+        case PARAGRAPH -> new ParagraphBlockValidator();
+        case LISTING -> new ListingBlockValidator();
+        case TABLE -> new TableBlockValidator();
+        case ULIST -> new UlistBlockValidator();
+        case ADMONITION -> new AdmonitionBlockValidator();
+        case IMAGE -> new ImageBlockValidator();
+        default -> throw new IllegalArgumentException("No benchmark fixture for block type " + type);
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.dataliquid.asciidoc.linter.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
+
+/**
+ * Loading a rule configuration including schema validation, which every CLI run
+ * pays once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigurationLoaderBenchmark {
+
+    @Param({ Fixtures.BASIC, Fixtures.STRICT, Fixtures.TECHNICAL_DOCS })
+    private String ruleSet;
+
+    private ConfigurationLoader loader;
+    private Path ruleFile;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        loader = new ConfigurationLoader();
+        ruleFile = Fixtures.ruleFile(ruleSet);
+    }
+
+    @Benchmark
+    public LinterConfiguration loadConfiguration() throws IOException {
+        return loader.loadConfiguration(ruleFile);
+    }
+}
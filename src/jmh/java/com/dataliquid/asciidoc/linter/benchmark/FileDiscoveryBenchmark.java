@@ -0,0 +1,77 @@
+package com.dataliquid.asciidoc.linter.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dataliquid.asciidoc.linter.cli.FileDiscoveryService;
+
+/**
+ * File discovery over a generated directory tree in which a quarter of the
+ * files are not AsciiDoc, with one and with several input patterns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileDiscoveryBenchmark {
+
+    private static final int FILES_PER_DIRECTORY = 20;
+
+    @Param({ "100", "1000" })
+    private int fileCount;
+
+    private FileDiscoveryService discoveryService;
+    private Path root;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        discoveryService = new FileDiscoveryService();
+        root = Files.createTempDirectory("asciidoc-linter-discovery");
+        for (int i = 0; i < fileCount; i++) {
+            Path directory = root.resolve("module" + i / FILES_PER_DIRECTORY).resolve("docs");
+            Files.createDirectories(directory);
+            String extension = i % 4 == 0 ? ".txt" : ".adoc";
+            Files.writeString(directory.resolve("file" + i + extension), "= Document " + i + "\n");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Path> discoverSinglePattern() throws IOException {
+        return discoveryService.discoverFiles(List.of("**/*.adoc"), root);
+    }
+
+    @Benchmark
+    public List<Path> discoverMultiplePatterns() throws IOException {
+        return discoveryService.discoverFiles(List.of("**/docs/*.adoc", "module1*/**/*.adoc", "**/*.txt"), root);
+    }
+}
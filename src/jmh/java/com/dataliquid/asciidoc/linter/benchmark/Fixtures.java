@@ -0,0 +1,56 @@
+package com.dataliquid.asciidoc.linter.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Locates the example rule sets in {@code examples/rules} that the benchmarks
+ * use as fixtures. The directory can be overridden with the system property
+ * {@code benchmark.fixtures}.
+ */
+final class Fixtures {
+
+    /** Names of the example rule sets, as used in {@code @Param} values. */
+    static final String BASIC = "basic";
+    static final String STRICT = "strict";
+    static final String TECHNICAL_DOCS = "technical-docs";
+
+    static final List<String> RULE_SETS = List.of(BASIC, STRICT, TECHNICAL_DOCS);
+
+    private static final String FIXTURES_PROPERTY = "benchmark.fixtures";
+    private static final String DEFAULT_DIRECTORY = "examples/rules";
+
+    private Fixtures() {
+        // Utility class
+    }
+
+    static Path directory() {
+        return Paths.get(System.getProperty(FIXTURES_PROPERTY, DEFAULT_DIRECTORY)).toAbsolutePath();
+    }
+
+    static Path ruleFile(String ruleSet) {
+        return switch (ruleSet) {
+        case BASIC -> directory().resolve("basic/basic-rules.yaml");
+        case STRICT -> directory().resolve("strict/strict-rules.yaml");
+        case TECHNICAL_DOCS -> directory().resolve("technical-docs/technical-docs-rules.yaml");
+        default -> throw new IllegalArgumentException("Unknown rule set: " + ruleSet);
+        };
+    }
+
+    static Path documentFile(String ruleSet) {
+        return switch (ruleSet) {
+        case BASIC -> directory().resolve("basic/sample-document.adoc");
+        case STRICT -> directory().resolve("strict/professional-document.adoc");
+        case TECHNICAL_DOCS -> directory().resolve("technical-docs/api-documentation.adoc");
+        default -> throw new IllegalArgumentException("Unknown rule set: " + ruleSet);
+        };
+    }
+
+    static String document(String ruleSet) throws IOException {
+        return Files.readString(documentFile(ruleSet), StandardCharsets.UTF_8);
+    }
+}
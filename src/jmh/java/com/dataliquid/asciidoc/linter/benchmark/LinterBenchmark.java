@@ -0,0 +1,60 @@
+package com.dataliquid.asciidoc.linter.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dataliquid.asciidoc.linter.Linter;
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+
+/**
+ * End-to-end cost of linting one document: parsing, AST capture and all
+ * validators, measured with each example rule set on its example document.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LinterBenchmark {
+
+    @Param({ Fixtures.BASIC, Fixtures.STRICT, Fixtures.TECHNICAL_DOCS })
+    private String ruleSet;
+
+    private Linter linter;
+    private LinterConfiguration configuration;
+    private String content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        linter = new Linter();
+        configuration = new ConfigurationLoader().loadConfiguration(Fixtures.ruleFile(ruleSet));
+        content = Fixtures.document(ruleSet);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        linter.close();
+    }
+
+    @Benchmark
+    public ValidationResult validateContent() {
+        return linter.validateContent(content, configuration);
+    }
+}
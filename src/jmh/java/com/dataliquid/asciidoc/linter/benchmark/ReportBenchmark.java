@@ -0,0 +1,85 @@
+package com.dataliquid.asciidoc.linter.benchmark;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dataliquid.asciidoc.linter.Linter;
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
+import com.dataliquid.asciidoc.linter.config.output.OutputConfiguration;
+import com.dataliquid.asciidoc.linter.report.ConsoleFormatter;
+import com.dataliquid.asciidoc.linter.report.JsonFormatter;
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+
+/**
+ * Report rendering for the findings of every example document checked against
+ * every example rule set. Output goes to a discarding writer, so only
+ * formatting is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportBenchmark {
+
+    private Linter linter;
+    private ValidationResult result;
+    private JsonFormatter jsonFormatter;
+    private ConsoleFormatter consoleFormatter;
+    private PrintWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ConfigurationLoader loader = new ConfigurationLoader();
+        ValidationResult.Builder aggregated = ValidationResult.builder();
+
+        // The linter stays open so the console formatter finds the sources
+        linter = new Linter();
+        for (String ruleSet : Fixtures.RULE_SETS) {
+            LinterConfiguration configuration = loader.loadConfiguration(Fixtures.ruleFile(ruleSet));
+            for (String documentSet : Fixtures.RULE_SETS) {
+                ValidationResult documentResult = linter
+                        .validateFile(Fixtures.documentFile(documentSet), configuration);
+                aggregated.addScannedFiles(documentResult.getScannedFiles());
+                aggregated.addMessages(documentResult.getMessages());
+            }
+        }
+        result = aggregated.complete().build();
+
+        jsonFormatter = JsonFormatter.pretty();
+        consoleFormatter = new ConsoleFormatter(OutputConfiguration.defaultConfig(), linter.getSourceRegistry());
+        writer = new PrintWriter(Writer.nullWriter());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        linter.close();
+    }
+
+    @Benchmark
+    public void formatJson() {
+        jsonFormatter.format(result, writer);
+    }
+
+    @Benchmark
+    public void formatConsole() {
+        consoleFormatter.format(result, writer);
+    }
+}
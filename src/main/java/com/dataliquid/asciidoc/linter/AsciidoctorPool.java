@@ -0,0 +1,88 @@
+package com.dataliquid.asciidoc.linter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.asciidoctor.Asciidoctor;
+
+/**
+ * Bounded pool of {@link Asciidoctor} instances. Each instance owns its own
+ * JRuby runtime, so instances are created lazily on first demand and a single
+ * instance is never handed to more than one thread at a time.
+ */
+final class AsciidoctorPool {
+
+    private final int maxSize;
+    private final BlockingQueue<Asciidoctor> idle;
+    private final List<Asciidoctor> created;
+
+    AsciidoctorPool(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("pool size must be at least 1, got " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.idle = new LinkedBlockingQueue<>();
+        this.created = new ArrayList<>();
+    }
+
+    /**
+     * Borrows an instance from the pool, creating a new one if the pool has not
+     * reached its maximum size yet, or waiting for a free one otherwise.
+     *
+     * @return                      an instance exclusively owned by the caller
+     *                              until {@link #release(Asciidoctor)} is called
+     *
+     * @throws InterruptedException if interrupted while waiting for an instance
+     */
+    Asciidoctor acquire() throws InterruptedException {
+        Asciidoctor asciidoctor = idle.poll();
+        if (asciidoctor != null) {
+            return asciidoctor;
+        }
+
+        synchronized (created) {
+            if (created.size() < maxSize) {
+                asciidoctor = Asciidoctor.Factory.create();
+                created.add(asciidoctor);
+                return asciidoctor;
+            }
+        }
+
+        return idle.take();
+    }
+
+    /**
+     * Returns a previously acquired instance to the pool.
+     *
+     * @param asciidoctor the instance to return
+     */
+    void release(Asciidoctor asciidoctor) {
+        if (asciidoctor != null) {
+            idle.offer(asciidoctor);
+        }
+    }
+
+    /**
+     * Returns the maximum number of instances this pool will create.
+     *
+     * @return the pool size
+     */
+    int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Closes all instances created by this pool. Safe to call more than once.
+     */
+    void close() {
+        synchronized (created) {
+            for (Asciidoctor asciidoctor : created) {
+                asciidoctor.close();
+            }
+            created.clear();
+            idle.clear();
+        }
+    }
+}
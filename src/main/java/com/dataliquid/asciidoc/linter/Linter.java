@@ -1,23 +1,27 @@
 package com.dataliquid.asciidoc.linter;
 
 import java.io.IOException;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Locale;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,12 +29,30 @@ import org.asciidoctor.Asciidoctor;
 import org.asciidoctor.Attributes;
 import org.asciidoctor.Options;
 import org.asciidoctor.ast.Document;
-import org.asciidoctor.ast.StructuralNode;
+import org.asciidoctor.ast.Section;
 
+import com.dataliquid.asciidoc.linter.ast.AstSnapshot;
+import com.dataliquid.asciidoc.linter.cache.ResultCache;
 import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.common.Severity;
 import com.dataliquid.asciidoc.linter.config.rule.SectionConfig;
+import com.dataliquid.asciidoc.linter.discovery.DirectoryScanner;
+import com.dataliquid.asciidoc.linter.discovery.ScanFilter;
+import com.dataliquid.asciidoc.linter.jfr.DocumentWalkEvent;
+import com.dataliquid.asciidoc.linter.jfr.LintEvents;
+import com.dataliquid.asciidoc.linter.jfr.ParseEvent;
+import com.dataliquid.asciidoc.linter.jfr.ValidateEvent;
+import com.dataliquid.asciidoc.linter.profile.ProfileCategory;
+import com.dataliquid.asciidoc.linter.profile.Profiler;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
+import com.dataliquid.asciidoc.linter.source.Suppressions;
 import com.dataliquid.asciidoc.linter.validator.BlockValidator;
+import com.dataliquid.asciidoc.linter.validator.DocumentVisitor;
+import com.dataliquid.asciidoc.linter.validator.DocumentWalker;
+import com.dataliquid.asciidoc.linter.validator.MessageBudget;
+import com.dataliquid.asciidoc.linter.validator.MessageLimits;
 import com.dataliquid.asciidoc.linter.validator.MetadataValidator;
+import com.dataliquid.asciidoc.linter.validator.RulePlan;
 import com.dataliquid.asciidoc.linter.validator.SectionValidator;
 import com.dataliquid.asciidoc.linter.validator.SourceLocation;
 import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
@@ -48,17 +70,113 @@ public class Linter {
     private static final String CLASS_NAME_DIRECTORY_NULL_MSG = "] directory must not be null";
     private static final String CLASS_NAME_PATTERN_NULL_MSG = "] pattern must not be null";
     private static final String CLASS_NAME_CONTENT_NULL_MSG = "] content must not be null";
+    private static final String CLASS_NAME_LISTENER_NULL_MSG = "] listener must not be null";
+
+    private static final String CLASS_NAME_THREADS_MSG = "] threads must be at least 1";
+    private static final String METADATA_RULES = "metadata";
+    private static final String SECTION_RULES = "section";
+    private static final String WORKER_THREAD_PREFIX = "asciidoc-linter-worker-";
+    private static final int FILES_IN_FLIGHT_PER_THREAD = 4;
 
     private static final Logger logger = LogManager.getLogger(Linter.class);
 
-    private final Asciidoctor asciidoctor;
+    private final int threads;
+    private final AsciidoctorPool asciidoctorPool;
+    private final ResultCache resultCache;
+    private final SourceRegistry sourceRegistry;
+    private final Profiler profiler;
+    private final Severity minimumSeverity;
+    private final MessageLimits messageLimits;
+    private volatile SharedValidators sharedValidators;
 
+    /**
+     * Creates a linter that validates files sequentially on a single Asciidoctor
+     * instance.
+     */
     public Linter() {
-        this.asciidoctor = Asciidoctor.Factory.create();
+        this(builder());
+    }
+
+    private Linter(Builder builder) {
+        if (builder._threads < 1) {
+            throw new IllegalArgumentException("[" + getClass().getName() + CLASS_NAME_THREADS_MSG);
+        }
+        this.threads = builder._threads;
+        this.asciidoctorPool = new AsciidoctorPool(builder._threads);
+        this.resultCache = builder._resultCache;
+        this.sourceRegistry = builder._sourceRegistry != null ? builder._sourceRegistry : new SourceRegistry();
+        this.profiler = builder._profiler != null ? builder._profiler : Profiler.disabled();
+        this.minimumSeverity = Objects
+                .requireNonNull(builder._minimumSeverity,
+                        "[" + getClass().getName() + "] minimumSeverity must not be null");
+        this.messageLimits = Objects
+                .requireNonNull(builder._messageLimits,
+                        "[" + getClass().getName() + "] messageLimits must not be null");
+    }
+
+    /**
+     * Returns the number of worker threads used by
+     * {@link #validateFiles(List, LinterConfiguration)}.
+     *
+     * @return the number of worker threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Returns the result cache consulted before parsing a file.
+     *
+     * @return the result cache, or empty if caching is disabled
+     */
+    public Optional<ResultCache> getResultCache() {
+        return Optional.ofNullable(resultCache);
+    }
+
+    /**
+     * Returns the registry holding the source of every document validated by this
+     * linter. Sources of files without findings are released after validation;
+     * the others stay available so reports can render their context without
+     * reading the files again.
+     *
+     * @return the source registry
+     */
+    public SourceRegistry getSourceRegistry() {
+        return sourceRegistry;
+    }
+
+    /**
+     * Returns the profiler that records the cost of parsing and validation.
+     *
+     * @return the profiler, disabled unless one was set on the builder
+     */
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Returns the least severe severity that is reported. Rules below it are left
+     * out before documents are parsed.
+     *
+     * @return the minimum reported severity
+     */
+    public Severity getMinimumSeverity() {
+        return minimumSeverity;
+    }
+
+    /**
+     * Returns the caps on the number of messages reported per file and per rule.
+     *
+     * @return the message limits
+     */
+    public MessageLimits getMessageLimits() {
+        return messageLimits;
     }
 
     /**
-     * Validates a single AsciiDoc file.
+     * Validates a single AsciiDoc file. If a result cache is configured, the
+     * cached result is returned for files that have not changed since they were
+     * last validated.
      *
      * @param  file        the file to validate
      * @param  config      the linter configuration
@@ -79,35 +197,154 @@ public class Linter {
             throw new IOException("Not a regular file: " + file);
         }
 
-        return performValidation(file, config);
+        // The file is read once; parsing, validation and reporting share the content
+        Profiler.Sample read = profiler.start();
+        String content = sourceRegistry.read(file);
+        profiler.record(ProfileCategory.PHASE, "read", read);
+
+        ValidationResult result;
+        if (resultCache == null) {
+            result = performValidation(file, content, config);
+        } else {
+            // Unchanged files replay their cached messages without being parsed
+            String cacheKey = resultCache.key(file, content, config, minimumSeverity, messageLimits);
+            Optional<ValidationResult> cached = resultCache.lookup(cacheKey, file);
+            if (cached.isPresent()) {
+                result = cached.get();
+            } else {
+                result = performValidation(file, content, config);
+                resultCache.store(cacheKey, file, result);
+            }
+        }
+
+        if (!result.hasMessages()) {
+            sourceRegistry.release(file.toString());
+        }
+        countRules(result);
+        return result;
     }
 
     /**
-     * Validates multiple AsciiDoc files.
+     * Validates multiple AsciiDoc files. When the linter was built with more than
+     * one thread, files are distributed across a pool of worker threads, each
+     * owning its own Asciidoctor instance. The returned map always iterates in the
+     * order of the given file list, regardless of the number of threads.
      *
      * @param  files  the files to validate
      * @param  config the linter configuration
      *
-     * @return        map of file to validation result
+     * @return        map of file to validation result, in input order
      */
     public Map<Path, ValidationResult> validateFiles(List<Path> files, LinterConfiguration config) {
+        Map<Path, ValidationResult> results = new LinkedHashMap<>();
+        validateFiles(files, config, results::put);
+        return results;
+    }
+
+    /**
+     * Validates multiple AsciiDoc files and hands each result to the listener as
+     * soon as it is available, instead of collecting all results first. Results
+     * are delivered on the calling thread in the order of the given file list.
+     * With more than one thread, only a bounded number of files is validated
+     * ahead of the next result to deliver, so memory use does not grow with the
+     * number of files.
+     *
+     * @param files    the files to validate
+     * @param config   the linter configuration
+     * @param listener receives the result of every file
+     */
+    public void validateFiles(List<Path> files, LinterConfiguration config, ValidationListener listener) {
+        Objects.requireNonNull(files, "[" + getClass().getName() + CLASS_NAME_FILES_NULL_MSG);
+        Objects.requireNonNull(config, "[" + getClass().getName() + CLASS_NAME_CONFIG_NULL_MSG);
+        Objects.requireNonNull(listener, "[" + getClass().getName() + CLASS_NAME_LISTENER_NULL_MSG);
+
+        if (threads == 1 || files.size() <= 1) {
+            validateFilesSequentially(files.iterator(), config, listener);
+            return;
+        }
+
+        validateFilesInParallel(files.iterator(), Math.min(threads, files.size()), config, listener);
+    }
+
+    /**
+     * Validates AsciiDoc files while they are still being discovered. Files are
+     * taken from the iterator as workers become free, so
+     * {@link Iterator#hasNext()} may block until the next file is found. Results
+     * are delivered on the calling thread in iteration order, as with
+     * {@link #validateFiles(List, LinterConfiguration, ValidationListener)}.
+     *
+     * @param files    the files to validate
+     * @param config   the linter configuration
+     * @param listener receives the result of every file
+     */
+    public void validateFiles(Iterator<Path> files, LinterConfiguration config, ValidationListener listener) {
         Objects.requireNonNull(files, "[" + getClass().getName() + CLASS_NAME_FILES_NULL_MSG);
         Objects.requireNonNull(config, "[" + getClass().getName() + CLASS_NAME_CONFIG_NULL_MSG);
+        Objects.requireNonNull(listener, "[" + getClass().getName() + CLASS_NAME_LISTENER_NULL_MSG);
+
+        if (threads == 1) {
+            validateFilesSequentially(files, config, listener);
+            return;
+        }
+
+        validateFilesInParallel(files, threads, config, listener);
+    }
+
+    private void validateFilesSequentially(Iterator<Path> files, LinterConfiguration config,
+            ValidationListener listener) {
+        while (files.hasNext()) {
+            Path file = files.next();
+            listener.fileValidated(file, validateFileSafely(file, config));
+        }
+    }
 
-        Map<Path, ValidationResult> results = new ConcurrentHashMap<>();
+    private void validateFilesInParallel(Iterator<Path> files, int workerCount, LinterConfiguration config,
+            ValidationListener listener) {
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount, new WorkerThreadFactory());
 
-        for (Path file : files) {
-            try {
-                ValidationResult result = validateFile(file, config);
-                results.put(file, result);
-            } catch (IOException e) {
-                // Create error result
-                ValidationResult errorResult = createIOErrorResult(file, e);
-                results.put(file, errorResult);
+        // Results are delivered in submission order; limiting the files submitted
+        // ahead of the next delivery bounds the results waiting in memory
+        int window = workerCount * FILES_IN_FLIGHT_PER_THREAD;
+        Deque<Path> pendingFiles = new ArrayDeque<>(window);
+        Deque<Future<ValidationResult>> pending = new ArrayDeque<>(window);
+
+        try {
+            while (true) {
+                while (pending.size() < window && files.hasNext()) {
+                    Path file = files.next();
+                    pendingFiles.add(file);
+                    pending.add(executor.submit(() -> validateFileSafely(file, config)));
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                Path file = pendingFiles.remove();
+                listener.fileValidated(file, awaitResult(file, pending.remove()));
             }
+        } finally {
+            executor.shutdownNow();
         }
+    }
 
-        return results;
+    private ValidationResult awaitResult(Path file, Future<ValidationResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return createParseErrorResult(file, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof Exception ? e.getCause() : e;
+            return createParseErrorResult(file, (Exception) cause);
+        }
+    }
+
+    private ValidationResult validateFileSafely(Path file, LinterConfiguration config) {
+        try {
+            return validateFile(file, config);
+        } catch (IOException e) {
+            // Create error result
+            return createIOErrorResult(file, e);
+        }
     }
 
     /**
@@ -137,7 +374,10 @@ public class Linter {
     }
 
     /**
-     * Validates AsciiDoc content from a string.
+     * Validates AsciiDoc content from a string. The content is held in a source
+     * registry of its own for the duration of the call, so it neither stays in
+     * the registry of the linter nor mixes with files or other content validated
+     * at the same time.
      *
      * @param  content the AsciiDoc content to validate
      * @param  config  the linter configuration
@@ -149,8 +389,18 @@ public class Linter {
         Objects.requireNonNull(config, "[" + getClass().getName() + CLASS_NAME_CONFIG_NULL_MSG);
 
         String filename = "inline-content";
+        SourceRegistry contentRegistry = new SourceRegistry();
+        contentRegistry.register(filename, content);
+        if (contentRegistry.getSuppressions(filename).isFileSuppressed()) {
+            // The content opts out of every rule, so it is not even parsed
+            return ValidationResult.builder().addScannedFile(filename).complete().build();
+        }
 
+        Asciidoctor asciidoctor = null;
         try {
+            SharedValidators validators = sharedValidatorsFor(config);
+            asciidoctor = asciidoctorPool.acquire();
+
             // Parse the document from string
             // Enable AsciidoctorJ's built-in front matter handling
             Attributes documentAttributes = Attributes.builder().skipFrontMatter(true).build();
@@ -159,24 +409,31 @@ public class Linter {
                     .builder()
                     .sourcemap(true) // Enable source location tracking
                     .toFile(false) // Don't write output file
+                    .parseHeaderOnly(validators.plan.isHeaderOnly()) // Skip the body for metadata-only rules
                     .attributes(documentAttributes)
                     .build();
-            Document document = asciidoctor.load(content, options);
+            Document document = parse(asciidoctor, content, options, filename);
 
             // Extract filename from document title if available
             if (document.getTitle() != null && !document.getTitle().isEmpty()) {
                 filename = document.getTitle().replaceAll("[^a-zA-Z0-9-_]", "_").toLowerCase(Locale.ROOT) + ".adoc";
             }
 
-            return performValidation(document, filename, config);
+            // Make the content visible to validators that look up source lines
+            contentRegistry.register(filename, content);
+
+            ValidationResult result = performValidation(document, content, filename, config,
+                    validators.withSourceRegistry(contentRegistry), contentRegistry);
+            countRules(result);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return createParseErrorResult(filename, e);
         } catch (Exception e) {
             // Create error result for parse failure
-            return ValidationResult
-                    .builder()
-                    .addScannedFile(filename)
-                    .addMessage(createParseErrorMessage(filename, e))
-                    .complete()
-                    .build();
+            return createParseErrorResult(filename, e);
+        } finally {
+            asciidoctorPool.release(asciidoctor);
         }
     }
 
@@ -184,180 +441,295 @@ public class Linter {
      * Closes the linter and releases resources.
      */
     public void close() {
-        if (asciidoctor != null) {
-            asciidoctor.close();
-        }
+        asciidoctorPool.close();
+        sourceRegistry.clear();
     }
 
-    private ValidationResult performValidation(Path file, LinterConfiguration config) {
+    private ValidationResult performValidation(Path file, String content, LinterConfiguration config) {
+        if (sourceRegistry.getSuppressions(file.toString()).isFileSuppressed()) {
+            // The file opts out of every rule, so it is not even parsed
+            return ValidationResult.builder().addScannedFile(file.toString()).complete().build();
+        }
+
+        Asciidoctor asciidoctor = null;
         try {
-            // Parse the document
+            SharedValidators validators = sharedValidatorsFor(config);
+            asciidoctor = asciidoctorPool.acquire();
+
+            // Parse the document from the registered content. loadFile would read
+            // the file again, so the attributes it derives from the path are set here.
+            Path absolute = file.toAbsolutePath();
+            Path directory = absolute.getParent();
+            String fileName = absolute.getFileName().toString();
+            int extension = fileName.lastIndexOf('.');
+
             // Enable AsciidoctorJ's built-in front matter handling
-            Attributes documentAttributes = Attributes.builder().skipFrontMatter(true).build();
+            Attributes documentAttributes = Attributes
+                    .builder()
+                    .skipFrontMatter(true)
+                    .attribute("docfile", absolute.toString())
+                    .attribute("docdir", directory.toString())
+                    .attribute("docname", extension > 0 ? fileName.substring(0, extension) : fileName)
+                    .attribute("docfilesuffix", extension > 0 ? fileName.substring(extension) : "")
+                    .build();
 
             Options options = Options
                     .builder()
                     .sourcemap(true) // Enable source location tracking
                     .toFile(false) // Don't write output file
+                    .baseDir(directory.toFile())
+                    .parseHeaderOnly(validators.plan.isHeaderOnly()) // Skip the body for metadata-only rules
                     .attributes(documentAttributes)
                     .build();
-            Document document = asciidoctor.loadFile(file.toFile(), options);
+            Document document = parse(asciidoctor, content, options, file.toString());
 
-            return performValidation(document, file.toString(), config);
+            return performValidation(document, content, file.toString(), config, validators, sourceRegistry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return createParseErrorResult(file, e);
         } catch (Exception e) {
             // Create error result for parse failure
-            return ValidationResult
-                    .builder()
-                    .addScannedFile(file.toString())
-                    .addMessage(createParseErrorMessage(file, e))
-                    .complete()
-                    .build();
+            return createParseErrorResult(file, e);
+        } finally {
+            asciidoctorPool.release(asciidoctor);
+        }
+    }
+
+    private Document parse(Asciidoctor asciidoctor, String content, Options options, String filename) {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        Profiler.Sample sample = profiler.start();
+
+        Document document = asciidoctor.load(content, options);
+
+        profiler.record(ProfileCategory.PHASE, "parse", sample);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFile(filename);
+            event.setSize(LintEvents.utf8Length(content));
+            event.commit();
         }
+        return document;
     }
 
-    private ValidationResult performValidation(Document document, String filename, LinterConfiguration config) {
+    private ValidationResult performValidation(Document parsedDocument, String content, String filename,
+            LinterConfiguration config, SharedValidators validators, SourceRegistry registry) {
+        ValidateEvent event = new ValidateEvent();
+        event.begin();
         ValidationResult.Builder resultBuilder = ValidationResult.builder().addScannedFile(filename);
 
+        // Copy the tree once so validators do not cross into JRuby on every query
+        Profiler.Sample snapshot = profiler.start();
+        Document document = AstSnapshot.capture(parsedDocument);
+        profiler.record(ProfileCategory.PHASE, "snapshot", snapshot);
+
+        RulePlan plan = validators.plan;
+        Suppressions suppressions = registry.getSuppressions(filename);
+        // Messages below the minimum severity or suppressed in the source are
+        // dropped as they are collected and do not count against the limits
+        MessageBudget budget = messageLimits
+                .newBudget(message -> plan.isReported(message.getSeverity()) && !suppressions.isSuppressed(message));
+
         // Run validators
         List<ValidationMessage> messages = new ArrayList<>();
 
         if (config.document() != null) {
             // Metadata validation
-            if (config.document().metadata() != null) {
+            if (config.document().metadata() != null && !suppressions.isSuppressedInFile(METADATA_RULES)) {
+                // Built per document: the order rule collects positions while validating
+                Profiler.Sample metadata = profiler.start();
                 MetadataValidator metadataValidator = MetadataValidator
                         .fromConfiguration(config.document().metadata())
+                        .sourceRegistry(registry)
+                        .messageBudget(budget)
                         .build();
                 ValidationResult metadataResult = metadataValidator.validate(document, filename);
                 messages.addAll(metadataResult.getMessages());
+                profiler.record(ProfileCategory.PHASE, "metadata", metadata);
             }
 
-            // Section validation
+            // Section and block validation share one descent of the section tree
             if (config.document().sections() != null) {
-                SectionValidator sectionValidator = SectionValidator.builder().configuration(config.document()).build();
-                ValidationResult sectionResult = sectionValidator.validate(document, filename);
-                messages.addAll(sectionResult.getMessages());
-
-                // Block validation within sections
-                messages.addAll(validateBlocks(document, config.document().sections(), filename));
+                Profiler.Sample structure = profiler.start();
+                List<DocumentVisitor> visitors = new ArrayList<>(2);
+                SectionValidator.Traversal sectionTraversal = null;
+                if (!suppressions.isSuppressedInFile(SECTION_RULES)) {
+                    SectionValidator sectionValidator = SectionValidator
+                            .builder()
+                            .configuration(config.document())
+                            .rulePlan(plan)
+                            .sourceRegistry(registry)
+                            .messageBudget(budget)
+                            .build();
+                    sectionTraversal = sectionValidator.traverse(filename);
+                    visitors.add(sectionTraversal);
+                }
+                BlockTraversal blockTraversal = new BlockTraversal(plan, validators.blockValidator, filename, budget);
+                visitors.add(blockTraversal);
+
+                DocumentWalkEvent walkEvent = new DocumentWalkEvent();
+                walkEvent.begin();
+                DocumentWalker.walk(document, visitors);
+                walkEvent.end();
+
+                // Section messages are reported before block messages
+                int walkStart = messages.size();
+                if (sectionTraversal != null) {
+                    messages.addAll(sectionTraversal.getResult().getMessages());
+                }
+                messages.addAll(blockTraversal.getMessages());
+                if (walkEvent.shouldCommit()) {
+                    walkEvent.setFile(filename);
+                    walkEvent.setSectionCount(LintEvents.countSections(document));
+                    walkEvent.setMessageCount(messages.size() - walkStart);
+                    walkEvent.commit();
+                }
+                profiler.record(ProfileCategory.PHASE, "structure", structure);
             }
         }
 
-        // Add all messages to result
+        // Block rules below the minimum severity were pruned from the plan and
+        // suppressed validators were skipped; the budget dropped the cheap metadata
+        // and section rules and single suppressed rules
         messages.forEach(resultBuilder::addMessage);
-
+        budget.summarize().forEach(resultBuilder::addMessage);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFile(filename);
+            event.setSize(LintEvents.utf8Length(content));
+            event.setBlockCount(LintEvents.countBlocks(document));
+            event.setMessageCount(messages.size());
+            event.commit();
+        }
         return resultBuilder.complete().build();
     }
 
-    private List<ValidationMessage> validateBlocks(Document document, List<SectionConfig> sectionConfigs,
-            String filename) {
-        List<ValidationMessage> messages = new ArrayList<>();
-        BlockValidator blockValidator = new BlockValidator();
-
-        // Process level 0 (document title) configurations
-        List<SectionConfig> level0Configs = extractLevel0Configs(sectionConfigs);
-        List<SectionConfig> configsForLevel1Sections = determineConfigsForLevel1Sections(level0Configs, sectionConfigs);
-
-        // Debug logging
-        if (logger.isDebugEnabled()) {
-            logger
-                    .debug("validateBlocks: level0Configs.size()={}, configsForLevel1Sections.size()={}",
-                            level0Configs.size(), configsForLevel1Sections.size());
+    /**
+     * Returns the rule plan and block validator for the given configuration,
+     * creating them on first use. The most recently used set is kept, so
+     * validating many files against the same configuration compiles it only once.
+     */
+    private SharedValidators sharedValidatorsFor(LinterConfiguration config) {
+        SharedValidators validators = sharedValidators;
+        if (validators == null || validators.plan.getConfiguration() != config) {
+            RulePlan plan = RulePlan.compile(config, minimumSeverity);
+            validators = new SharedValidators(plan, new BlockValidator(plan, sourceRegistry, profiler));
+            sharedValidators = validators;
         }
+        return validators;
+    }
 
-        // Validate document-level blocks (only if Level 0 config exists)
-        if (!level0Configs.isEmpty()) {
-            validateDocumentLevelBlocks(document, level0Configs, blockValidator, filename, messages);
+    /**
+     * Counts the messages of every rule in the profile.
+     */
+    private void countRules(ValidationResult result) {
+        if (!profiler.isEnabled()) {
+            return;
+        }
+        for (ValidationMessage message : result.getMessages()) {
+            profiler.count(ProfileCategory.RULE, message.getRuleId(), 1);
         }
-
-        // Validate sections and their blocks
-        validateDocumentSections(document, configsForLevel1Sections, blockValidator, filename, messages);
-
-        return messages;
     }
 
-    private List<SectionConfig> extractLevel0Configs(List<SectionConfig> sectionConfigs) {
-        return sectionConfigs.stream().filter(config -> config.level() == 0).collect(Collectors.toList());
-    }
+    /**
+     * Validates the blocks of the document and of every section as the walker
+     * enters it. The section configurations allowed for the current level are
+     * kept on a stack, so the blocks are validated during the same descent as the
+     * sections.
+     */
+    private final class BlockTraversal implements DocumentVisitor {
+        private final RulePlan plan;
+        private final BlockValidator blockValidator;
+        private final String filename;
+        private final MessageBudget budget;
+        private final Deque<List<SectionConfig>> sectionConfigs = new ArrayDeque<>();
+        private final List<ValidationMessage> messages = new ArrayList<>();
+
+        BlockTraversal(RulePlan plan, BlockValidator blockValidator, String filename, MessageBudget budget) {
+            this.plan = plan;
+            this.blockValidator = blockValidator;
+            this.filename = filename;
+            this.budget = budget;
+        }
+
+        @Override
+        public void startDocument(Document document) {
+            // Process level 0 (document title) configurations
+            List<SectionConfig> level0Configs = plan.getLevel0Sections();
+            List<SectionConfig> configsForLevel1Sections = plan.getLevel1Sections();
+
+            // Debug logging
+            if (logger.isDebugEnabled()) {
+                logger
+                        .debug("validateBlocks: level0Configs.size()={}, configsForLevel1Sections.size()={}",
+                                level0Configs.size(), configsForLevel1Sections.size());
+            }
 
-    private List<SectionConfig> determineConfigsForLevel1Sections(List<SectionConfig> level0Configs,
-            List<SectionConfig> allConfigs) {
-        // If level 0 config has subsections, use those for level 1 sections
-        // Otherwise, use all non-level-0 configs from the top level
-        for (SectionConfig level0Config : level0Configs) {
-            if (level0Config.subsections() != null && !level0Config.subsections().isEmpty()) {
-                return level0Config.subsections();
+            // Validate document-level blocks (only if Level 0 config exists)
+            if (!level0Configs.isEmpty() && !budget.isExhausted()) {
+                validateDocumentLevelBlocks(document, level0Configs);
             }
+            sectionConfigs.push(configsForLevel1Sections);
         }
 
-        // Fallback: use all non-level-0 configs
-        return allConfigs.stream().filter(config -> config.level() != 0).collect(Collectors.toList());
-    }
+        @Override
+        public void enterSection(Section section) {
+            List<SectionConfig> configs = sectionConfigs.peek();
+            if (budget.isExhausted()) {
+                // Keep the stack balanced, no further messages are reported
+                sectionConfigs.push(configs);
+                return;
+            }
 
-    private void validateDocumentLevelBlocks(Document document, List<SectionConfig> level0Configs,
-            BlockValidator blockValidator, String filename, List<ValidationMessage> messages) {
-        for (SectionConfig level0Config : level0Configs) {
-            // Only validate document-level blocks if level 0 config has allowedBlocks
-            if (level0Config.allowedBlocks() != null && !level0Config.allowedBlocks().isEmpty()) {
-                ValidationResult blockResult = blockValidator.validate(document, level0Config, filename);
+            Optional<SectionConfig> matchingConfig = findMatchingSectionConfig(section, configs, plan);
+            if (matchingConfig.isPresent()) {
+                SectionConfig config = matchingConfig.get();
+
+                // Validate blocks in this section
+                ValidationResult blockResult = blockValidator.validate(section, config, filename, budget);
                 messages.addAll(blockResult.getMessages());
-            }
-        }
-    }
 
-    private void validateDocumentSections(Document document, List<SectionConfig> sectionConfigs,
-            BlockValidator blockValidator, String filename, List<ValidationMessage> messages) {
-        for (StructuralNode node : document.getBlocks()) {
-            // Only process sections, skip preamble and other document-level blocks
-            if (node instanceof org.asciidoctor.ast.Section) {
-                org.asciidoctor.ast.Section section = (org.asciidoctor.ast.Section) node;
-                validateSectionBlocks(section, sectionConfigs, blockValidator, filename, messages);
+                // Subsections are validated with the configs of the matching section
+                sectionConfigs.push(determineSubsectionConfigs(config, configs));
             } else {
-                // Debug: Log what we're skipping
-                if (logger.isDebugEnabled()) {
-                    logger
-                            .debug("validateDocumentSections: Skipping non-section node: context={}, nodeName={}",
-                                    node.getContext(), node.getNodeName());
-                }
+                // No matching config found - subsections use the parent configs
+                sectionConfigs.push(configs);
             }
-            // Note: Document-level blocks (preamble) are handled by
-            // validateDocumentLevelBlocks
         }
-    }
 
-    private void validateSectionBlocks(org.asciidoctor.ast.Section section, List<SectionConfig> sectionConfigs,
-            BlockValidator blockValidator, String filename, List<ValidationMessage> messages) {
-
-        Optional<SectionConfig> matchingConfig = findMatchingSectionConfig(section, sectionConfigs);
-
-        if (matchingConfig.isPresent()) {
-            SectionConfig config = matchingConfig.get();
+        @Override
+        public void leaveSection(Section section) {
+            sectionConfigs.pop();
+        }
 
-            // Validate blocks in this section
-            validateSectionContent(section, config, blockValidator, filename, messages);
+        List<ValidationMessage> getMessages() {
+            return messages;
+        }
 
-            // Process subsections with appropriate configs
-            List<SectionConfig> subsectionConfigs = determineSubsectionConfigs(config, sectionConfigs);
-            processSubsections(section, subsectionConfigs, blockValidator, filename, messages);
-        } else {
-            // No matching config found - still process subsections with parent configs
-            processSubsections(section, sectionConfigs, blockValidator, filename, messages);
+        private void validateDocumentLevelBlocks(Document document, List<SectionConfig> level0Configs) {
+            for (SectionConfig level0Config : level0Configs) {
+                // Only validate document-level blocks if level 0 config has allowedBlocks
+                if (level0Config.allowedBlocks() != null && !level0Config.allowedBlocks().isEmpty()) {
+                    ValidationResult blockResult = blockValidator.validate(document, level0Config, filename, budget);
+                    messages.addAll(blockResult.getMessages());
+                }
+            }
         }
     }
 
-    private Optional<SectionConfig> findMatchingSectionConfig(org.asciidoctor.ast.Section section,
-            List<SectionConfig> sectionConfigs) {
-        return sectionConfigs
+    private Optional<SectionConfig> findMatchingSectionConfig(Section section, List<SectionConfig> sectionConfigs,
+            RulePlan plan) {
+        if (section.getLevel() == 0) {
+            return Optional.empty();
+        }
+        return plan
+                .getSectionsAtLevel(sectionConfigs, section.getLevel())
                 .stream()
-                .filter(config -> config.level() != 0 && matchesSection(section, config))
+                .filter(config -> matchesSection(section, config, plan))
                 .findFirst();
     }
 
-    private void validateSectionContent(org.asciidoctor.ast.Section section, SectionConfig config,
-            BlockValidator blockValidator, String filename, List<ValidationMessage> messages) {
-        ValidationResult blockResult = blockValidator.validate(section, config, filename);
-        messages.addAll(blockResult.getMessages());
-    }
-
     private List<SectionConfig> determineSubsectionConfigs(SectionConfig parentConfig,
             List<SectionConfig> fallbackConfigs) {
         if (parentConfig.subsections() != null && !parentConfig.subsections().isEmpty()) {
@@ -366,60 +738,37 @@ public class Linter {
         return fallbackConfigs;
     }
 
-    private void processSubsections(org.asciidoctor.ast.Section section, List<SectionConfig> subsectionConfigs,
-            BlockValidator blockValidator, String filename, List<ValidationMessage> messages) {
-        for (StructuralNode node : section.getBlocks()) {
-            if (node instanceof org.asciidoctor.ast.Section) {
-                org.asciidoctor.ast.Section subsection = (org.asciidoctor.ast.Section) node;
-                validateSectionBlocks(subsection, subsectionConfigs, blockValidator, filename, messages);
-            }
-        }
-    }
-
     private List<Path> findMatchingFiles(Path directory, String pattern, boolean recursive) throws IOException {
         List<Path> matchingFiles = new ArrayList<>();
         PathMatcher pathMatcher = directory.getFileSystem().getPathMatcher("glob:" + pattern);
-        int maxDepth = recursive ? Integer.MAX_VALUE : 1;
-
-        Files
-                .walkFileTree(directory, EnumSet.noneOf(java.nio.file.FileVisitOption.class), maxDepth,
-                        new SimpleFileVisitor<Path>() {
-                            @Override
-                            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-                                if (pathMatcher.matches(file.getFileName())) {
-                                    matchingFiles.add(file);
-                                }
-                                return FileVisitResult.CONTINUE;
-                            }
-
-                            @Override
-                            public FileVisitResult visitFileFailed(Path file, IOException exc) {
-                                // Log warning but continue
-                                if (logger.isWarnEnabled()) {
-                                    logger.warn("Could not access file: {} ({})", file, exc.getMessage());
-                                }
-                                return FileVisitResult.CONTINUE;
-                            }
-                        });
+
+        ScanFilter filter = new ScanFilter() {
+            @Override
+            public ScanFilter enter(Path subdirectory) {
+                return recursive ? this : null;
+            }
+
+            @Override
+            public boolean accept(Path file) {
+                return pathMatcher.matches(file.getFileName());
+            }
+        };
+        new DirectoryScanner(threads).scan(directory, filter, matchingFiles::add);
 
         return matchingFiles;
     }
 
-    private boolean matchesSection(org.asciidoctor.ast.Section section, SectionConfig config) {
-        // First check level match
-        if (config.level() != section.getLevel()) {
-            return false;
-        }
-
-        // Then check title constraints if configured
-        if (config.title() != null && config.title().pattern() != null) {
+    private boolean matchesSection(Section section, SectionConfig config, RulePlan plan) {
+        // Check title constraints if configured (level is matched by the caller)
+        Pattern pattern = plan.getTitlePattern(config.title());
+        if (pattern != null) {
             String title = section.getTitle();
             if (title == null) {
                 return false;
             }
 
             // Check pattern match
-            return title.matches(config.title().pattern());
+            return pattern.matcher(title).matches();
         }
 
         // Level matches and no title constraints
@@ -442,8 +791,17 @@ public class Linter {
                 .build();
     }
 
-    private ValidationMessage createParseErrorMessage(Path file, Exception e) {
-        return createParseErrorMessage(file.toString(), e);
+    private ValidationResult createParseErrorResult(Path file, Exception e) {
+        return createParseErrorResult(file.toString(), e);
+    }
+
+    private ValidationResult createParseErrorResult(String filename, Exception e) {
+        return ValidationResult
+                .builder()
+                .addScannedFile(filename)
+                .addMessage(createParseErrorMessage(filename, e))
+                .complete()
+                .build();
     }
 
     private ValidationMessage createParseErrorMessage(String filename, Exception e) {
@@ -456,4 +814,138 @@ public class Linter {
                 .cause(e)
                 .build();
     }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Validators that hold no per-document state and are shared by all files
+     * validated against the same configuration.
+     */
+    private static final class SharedValidators {
+        private final RulePlan plan;
+        private final BlockValidator blockValidator;
+
+        SharedValidators(RulePlan plan, BlockValidator blockValidator) {
+            this.plan = plan;
+            this.blockValidator = blockValidator;
+        }
+
+        SharedValidators withSourceRegistry(SourceRegistry sourceRegistry) {
+            return new SharedValidators(plan, blockValidator.withSourceRegistry(sourceRegistry));
+        }
+    }
+
+    /**
+     * Names the worker threads so they can be told apart in thread dumps.
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, WORKER_THREAD_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    public static final class Builder {
+        private int _threads = 1;
+        private ResultCache _resultCache;
+        private SourceRegistry _sourceRegistry;
+        private Profiler _profiler;
+        private Severity _minimumSeverity = Severity.INFO;
+        private MessageLimits _messageLimits = MessageLimits.UNLIMITED;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of files validated concurrently. Each thread gets its own
+         * Asciidoctor instance, so memory usage grows with the thread count.
+         *
+         * @param  threads the number of worker threads (at least 1)
+         *
+         * @return         this builder
+         */
+        public Builder threads(int threads) {
+            this._threads = threads;
+            return this;
+        }
+
+        /**
+         * Sets the cache used to skip files whose content, configuration and linter
+         * version are unchanged since a previous run.
+         *
+         * @param  resultCache the result cache, or {@code null} to disable caching
+         *
+         * @return             this builder
+         */
+        public Builder resultCache(ResultCache resultCache) {
+            this._resultCache = resultCache;
+            return this;
+        }
+
+        /**
+         * Sets the registry that holds the sources of validated documents. Passing
+         * the registry used by a report writer lets both share the file content.
+         *
+         * @param  sourceRegistry the source registry, or {@code null} to create one
+         *
+         * @return                this builder
+         */
+        public Builder sourceRegistry(SourceRegistry sourceRegistry) {
+            this._sourceRegistry = sourceRegistry;
+            return this;
+        }
+
+        /**
+         * Sets the profiler that records wall time, invocation counts and allocated
+         * bytes of the parse and validation phases and of each block validator.
+         *
+         * @param  profiler the profiler, or {@code null} to disable profiling
+         *
+         * @return          this builder
+         */
+        public Builder profiler(Profiler profiler) {
+            this._profiler = profiler;
+            return this;
+        }
+
+        /**
+         * Sets the least severe severity that is reported. Block rules whose
+         * resolved severity is below it are removed from the compiled rules before
+         * any document is parsed, so their validators are never invoked; messages
+         * of other rules below it are dropped.
+         *
+         * @param  minimumSeverity the minimum reported severity, {@code INFO} to
+         *                         report everything
+         *
+         * @return                 this builder
+         */
+        public Builder minimumSeverity(Severity minimumSeverity) {
+            this._minimumSeverity = minimumSeverity;
+            return this;
+        }
+
+        /**
+         * Sets the caps on the number of messages reported per file and per rule.
+         * A file that reaches its cap is not validated any further; each cap that
+         * dropped messages is summarized by one message.
+         *
+         * @param  messageLimits the message limits
+         *
+         * @return               this builder
+         */
+        public Builder messageLimits(MessageLimits messageLimits) {
+            this._messageLimits = messageLimits;
+            return this;
+        }
+
+        public Linter build() {
+            return new Linter(this);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package com.dataliquid.asciidoc.linter;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+
+/**
+ * Receives per-file results from the streaming
+ * {@link Linter#validateFiles(List, LinterConfiguration, ValidationListener)
+ * validateFiles} as soon as each file has been validated.
+ */
+@FunctionalInterface
+public interface ValidationListener {
+
+    /**
+     * Called once per file, on the thread that started the validation and in the
+     * order of the file list. An exception thrown here aborts the remaining
+     * validation and is propagated to the caller.
+     *
+     * @param file   the validated file
+     * @param result the validation result of the file
+     */
+    void fileValidated(Path file, ValidationResult result);
+}
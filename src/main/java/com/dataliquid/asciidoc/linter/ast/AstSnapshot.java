@@ -0,0 +1,72 @@
+package com.dataliquid.asciidoc.linter.ast;
+
+import java.util.Objects;
+
+import org.asciidoctor.ast.Block;
+import org.asciidoctor.ast.ContentNode;
+import org.asciidoctor.ast.DescriptionList;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.ListItem;
+import org.asciidoctor.ast.Section;
+import org.asciidoctor.ast.StructuralNode;
+import org.asciidoctor.ast.Table;
+
+/**
+ * Captures a parsed AsciidoctorJ document into an immutable, Java-native tree.
+ * <p>
+ * Every query on an AsciidoctorJ node crosses into the JRuby runtime, and the
+ * validators ask the same nodes for their context, attributes, children and
+ * source location many times over. The snapshot reads those properties once per
+ * node, so validation afterwards works on plain Java objects. The snapshot nodes
+ * implement the same AsciidoctorJ interfaces as the originals ({@link Section},
+ * {@link Block}, {@link Table}, ...), so validators do not need to know whether
+ * they are looking at a snapshot.
+ */
+public final class AstSnapshot {
+
+    private AstSnapshot() {
+        // Utility class
+    }
+
+    /**
+     * Captures the given document and all of its blocks.
+     *
+     * @param  document the parsed document
+     *
+     * @return          an immutable snapshot of the document; returned unchanged
+     *                  if it already is a snapshot
+     */
+    public static Document capture(Document document) {
+        Objects.requireNonNull(document, "[" + AstSnapshot.class.getName() + "] document must not be null");
+        if (document instanceof SnapshotDocument) {
+            return document;
+        }
+        return new SnapshotDocument(document);
+    }
+
+    static StructuralNode capture(StructuralNode node, ContentNode parent, Document document) {
+        if (node instanceof SnapshotNode) {
+            return node;
+        }
+        // Order matters: the most specific interface decides the snapshot type
+        if (node instanceof Section section) {
+            return new SnapshotSection(section, parent, document);
+        }
+        if (node instanceof Table table) {
+            return new SnapshotTable(table, parent, document);
+        }
+        if (node instanceof DescriptionList list) {
+            return new SnapshotDescriptionList(list, parent, document);
+        }
+        if (node instanceof org.asciidoctor.ast.List list) {
+            return new SnapshotList(list, parent, document);
+        }
+        if (node instanceof ListItem item) {
+            return new SnapshotListItem(item, parent, document);
+        }
+        if (node instanceof Block block) {
+            return new SnapshotBlock(block, parent, document);
+        }
+        return new SnapshotNode(node, parent, document);
+    }
+}
@@ -0,0 +1,42 @@
+package com.dataliquid.asciidoc.linter.ast;
+
+import java.util.List;
+
+import org.asciidoctor.ast.Block;
+import org.asciidoctor.ast.ContentNode;
+import org.asciidoctor.ast.Document;
+
+/**
+ * Snapshot of a {@link Block}. The raw source lines are captured together with
+ * the common node properties.
+ */
+final class SnapshotBlock extends SnapshotNode implements Block {
+
+    private final List<String> lines;
+
+    SnapshotBlock(Block delegate, ContentNode parent, Document document) {
+        super(delegate, parent, document);
+        List<String> sourceLines = delegate.getLines();
+        this.lines = sourceLines != null ? List.copyOf(sourceLines) : List.of();
+    }
+
+    @Override
+    public List<String> getLines() {
+        return lines;
+    }
+
+    @Override
+    public void setLines(List<String> lines) {
+        throw readOnly();
+    }
+
+    @Override
+    public String getSource() {
+        return String.join("\n", lines);
+    }
+
+    @Override
+    public void setSource(String source) {
+        throw readOnly();
+    }
+}
@@ -0,0 +1,54 @@
+package com.dataliquid.asciidoc.linter.ast;
+
+import org.asciidoctor.ast.Cursor;
+
+/**
+ * Java-native copy of a {@link Cursor}. The line number is read once; path,
+ * directory and file are resolved from the original cursor on first use.
+ */
+final class SnapshotCursor implements Cursor {
+
+    private final Cursor delegate;
+    private final int lineNumber;
+    private String path;
+
+    private SnapshotCursor(Cursor delegate) {
+        this.delegate = delegate;
+        this.lineNumber = delegate.getLineNumber();
+    }
+
+    static Cursor of(Cursor cursor) {
+        if (cursor == null || cursor instanceof SnapshotCursor) {
+            return cursor;
+        }
+        return new SnapshotCursor(cursor);
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public String getPath() {
+        if (path == null) {
+            path = delegate.getPath();
+        }
+        return path;
+    }
+
+    @Override
+    public String getDir() {
+        return delegate.getDir();
+    }
+
+    @Override
+    public String getFile() {
+        return delegate.getFile();
+    }
+
+    @Override
+    public String toString() {
+        return getPath() + ":" + lineNumber;
+    }
+}
@@ -0,0 +1,32 @@
+package com.dataliquid.asciidoc.linter.ast;
+
+import java.util.List;
+
+import org.asciidoctor.ast.ContentNode;
+import org.asciidoctor.ast.DescriptionList;
+import org.asciidoctor.ast.DescriptionListEntry;
+import org.asciidoctor.ast.Document;
+
+/**
+ * Snapshot of a {@link DescriptionList}. Entries are not structural nodes and
+ * are forwarded to the original node.
+ */
+final class SnapshotDescriptionList extends SnapshotNode implements DescriptionList {
+
+    private final DescriptionList list;
+
+    SnapshotDescriptionList(DescriptionList delegate, ContentNode parent, Document document) {
+        super(delegate, parent, document);
+        this.list = delegate;
+    }
+
+    @Override
+    public List<DescriptionListEntry> getItems() {
+        return list.getItems();
+    }
+
+    @Override
+    public boolean hasItems() {
+        return list.hasItems();
+    }
+}
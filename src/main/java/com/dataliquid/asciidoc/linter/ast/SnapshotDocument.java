@@ -0,0 +1,89 @@
+package com.dataliquid.asciidoc.linter.ast;
+
+import java.util.List;
+import java.util.Map;
+
+import org.asciidoctor.ast.Author;
+import org.asciidoctor.ast.Catalog;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.RevisionInfo;
+import org.asciidoctor.ast.Title;
+
+/**
+ * Snapshot of a {@link Document} and the root of a captured tree. Header
+ * details are forwarded to the original document.
+ */
+final class SnapshotDocument extends SnapshotNode implements Document {
+
+    private final Document original;
+
+    SnapshotDocument(Document delegate) {
+        super(delegate, null, null);
+        this.original = delegate;
+    }
+
+    @Override
+    public Title getStructuredDoctitle() {
+        return original.getStructuredDoctitle();
+    }
+
+    @Override
+    public String getDoctitle() {
+        return original.getDoctitle();
+    }
+
+    @Override
+    public List<Author> getAuthors() {
+        return original.getAuthors();
+    }
+
+    @Override
+    public String getSource() {
+        return original.getSource();
+    }
+
+    @Override
+    public List<String> getSourceLines() {
+        return original.getSourceLines();
+    }
+
+    @Override
+    public boolean isBasebackend(String backend) {
+        return original.isBasebackend(backend);
+    }
+
+    @Override
+    public Map<Object, Object> getOptions() {
+        return original.getOptions();
+    }
+
+    @Override
+    public int getAndIncrementCounter(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public int getAndIncrementCounter(String name, int initialValue) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean isSourcemap() {
+        return original.isSourcemap();
+    }
+
+    @Override
+    public void setSourcemap(boolean state) {
+        throw readOnly();
+    }
+
+    @Override
+    public Catalog getCatalog() {
+        return original.getCatalog();
+    }
+
+    @Override
+    public RevisionInfo getRevisionInfo() {
+        return original.getRevisionInfo();
+    }
+}
@@ -0,0 +1,29 @@
+package com.dataliquid.asciidoc.linter.ast;
+
+import java.util.List;
+
+import org.asciidoctor.ast.ContentNode;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.StructuralNode;
+
+/**
+ * Snapshot of an {@link org.asciidoctor.ast.List}. The list items are the
+ * captured children of the list.
+ */
+final class SnapshotList extends SnapshotNode implements org.asciidoctor.ast.List {
+
+    SnapshotList(org.asciidoctor.ast.List delegate, ContentNode parent, Document document) {
+        super(delegate, parent, document);
+    }
+
+    @Override
+    public List<StructuralNode> getItems() {
+        // Asciidoctor stores list items as the blocks of the list
+        return getBlocks();
+    }
+
+    @Override
+    public boolean hasItems() {
+        return !getBlocks().isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+package com.dataliquid.asciidoc.linter.ast;
+
+import org.asciidoctor.ast.ContentNode;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.ListItem;
+
+/**
+ * Snapshot of a {@link ListItem}. Marker and text are forwarded to the
+ * original node since the text is only converted on demand.
+ */
+final class SnapshotListItem extends SnapshotNode implements ListItem {
+
+    private final ListItem item;
+
+    SnapshotListItem(ListItem delegate, ContentNode parent, Document document) {
+        super(delegate, parent, document);
+        this.item = delegate;
+    }
+
+    @Override
+    public String getMarker() {
+        return item.getMarker();
+    }
+
+    @Override
+    public String getText() {
+        return item.getText();
+    }
+
+    @Override
+    public String getSource() {
+        return item.getSource();
+    }
+
+    @Override
+    public void setSource(String source) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean hasText() {
+        return item.hasText();
+    }
+}
@@ -0,0 +1,398 @@
+package com.dataliquid.asciidoc.linter.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.asciidoctor.ast.ContentNode;
+import org.asciidoctor.ast.Cursor;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.StructuralNode;
+
+/**
+ * Immutable, Java-native copy of a {@link StructuralNode}. The properties the
+ * validators query on every node (context, node name, style, title, caption,
+ * level, attributes, source location and children) are captured once when the
+ * snapshot is created. Everything else is forwarded to the original AsciidoctorJ
+ * node, so the snapshot remains a drop-in replacement. Mutating methods throw
+ * {@link UnsupportedOperationException}.
+ */
+class SnapshotNode implements StructuralNode {
+
+    private static final String READ_ONLY_MSG = "] AST snapshot is read-only";
+
+    private final StructuralNode delegate;
+    private final ContentNode parent;
+    private final Document document;
+    private final String context;
+    private final String nodeName;
+    private final String style;
+    private final String title;
+    private final String caption;
+    private final int level;
+    private final Map<String, Object> attributes;
+    private final Map<String, Object> namedAttributes;
+    private final Cursor sourceLocation;
+    private final List<StructuralNode> blocks;
+
+    /**
+     * Captures the given node and, recursively, all of its children.
+     *
+     * @param delegate the AsciidoctorJ node to copy
+     * @param parent   the already captured parent, or {@code null} for the root
+     * @param document the captured document, or {@code null} if this node is the
+     *                 document itself
+     */
+    SnapshotNode(StructuralNode delegate, ContentNode parent, Document document) {
+        this.delegate = delegate;
+        this.parent = parent;
+        this.document = document != null ? document : (Document) this;
+        this.context = delegate.getContext();
+        this.nodeName = delegate.getNodeName();
+        this.style = delegate.getStyle();
+        this.title = delegate.getTitle();
+        this.caption = delegate.getCaption();
+        this.level = delegate.getLevel();
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(delegate.getAttributes()));
+        this.namedAttributes = namedAttributes(attributes);
+        this.sourceLocation = SnapshotCursor.of(delegate.getSourceLocation());
+        this.blocks = captureChildren(delegate.getBlocks());
+    }
+
+    private List<StructuralNode> captureChildren(List<StructuralNode> children) {
+        if (children == null || children.isEmpty()) {
+            return List.of();
+        }
+        List<StructuralNode> captured = new ArrayList<>(children.size());
+        for (StructuralNode child : children) {
+            captured.add(AstSnapshot.capture(child, this, document));
+        }
+        return Collections.unmodifiableList(captured);
+    }
+
+    /**
+     * Positional attributes are keyed by integers on the Ruby side and therefore
+     * never found by name. The converted map exposes them as strings, so they are
+     * left out of the by-name lookup table.
+     */
+    private static Map<String, Object> namedAttributes(Map<String, Object> attributes) {
+        Map<String, Object> named = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+            if (!isPositional(entry.getKey())) {
+                named.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return named;
+    }
+
+    private static boolean isPositional(String key) {
+        if (key.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (!Character.isDigit(key.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the AsciidoctorJ node this snapshot was taken from.
+     *
+     * @return the original node
+     */
+    StructuralNode getDelegate() {
+        return delegate;
+    }
+
+    UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("[" + getClass().getName() + READ_ONLY_MSG);
+    }
+
+    // ContentNode
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public void setId(String id) {
+        throw readOnly();
+    }
+
+    @Override
+    public String getNodeName() {
+        return nodeName;
+    }
+
+    @Override
+    public ContentNode getParent() {
+        return parent;
+    }
+
+    @Override
+    public String getContext() {
+        return context;
+    }
+
+    @Override
+    public void setContext(String context) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document getDocument() {
+        return document;
+    }
+
+    @Override
+    public boolean isInline() {
+        return false;
+    }
+
+    @Override
+    public boolean isBlock() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Object getAttribute(Object name, Object defaultValue, boolean inherit) {
+        return delegate.getAttribute(name, defaultValue, inherit);
+    }
+
+    @Override
+    public Object getAttribute(Object name, Object defaultValue) {
+        Object value = namedAttributes.get(String.valueOf(name));
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public Object getAttribute(Object name) {
+        return namedAttributes.get(String.valueOf(name));
+    }
+
+    @Override
+    public boolean hasAttribute(Object name) {
+        return namedAttributes.containsKey(String.valueOf(name));
+    }
+
+    @Override
+    public boolean hasAttribute(Object name, boolean inherited) {
+        return delegate.hasAttribute(name, inherited);
+    }
+
+    @Override
+    public boolean isAttribute(Object name, Object expected) {
+        return delegate.isAttribute(name, expected);
+    }
+
+    @Override
+    public boolean isAttribute(Object name, Object expected, boolean inherit) {
+        return delegate.isAttribute(name, expected, inherit);
+    }
+
+    @Override
+    public boolean setAttribute(Object name, Object value, boolean overwrite) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean isOption(Object name) {
+        return delegate.isOption(name);
+    }
+
+    @Override
+    public boolean isRole() {
+        return delegate.isRole();
+    }
+
+    @Override
+    public boolean hasRole(String role) {
+        return delegate.hasRole(role);
+    }
+
+    @Override
+    public String getRole() {
+        return delegate.getRole();
+    }
+
+    @Override
+    public List<String> getRoles() {
+        return delegate.getRoles();
+    }
+
+    @Override
+    public void addRole(String role) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeRole(String role) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean isReftext() {
+        return delegate.isReftext();
+    }
+
+    @Override
+    public String getReftext() {
+        return delegate.getReftext();
+    }
+
+    @Override
+    public String iconUri(String name) {
+        return delegate.iconUri(name);
+    }
+
+    @Override
+    public String mediaUri(String target) {
+        return delegate.mediaUri(target);
+    }
+
+    @Override
+    public String imageUri(String targetImage) {
+        return delegate.imageUri(targetImage);
+    }
+
+    @Override
+    public String imageUri(String targetImage, String assetDirKey) {
+        return delegate.imageUri(targetImage, assetDirKey);
+    }
+
+    @Override
+    public String readAsset(String path, Map<Object, Object> opts) {
+        return delegate.readAsset(path, opts);
+    }
+
+    @Override
+    public String normalizeWebPath(String path, String start, boolean preserveUriTarget) {
+        return delegate.normalizeWebPath(path, start, preserveUriTarget);
+    }
+
+    // StructuralNode
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+
+    @Override
+    public void setTitle(String title) {
+        throw readOnly();
+    }
+
+    @Override
+    public String getCaption() {
+        return caption;
+    }
+
+    @Override
+    public void setCaption(String caption) {
+        throw readOnly();
+    }
+
+    @Override
+    public String getStyle() {
+        return style;
+    }
+
+    @Override
+    public void setStyle(String style) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<StructuralNode> getBlocks() {
+        return blocks;
+    }
+
+    @Override
+    public void append(StructuralNode block) {
+        throw readOnly();
+    }
+
+    @Override
+    public Object getContent() {
+        return delegate.getContent();
+    }
+
+    @Override
+    public String convert() {
+        return delegate.convert();
+    }
+
+    /**
+     * Forwarded to the original node; the returned nodes are not snapshots.
+     */
+    @Override
+    public List<StructuralNode> findBy(Map<Object, Object> selector) {
+        return delegate.findBy(selector);
+    }
+
+    @Override
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public void setLevel(int level) {
+        throw readOnly();
+    }
+
+    @Override
+    public String getContentModel() {
+        return delegate.getContentModel();
+    }
+
+    @Override
+    public Cursor getSourceLocation() {
+        return sourceLocation;
+    }
+
+    @Override
+    public List<String> getSubstitutions() {
+        return delegate.getSubstitutions();
+    }
+
+    @Override
+    public boolean isSubstitutionEnabled(String substitution) {
+        return delegate.isSubstitutionEnabled(substitution);
+    }
+
+    @Override
+    public void removeSubstitution(String substitution) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addSubstitution(String substitution) {
+        throw readOnly();
+    }
+
+    @Override
+    public void prependSubstitution(String substitution) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setSubstitutions(String... substitutions) {
+        throw readOnly();
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotNode[context=" + context + ", line="
+                + (sourceLocation != null ? sourceLocation.getLineNumber() : "?") + "]";
+    }
+}
@@ -0,0 +1,54 @@
+package com.dataliquid.asciidoc.linter.ast;
+
+import org.asciidoctor.ast.ContentNode;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.Section;
+
+/**
+ * Snapshot of a {@link Section}. Numbering details are forwarded to the
+ * original node.
+ */
+final class SnapshotSection extends SnapshotNode implements Section {
+
+    private final Section section;
+
+    SnapshotSection(Section delegate, ContentNode parent, Document document) {
+        super(delegate, parent, document);
+        this.section = delegate;
+    }
+
+    @Override
+    public int getIndex() {
+        return section.getIndex();
+    }
+
+    @Override
+    public String getNumeral() {
+        return section.getNumeral();
+    }
+
+    @Override
+    public String getSectionName() {
+        return section.getSectionName();
+    }
+
+    @Override
+    public boolean isSpecial() {
+        return section.isSpecial();
+    }
+
+    @Override
+    public boolean isNumbered() {
+        return section.isNumbered();
+    }
+
+    @Override
+    public String getSectnum() {
+        return section.getSectnum();
+    }
+
+    @Override
+    public String getSectnum(String delimiter) {
+        return section.getSectnum(delimiter);
+    }
+}
@@ -0,0 +1,73 @@
+package com.dataliquid.asciidoc.linter.ast;
+
+import java.util.List;
+
+import org.asciidoctor.ast.Column;
+import org.asciidoctor.ast.ContentNode;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.Row;
+import org.asciidoctor.ast.Table;
+
+/**
+ * Snapshot of a {@link Table}. Rows and columns are forwarded to the original
+ * node.
+ */
+final class SnapshotTable extends SnapshotNode implements Table {
+
+    private final Table table;
+
+    SnapshotTable(Table delegate, ContentNode parent, Document document) {
+        super(delegate, parent, document);
+        this.table = delegate;
+    }
+
+    @Override
+    public boolean hasHeaderOption() {
+        return table.hasHeaderOption();
+    }
+
+    @Override
+    public List<Column> getColumns() {
+        return table.getColumns();
+    }
+
+    @Override
+    public List<Row> getHeader() {
+        return table.getHeader();
+    }
+
+    @Override
+    public List<Row> getFooter() {
+        return table.getFooter();
+    }
+
+    @Override
+    public List<Row> getBody() {
+        return table.getBody();
+    }
+
+    @Override
+    public String getFrame() {
+        return table.getFrame();
+    }
+
+    @Override
+    public void setFrame(String frame) {
+        throw readOnly();
+    }
+
+    @Override
+    public String getGrid() {
+        return table.getGrid();
+    }
+
+    @Override
+    public void setGrid(String grid) {
+        throw readOnly();
+    }
+
+    @Override
+    public void assignColumnWidths() {
+        throw readOnly();
+    }
+}
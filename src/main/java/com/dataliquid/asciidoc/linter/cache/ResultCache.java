@@ -0,0 +1,405 @@
+package com.dataliquid.asciidoc.linter.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.validator.ErrorType;
+import com.dataliquid.asciidoc.linter.validator.MessageLimits;
+import com.dataliquid.asciidoc.linter.validator.PlaceholderContext;
+import com.dataliquid.asciidoc.linter.validator.SourceLocation;
+import com.dataliquid.asciidoc.linter.validator.Suggestion;
+import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * On-disk cache of per-file validation results. An entry is keyed by a SHA-256
+ * digest over the file path, the file bytes, the effective
+ * {@link LinterConfiguration}, the minimum reported severity, the message
+ * limits and the linter version, so any change to one of them results in a
+ * cache miss. Results containing I/O or parse failures are never stored.
+ * <p>
+ * Entries are written to a temporary file and moved into place, so the cache
+ * can be shared by concurrently validating threads.
+ */
+public final class ResultCache {
+
+    private static final Logger logger = LogManager.getLogger(ResultCache.class);
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String ENTRY_SUFFIX = ".json";
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String FIELD_FORMAT = "format";
+    private static final String FIELD_FILE = "file";
+    private static final String FIELD_MESSAGES = "messages";
+    private static final String FIELD_SEVERITY = "severity";
+    private static final String FIELD_RULE_ID = "ruleId";
+    private static final String FIELD_MESSAGE = "message";
+    private static final String FIELD_LOCATION = "location";
+    private static final String FIELD_START_LINE = "startLine";
+    private static final String FIELD_START_COLUMN = "startColumn";
+    private static final String FIELD_END_LINE = "endLine";
+    private static final String FIELD_END_COLUMN = "endColumn";
+    private static final String FIELD_SOURCE_LINE = "sourceLine";
+    private static final String FIELD_ATTRIBUTE_NAME = "attributeName";
+    private static final String FIELD_ACTUAL_VALUE = "actualValue";
+    private static final String FIELD_EXPECTED_VALUE = "expectedValue";
+    private static final String FIELD_ERROR_TYPE = "errorType";
+    private static final String FIELD_MISSING_VALUE_HINT = "missingValueHint";
+    private static final String FIELD_PLACEHOLDER = "placeholderContext";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_FIRST_ATTRIBUTE = "firstAttribute";
+    private static final String FIELD_EXISTING_ATTRIBUTES = "existingAttributes";
+    private static final String FIELD_SUGGESTIONS = "suggestions";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_FIXED_VALUE = "fixedValue";
+    private static final String FIELD_EXPLANATION = "explanation";
+    private static final String FIELD_PREFERRED = "preferred";
+    private static final String FIELD_EXAMPLES = "examples";
+    private static final String FIELD_CONTEXT_LINES = "contextLines";
+
+    private final Path directory;
+    private final String linterVersion;
+    private final ObjectMapper mapper;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    // Digest of the most recently used configuration, keyed by identity
+    private volatile ConfigDigest lastConfigDigest;
+
+    /**
+     * Creates a cache storing its entries below the given directory.
+     *
+     * @param directory     the cache directory, created on first write
+     * @param linterVersion the linter version, part of every cache key
+     */
+    public ResultCache(Path directory, String linterVersion) {
+        this.directory = Objects
+                .requireNonNull(directory, "[" + getClass().getName() + "] directory must not be null");
+        this.linterVersion = Objects
+                .requireNonNull(linterVersion, "[" + getClass().getName() + "] linterVersion must not be null");
+        this.mapper = JsonMapper
+                .builder()
+                .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .build();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Computes the cache key for the content of a file that is validated with the
+     * given configuration, reporting only the given severities within the given
+     * message limits.
+     *
+     * @param  file            the file the content was read from
+     * @param  content         the file content
+     * @param  config          the linter configuration
+     * @param  minimumSeverity the minimum reported severity
+     * @param  messageLimits   the message limits
+     *
+     * @return                 hex encoded cache key
+     *
+     * @throws IOException     if the configuration cannot be serialized
+     */
+    public String key(Path file, String content, LinterConfiguration config, Severity minimumSeverity,
+            MessageLimits messageLimits) throws IOException {
+        Objects.requireNonNull(content, "[" + getClass().getName() + "] content must not be null");
+        Objects
+                .requireNonNull(minimumSeverity,
+                        "[" + getClass().getName() + "] minimumSeverity must not be null");
+        Objects
+                .requireNonNull(messageLimits, "[" + getClass().getName() + "] messageLimits must not be null");
+        MessageDigest digest = newDigest();
+        digest.update(linterVersion.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(configDigest(config).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        // Reporting everything is the default and leaves the key unchanged
+        if (minimumSeverity != Severity.INFO) {
+            digest.update(minimumSeverity.name().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        if (!messageLimits.isUnlimited()) {
+            String limits = messageLimits.getMaxPerFile() + "/" + messageLimits.getMaxPerRule();
+            digest.update(limits.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        // Messages embed the filename, so the path is part of the key
+        digest.update(file.toString().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(content.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Looks up a previously stored result.
+     *
+     * @param  key  the cache key from {@link #key(Path, String, LinterConfiguration, Severity, MessageLimits)}
+     * @param  file the file the result belongs to
+     *
+     * @return      the cached result, or empty on a miss or unreadable entry
+     */
+    public Optional<ValidationResult> lookup(String key, Path file) {
+        Path entry = entryPath(key);
+        if (!Files.isRegularFile(entry)) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        try {
+            JsonNode root = mapper.readTree(entry.toFile());
+            if (root.path(FIELD_FORMAT).asInt() != FORMAT_VERSION) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+
+            String filename = file.toString();
+            ValidationResult.Builder builder = ValidationResult.builder().addScannedFile(filename);
+            for (JsonNode messageNode : root.path(FIELD_MESSAGES)) {
+                builder.addMessage(readMessage(messageNode, filename));
+            }
+            hits.incrementAndGet();
+            return Optional.of(builder.complete().build());
+        } catch (IOException | RuntimeException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Ignoring unreadable cache entry {}: {}", entry, e.getMessage());
+            }
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a result. Results containing messages caused by an exception (I/O or
+     * parse failures) are skipped so that they are retried on the next run.
+     *
+     * @param key    the cache key from {@link #key(Path, String, LinterConfiguration, Severity, MessageLimits)}
+     * @param file   the file the result belongs to
+     * @param result the result to store
+     */
+    public void store(String key, Path file, ValidationResult result) {
+        if (result.getMessages().stream().anyMatch(message -> message.getCause().isPresent())) {
+            return;
+        }
+
+        ObjectNode root = mapper.createObjectNode();
+        root.put(FIELD_FORMAT, FORMAT_VERSION);
+        root.put(FIELD_FILE, file.toString());
+        ArrayNode messages = root.putArray(FIELD_MESSAGES);
+        for (ValidationMessage message : result.getMessages()) {
+            messages.add(writeMessage(message));
+        }
+
+        Path entry = entryPath(key);
+        try {
+            Files.createDirectories(entry.getParent());
+            Path temp = Files.createTempFile(entry.getParent(), key, ".tmp");
+            try {
+                mapper.writeValue(temp.toFile(), root);
+                moveIntoPlace(temp, entry);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("Could not write cache entry {}: {}", entry, e.getMessage());
+            }
+        }
+    }
+
+    private void moveIntoPlace(Path temp, Path entry) throws IOException {
+        try {
+            Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path entryPath(String key) {
+        // Fan out into sub directories to keep directory listings small
+        return directory.resolve(key.substring(0, 2)).resolve(key + ENTRY_SUFFIX);
+    }
+
+    private String configDigest(LinterConfiguration config) throws IOException {
+        // Read once, so the configuration and its digest belong together
+        ConfigDigest last = lastConfigDigest;
+        if (last != null && last.config == config) {
+            return last.digest;
+        }
+        // Properties and map entries are sorted, so equal configurations
+        // serialize to the same canonical form
+        byte[] canonical = mapper.writeValueAsBytes(config);
+        String digest = HexFormat.of().formatHex(newDigest().digest(canonical));
+        lastConfigDigest = new ConfigDigest(config, digest);
+        return digest;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " not available", e);
+        }
+    }
+
+    private ObjectNode writeMessage(ValidationMessage message) {
+        ObjectNode node = mapper.createObjectNode();
+        node.put(FIELD_SEVERITY, message.getSeverity().name());
+        node.put(FIELD_RULE_ID, message.getRuleId());
+        node.put(FIELD_MESSAGE, message.getMessage());
+
+        SourceLocation location = message.getLocation();
+        ObjectNode locationNode = node.putObject(FIELD_LOCATION);
+        locationNode.put(FIELD_START_LINE, location.getStartLine());
+        locationNode.put(FIELD_START_COLUMN, location.getStartColumn());
+        locationNode.put(FIELD_END_LINE, location.getEndLine());
+        locationNode.put(FIELD_END_COLUMN, location.getEndColumn());
+        putIfPresent(locationNode, FIELD_SOURCE_LINE, location.getSourceLine());
+
+        putIfPresent(node, FIELD_ATTRIBUTE_NAME, message.getAttributeName().orElse(null));
+        putIfPresent(node, FIELD_ACTUAL_VALUE, message.getActualValue().orElse(null));
+        putIfPresent(node, FIELD_EXPECTED_VALUE, message.getExpectedValue().orElse(null));
+        node.put(FIELD_ERROR_TYPE, message.getErrorType().name());
+        putIfPresent(node, FIELD_MISSING_VALUE_HINT, message.getMissingValueHint());
+
+        PlaceholderContext placeholder = message.getPlaceholderContext();
+        if (placeholder != null) {
+            ObjectNode placeholderNode = node.putObject(FIELD_PLACEHOLDER);
+            placeholderNode.put(FIELD_TYPE, placeholder.getType().name());
+            putIfPresent(placeholderNode, FIELD_ATTRIBUTE_NAME, placeholder.getAttributeName());
+            placeholderNode.put(FIELD_FIRST_ATTRIBUTE, placeholder.isFirstAttribute());
+            placeholderNode.put(FIELD_EXISTING_ATTRIBUTES, placeholder.hasExistingAttributes());
+        }
+
+        if (message.hasSuggestions()) {
+            ArrayNode suggestions = node.putArray(FIELD_SUGGESTIONS);
+            for (Suggestion suggestion : message.getSuggestions()) {
+                ObjectNode suggestionNode = suggestions.addObject();
+                suggestionNode.put(FIELD_DESCRIPTION, suggestion.getDescription());
+                putIfPresent(suggestionNode, FIELD_FIXED_VALUE, suggestion.getFixedValue());
+                putIfPresent(suggestionNode, FIELD_EXPLANATION, suggestion.getExplanation());
+                suggestionNode.put(FIELD_PREFERRED, suggestion.isPreferred());
+                ArrayNode examples = suggestionNode.putArray(FIELD_EXAMPLES);
+                suggestion.getExamples().forEach(examples::add);
+            }
+        }
+
+        ArrayNode contextLines = node.putArray(FIELD_CONTEXT_LINES);
+        message.getContextLines().forEach(contextLines::add);
+        return node;
+    }
+
+    private ValidationMessage readMessage(JsonNode node, String filename) {
+        JsonNode locationNode = node.path(FIELD_LOCATION);
+        SourceLocation location = SourceLocation
+                .builder()
+                .filename(filename)
+                .startLine(locationNode.path(FIELD_START_LINE).asInt())
+                .startColumn(locationNode.path(FIELD_START_COLUMN).asInt())
+                .endLine(locationNode.path(FIELD_END_LINE).asInt())
+                .endColumn(locationNode.path(FIELD_END_COLUMN).asInt())
+                .sourceLine(textOrNull(locationNode, FIELD_SOURCE_LINE))
+                .build();
+
+        ValidationMessage.Builder builder = ValidationMessage
+                .builder()
+                .severity(Severity.valueOf(node.path(FIELD_SEVERITY).asText()))
+                .ruleId(node.path(FIELD_RULE_ID).asText())
+                .message(node.path(FIELD_MESSAGE).asText())
+                .location(location)
+                .attributeName(textOrNull(node, FIELD_ATTRIBUTE_NAME))
+                .actualValue(textOrNull(node, FIELD_ACTUAL_VALUE))
+                .expectedValue(textOrNull(node, FIELD_EXPECTED_VALUE))
+                .errorType(ErrorType.valueOf(node.path(FIELD_ERROR_TYPE).asText()))
+                .missingValueHint(textOrNull(node, FIELD_MISSING_VALUE_HINT));
+
+        JsonNode placeholderNode = node.get(FIELD_PLACEHOLDER);
+        if (placeholderNode != null) {
+            builder
+                    .placeholderContext(PlaceholderContext
+                            .builder()
+                            .type(PlaceholderContext.PlaceholderType.valueOf(placeholderNode.path(FIELD_TYPE).asText()))
+                            .attributeName(textOrNull(placeholderNode, FIELD_ATTRIBUTE_NAME))
+                            .isFirstAttribute(placeholderNode.path(FIELD_FIRST_ATTRIBUTE).asBoolean())
+                            .hasExistingAttributes(placeholderNode.path(FIELD_EXISTING_ATTRIBUTES).asBoolean())
+                            .build());
+        }
+
+        for (JsonNode suggestionNode : node.path(FIELD_SUGGESTIONS)) {
+            Suggestion.Builder suggestion = Suggestion
+                    .builder()
+                    .description(suggestionNode.path(FIELD_DESCRIPTION).asText())
+                    .fixedValue(textOrNull(suggestionNode, FIELD_FIXED_VALUE))
+                    .explanation(textOrNull(suggestionNode, FIELD_EXPLANATION))
+                    .preferred(suggestionNode.path(FIELD_PREFERRED).asBoolean());
+            for (JsonNode example : suggestionNode.path(FIELD_EXAMPLES)) {
+                suggestion.addExample(example.asText());
+            }
+            builder.addSuggestion(suggestion.build());
+        }
+
+        for (JsonNode line : node.path(FIELD_CONTEXT_LINES)) {
+            builder.addContextLine(line.asText());
+        }
+        return builder.build();
+    }
+
+    private static void putIfPresent(ObjectNode node, String field, String value) {
+        if (value != null) {
+            node.put(field, value);
+        }
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * A configuration together with its digest, published as one reference so
+     * that concurrent lookups never pair a configuration with another digest.
+     */
+    private static final class ConfigDigest {
+        private final LinterConfiguration config;
+        private final String digest;
+
+        ConfigDigest(LinterConfiguration config, String digest) {
+            this.config = config;
+            this.digest = digest;
+        }
+    }
+}
@@ -14,6 +14,8 @@ import com.dataliquid.asciidoc.linter.config.output.OutputFormat;
 public class CLIConfig {
 
     private final List<String> inputPatterns;
+    private final List<String> excludePatterns;
+    private final List<String> ignoreFileNames;
     private final Path baseDirectory;
     private final Path configFile;
     private final OutputFormat outputConfigFormat;
@@ -21,6 +23,12 @@ public class CLIConfig {
     private final String reportFormat;
     private final Path reportOutput;
     private final Severity failLevel;
+    private final Severity minSeverity;
+    private final int maxMessagesPerFile;
+    private final int maxMessagesPerRule;
+    private final int threads;
+    private final Path cacheDirectory;
+    private final boolean profile;
 
     private CLIConfig(Builder builder) {
         this.inputPatterns = Objects
@@ -29,6 +37,12 @@ public class CLIConfig {
         if (this.inputPatterns.isEmpty()) {
             throw new IllegalArgumentException("inputPatterns must not be empty");
         }
+        this.excludePatterns = Objects
+                .requireNonNull(builder._excludePatterns,
+                        "[" + getClass().getName() + "] excludePatterns must not be null");
+        this.ignoreFileNames = Objects
+                .requireNonNull(builder._ignoreFileNames,
+                        "[" + getClass().getName() + "] ignoreFileNames must not be null");
         this.baseDirectory = Objects
                 .requireNonNull(builder._baseDirectory,
                         "[" + getClass().getName() + "] baseDirectory must not be null");
@@ -40,12 +54,36 @@ public class CLIConfig {
         this.reportOutput = builder._reportOutput;
         this.failLevel = Objects
                 .requireNonNull(builder._failLevel, "[" + getClass().getName() + "] failLevel must not be null");
+        this.minSeverity = Objects
+                .requireNonNull(builder._minSeverity, "[" + getClass().getName() + "] minSeverity must not be null");
+        if (builder._maxMessagesPerFile < 0) {
+            throw new IllegalArgumentException("maxMessagesPerFile must not be negative");
+        }
+        this.maxMessagesPerFile = builder._maxMessagesPerFile;
+        if (builder._maxMessagesPerRule < 0) {
+            throw new IllegalArgumentException("maxMessagesPerRule must not be negative");
+        }
+        this.maxMessagesPerRule = builder._maxMessagesPerRule;
+        if (builder._threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        this.threads = builder._threads;
+        this.cacheDirectory = builder._cacheDirectory;
+        this.profile = builder._profile;
     }
 
     public List<String> getInputPatterns() {
         return inputPatterns;
     }
 
+    public List<String> getExcludePatterns() {
+        return excludePatterns;
+    }
+
+    public List<String> getIgnoreFileNames() {
+        return ignoreFileNames;
+    }
+
     public Path getBaseDirectory() {
         return baseDirectory;
     }
@@ -74,6 +112,40 @@ public class CLIConfig {
         return failLevel;
     }
 
+    public Severity getMinSeverity() {
+        return minSeverity;
+    }
+
+    /**
+     * Returns the maximum number of messages reported per file.
+     *
+     * @return the limit, {@code 0} for unlimited
+     */
+    public int getMaxMessagesPerFile() {
+        return maxMessagesPerFile;
+    }
+
+    /**
+     * Returns the maximum number of messages reported per rule and file.
+     *
+     * @return the limit, {@code 0} for unlimited
+     */
+    public int getMaxMessagesPerRule() {
+        return maxMessagesPerRule;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public boolean isProfile() {
+        return profile;
+    }
+
     public boolean isOutputToFile() {
         return reportOutput != null;
     }
@@ -84,6 +156,8 @@ public class CLIConfig {
 
     public static class Builder {
         private List<String> _inputPatterns;
+        private List<String> _excludePatterns = List.of();
+        private List<String> _ignoreFileNames = List.of();
         private Path _baseDirectory = Paths.get(System.getProperty("user.dir"));
         private Path _configFile;
         private OutputFormat _outputConfigFormat;
@@ -91,12 +165,28 @@ public class CLIConfig {
         private String _reportFormat = "console";
         private Path _reportOutput;
         private Severity _failLevel = Severity.ERROR;
+        private Severity _minSeverity = Severity.INFO;
+        private int _maxMessagesPerFile;
+        private int _maxMessagesPerRule;
+        private int _threads = 1;
+        private Path _cacheDirectory;
+        private boolean _profile;
 
         public Builder inputPatterns(List<String> inputPatterns) {
             this._inputPatterns = inputPatterns;
             return this;
         }
 
+        public Builder excludePatterns(List<String> excludePatterns) {
+            this._excludePatterns = excludePatterns;
+            return this;
+        }
+
+        public Builder ignoreFileNames(List<String> ignoreFileNames) {
+            this._ignoreFileNames = ignoreFileNames;
+            return this;
+        }
+
         public Builder baseDirectory(Path baseDirectory) {
             this._baseDirectory = baseDirectory;
             return this;
@@ -132,6 +222,36 @@ public class CLIConfig {
             return this;
         }
 
+        public Builder minSeverity(Severity minSeverity) {
+            this._minSeverity = minSeverity;
+            return this;
+        }
+
+        public Builder maxMessagesPerFile(int maxMessagesPerFile) {
+            this._maxMessagesPerFile = maxMessagesPerFile;
+            return this;
+        }
+
+        public Builder maxMessagesPerRule(int maxMessagesPerRule) {
+            this._maxMessagesPerRule = maxMessagesPerRule;
+            return this;
+        }
+
+        public Builder threads(int threads) {
+            this._threads = threads;
+            return this;
+        }
+
+        public Builder cacheDirectory(Path cacheDirectory) {
+            this._cacheDirectory = cacheDirectory;
+            return this;
+        }
+
+        public Builder profile(boolean profile) {
+            this._profile = profile;
+            return this;
+        }
+
         public CLIConfig build() {
             return new CLIConfig(this);
         }
@@ -1,14 +1,19 @@
 package com.dataliquid.asciidoc.linter.cli;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.charset.StandardCharsets;
-import java.util.Map;
 
 import com.dataliquid.asciidoc.linter.config.output.OutputConfiguration;
+import com.dataliquid.asciidoc.linter.profile.Profiler;
+import com.dataliquid.asciidoc.linter.report.ReportStream;
 import com.dataliquid.asciidoc.linter.report.ReportWriter;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
 import com.dataliquid.asciidoc.linter.validator.ValidationResult;
 
 /**
@@ -17,9 +22,45 @@ import com.dataliquid.asciidoc.linter.validator.ValidationResult;
 public class CLIOutputHandler {
 
     private final ReportWriter reportWriter;
+    private final PrintWriter console;
 
     public CLIOutputHandler() {
         this.reportWriter = new ReportWriter();
+        this.console = null;
+    }
+
+    /**
+     * Creates an output handler that renders source context from the given
+     * registry, typically the one of the linter that produced the results.
+     */
+    public CLIOutputHandler(SourceRegistry sourceRegistry) {
+        this(sourceRegistry, null);
+    }
+
+    /**
+     * Creates an output handler that writes console reports to the given writer
+     * instead of standard output.
+     *
+     * @param sourceRegistry the registry holding the validated sources
+     * @param console        the writer for console reports, or {@code null} for
+     *                       standard output
+     */
+    public CLIOutputHandler(SourceRegistry sourceRegistry, PrintWriter console) {
+        this(sourceRegistry, console, Profiler.disabled());
+    }
+
+    /**
+     * Creates an output handler that records the time spent writing reports in
+     * the given profiler and adds its measurements to JSON reports.
+     *
+     * @param sourceRegistry the registry holding the validated sources
+     * @param console        the writer for console reports, or {@code null} for
+     *                       standard output
+     * @param profiler       the profiler of the run
+     */
+    public CLIOutputHandler(SourceRegistry sourceRegistry, PrintWriter console, Profiler profiler) {
+        this.reportWriter = new ReportWriter(sourceRegistry, profiler);
+        this.console = console;
     }
 
     /**
@@ -37,48 +78,51 @@ public class CLIOutputHandler {
             }
         } else {
             // Write to console (stdout)
-            reportWriter.writeToConsole(result, config.getReportFormat(), outputConfig);
+            writeToConsole(result, config, outputConfig);
         }
     }
 
     /**
-     * Writes multiple validation results for directory input.
+     * Opens a report to which the results of a multi-file run are added as each
+     * file finishes. Depending on the configuration the report goes to the
+     * console, to a single file, or to one file per input in the report output
+     * directory.
+     *
+     * @param  config       the CLI configuration
+     * @param  outputConfig the output configuration
+     *
+     * @return              the report stream; closing it completes the report
+     *
+     * @throws IOException  if the report file or directory cannot be created
      */
-    public void writeMultipleReports(Map<Path, ValidationResult> results, CLIConfig config, ValidationResult aggregated,
-            OutputConfiguration outputConfig) throws IOException {
+    public ReportStream openReport(CLIConfig config, OutputConfiguration outputConfig) throws IOException {
         if (!config.isOutputToFile()) {
-            // Write aggregated result to console
-            reportWriter.writeToConsole(aggregated, config.getReportFormat(), outputConfig);
-            return;
+            PrintWriter writer = console != null ? console
+                    : new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            return reportWriter.open(config.getReportFormat(), writer, outputConfig);
         }
 
         Path output = config.getReportOutput();
 
         if (Files.isDirectory(output) || output.toString().endsWith("/") || output.toString().endsWith("\\")) {
             // Write individual reports to directory
-            writeIndividualReports(results, config, output, outputConfig);
-        } else {
-            // Write aggregated report to single file
-            writeReport(aggregated, config, outputConfig);
-        }
-    }
-
-    private void writeIndividualReports(Map<Path, ValidationResult> results, CLIConfig config, Path outputDir,
-            OutputConfiguration outputConfig) throws IOException {
-        // Ensure output directory exists
-        if (!Files.exists(outputDir)) {
-            Files.createDirectories(outputDir);
+            if (!Files.exists(output)) {
+                Files.createDirectories(output);
+            }
+            return new IndividualReportStream(config.getReportFormat(), output, outputConfig);
         }
 
-        for (Map.Entry<Path, ValidationResult> entry : results.entrySet()) {
-            Path inputFile = entry.getKey();
-            ValidationResult result = entry.getValue();
-
-            // Generate output filename based on input filename
-            String outputFileName = generateOutputFileName(inputFile, config.getReportFormat());
-            Path outputFile = outputDir.resolve(outputFileName);
+        // Write aggregated report to single file
+        ensureParentDirectoryExists(output);
+        PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8));
+        return new FileReportStream(reportWriter.open(config.getReportFormat(), writer, outputConfig), writer);
+    }
 
-            writeIndividualReport(result, config.getReportFormat(), outputFile, outputConfig);
+    private void writeToConsole(ValidationResult result, CLIConfig config, OutputConfiguration outputConfig) {
+        if (console != null) {
+            reportWriter.write(result, config.getReportFormat(), console, outputConfig);
+        } else {
+            reportWriter.writeToConsole(result, config.getReportFormat(), outputConfig);
         }
     }
 
@@ -98,7 +142,14 @@ public class CLIOutputHandler {
         }
 
         // Add format extension
-        String extension = "json".equals(format) ? ".json" : ".txt";
+        String extension;
+        if ("json".equals(format)) {
+            extension = ".json";
+        } else if ("sarif".equals(format)) {
+            extension = ".sarif";
+        } else {
+            extension = ".txt";
+        }
         return baseName + "-report" + extension;
     }
 
@@ -108,4 +159,75 @@ public class CLIOutputHandler {
             Files.createDirectories(parent);
         }
     }
+
+    /**
+     * Report written to a file of its own; the file is closed with the report.
+     */
+    private static final class FileReportStream implements ReportStream {
+        private final ReportStream report;
+        private final PrintWriter writer;
+
+        FileReportStream(ReportStream report, PrintWriter writer) {
+            this.report = report;
+            this.writer = writer;
+        }
+
+        @Override
+        public void add(ValidationResult result) {
+            report.add(result);
+        }
+
+        @Override
+        public boolean isIncremental() {
+            return report.isIncremental();
+        }
+
+        @Override
+        public void close() {
+            try {
+                report.close();
+            } finally {
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * Writes a separate report for every validated file into the output
+     * directory as soon as the file has been added.
+     */
+    private final class IndividualReportStream implements ReportStream {
+        private final String format;
+        private final Path outputDir;
+        private final OutputConfiguration outputConfig;
+
+        IndividualReportStream(String format, Path outputDir, OutputConfiguration outputConfig) {
+            this.format = format;
+            this.outputDir = outputDir;
+            this.outputConfig = outputConfig;
+        }
+
+        @Override
+        public void add(ValidationResult result) {
+            for (String scannedFile : result.getScannedFiles()) {
+                // Generate output filename based on input filename
+                String outputFileName = generateOutputFileName(Paths.get(scannedFile), format);
+                try {
+                    writeIndividualReport(result, format, outputDir.resolve(outputFileName), outputConfig);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        @Override
+        public boolean isIncremental() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // Every report has been written and closed in add
+        }
+    }
 }
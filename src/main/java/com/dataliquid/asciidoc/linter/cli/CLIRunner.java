@@ -1,23 +1,39 @@
 package com.dataliquid.asciidoc.linter.cli;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.dataliquid.asciidoc.linter.Linter;
+import com.dataliquid.asciidoc.linter.ValidationListener;
+import com.dataliquid.asciidoc.linter.cache.ResultCache;
 import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
 import com.dataliquid.asciidoc.linter.config.common.Severity;
 import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
 import com.dataliquid.asciidoc.linter.config.output.OutputConfiguration;
 import com.dataliquid.asciidoc.linter.config.output.OutputConfigurationLoader;
 import com.dataliquid.asciidoc.linter.config.output.OutputFormat;
-import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
+import com.dataliquid.asciidoc.linter.discovery.PathFeed;
+import com.dataliquid.asciidoc.linter.profile.ProfileTable;
+import com.dataliquid.asciidoc.linter.profile.Profiler;
+import com.dataliquid.asciidoc.linter.report.ReportStream;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
+import com.dataliquid.asciidoc.linter.validator.MessageLimits;
 import com.dataliquid.asciidoc.linter.validator.ValidationResult;
 
 /**
@@ -26,22 +42,48 @@ import com.dataliquid.asciidoc.linter.validator.ValidationResult;
 public class CLIRunner {
 
     private static final Logger logger = LogManager.getLogger(CLIRunner.class);
-    private static final String DEFAULT_CONFIG_FILE = ".linter-rule-config.yaml";
+    /**
+     * The rule file used when none is given, looked up in the current directory.
+     */
+    public static final String DEFAULT_CONFIG_FILE = ".linter-rule-config.yaml";
     private static final int MULTIPLE_FILES_THRESHOLD = 1;
-    private static final int SINGLE_FILE_COUNT = 1;
 
     private final FileDiscoveryService fileDiscoveryService;
+    private final Linter residentLinter;
+    private final SourceRegistry sourceRegistry;
     private final CLIOutputHandler outputHandler;
     private final ConfigurationLoader configurationLoader;
     private final OutputConfigurationLoader outputConfigurationLoader;
-    private final Linter linter;
+    private final Map<Path, LoadedFile<LinterConfiguration>> linterConfigurations;
+    private final Map<Object, LoadedFile<OutputConfiguration>> outputConfigurations;
 
     public CLIRunner() {
+        this(null);
+    }
+
+    /**
+     * Creates a runner that validates with the given long-lived linter instead of
+     * creating one per run. The linter is not closed by the runner, and loaded
+     * rule and output configurations are kept and reused until their files
+     * change. Thread, cache, minimum severity and message limit settings of the
+     * CLI configuration are ignored in this mode; they are fixed when the linter
+     * is built, and {@code lint --daemon} warns about them instead of forwarding
+     * them. A resident linter serves clients in other directories, so it does
+     * not look up {@value #DEFAULT_CONFIG_FILE} in its own current directory.
+     *
+     * @param residentLinter the linter to use for every run, or {@code null} to
+     *                       create one per run
+     */
+    public CLIRunner(Linter residentLinter) {
         this.fileDiscoveryService = new FileDiscoveryService();
-        this.outputHandler = new CLIOutputHandler();
+        this.residentLinter = residentLinter;
+        // Reports render context from the sources the linter has already read
+        this.sourceRegistry = residentLinter != null ? residentLinter.getSourceRegistry() : new SourceRegistry();
+        this.outputHandler = new CLIOutputHandler(sourceRegistry);
         this.configurationLoader = new ConfigurationLoader();
         this.outputConfigurationLoader = new OutputConfigurationLoader();
-        this.linter = new Linter();
+        this.linterConfigurations = new ConcurrentHashMap<>();
+        this.outputConfigurations = new ConcurrentHashMap<>();
     }
 
     /**
@@ -52,66 +94,191 @@ public class CLIRunner {
      * @return        Exit code (0 = success, 1 = violations, 2 = error)
      */
     public int run(CLIConfig config) {
-        try {
+        return run(config, null);
+    }
+
+    /**
+     * Runs the linter with the given configuration and writes console reports and
+     * errors to the given writer instead of standard output.
+     *
+     * @param  config  CLI configuration
+     * @param  console the writer for console output, or {@code null} for standard
+     *                 output
+     *
+     * @return         Exit code (0 = success, 1 = violations, 2 = error)
+     */
+    public int run(CLIConfig config, PrintWriter console) {
+        return run(config, console, null);
+    }
+
+    /**
+     * Runs the linter with the given configuration and additionally hands the
+     * result of every validated file to the observer, e.g. to compare it with
+     * later runs.
+     *
+     * @param  config   CLI configuration
+     * @param  console  the writer for console output, or {@code null} for
+     *                  standard output
+     * @param  observer receives the result of every file after it has been
+     *                  reported, or {@code null}
+     *
+     * @return          Exit code (0 = success, 1 = violations, 2 = error)
+     */
+    public int run(CLIConfig config, PrintWriter console, ValidationListener observer) {
+        // A resident linter is built once, so only runs with their own linter can be profiled
+        Profiler profiler = config.isProfile() && residentLinter == null ? Profiler.create() : Profiler.disabled();
+        Linter linter = residentLinter != null ? residentLinter : createLinter(config, profiler);
+        CLIOutputHandler reportHandler;
+        if (profiler.isEnabled()) {
+            reportHandler = new CLIOutputHandler(sourceRegistry, console, profiler);
+        } else {
+            reportHandler = console != null ? new CLIOutputHandler(sourceRegistry, console) : outputHandler;
+        }
+        List<Path> validatedFiles = new ArrayList<>();
+        try (PathFeed discoveredFiles = fileDiscoveryService.streamFiles(config)) {
             // Load linter configuration
             LinterConfiguration linterConfig = loadLinterConfiguration(config);
 
             // Load output configuration
             OutputConfiguration outputConfig = loadOutputConfiguration(config);
 
-            // Discover files
-            List<Path> filesToValidate = fileDiscoveryService.discoverFiles(config);
-
-            if (filesToValidate.isEmpty()) {
+            // Discover files; validation starts with the first file found
+            if (!discoveredFiles.hasNext()) {
                 if (logger.isErrorEnabled()) {
                     logger.error("No files found matching patterns: {}", String.join(", ", config.getInputPatterns()));
                 }
+                reportError(console,
+                        "No files found matching patterns: " + String.join(", ", config.getInputPatterns()));
                 return 2;
             }
-
-            // Print files being validated
-            if (filesToValidate.size() > MULTIPLE_FILES_THRESHOLD) {
-                if (logger.isInfoEnabled()) {
-                    logger.info("Validating {} files...", filesToValidate.size());
-                }
-            }
+            Path firstFile = discoveredFiles.next();
 
             // Validate files
-            if (filesToValidate.size() == SINGLE_FILE_COUNT) {
+            if (!discoveredFiles.hasNext()) {
                 // Single file validation
-                ValidationResult result = linter.validateFile(filesToValidate.get(0), linterConfig);
-                outputHandler.writeReport(result, config, outputConfig);
-                return determineExitCode(result, config.getFailLevel());
+                validatedFiles.add(firstFile);
+                ValidationResult result = linter.validateFile(firstFile, linterConfig);
+                reportHandler.writeReport(result, config, outputConfig);
+                if (observer != null) {
+                    observer.fileValidated(firstFile, result);
+                }
+                printProfile(profiler);
+                return determineExitCode(new Findings(result), config.getFailLevel());
             } else {
-                // Multiple file validation
-                Map<Path, ValidationResult> results = linter.validateFiles(filesToValidate, linterConfig);
-                ValidationResult aggregated = aggregateResults(results);
-                outputHandler.writeMultipleReports(results, config, aggregated, outputConfig);
-                return determineExitCode(aggregated, config.getFailLevel());
+                // Multiple file validation: every file is reported as soon as it is done
+                Findings findings = new Findings();
+                try (ReportStream report = reportHandler.openReport(config, outputConfig)) {
+                    Iterator<Path> files = new DiscoveredFiles(firstFile, discoveredFiles);
+                    linter.validateFiles(files, linterConfig, (file, result) -> {
+                        validatedFiles.add(file);
+                        findings.add(result);
+                        report.add(result);
+                        if (observer != null) {
+                            observer.fileValidated(file, result);
+                        }
+                        if (report.isIncremental()) {
+                            // Already rendered, the source is not needed anymore
+                            sourceRegistry.release(file.toString());
+                        }
+                    });
+                }
+                if (validatedFiles.size() > MULTIPLE_FILES_THRESHOLD && logger.isInfoEnabled()) {
+                    logger.info("Validated {} files", validatedFiles.size());
+                }
+                logCacheStatistics(linter);
+                printProfile(profiler);
+                return determineExitCode(findings, config.getFailLevel());
             }
 
+        } catch (UncheckedIOException e) {
+            if (logger.isErrorEnabled()) {
+                logger.error("I/O error: {}", e.getCause().getMessage());
+            }
+            reportError(console, "I/O error: " + e.getCause().getMessage());
+            return 2;
         } catch (IOException e) {
             if (logger.isErrorEnabled()) {
                 logger.error("I/O error: {}", e.getMessage());
             }
+            reportError(console, "I/O error: " + e.getMessage());
             return 2;
         } catch (Exception e) {
             if (logger.isErrorEnabled()) {
                 logger.error("Error: {}", e.getMessage(), e);
             }
+            reportError(console, "Error: " + e.getMessage());
             return 2;
         } finally {
-            linter.close();
+            if (residentLinter == null) {
+                linter.close();
+            } else {
+                // The resident linter outlives this run; drop the sources kept for the report
+                for (Path file : validatedFiles) {
+                    sourceRegistry.release(file.toString());
+                }
+            }
+        }
+    }
+
+    private void reportError(PrintWriter console, String message) {
+        // Without a console writer the message has already been logged to stderr
+        if (console != null) {
+            console.println(message);
+            console.flush();
+        }
+    }
+
+    /**
+     * Prints the ranked profile tables to standard error, where they never mix
+     * with a report written to standard output.
+     */
+    private void printProfile(Profiler profiler) {
+        if (profiler.isEnabled()) {
+            ProfileTable.print(profiler, new PrintWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8)));
+        }
+    }
+
+    private Linter createLinter(CLIConfig config, Profiler profiler) {
+        Linter.Builder builder = Linter
+                .builder()
+                .threads(config.getThreads())
+                .minimumSeverity(config.getMinSeverity())
+                .messageLimits(MessageLimits.of(config.getMaxMessagesPerFile(), config.getMaxMessagesPerRule()))
+                .sourceRegistry(sourceRegistry)
+                .profiler(profiler);
+        if (config.getCacheDirectory() != null) {
+            builder.resultCache(new ResultCache(config.getCacheDirectory(), VersionInfo.getInstance().getVersion()));
         }
+        return builder.build();
+    }
+
+    private void logCacheStatistics(Linter linter) {
+        linter.getResultCache().ifPresent(cache -> {
+            if (logger.isInfoEnabled()) {
+                logger.info("Result cache: {} unchanged, {} validated", cache.getHits(), cache.getMisses());
+            }
+        });
     }
 
-    private LinterConfiguration loadLinterConfiguration(CLIConfig config) throws IOException {
+    /**
+     * Loads the rule configuration of the CLI configuration: the given rule file,
+     * else {@value #DEFAULT_CONFIG_FILE} in the current directory, else an empty
+     * configuration. With a resident linter, the loaded configuration is reused
+     * until the file changes.
+     *
+     * @param  config      CLI configuration
+     *
+     * @return             the rule configuration
+     *
+     * @throws IOException if the rule file does not exist or cannot be read
+     */
+    public LinterConfiguration loadLinterConfiguration(CLIConfig config) throws IOException {
         Path configFile = config.getConfigFile();
 
         if (configFile == null) {
             // Look for default config file in current directory
             Path defaultConfig = Paths.get(DEFAULT_CONFIG_FILE);
-            if (Files.exists(defaultConfig)) {
+            if (residentLinter == null && Files.exists(defaultConfig)) {
                 configFile = defaultConfig;
             } else {
                 // Return empty configuration
@@ -123,7 +290,11 @@ public class CLIRunner {
             throw new IOException("Configuration file not found: " + configFile);
         }
 
-        return configurationLoader.loadConfiguration(configFile);
+        if (residentLinter == null) {
+            return configurationLoader.loadConfiguration(configFile);
+        }
+        Path key = configFile.toAbsolutePath().normalize();
+        return loadCached(linterConfigurations, key, key, () -> configurationLoader.loadConfiguration(key));
     }
 
     private OutputConfiguration loadOutputConfiguration(CLIConfig config) throws IOException {
@@ -137,7 +308,11 @@ public class CLIRunner {
 
         // If predefined format is specified
         if (outputConfigFormat != null) {
-            return outputConfigurationLoader.loadPredefinedConfiguration(outputConfigFormat);
+            if (residentLinter == null) {
+                return outputConfigurationLoader.loadPredefinedConfiguration(outputConfigFormat);
+            }
+            return loadCached(outputConfigurations, outputConfigFormat, null,
+                    () -> outputConfigurationLoader.loadPredefinedConfiguration(outputConfigFormat));
         }
 
         // If custom file is specified
@@ -145,34 +320,111 @@ public class CLIRunner {
             if (!Files.exists(outputConfigFile)) {
                 throw new IOException("Output configuration file not found: " + outputConfigFile);
             }
-            return outputConfigurationLoader.loadConfiguration(outputConfigFile.toString());
+            if (residentLinter == null) {
+                return outputConfigurationLoader.loadConfiguration(outputConfigFile.toString());
+            }
+            Path key = outputConfigFile.toAbsolutePath().normalize();
+            return loadCached(outputConfigurations, key, key,
+                    () -> outputConfigurationLoader.loadConfiguration(key.toString()));
         }
 
         // Should never reach here due to the first check
         throw new IllegalStateException("No output configuration specified");
     }
 
-    private int determineExitCode(ValidationResult result, Severity failLevel) {
+    /**
+     * Returns the cached value for the key, loading it again if the file it was
+     * loaded from has been modified since.
+     */
+    private static <K, T> T loadCached(Map<K, LoadedFile<T>> cache, K key, Path file, ConfigurationSupplier<T> loader)
+            throws IOException {
+        FileTime modified = file != null ? Files.getLastModifiedTime(file) : null;
+        long size = file != null ? Files.size(file) : -1;
+
+        LoadedFile<T> cached = cache.get(key);
+        if (cached != null && Objects.equals(cached.modified, modified) && cached.size == size) {
+            return cached.value;
+        }
+
+        T value = loader.load();
+        cache.put(key, new LoadedFile<>(value, modified, size));
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface ConfigurationSupplier<T> {
+        T load() throws IOException;
+    }
+
+    private static final class LoadedFile<T> {
+        private final T value;
+        private final FileTime modified;
+        private final long size;
+
+        LoadedFile(T value, FileTime modified, long size) {
+            this.value = value;
+            this.modified = modified;
+            this.size = size;
+        }
+    }
+
+    private int determineExitCode(Findings findings, Severity failLevel) {
         return switch (failLevel) {
-        case ERROR -> result.hasErrors() ? 1 : 0;
-        case WARN -> (result.hasErrors() || result.hasWarnings()) ? 1 : 0;
-        case INFO -> result.hasMessages() ? 1 : 0;
+        case ERROR -> findings.errors ? 1 : 0;
+        case WARN -> (findings.errors || findings.warnings) ? 1 : 0;
+        case INFO -> findings.messages ? 1 : 0;
         };
     }
 
-    private ValidationResult aggregateResults(Map<Path, ValidationResult> results) {
-        ValidationResult.Builder aggregated = ValidationResult.builder();
+    /**
+     * Severities seen in the results of a run, kept instead of the results
+     * themselves to determine the exit code.
+     */
+    private static final class Findings {
+        private boolean errors;
+        private boolean warnings;
+        private boolean messages;
 
-        for (Map.Entry<Path, ValidationResult> entry : results.entrySet()) {
-            // Add all scanned files
-            aggregated.addScannedFiles(entry.getValue().getScannedFiles());
+        Findings() {
+        }
 
-            // Add all messages
-            for (ValidationMessage message : entry.getValue().getMessages()) {
-                aggregated.addMessage(message);
-            }
+        Findings(ValidationResult result) {
+            add(result);
         }
 
-        return aggregated.complete().build();
+        void add(ValidationResult result) {
+            errors |= result.hasErrors();
+            warnings |= result.hasWarnings();
+            messages |= result.hasMessages();
+        }
+    }
+
+    /**
+     * The files of a discovery feed, with the first file already taken from it to
+     * tell a single file from several.
+     */
+    private static final class DiscoveredFiles implements Iterator<Path> {
+        private final PathFeed feed;
+        private Path firstFile;
+
+        DiscoveredFiles(Path firstFile, PathFeed feed) {
+            this.firstFile = firstFile;
+            this.feed = feed;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return firstFile != null || feed.hasNext();
+        }
+
+        @Override
+        public Path next() {
+            if (firstFile == null) {
+                return feed.next();
+            }
+            Path file = firstFile;
+            firstFile = null;
+            return file;
+        }
     }
 }
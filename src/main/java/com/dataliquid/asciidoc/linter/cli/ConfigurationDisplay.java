@@ -6,6 +6,7 @@ import java.util.List;
 import com.dataliquid.asciidoc.linter.cli.display.AsciiBoxDrawer;
 import com.dataliquid.asciidoc.linter.cli.display.DisplayConstants;
 import com.dataliquid.asciidoc.linter.cli.display.TextWrapper;
+import com.dataliquid.asciidoc.linter.config.common.Severity;
 import com.dataliquid.asciidoc.linter.output.ConsoleWriter;
 import com.dataliquid.asciidoc.linter.output.OutputWriter;
 
@@ -82,6 +83,12 @@ public class ConfigurationDisplay {
     private void drawConfigurationLines(CLIConfig config) {
         // Input patterns - always shown
         drawConfigLine("Input patterns:", String.join(", ", config.getInputPatterns()));
+        if (!config.getExcludePatterns().isEmpty()) {
+            drawConfigLine("Exclude patterns:", String.join(", ", config.getExcludePatterns()));
+        }
+        if (!config.getIgnoreFileNames().isEmpty()) {
+            drawConfigLine("Ignore files:", String.join(", ", config.getIgnoreFileNames()));
+        }
 
         // Base directory - always shown
         drawConfigLine("Base directory:", config.getBaseDirectory().toString());
@@ -109,6 +116,34 @@ public class ConfigurationDisplay {
 
         // Fail level - always shown
         drawConfigLine("Fail level:", config.getFailLevel().toString());
+
+        // Minimum severity - only shown if rules are left out
+        if (config.getMinSeverity() != Severity.INFO) {
+            drawConfigLine("Min severity:", config.getMinSeverity().toString());
+        }
+
+        // Message limits - only shown if set
+        if (config.getMaxMessagesPerFile() > 0) {
+            drawConfigLine("Max per file:", String.valueOf(config.getMaxMessagesPerFile()));
+        }
+        if (config.getMaxMessagesPerRule() > 0) {
+            drawConfigLine("Max per rule:", String.valueOf(config.getMaxMessagesPerRule()));
+        }
+
+        // Threads - only shown if parallel validation is enabled
+        if (config.getThreads() > 1) {
+            drawConfigLine("Threads:", String.valueOf(config.getThreads()));
+        }
+
+        // Result cache - only shown if enabled
+        if (config.getCacheDirectory() != null) {
+            drawConfigLine("Cache:", config.getCacheDirectory().toString());
+        }
+
+        // Profiling - only shown if enabled
+        if (config.isProfile()) {
+            drawConfigLine("Profile:", "enabled");
+        }
     }
 
     /**
@@ -135,6 +170,12 @@ public class ConfigurationDisplay {
         List<ConfigEntry> entries = new ArrayList<>();
 
         entries.add(new ConfigEntry("Input patterns", String.join(", ", config.getInputPatterns())));
+        if (!config.getExcludePatterns().isEmpty()) {
+            entries.add(new ConfigEntry("Exclude patterns", String.join(", ", config.getExcludePatterns())));
+        }
+        if (!config.getIgnoreFileNames().isEmpty()) {
+            entries.add(new ConfigEntry("Ignore files", String.join(", ", config.getIgnoreFileNames())));
+        }
         entries.add(new ConfigEntry("Base directory", config.getBaseDirectory().toString()));
 
         String configFile = config.getConfigFile() != null ? config.getConfigFile().toString() : "default";
@@ -156,6 +197,30 @@ public class ConfigurationDisplay {
 
         entries.add(new ConfigEntry("Fail level", config.getFailLevel().toString()));
 
+        if (config.getMinSeverity() != Severity.INFO) {
+            entries.add(new ConfigEntry("Min severity", config.getMinSeverity().toString()));
+        }
+
+        if (config.getMaxMessagesPerFile() > 0) {
+            entries.add(new ConfigEntry("Max per file", String.valueOf(config.getMaxMessagesPerFile())));
+        }
+
+        if (config.getMaxMessagesPerRule() > 0) {
+            entries.add(new ConfigEntry("Max per rule", String.valueOf(config.getMaxMessagesPerRule())));
+        }
+
+        if (config.getThreads() > 1) {
+            entries.add(new ConfigEntry("Threads", String.valueOf(config.getThreads())));
+        }
+
+        if (config.getCacheDirectory() != null) {
+            entries.add(new ConfigEntry("Cache", config.getCacheDirectory().toString()));
+        }
+
+        if (config.isProfile()) {
+            entries.add(new ConfigEntry("Profile", "enabled"));
+        }
+
         return entries;
     }
 
@@ -2,22 +2,28 @@ package com.dataliquid.asciidoc.linter.cli;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.filefilter.IOFileFilter;
-import org.apache.commons.io.filefilter.TrueFileFilter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.dataliquid.asciidoc.linter.discovery.DirectoryScanner;
+import com.dataliquid.asciidoc.linter.discovery.IgnoreFile;
+import com.dataliquid.asciidoc.linter.discovery.PathFeed;
+import com.dataliquid.asciidoc.linter.discovery.ScanFilter;
+
 /**
  * Service for discovering AsciiDoc files based on Ant patterns.
  */
@@ -26,7 +32,10 @@ public class FileDiscoveryService {
     private static final Logger logger = LogManager.getLogger(FileDiscoveryService.class);
 
     /**
-     * Discovers files based on the CLI configuration.
+     * Discovers files based on the CLI configuration. Directories are listed by
+     * as many threads as configured for validation. Directories matching an
+     * exclude pattern or an entry of an ignore file are skipped without being
+     * listed; files named explicitly by an input pattern are never excluded.
      *
      * @param  config      The CLI configuration
      *
@@ -35,7 +44,10 @@ public class FileDiscoveryService {
      * @throws IOException if an I/O error occurs
      */
     public List<Path> discoverFiles(CLIConfig config) throws IOException {
-        return discoverFiles(config.getInputPatterns(), config.getBaseDirectory());
+        Set<Path> matchedFiles = new LinkedHashSet<>();
+        discoverFiles(config.getInputPatterns(), config.getBaseDirectory(), Exclusions.of(config), config.getThreads(),
+                matchedFiles::add);
+        return new ArrayList<>(matchedFiles);
     }
 
     /**
@@ -50,15 +62,44 @@ public class FileDiscoveryService {
      */
     public List<Path> discoverFiles(List<String> patterns, Path baseDir) throws IOException {
         Set<Path> matchedFiles = new LinkedHashSet<>(); // Use LinkedHashSet to maintain order and remove duplicates
+        discoverFiles(patterns, baseDir, Exclusions.NONE, 1, matchedFiles::add);
+        return new ArrayList<>(matchedFiles);
+    }
+
+    /**
+     * Discovers files based on the CLI configuration on a background thread and
+     * returns them as they are found, in the order of
+     * {@link #discoverFiles(CLIConfig)}, so that validation can start before
+     * discovery is complete.
+     *
+     * @param  config The CLI configuration
+     *
+     * @return        the discovered files; must be closed if not exhausted
+     */
+    public PathFeed streamFiles(CLIConfig config) {
+        return PathFeed.start(consumer -> {
+            Set<Path> matchedFiles = new HashSet<>();
+            discoverFiles(config.getInputPatterns(), config.getBaseDirectory(), Exclusions.of(config),
+                    config.getThreads(), file -> {
+                        if (matchedFiles.add(file)) {
+                            consumer.accept(file);
+                        }
+                    });
+        });
+    }
+
+    private void discoverFiles(List<String> patterns, Path baseDir, Exclusions exclusions, int threads,
+            Consumer<Path> files) throws IOException {
+        List<CompiledPattern> antPatterns = new ArrayList<>();
 
         for (String pattern : patterns) {
             logger.debug("Processing pattern: {}", pattern);
 
-            // Handle absolute paths and simple file names
+            // Handle absolute paths and simple file names; named files are not excluded
             Path patternPath = Paths.get(pattern);
             if (patternPath.isAbsolute() && patternPath.toFile().exists()) {
                 if (patternPath.toFile().isFile()) {
-                    matchedFiles.add(patternPath.normalize());
+                    files.accept(patternPath.normalize());
                     continue;
                 }
             }
@@ -66,70 +107,288 @@ public class FileDiscoveryService {
             // Check if it's a simple filename in the base directory
             Path simpleFile = baseDir.resolve(pattern);
             if (simpleFile.toFile().isFile()) {
-                matchedFiles.add(simpleFile.normalize());
+                files.accept(simpleFile.normalize());
                 continue;
             }
 
-            // Process as Ant pattern
-            matchedFiles.addAll(findFilesMatchingAntPattern(pattern, baseDir));
+            // Collect as Ant pattern
+            antPatterns.add(new CompiledPattern(pattern));
         }
 
-        return new ArrayList<>(matchedFiles);
+        // All Ant patterns are matched in one pass over the base directory
+        if (!antPatterns.isEmpty()) {
+            ScanFilter filter = PatternFilter.root(antPatterns, exclusions, baseDir);
+            new DirectoryScanner(threads).scan(baseDir, filter, file -> files.accept(file.normalize()));
+        }
     }
 
-    private List<Path> findFilesMatchingAntPattern(String pattern, Path baseDir) throws IOException {
-        List<Path> matchingFiles = new ArrayList<>();
+    /**
+     * Tells whether a file is selected by the input patterns of the CLI
+     * configuration and not excluded, e.g. a file created after discovery.
+     *
+     * @param  file   the file to check
+     * @param  config the CLI configuration
+     *
+     * @return        {@code true} if {@link #discoverFiles(CLIConfig)} would
+     *                return the file
+     */
+    public boolean matches(Path file, CLIConfig config) {
+        Path baseDir = config.getBaseDirectory().toAbsolutePath().normalize();
+        Path normalized = file.toAbsolutePath().normalize();
+        if (!normalized.startsWith(baseDir)) {
+            // Only absolute patterns can select files outside the base directory
+            return config.getInputPatterns().stream().anyMatch(pattern -> normalized.equals(Paths.get(pattern)));
+        }
 
-        // Convert Ant pattern to file filter
-        AntPatternFileFilter antFilter = new AntPatternFileFilter(pattern, baseDir);
+        List<CompiledPattern> antPatterns = new ArrayList<>();
+        for (String pattern : config.getInputPatterns()) {
+            if (normalized.equals(baseDir.resolve(pattern).normalize())) {
+                return true;
+            }
+            antPatterns.add(new CompiledPattern(pattern));
+        }
 
-        // Use all directories for traversal
-        IOFileFilter dirFilter = TrueFileFilter.INSTANCE;
+        // Descend like discovery does, so that excluded directories rule the file out
+        ScanFilter filter = PatternFilter.root(antPatterns, Exclusions.of(config), baseDir);
+        Path relativePath = baseDir.relativize(normalized);
+        Path directory = baseDir;
+        for (int i = 0; i < relativePath.getNameCount() - 1 && filter != null; i++) {
+            directory = directory.resolve(relativePath.getName(i));
+            filter = filter.enter(directory);
+        }
+        return filter != null && filter.accept(normalized);
+    }
 
-        // Find matching files
-        File baseDirFile = baseDir.toFile();
-        if (baseDirFile.exists() && baseDirFile.isDirectory()) {
-            for (File file : FileUtils.listFiles(baseDirFile, antFilter, dirFilter)) {
-                matchingFiles.add(file.toPath().normalize());
+    /**
+     * Returns the directories that can contain files selected by the input
+     * patterns of the CLI configuration: the base directory, every directory
+     * below it that discovery does not skip, and the directory of every absolute
+     * file name.
+     *
+     * @param  config      the CLI configuration
+     *
+     * @return             the existing directories, normalized and without
+     *                     duplicates
+     *
+     * @throws IOException if a directory cannot be listed
+     */
+    public Set<Path> discoverDirectories(CLIConfig config) throws IOException {
+        Set<Path> directories = new LinkedHashSet<>();
+        Path baseDir = config.getBaseDirectory().toAbsolutePath().normalize();
+        List<CompiledPattern> antPatterns = new ArrayList<>();
+
+        for (String pattern : config.getInputPatterns()) {
+            Path patternPath = Paths.get(pattern);
+            if (patternPath.isAbsolute()) {
+                Path parent = patternPath.normalize().getParent();
+                if (parent != null && Files.isDirectory(parent)) {
+                    directories.add(parent);
+                }
+            } else {
+                antPatterns.add(new CompiledPattern(pattern));
             }
         }
 
-        return matchingFiles;
+        if (!antPatterns.isEmpty()) {
+            ScanFilter filter = PatternFilter.root(antPatterns, Exclusions.of(config), baseDir);
+            new DirectoryScanner(config.getThreads()).scan(baseDir, filter, file -> {
+                // Only the directories are of interest
+            }, directories::add);
+        }
+
+        return directories;
     }
 
     /**
-     * Custom file filter for Ant patterns.
+     * Ant pattern split into its path segments once, so that files can be
+     * matched without splitting the pattern again and directories can be ruled
+     * out before they are entered.
      */
-    private static class AntPatternFileFilter implements IOFileFilter {
+    private static final class CompiledPattern {
         private final String pattern;
-        private final Path baseDir;
-
-        public AntPatternFileFilter(String pattern, Path baseDir) {
-            this.pattern = pattern;
-            this.baseDir = baseDir;
+        private final String[] parts;
+        private final boolean doubleWildcard;
+        private final int positionalParts;
+
+        CompiledPattern(String pattern) {
+            this.pattern = pattern.replace(File.separatorChar, '/');
+            this.parts = this.pattern.split(AntPatternMatcher.PATH_SEPARATOR);
+            this.doubleWildcard = this.pattern.contains(AntPatternMatcher.DOUBLE_WILDCARD);
+
+            // Segments before the first ** have to match the path segment at the same position
+            int positional = 0;
+            while (positional < parts.length && !AntPatternMatcher.DOUBLE_WILDCARD.equals(parts[positional])) {
+                positional++;
+            }
+            this.positionalParts = positional;
         }
 
-        @Override
-        public boolean accept(File file) {
-            if (!file.isFile()) {
+        /**
+         * Tells whether files below a directory can still match, given that its
+         * parent could.
+         *
+         * @param depth the number of segments of the directory path relative to
+         *              the base directory
+         * @param name  the last segment of the directory path
+         */
+        boolean canEnter(int depth, String name) {
+            if (positionalParts == parts.length && depth >= parts.length) {
+                // Without ** every file has as many segments as the pattern
                 return false;
             }
+            return depth > positionalParts || AntPatternMatcher.matchPart(parts[depth - 1], name);
+        }
+
+        boolean matches(String[] pathParts) {
+            boolean result = AntPatternMatcher.match(parts, doubleWildcard, pathParts);
+            if (logger.isDebugEnabled()) {
+                logger
+                        .debug("Matching '{}' against pattern '{}': {}",
+                                String.join(AntPatternMatcher.PATH_SEPARATOR, pathParts), pattern, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Exclude patterns and names of ignore files of a discovery.
+     */
+    private static final class Exclusions {
+        static final Exclusions NONE = new Exclusions(List.of(), List.of());
+
+        private final List<CompiledPattern> patterns;
+        private final List<String> ignoreFileNames;
+
+        private Exclusions(List<CompiledPattern> patterns, List<String> ignoreFileNames) {
+            this.patterns = patterns;
+            this.ignoreFileNames = ignoreFileNames;
+        }
+
+        static Exclusions of(CLIConfig config) {
+            List<CompiledPattern> patterns = new ArrayList<>();
+            for (String pattern : config.getExcludePatterns()) {
+                patterns.add(new CompiledPattern(pattern));
+            }
+            return new Exclusions(patterns, config.getIgnoreFileNames());
+        }
+    }
 
-            Path filePath = file.toPath().normalize();
-            Path relativePath = baseDir.relativize(filePath);
-            String pathStr = relativePath.toString().replace(File.separatorChar, '/');
+    /**
+     * Ignore file with the depth of its directory below the base directory.
+     */
+    private static final class ScopedIgnoreFile {
+        private final IgnoreFile ignoreFile;
+        private final int depth;
 
-            return matchesAntPattern(pathStr, pattern);
+        ScopedIgnoreFile(IgnoreFile ignoreFile, int depth) {
+            this.ignoreFile = ignoreFile;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * Scan filter for the Ant patterns. Every directory keeps the patterns that
+     * can still match below it and the ignore files that apply to it;
+     * directories without any pattern left, or that are excluded, are skipped
+     * with their subtrees and never opened.
+     */
+    private static final class PatternFilter implements ScanFilter {
+        private final List<CompiledPattern> patterns;
+        private final String[] segments;
+        private final Exclusions exclusions;
+        private final List<ScopedIgnoreFile> ignoreFiles;
+
+        private PatternFilter(List<CompiledPattern> patterns, String[] segments, Exclusions exclusions,
+                List<ScopedIgnoreFile> ignoreFiles) {
+            this.patterns = patterns;
+            this.segments = segments;
+            this.exclusions = exclusions;
+            this.ignoreFiles = ignoreFiles;
+        }
+
+        static PatternFilter root(List<CompiledPattern> patterns, Exclusions exclusions, Path baseDir) {
+            return new PatternFilter(patterns, new String[0], exclusions,
+                    loadIgnoreFiles(baseDir, 0, exclusions, List.of()));
         }
 
         @Override
-        public boolean accept(File dir, String name) {
-            return accept(new File(dir, name));
+        public ScanFilter enter(Path directory) {
+            String name = directory.getFileName().toString();
+            int depth = segments.length + 1;
+            List<CompiledPattern> remaining = new ArrayList<>();
+            for (CompiledPattern pattern : patterns) {
+                if (pattern.canEnter(depth, name)) {
+                    remaining.add(pattern);
+                }
+            }
+            if (remaining.isEmpty()) {
+                return null;
+            }
+
+            String[] directorySegments = append(segments, name);
+            if (isExcluded(directorySegments, true)) {
+                logger.debug("Skipping excluded directory: {}", directory);
+                return null;
+            }
+            return new PatternFilter(remaining, directorySegments, exclusions,
+                    loadIgnoreFiles(directory, depth, exclusions, ignoreFiles));
         }
 
-        private boolean matchesAntPattern(String path, String pattern) {
-            boolean result = AntPatternMatcher.match(pattern, path);
-            logger.debug("Matching '{}' against pattern '{}': {}", path, pattern, result);
+        @Override
+        public boolean accept(Path file) {
+            String[] pathParts = append(segments, file.getFileName().toString());
+            for (CompiledPattern pattern : patterns) {
+                if (pattern.matches(pathParts)) {
+                    return !isExcluded(pathParts, false);
+                }
+            }
+            return false;
+        }
+
+        private boolean isExcluded(String[] pathParts, boolean isDirectory) {
+            for (CompiledPattern pattern : exclusions.patterns) {
+                if (pattern.matches(pathParts)) {
+                    return true;
+                }
+            }
+
+            // Ignore files in deeper directories take precedence
+            for (int i = ignoreFiles.size() - 1; i >= 0; i--) {
+                ScopedIgnoreFile scoped = ignoreFiles.get(i);
+                String relativePath = String
+                        .join(AntPatternMatcher.PATH_SEPARATOR,
+                                Arrays.copyOfRange(pathParts, scoped.depth, pathParts.length));
+                IgnoreFile.Verdict verdict = scoped.ignoreFile.check(relativePath, isDirectory);
+                if (verdict != IgnoreFile.Verdict.UNDECIDED) {
+                    return verdict == IgnoreFile.Verdict.IGNORED;
+                }
+            }
+            return false;
+        }
+
+        private static List<ScopedIgnoreFile> loadIgnoreFiles(Path directory, int depth, Exclusions exclusions,
+                List<ScopedIgnoreFile> inherited) {
+            List<ScopedIgnoreFile> ignoreFiles = inherited;
+            for (String ignoreFileName : exclusions.ignoreFileNames) {
+                Path file = directory.resolve(ignoreFileName);
+                if (!Files.isRegularFile(file)) {
+                    continue;
+                }
+                try {
+                    ignoreFiles = new ArrayList<>(ignoreFiles);
+                    ignoreFiles.add(new ScopedIgnoreFile(IgnoreFile.load(file), depth));
+                } catch (IOException e) {
+                    if (logger.isWarnEnabled()) {
+                        logger.warn("Could not read ignore file: {} ({})", file, e.getMessage());
+                    }
+                }
+            }
+            return ignoreFiles;
+        }
+
+        private static String[] append(String[] segments, String name) {
+            String[] result = Arrays.copyOf(segments, segments.length + 1);
+            result[segments.length] = name;
             return result;
         }
     }
@@ -142,27 +401,29 @@ public class FileDiscoveryService {
         private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
 
         // Constants for pattern matching
-        private static final String DOUBLE_WILDCARD = "**";
-        private static final String PATH_SEPARATOR = "/";
+        static final String DOUBLE_WILDCARD = "**";
+        static final String PATH_SEPARATOR = "/";
 
         public static boolean match(String pattern, String path) {
             // Normalize paths - create local copies to avoid reassigning parameters
             String normalizedPattern = pattern.replace(File.separatorChar, '/');
             String normalizedPath = path.replace(File.separatorChar, '/');
 
+            return match(normalizedPattern.split(PATH_SEPARATOR), normalizedPattern.contains(DOUBLE_WILDCARD),
+                    normalizedPath.split(PATH_SEPARATOR));
+        }
+
+        public static boolean match(String[] patternParts, boolean doubleWildcard, String[] pathParts) {
             // Handle ** (matches any number of directories)
-            if (normalizedPattern.contains(DOUBLE_WILDCARD)) {
-                return matchWithDoubleWildcard(normalizedPattern, normalizedPath);
+            if (doubleWildcard) {
+                return matchWithDoubleWildcard(patternParts, pathParts);
             }
 
             // Simple pattern matching
-            return matchSimplePattern(normalizedPattern, normalizedPath);
+            return matchSimplePattern(patternParts, pathParts);
         }
 
-        private static boolean matchWithDoubleWildcard(String pattern, String path) {
-            String[] patternParts = pattern.split(PATH_SEPARATOR);
-            String[] pathParts = path.split(PATH_SEPARATOR);
-
+        private static boolean matchWithDoubleWildcard(String[] patternParts, String[] pathParts) {
             int patternIndex = 0;
             int pathIndex = 0;
 
@@ -220,10 +481,7 @@ public class FileDiscoveryService {
             return pathIndex == pathParts.length;
         }
 
-        private static boolean matchSimplePattern(String pattern, String path) {
-            String[] patternParts = pattern.split(PATH_SEPARATOR);
-            String[] pathParts = path.split(PATH_SEPARATOR);
-
+        private static boolean matchSimplePattern(String[] patternParts, String[] pathParts) {
             if (patternParts.length != pathParts.length) {
                 return false;
             }
@@ -237,7 +495,7 @@ public class FileDiscoveryService {
             return true;
         }
 
-        private static boolean matchPart(String pattern, String text) {
+        static boolean matchPart(String pattern, String text) {
             // Use cached pattern if available, otherwise compile and cache it
             Pattern compiledPattern = PATTERN_CACHE.computeIfAbsent(pattern, p -> {
                 // Convert pattern to regex
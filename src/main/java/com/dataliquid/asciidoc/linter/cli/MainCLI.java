@@ -131,6 +131,8 @@ public class MainCLI {
         outputWriter.writeLine("\nExamples:");
         outputWriter.writeLine("  " + programName + " lint -i \"**/*.adoc\"");
         outputWriter.writeLine("  " + programName + " guidelines -r rules.yaml -o guide.adoc");
+        outputWriter.writeLine("  " + programName + " lint -i \"**/*.adoc\" --daemon");
+        outputWriter.writeLine("  " + programName + " generate-corpus -o corpus -n 10000 --seed 42");
     }
 
     private void printVersion() {
@@ -32,6 +32,8 @@ public class CommandRegistry {
     private final void registerDefaultCommands() {
         register(new LintCommand(outputWriter));
         register(new GuidelinesCommand(outputWriter));
+        register(new DaemonCommand(outputWriter));
+        register(new GenerateCorpusCommand(outputWriter));
     }
 
     /**
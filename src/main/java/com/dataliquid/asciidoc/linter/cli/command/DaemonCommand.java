@@ -0,0 +1,233 @@
+package com.dataliquid.asciidoc.linter.cli.command;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dataliquid.asciidoc.linter.cache.ResultCache;
+import com.dataliquid.asciidoc.linter.cli.VersionInfo;
+import com.dataliquid.asciidoc.linter.cli.daemon.DaemonClient;
+import com.dataliquid.asciidoc.linter.cli.daemon.DaemonProtocol;
+import com.dataliquid.asciidoc.linter.cli.daemon.LintDaemon;
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.output.ConsoleWriter;
+import com.dataliquid.asciidoc.linter.output.OutputWriter;
+import com.dataliquid.asciidoc.linter.validator.MessageLimits;
+
+/**
+ * Command for running a long-lived lint daemon that serves
+ * {@code lint --daemon} requests.
+ */
+public class DaemonCommand implements Command {
+
+    private static final Logger logger = LogManager.getLogger(DaemonCommand.class);
+    private final OutputWriter outputWriter;
+
+    public DaemonCommand() {
+        this(ConsoleWriter.getInstance());
+    }
+
+    public DaemonCommand(OutputWriter outputWriter) {
+        this.outputWriter = outputWriter;
+    }
+
+    @Override
+    public String getName() {
+        return "daemon";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Run a resident lint server for fast repeated lint runs";
+    }
+
+    @Override
+    public Options getOptions() {
+        Options options = new Options();
+
+        // Socket
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(LintCommand.SOCKET_OPTION)
+                        .hasArg()
+                        .argName("path")
+                        .desc("Unix domain socket to listen on (default: " + DaemonProtocol.defaultSocketPath() + ")")
+                        .build());
+
+        // Threads
+        options
+                .addOption(Option
+                        .builder("t")
+                        .longOpt(LintCommand.THREADS_OPTION)
+                        .hasArg()
+                        .argName("count")
+                        .desc("Number of files validated in parallel per request (default: 1)")
+                        .build());
+
+        // Minimum reported severity
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(LintCommand.MIN_SEVERITY_OPTION)
+                        .hasArg()
+                        .argName("level")
+                        .desc("Only evaluate and report rules at or above: error, warn, info (default: info)")
+                        .build());
+
+        // Message limits
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(LintCommand.MAX_MESSAGES_PER_FILE_OPTION)
+                        .hasArg()
+                        .argName("count")
+                        .desc("Stop validating a file after this many messages (default: 0, unlimited)")
+                        .build());
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(LintCommand.MAX_MESSAGES_PER_RULE_OPTION)
+                        .hasArg()
+                        .argName("count")
+                        .desc("Report at most this many messages per rule and file (default: 0, unlimited)")
+                        .build());
+
+        // Cache directory
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(LintCommand.CACHE_DIR_OPTION)
+                        .hasArg()
+                        .argName("dir")
+                        .desc("Directory for cached results of unchanged files shared by all requests")
+                        .build());
+
+        // Stop
+        options.addOption(Option.builder().longOpt("stop").desc("Stop the daemon listening on the socket").build());
+
+        // Help
+        options.addOption(Option.builder("h").longOpt("help").desc("Show help for daemon command").build());
+
+        return options;
+    }
+
+    @Override
+    public int execute(CommandLine cmd) throws Exception {
+        // Handle help
+        if (cmd.hasOption("help")) {
+            printHelp();
+            return 0;
+        }
+
+        Path socketPath = cmd.hasOption(LintCommand.SOCKET_OPTION)
+                ? Paths.get(cmd.getOptionValue(LintCommand.SOCKET_OPTION))
+                : DaemonProtocol.defaultSocketPath();
+
+        if (cmd.hasOption("stop")) {
+            return stop(socketPath);
+        }
+
+        int threads;
+        try {
+            threads = Integer.parseInt(cmd.getOptionValue(LintCommand.THREADS_OPTION, "1"));
+        } catch (NumberFormatException e) {
+            outputWriter.writeError("Error: Invalid thread count: " + cmd.getOptionValue(LintCommand.THREADS_OPTION));
+            return 2;
+        }
+        if (threads < 1) {
+            outputWriter.writeError("Error: Thread count must be at least 1");
+            return 2;
+        }
+
+        Severity minSeverity = Severity.INFO;
+        if (cmd.hasOption(LintCommand.MIN_SEVERITY_OPTION)) {
+            try {
+                minSeverity = Severity
+                        .valueOf(cmd.getOptionValue(LintCommand.MIN_SEVERITY_OPTION).toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                outputWriter
+                        .writeError("Error: Invalid minimum severity: "
+                                + cmd.getOptionValue(LintCommand.MIN_SEVERITY_OPTION));
+                return 2;
+            }
+        }
+
+        MessageLimits messageLimits;
+        try {
+            messageLimits = MessageLimits
+                    .of(Integer.parseInt(cmd.getOptionValue(LintCommand.MAX_MESSAGES_PER_FILE_OPTION, "0")),
+                            Integer.parseInt(cmd.getOptionValue(LintCommand.MAX_MESSAGES_PER_RULE_OPTION, "0")));
+        } catch (IllegalArgumentException e) {
+            // Also covers NumberFormatException
+            outputWriter.writeError("Error: Message limits must be 0 or a positive integer");
+            return 2;
+        }
+
+        LintDaemon.Builder builder = LintDaemon
+                .builder()
+                .socketPath(socketPath)
+                .threads(threads)
+                .minimumSeverity(minSeverity)
+                .messageLimits(messageLimits);
+        if (cmd.hasOption(LintCommand.CACHE_DIR_OPTION)) {
+            builder
+                    .resultCache(new ResultCache(Paths.get(cmd.getOptionValue(LintCommand.CACHE_DIR_OPTION)),
+                            VersionInfo.getInstance().getVersion()));
+        }
+
+        try (LintDaemon daemon = builder.build()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(daemon::close, "lint-daemon-shutdown"));
+            daemon.start();
+            outputWriter.writeLine("Lint daemon listening on " + socketPath);
+            daemon.serve();
+            return 0;
+        } catch (Exception e) {
+            if (logger.isErrorEnabled()) {
+                logger.error("Lint daemon failed: {}", e.getMessage());
+            }
+            outputWriter.writeError("Error: " + e.getMessage());
+            return 2;
+        }
+    }
+
+    private int stop(Path socketPath) {
+        DaemonClient client = new DaemonClient(socketPath);
+        if (!client.isAvailable()) {
+            outputWriter.writeError("Error: No lint daemon is listening on " + socketPath);
+            return 2;
+        }
+        try {
+            client.stop();
+            outputWriter.writeLine("Lint daemon stopped");
+            return 0;
+        } catch (Exception e) {
+            outputWriter.writeError("Error: Failed to stop lint daemon: " + e.getMessage());
+            return 2;
+        }
+    }
+
+    @Override
+    public void printHelp() {
+        HelpFormatter formatter = new HelpFormatter();
+        formatter.setWidth(100);
+
+        VersionInfo versionInfo = VersionInfo.getInstance();
+        String programName = versionInfo.getArtifactId();
+
+        String header = "\nKeeps the linter, its Asciidoctor runtime and loaded configurations resident "
+                + "and serves lint requests sent with 'lint --daemon'.\n\n";
+        String footer = "\nExamples:\n" + "  " + programName + " daemon\n" + "  " + programName
+                + " daemon --threads 4 --cache-dir .lint-cache\n" + "  " + programName
+                + " lint -i \"**/*.adoc\" --daemon\n" + "  " + programName + " daemon --stop\n";
+
+        formatter.printHelp(programName + " daemon [options]", header, getOptions(), footer, false);
+    }
+}
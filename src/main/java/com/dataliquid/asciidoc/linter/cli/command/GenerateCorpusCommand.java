@@ -0,0 +1,276 @@
+package com.dataliquid.asciidoc.linter.cli.command;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dataliquid.asciidoc.linter.cli.VersionInfo;
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.loader.ConfigurationException;
+import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
+import com.dataliquid.asciidoc.linter.corpus.BlockMix;
+import com.dataliquid.asciidoc.linter.corpus.CorpusGenerator;
+import com.dataliquid.asciidoc.linter.corpus.SizeDistribution;
+import com.dataliquid.asciidoc.linter.output.ConsoleWriter;
+import com.dataliquid.asciidoc.linter.output.OutputWriter;
+
+/**
+ * Command for generating a synthetic, reproducible AsciiDoc corpus for
+ * throughput and memory measurements.
+ */
+public class GenerateCorpusCommand implements Command {
+
+    private static final Logger logger = LogManager.getLogger(GenerateCorpusCommand.class);
+    private final ConfigurationLoader configLoader;
+    private final OutputWriter outputWriter;
+
+    public GenerateCorpusCommand() {
+        this(ConsoleWriter.getInstance());
+    }
+
+    public GenerateCorpusCommand(OutputWriter outputWriter) {
+        this.configLoader = new ConfigurationLoader();
+        this.outputWriter = outputWriter;
+    }
+
+    @Override
+    public String getName() {
+        return "generate-corpus";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Generate a seeded synthetic AsciiDoc corpus for scale testing";
+    }
+
+    @Override
+    public Options getOptions() {
+        Options options = new Options();
+
+        // Output directory (required for execution, but not for help)
+        options
+                .addOption(Option
+                        .builder("o")
+                        .longOpt("output")
+                        .hasArg()
+                        .argName("dir")
+                        .desc("Directory to write the corpus to (required)")
+                        .build());
+
+        // Rule configuration
+        options
+                .addOption(Option
+                        .builder("r")
+                        .longOpt("rule")
+                        .hasArg()
+                        .argName("file")
+                        .desc("YAML rule configuration the documents follow (default: free-form documents)")
+                        .build());
+
+        // Document count
+        options
+                .addOption(Option
+                        .builder("n")
+                        .longOpt("documents")
+                        .hasArg()
+                        .argName("count")
+                        .desc("Number of documents (default: 100)")
+                        .build());
+
+        // Seed
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt("seed")
+                        .hasArg()
+                        .argName("number")
+                        .desc("Random seed; the same seed produces the same corpus (default: 1)")
+                        .build());
+
+        // Blocks per section
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt("blocks")
+                        .hasArg()
+                        .argName("min-max")
+                        .desc("Number of blocks per section (default: 5-20)")
+                        .build());
+
+        // Size distribution
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt("distribution")
+                        .hasArg()
+                        .argName("name")
+                        .desc("Size distribution of sections, tables and listings: uniform, long-tail "
+                                + "(default: uniform)")
+                        .build());
+
+        // Block mix
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt("block-mix")
+                        .hasArg()
+                        .argName("weights")
+                        .desc("Relative block type weights, e.g. paragraph=6,listing=2,table=1 (default: "
+                                + BlockMix.defaultMix() + ")")
+                        .build());
+
+        // Nesting depth
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt("depth")
+                        .hasArg()
+                        .argName("levels")
+                        .desc("Maximum section nesting depth of free-form documents, 0-5 (default: 3)")
+                        .build());
+
+        // Violations
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt("violations")
+                        .hasArg()
+                        .argName("rate")
+                        .desc("Probability between 0 and 1 with which each rule-constrained value is broken "
+                                + "(default: 0)")
+                        .build());
+
+        // Help
+        options.addOption(Option.builder("h").longOpt("help").desc("Show help for generate-corpus command").build());
+
+        return options;
+    }
+
+    @Override
+    public int execute(CommandLine cmd) throws Exception {
+        // Handle help
+        if (cmd.hasOption("help")) {
+            printHelp();
+            return 0;
+        }
+
+        // Check required output directory
+        if (!cmd.hasOption("output")) {
+            outputWriter.writeError("Error: --output is required for generate-corpus command");
+            printHelp();
+            return 2;
+        }
+
+        CorpusGenerator generator;
+        try {
+            generator = createGenerator(cmd);
+        } catch (IOException | IllegalArgumentException | ConfigurationException e) {
+            outputWriter.writeError("Error: " + e.getMessage());
+            return 2;
+        }
+
+        try {
+            Path outputDirectory = Paths.get(cmd.getOptionValue("output"));
+            long start = System.currentTimeMillis();
+            int documents = generator.generate(outputDirectory);
+            outputWriter
+                    .writeLine("Generated " + documents + " documents in " + outputDirectory + " (seed "
+                            + generator.getSeed() + ", " + (System.currentTimeMillis() - start) + "ms)");
+            return 0;
+        } catch (Exception e) {
+            if (logger.isErrorEnabled()) {
+                logger.error("Error generating corpus: {}", e.getMessage());
+            }
+            outputWriter.writeError("Error generating corpus: " + e.getMessage());
+            return 2;
+        }
+    }
+
+    private CorpusGenerator createGenerator(CommandLine cmd) throws IOException {
+        CorpusGenerator.Builder builder = CorpusGenerator.builder();
+
+        if (cmd.hasOption("rule")) {
+            builder.configuration(loadConfiguration(cmd.getOptionValue("rule")));
+        }
+        if (cmd.hasOption("documents")) {
+            builder.documentCount(parseInt(cmd.getOptionValue("documents"), "document count"));
+        }
+        if (cmd.hasOption("seed")) {
+            try {
+                builder.seed(Long.parseLong(cmd.getOptionValue("seed")));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid seed: " + cmd.getOptionValue("seed"), e);
+            }
+        }
+        if (cmd.hasOption("blocks")) {
+            String range = cmd.getOptionValue("blocks");
+            String[] bounds = range.split("-", -1);
+            if (bounds.length > 2) {
+                throw new IllegalArgumentException("Invalid block range: " + range);
+            }
+            int min = parseInt(bounds[0], "block range");
+            builder.blocks(min, bounds.length == 2 ? parseInt(bounds[1], "block range") : min);
+        }
+        if (cmd.hasOption("distribution")) {
+            builder.sizeDistribution(SizeDistribution.fromValue(cmd.getOptionValue("distribution")));
+        }
+        if (cmd.hasOption("block-mix")) {
+            builder.blockMix(BlockMix.parse(cmd.getOptionValue("block-mix")));
+        }
+        if (cmd.hasOption("depth")) {
+            builder.maxDepth(parseInt(cmd.getOptionValue("depth"), "depth"));
+        }
+        if (cmd.hasOption("violations")) {
+            try {
+                builder.violationRate(Double.parseDouble(cmd.getOptionValue("violations")));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid violation rate: " + cmd.getOptionValue("violations"),
+                        e);
+            }
+        }
+        return builder.build();
+    }
+
+    private int parseInt(String value, String name) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value, e);
+        }
+    }
+
+    private LinterConfiguration loadConfiguration(String configPath) throws IOException {
+        File configFile = new File(configPath);
+        if (!configFile.exists()) {
+            throw new IOException("Configuration file not found: " + configPath);
+        }
+
+        return configLoader.loadConfiguration(configFile.toPath());
+    }
+
+    @Override
+    public void printHelp() {
+        HelpFormatter formatter = new HelpFormatter();
+        formatter.setWidth(100);
+
+        VersionInfo versionInfo = VersionInfo.getInstance();
+        String programName = versionInfo.getArtifactId();
+
+        String header = "\nGenerates a reproducible tree of AsciiDoc documents for measuring linter throughput "
+                + "and memory use. Documents follow the given rule configuration unless violations are requested.\n\n";
+        String footer = "\nExamples:\n" + "  " + programName + " generate-corpus -o corpus -n 10000\n" + "  "
+                + programName + " generate-corpus -o corpus -r examples/rules/strict/strict-rules.yaml "
+                + "--violations 0.05\n" + "  " + programName
+                + " generate-corpus -o corpus -n 1000 --blocks 10-500 --distribution long-tail --depth 5\n";
+
+        formatter.printHelp(programName + " generate-corpus [options]", header, getOptions(), footer, false);
+    }
+}
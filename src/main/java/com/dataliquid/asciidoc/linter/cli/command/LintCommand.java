@@ -1,6 +1,10 @@
 package com.dataliquid.asciidoc.linter.cli.command;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Locale;
 import java.util.Arrays;
 import java.util.List;
@@ -17,6 +21,9 @@ import com.dataliquid.asciidoc.linter.cli.CLIConfig;
 import com.dataliquid.asciidoc.linter.cli.CLIRunner;
 import com.dataliquid.asciidoc.linter.cli.ConfigurationDisplay;
 import com.dataliquid.asciidoc.linter.cli.VersionInfo;
+import com.dataliquid.asciidoc.linter.cli.daemon.DaemonClient;
+import com.dataliquid.asciidoc.linter.cli.daemon.DaemonProtocol;
+import com.dataliquid.asciidoc.linter.cli.watch.LintWatcher;
 import com.dataliquid.asciidoc.linter.config.common.Severity;
 import com.dataliquid.asciidoc.linter.config.output.OutputFormat;
 import com.dataliquid.asciidoc.linter.output.ConsoleWriter;
@@ -32,6 +39,26 @@ public class LintCommand implements Command {
     // Constants for CLI options
     private static final String OUTPUT_CONFIG_OPTION = "output-config";
     private static final String OUTPUT_CONFIG_FILE_OPTION = "output-config-file";
+    static final String MIN_SEVERITY_OPTION = "min-severity";
+    static final String MAX_MESSAGES_PER_FILE_OPTION = "max-messages-per-file";
+    static final String MAX_MESSAGES_PER_RULE_OPTION = "max-messages-per-rule";
+    static final String THREADS_OPTION = "threads";
+    static final String CACHE_DIR_OPTION = "cache-dir";
+    private static final String PROFILE_OPTION = "profile";
+    private static final String EXCLUDE_OPTION = "exclude";
+    private static final String IGNORE_FILE_OPTION = "ignore-file";
+    private static final String WATCH_OPTION = "watch";
+    private static final String DAEMON_OPTION = "daemon";
+    static final String SOCKET_OPTION = "socket";
+    private static final String RULE_OPTION = "rule";
+
+    /**
+     * Options that configure the linter itself. A daemon sets them when it is
+     * started, so they are not forwarded with a request.
+     */
+    private static final List<String> DAEMON_STARTUP_OPTIONS = List
+            .of(THREADS_OPTION, MIN_SEVERITY_OPTION, MAX_MESSAGES_PER_FILE_OPTION, MAX_MESSAGES_PER_RULE_OPTION,
+                    CACHE_DIR_OPTION);
 
     private final OutputWriter outputWriter;
 
@@ -67,11 +94,33 @@ public class LintCommand implements Command {
                         .desc("Comma-separated Ant file patterns (e.g., '**/*.adoc,docs/**/*.asciidoc')")
                         .build());
 
+        // Exclude patterns
+        options
+                .addOption(Option
+                        .builder("e")
+                        .longOpt(EXCLUDE_OPTION)
+                        .hasArg()
+                        .argName("patterns")
+                        .desc("Comma-separated Ant patterns of files and directories to skip "
+                                + "(e.g., '**/node_modules/**,target/**')")
+                        .build());
+
+        // Ignore files
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(IGNORE_FILE_OPTION)
+                        .hasArg()
+                        .argName("names")
+                        .desc("Comma-separated names of .gitignore-style files whose entries are skipped in the "
+                                + "directory containing them and below (e.g., '.gitignore')")
+                        .build());
+
         // Configuration file
         options
                 .addOption(Option
                         .builder("r")
-                        .longOpt("rule")
+                        .longOpt(RULE_OPTION)
                         .hasArg()
                         .argName("file")
                         .desc("YAML rule configuration file (default: .linter-rule-config.yaml)")
@@ -84,7 +133,7 @@ public class LintCommand implements Command {
                         .longOpt("report-format")
                         .hasArg()
                         .argName("format")
-                        .desc("Report format: console, json, json-compact (default: console)")
+                        .desc("Report format: console, json, json-compact, sarif (default: console)")
                         .build());
 
         // Report output
@@ -107,6 +156,34 @@ public class LintCommand implements Command {
                         .desc("Exit code 1 on: error, warn, info (default: error)")
                         .build());
 
+        // Minimum reported severity
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(MIN_SEVERITY_OPTION)
+                        .hasArg()
+                        .argName("level")
+                        .desc("Only evaluate and report rules at or above: error, warn, info (default: info)")
+                        .build());
+
+        // Message limits
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(MAX_MESSAGES_PER_FILE_OPTION)
+                        .hasArg()
+                        .argName("count")
+                        .desc("Stop validating a file after this many messages (default: 0, unlimited)")
+                        .build());
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(MAX_MESSAGES_PER_RULE_OPTION)
+                        .hasArg()
+                        .argName("count")
+                        .desc("Report at most this many messages per rule and file (default: 0, unlimited)")
+                        .build());
+
         // Output configuration (predefined)
         options
                 .addOption(Option
@@ -127,6 +204,61 @@ public class LintCommand implements Command {
                         .desc("Custom YAML output configuration file for console formatting")
                         .build());
 
+        // Parallel validation
+        options
+                .addOption(Option
+                        .builder("t")
+                        .longOpt(THREADS_OPTION)
+                        .hasArg()
+                        .argName("count")
+                        .desc("Number of files validated in parallel (default: 1)")
+                        .build());
+
+        // Result cache
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(CACHE_DIR_OPTION)
+                        .hasArg()
+                        .argName("directory")
+                        .desc("Directory for cached results of unchanged files (default: no caching)")
+                        .build());
+
+        // Profiling
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(PROFILE_OPTION)
+                        .desc("Print wall time, invocation counts and allocated bytes per phase, block validator "
+                                + "and rule after the run, and add them to JSON reports")
+                        .build());
+
+        // Watch mode
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(WATCH_OPTION)
+                        .desc("Keep running and re-validate files when they are created or modified, printing new "
+                                + "and resolved messages")
+                        .build());
+
+        // Daemon client
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(DAEMON_OPTION)
+                        .desc("Send the request to a running lint daemon (falls back to linting in-process)")
+                        .build());
+
+        options
+                .addOption(Option
+                        .builder()
+                        .longOpt(SOCKET_OPTION)
+                        .hasArg()
+                        .argName("path")
+                        .desc("Socket of the lint daemon (default: " + DaemonProtocol.defaultSocketPath() + ")")
+                        .build());
+
         // Help
         options.addOption(Option.builder("h").longOpt("help").desc("Show help for lint command").build());
 
@@ -161,6 +293,19 @@ public class LintCommand implements Command {
                 configDisplay.display(config);
             }
 
+            // Watch mode keeps its own warm linter
+            if (cmd.hasOption(WATCH_OPTION)) {
+                return watch(config);
+            }
+
+            // Forward to a running daemon if requested
+            if (cmd.hasOption(DAEMON_OPTION)) {
+                Integer exitCode = forwardToDaemon(cmd, config);
+                if (exitCode != null) {
+                    return exitCode;
+                }
+            }
+
             // Run linter
             CLIRunner runner = new CLIRunner();
             return runner.run(config);
@@ -187,6 +332,12 @@ public class LintCommand implements Command {
                 + " lint -i \"docs/**/*.adoc,examples/**/*.asciidoc\" -f json -o report.json\n" + "  " + programName
                 + " lint --input \"src/*/docs/**/*.adoc,README.adoc\" --rule strict.yaml --fail-level warn\n" + "  "
                 + programName + " lint -i \"**/*.adoc\" --output-config simple\n" + "  " + programName
+                + " lint -i \"**/*.adoc\" --threads 8\n" + "  " + programName
+                + " lint -i \"**/*.adoc\" --cache-dir .asciidoc-linter-cache\n" + "  " + programName
+                + " lint -i \"**/*.adoc\" --profile\n" + "  " + programName
+                + " lint -i \"docs/**/*.adoc\" --watch\n" + "  " + programName
+                + " lint -i \"**/*.adoc\" -e \"**/node_modules/**\" --ignore-file .gitignore\n" + "  " + programName
+                + " lint -i \"**/*.adoc\" --daemon\n" + "  " + programName
                 + " lint -i \"**/*.adoc\" --output-config-file my-output.yaml\n" + "\nAnt Pattern Syntax:\n"
                 + "  **  - matches any number of directories\n"
                 + "  *   - matches any number of characters (except /)\n" + "  ?   - matches exactly one character\n"
@@ -196,16 +347,104 @@ public class LintCommand implements Command {
         formatter.printHelp(programName + " lint -i <patterns> [options]", header, getOptions(), footer, false);
     }
 
-    private CLIConfig parseConfiguration(CommandLine cmd) {
-        CLIConfig.Builder builder = CLIConfig.builder();
+    /**
+     * Lints all files and then keeps re-validating changed files until the
+     * process is interrupted.
+     */
+    private int watch(CLIConfig config) throws IOException {
+        try (LintWatcher watcher = LintWatcher.builder().config(config).outputWriter(outputWriter).build()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(watcher::close, "lint-watch-shutdown"));
+            return watcher.run();
+        }
+    }
 
-        // Input patterns (required)
-        String inputValue = cmd.getOptionValue("input");
-        List<String> patterns = Arrays
-                .stream(inputValue.split(","))
+    /**
+     * Sends the lint request to the daemon and copies its output to the output
+     * writer.
+     *
+     * @return the exit code reported by the daemon, or {@code null} if no daemon
+     *         is listening
+     */
+    private Integer forwardToDaemon(CommandLine cmd, CLIConfig config) throws IOException {
+        Path socket = cmd.hasOption(SOCKET_OPTION) ? Paths.get(cmd.getOptionValue(SOCKET_OPTION))
+                : DaemonProtocol.defaultSocketPath();
+        DaemonClient client = new DaemonClient(socket);
+        if (!client.isAvailable()) {
+            outputWriter.writeWarning("No lint daemon listening on " + socket + ", linting in-process");
+            return null;
+        }
+
+        List<String> ignored = DAEMON_STARTUP_OPTIONS
+                .stream()
+                .filter(cmd::hasOption)
+                .map(name -> "--" + name)
+                .collect(Collectors.toList());
+        if (!ignored.isEmpty()) {
+            outputWriter
+                    .writeWarning(String.join(", ", ignored)
+                            + " ignored: the lint daemon uses the settings it was started with");
+        }
+        if (cmd.hasOption(PROFILE_OPTION)) {
+            outputWriter.writeWarning("--" + PROFILE_OPTION + " ignored: requests to the lint daemon are not profiled");
+        }
+        return client.lint(config.getBaseDirectory(), forwardedArguments(cmd), outputWriter);
+    }
+
+    private List<String> forwardedArguments(CommandLine cmd) {
+        List<String> arguments = new ArrayList<>();
+        for (Option option : cmd.getOptions()) {
+            String name = option.getLongOpt();
+            if (DAEMON_OPTION.equals(name) || SOCKET_OPTION.equals(name) || PROFILE_OPTION.equals(name)
+                    || DAEMON_STARTUP_OPTIONS.contains(name)) {
+                continue;
+            }
+            arguments.add("--" + name);
+            if (option.hasArg()) {
+                arguments.add(option.getValue());
+            }
+        }
+        return arguments;
+    }
+
+    private static List<String> splitList(String value) {
+        return Arrays
+                .stream(value.split(","))
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
                 .collect(Collectors.toList());
+    }
+
+    private CLIConfig parseConfiguration(CommandLine cmd) {
+        return parseConfiguration(cmd, null);
+    }
+
+    /**
+     * Parses lint arguments into a CLI configuration. Relative paths are resolved
+     * against the given working directory, which is also used as the base
+     * directory for input patterns and to look up the default rule file. This
+     * lets a lint daemon run requests on behalf of clients started in other
+     * directories.
+     *
+     * @param  cmd                      the parsed lint arguments
+     * @param  workingDirectory         the directory relative paths refer to, or
+     *                                  {@code null} for the current directory
+     *
+     * @return                          the CLI configuration
+     *
+     * @throws IllegalArgumentException if an argument is missing or invalid
+     */
+    public CLIConfig parseConfiguration(CommandLine cmd, Path workingDirectory) {
+        if (!cmd.hasOption("input")) {
+            throw new IllegalArgumentException("--input is required for lint command");
+        }
+
+        CLIConfig.Builder builder = CLIConfig.builder();
+        if (workingDirectory != null) {
+            builder.baseDirectory(workingDirectory);
+        }
+
+        // Input patterns (required)
+        List<String> patterns = splitList(cmd.getOptionValue("input"));
 
         if (patterns.isEmpty()) {
             throw new IllegalArgumentException("No input patterns provided");
@@ -213,9 +452,23 @@ public class LintCommand implements Command {
 
         builder.inputPatterns(patterns);
 
+        // Exclude patterns and ignore files
+        if (cmd.hasOption(EXCLUDE_OPTION)) {
+            builder.excludePatterns(splitList(cmd.getOptionValue(EXCLUDE_OPTION)));
+        }
+        if (cmd.hasOption(IGNORE_FILE_OPTION)) {
+            builder.ignoreFileNames(splitList(cmd.getOptionValue(IGNORE_FILE_OPTION)));
+        }
+
         // Config file
-        if (cmd.hasOption("rule")) {
-            builder.configFile(Paths.get(cmd.getOptionValue("rule")));
+        if (cmd.hasOption(RULE_OPTION)) {
+            builder.configFile(resolve(workingDirectory, cmd.getOptionValue(RULE_OPTION)));
+        } else if (workingDirectory != null) {
+            // The runner only looks in its own current directory
+            Path defaultConfig = workingDirectory.resolve(CLIRunner.DEFAULT_CONFIG_FILE);
+            if (Files.exists(defaultConfig)) {
+                builder.configFile(defaultConfig);
+            }
         }
 
         // Output configuration
@@ -235,22 +488,23 @@ public class LintCommand implements Command {
         }
 
         if (cmd.hasOption(OUTPUT_CONFIG_FILE_OPTION)) {
-            builder.outputConfigFile(Paths.get(cmd.getOptionValue(OUTPUT_CONFIG_FILE_OPTION)));
+            builder.outputConfigFile(resolve(workingDirectory, cmd.getOptionValue(OUTPUT_CONFIG_FILE_OPTION)));
         }
 
         // Report format
         if (cmd.hasOption("report-format")) {
             String format = cmd.getOptionValue("report-format");
-            if (!"console".equals(format) && !"json".equals(format) && !"json-compact".equals(format)) {
+            if (!"console".equals(format) && !"json".equals(format) && !"json-compact".equals(format)
+                    && !"sarif".equals(format)) {
                 throw new IllegalArgumentException(
-                        "Invalid report format: " + format + ". Valid values are: console, json, json-compact");
+                        "Invalid report format: " + format + ". Valid values are: console, json, json-compact, sarif");
             }
             builder.reportFormat(format);
         }
 
         // Report output
         if (cmd.hasOption("report-output")) {
-            builder.reportOutput(Paths.get(cmd.getOptionValue("report-output")));
+            builder.reportOutput(resolve(workingDirectory, cmd.getOptionValue("report-output")));
         }
 
         // Fail level
@@ -264,6 +518,67 @@ public class LintCommand implements Command {
             }
         }
 
+        // Minimum reported severity
+        if (cmd.hasOption(MIN_SEVERITY_OPTION)) {
+            String level = cmd.getOptionValue(MIN_SEVERITY_OPTION).toUpperCase(Locale.ROOT);
+            try {
+                builder.minSeverity(Severity.valueOf(level));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                        "Invalid minimum severity: " + level + ". Valid values are: error, warn, info", e);
+            }
+        }
+
+        // Message limits
+        if (cmd.hasOption(MAX_MESSAGES_PER_FILE_OPTION)) {
+            builder.maxMessagesPerFile(parseMessageLimit(cmd.getOptionValue(MAX_MESSAGES_PER_FILE_OPTION)));
+        }
+        if (cmd.hasOption(MAX_MESSAGES_PER_RULE_OPTION)) {
+            builder.maxMessagesPerRule(parseMessageLimit(cmd.getOptionValue(MAX_MESSAGES_PER_RULE_OPTION)));
+        }
+
+        // Threads
+        if (cmd.hasOption(THREADS_OPTION)) {
+            String value = cmd.getOptionValue(THREADS_OPTION);
+            int threads;
+            try {
+                threads = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid thread count: " + value + ". Must be a positive integer",
+                        e);
+            }
+            if (threads < 1) {
+                throw new IllegalArgumentException("Invalid thread count: " + value + ". Must be a positive integer");
+            }
+            builder.threads(threads);
+        }
+
+        // Result cache
+        if (cmd.hasOption(CACHE_DIR_OPTION)) {
+            builder.cacheDirectory(resolve(workingDirectory, cmd.getOptionValue(CACHE_DIR_OPTION)));
+        }
+
+        // Profiling
+        builder.profile(cmd.hasOption(PROFILE_OPTION));
+
         return builder.build();
     }
+
+    private static int parseMessageLimit(String value) {
+        int limit;
+        try {
+            limit = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid message limit: " + value + ". Must be 0 or a positive integer",
+                    e);
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid message limit: " + value + ". Must be 0 or a positive integer");
+        }
+        return limit;
+    }
+
+    private static Path resolve(Path workingDirectory, String path) {
+        return workingDirectory != null ? workingDirectory.resolve(path) : Paths.get(path);
+    }
 }
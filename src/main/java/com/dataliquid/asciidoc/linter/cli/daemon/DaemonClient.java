@@ -0,0 +1,113 @@
+package com.dataliquid.asciidoc.linter.cli.daemon;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import com.dataliquid.asciidoc.linter.output.OutputWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Client for a {@link LintDaemon}. Sends a request over the daemon socket and
+ * copies the output frames to an {@link OutputWriter} as they arrive.
+ */
+public final class DaemonClient {
+
+    private final Path socketPath;
+
+    public DaemonClient(Path socketPath) {
+        this.socketPath = Objects
+                .requireNonNull(socketPath, "[" + getClass().getName() + "] socketPath must not be null");
+    }
+
+    /**
+     * Checks whether a daemon is listening on the socket.
+     *
+     * @return {@code true} if a connection could be opened
+     */
+    public boolean isAvailable() {
+        if (!Files.exists(socketPath)) {
+            return false;
+        }
+        try (SocketChannel channel = connect()) {
+            return channel.isConnected();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs the {@code lint} command in the daemon.
+     *
+     * @param  workingDirectory the directory relative paths and patterns refer to
+     * @param  arguments        the arguments of the {@code lint} command
+     * @param  output           receives the report output
+     *
+     * @return                  the exit code of the lint run
+     *
+     * @throws IOException      if the daemon cannot be reached or the connection
+     *                          breaks
+     */
+    public int lint(Path workingDirectory, List<String> arguments, OutputWriter output) throws IOException {
+        Objects.requireNonNull(workingDirectory, "[" + getClass().getName() + "] workingDirectory must not be null");
+        Objects.requireNonNull(arguments, "[" + getClass().getName() + "] arguments must not be null");
+        Objects.requireNonNull(output, "[" + getClass().getName() + "] output must not be null");
+
+        return send(DaemonProtocol.lintRequest(workingDirectory, arguments), output);
+    }
+
+    /**
+     * Asks the daemon to shut down.
+     *
+     * @throws IOException if the daemon cannot be reached
+     */
+    public void stop() throws IOException {
+        send(DaemonProtocol.stopRequest(), null);
+    }
+
+    private int send(ObjectNode request, OutputWriter output) throws IOException {
+        try (SocketChannel channel = connect()) {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+
+            DaemonProtocol.write(writer, request);
+
+            ObjectNode frame;
+            while ((frame = DaemonProtocol.read(reader)) != null) {
+                String type = frame.path(DaemonProtocol.TYPE).asText();
+                if (DaemonProtocol.EXIT.equals(type)) {
+                    return frame.path(DaemonProtocol.CODE).asInt(2);
+                }
+                if (DaemonProtocol.OUTPUT.equals(type) && output != null) {
+                    output.write(frame.path(DaemonProtocol.TEXT).asText());
+                }
+            }
+            throw new IOException("Lint daemon closed the connection without an exit code");
+        }
+    }
+
+    private SocketChannel connect() throws IOException {
+        SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+            return channel;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.dataliquid.asciidoc.linter.cli.daemon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Wire format shared by {@link LintDaemon} and {@link DaemonClient}. Both sides
+ * exchange one JSON object per line over a Unix domain socket.
+ * <p>
+ * A client sends a single request, either
+ * {@code {"type":"lint","workingDirectory":"...","arguments":[...]}} carrying
+ * the arguments of the {@code lint} command, or {@code {"type":"stop"}}. The
+ * daemon answers with any number of {@code {"type":"output","text":"..."}}
+ * frames as report output is produced, followed by one
+ * {@code {"type":"exit","code":n}} frame.
+ */
+public final class DaemonProtocol {
+
+    static final String TYPE = "type";
+    static final String LINT = "lint";
+    static final String STOP = "stop";
+    static final String OUTPUT = "output";
+    static final String EXIT = "exit";
+    static final String WORKING_DIRECTORY = "workingDirectory";
+    static final String ARGUMENTS = "arguments";
+    static final String TEXT = "text";
+    static final String CODE = "code";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private DaemonProtocol() {
+        // Utility class
+    }
+
+    /**
+     * Returns the socket path used when none is given: a per-user socket in the
+     * temporary directory.
+     *
+     * @return the default socket path
+     */
+    public static Path defaultSocketPath() {
+        return Paths
+                .get(System.getProperty("java.io.tmpdir"),
+                        "asciidoc-linter-" + System.getProperty("user.name") + ".sock");
+    }
+
+    static ObjectNode lintRequest(Path workingDirectory, List<String> arguments) {
+        ObjectNode frame = frame(LINT);
+        frame.put(WORKING_DIRECTORY, workingDirectory.toAbsolutePath().toString());
+        ArrayNode array = frame.putArray(ARGUMENTS);
+        arguments.forEach(array::add);
+        return frame;
+    }
+
+    static ObjectNode stopRequest() {
+        return frame(STOP);
+    }
+
+    static ObjectNode output(String text) {
+        return frame(OUTPUT).put(TEXT, text);
+    }
+
+    static ObjectNode exit(int code) {
+        return frame(EXIT).put(CODE, code);
+    }
+
+    static List<String> arguments(ObjectNode request) {
+        List<String> arguments = new ArrayList<>();
+        request.path(ARGUMENTS).forEach(argument -> arguments.add(argument.asText()));
+        return arguments;
+    }
+
+    static void write(Writer writer, ObjectNode frame) throws IOException {
+        // Jackson escapes line breaks, so every frame is exactly one line
+        writer.write(MAPPER.writeValueAsString(frame));
+        writer.write('\n');
+        writer.flush();
+    }
+
+    /**
+     * Reads the next frame.
+     *
+     * @return             the frame, or {@code null} at the end of the stream
+     *
+     * @throws IOException if the frame cannot be read or is not a JSON object
+     */
+    static ObjectNode read(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        JsonNode node = MAPPER.readTree(line);
+        if (!(node instanceof ObjectNode)) {
+            throw new IOException("Malformed daemon frame: " + line);
+        }
+        return (ObjectNode) node;
+    }
+
+    private static ObjectNode frame(String type) {
+        return MAPPER.createObjectNode().put(TYPE, type);
+    }
+}
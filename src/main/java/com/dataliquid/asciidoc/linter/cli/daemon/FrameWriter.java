@@ -0,0 +1,51 @@
+package com.dataliquid.asciidoc.linter.cli.daemon;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer that forwards everything written to it as {@code output} frames.
+ * Complete lines are sent once enough text has accumulated, and the rest on
+ * {@link #flush()}, so the client sees report output while it is produced.
+ * Closing this writer flushes it but leaves the underlying writer open.
+ */
+final class FrameWriter extends Writer {
+
+    private static final int SEND_THRESHOLD = 8192;
+
+    private final Writer target;
+    private final StringBuilder buffer = new StringBuilder();
+
+    FrameWriter(Writer target) {
+        this.target = target;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        buffer.append(cbuf, off, len);
+        if (buffer.length() >= SEND_THRESHOLD) {
+            int end = buffer.lastIndexOf("\n");
+            if (end >= 0) {
+                send(buffer.substring(0, end + 1));
+                buffer.delete(0, end + 1);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (buffer.length() > 0) {
+            send(buffer.toString());
+            buffer.setLength(0);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void send(String text) throws IOException {
+        DaemonProtocol.write(target, DaemonProtocol.output(text));
+    }
+}
@@ -0,0 +1,318 @@
+package com.dataliquid.asciidoc.linter.cli.daemon;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dataliquid.asciidoc.linter.Linter;
+import com.dataliquid.asciidoc.linter.cache.ResultCache;
+import com.dataliquid.asciidoc.linter.cli.CLIConfig;
+import com.dataliquid.asciidoc.linter.cli.CLIRunner;
+import com.dataliquid.asciidoc.linter.cli.command.LintCommand;
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.validator.MessageLimits;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Long-running lint server. Keeps one {@link Linter} with its warmed
+ * Asciidoctor instances, compiled rule plans and loaded configurations resident
+ * and runs {@code lint} requests received over a Unix domain socket, so clients
+ * do not pay for JVM startup, JRuby boot and schema loading on every
+ * invocation.
+ * <p>
+ * Requests are served one at a time; a single request is validated with the
+ * number of threads the daemon was built with.
+ */
+public final class LintDaemon implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(LintDaemon.class);
+
+    private final Path socketPath;
+    private final Linter linter;
+    private final CLIRunner runner;
+    private final LintCommand lintCommand;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private ServerSocketChannel server;
+
+    private LintDaemon(Builder builder) {
+        this.socketPath = Objects
+                .requireNonNull(builder._socketPath, "[" + getClass().getName() + "] socketPath must not be null");
+        this.linter = Linter
+                .builder()
+                .threads(builder._threads)
+                .resultCache(builder._resultCache)
+                .minimumSeverity(builder._minimumSeverity)
+                .messageLimits(builder._messageLimits)
+                .build();
+        this.runner = new CLIRunner(linter);
+        this.lintCommand = new LintCommand();
+    }
+
+    public Path getSocketPath() {
+        return socketPath;
+    }
+
+    /**
+     * Binds the daemon socket. A socket file left behind by a daemon that did not
+     * shut down cleanly is replaced.
+     * <p>
+     * The socket is bound inside a directory only the owner can access and moved
+     * to its final path once its permissions are restricted, so other users can
+     * never connect to it.
+     *
+     * @throws IOException if another daemon is listening on the socket or the
+     *                     socket cannot be bound
+     */
+    public void start() throws IOException {
+        if (Files.exists(socketPath)) {
+            if (new DaemonClient(socketPath).isAvailable()) {
+                throw new IOException("A lint daemon is already listening on " + socketPath);
+            }
+            Files.delete(socketPath);
+        }
+
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        bindOwnerOnly();
+        running.set(true);
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Lint daemon listening on {}", socketPath);
+        }
+    }
+
+    /**
+     * Serves requests until the daemon is stopped, either by a {@code stop}
+     * request or by {@link #stop()}.
+     *
+     * @throws IOException if accepting connections fails
+     */
+    public void serve() throws IOException {
+        if (server == null) {
+            throw new IllegalStateException("Daemon has not been started");
+        }
+        while (running.get()) {
+            SocketChannel channel;
+            try {
+                channel = server.accept();
+            } catch (ClosedChannelException e) {
+                // Stopped from another thread
+                break;
+            }
+            try (channel) {
+                handle(channel);
+            } catch (IOException e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("Lint daemon request failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting requests. A request in progress is completed.
+     */
+    public void stop() {
+        running.set(false);
+        if (server != null) {
+            try {
+                server.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close daemon socket", e);
+            }
+        }
+    }
+
+    /**
+     * Stops the daemon, releases the linter and removes the socket file. Calling
+     * this method more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        stop();
+        linter.close();
+        try {
+            Files.deleteIfExists(socketPath);
+        } catch (IOException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("Failed to delete daemon socket {}: {}", socketPath, e.getMessage());
+            }
+        }
+    }
+
+    private void handle(SocketChannel channel) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+
+        ObjectNode request = DaemonProtocol.read(reader);
+        if (request == null) {
+            return;
+        }
+
+        String type = request.path(DaemonProtocol.TYPE).asText();
+        if (DaemonProtocol.STOP.equals(type)) {
+            DaemonProtocol.write(writer, DaemonProtocol.exit(0));
+            stop();
+            return;
+        }
+
+        int exitCode;
+        try (PrintWriter console = new PrintWriter(new FrameWriter(writer))) {
+            if (DaemonProtocol.LINT.equals(type)) {
+                exitCode = lint(request, console);
+            } else {
+                console.println("Error: Unknown daemon request: " + type);
+                exitCode = 2;
+            }
+        }
+        DaemonProtocol.write(writer, DaemonProtocol.exit(exitCode));
+    }
+
+    private int lint(ObjectNode request, PrintWriter console) {
+        Path workingDirectory = Paths.get(request.path(DaemonProtocol.WORKING_DIRECTORY).asText());
+        List<String> arguments = DaemonProtocol.arguments(request);
+
+        try {
+            CommandLine cmd = new DefaultParser().parse(lintCommand.getOptions(), arguments.toArray(new String[0]));
+            CLIConfig config = lintCommand.parseConfiguration(cmd, workingDirectory);
+            return runner.run(config, console);
+        } catch (ParseException | IllegalArgumentException e) {
+            console.println("Error: " + e.getMessage());
+            return 2;
+        }
+    }
+
+    private void bindOwnerOnly() throws IOException {
+        Path directory;
+        try {
+            directory = Files
+                    .createTempDirectory(socketPath.toAbsolutePath().getParent(), ".lint-daemon-",
+                            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        } catch (UnsupportedOperationException e) {
+            // No POSIX permissions to protect the socket with
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            return;
+        }
+        Path staged = directory.resolve(socketPath.getFileName());
+        try {
+            server.bind(UnixDomainSocketAddress.of(staged));
+            restrictToOwner(staged);
+            Files.move(staged, socketPath, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(staged);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void restrictToOwner(Path socket) {
+        try {
+            Files.setPosixFilePermissions(socket, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException | IOException e) {
+            logger.debug("Could not restrict permissions of daemon socket", e);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private Path _socketPath = DaemonProtocol.defaultSocketPath();
+        private int _threads = 1;
+        private ResultCache _resultCache;
+        private Severity _minimumSeverity = Severity.INFO;
+        private MessageLimits _messageLimits = MessageLimits.UNLIMITED;
+
+        private Builder() {
+        }
+
+        public Builder socketPath(Path socketPath) {
+            this._socketPath = socketPath;
+            return this;
+        }
+
+        /**
+         * Sets the number of files validated concurrently within one request.
+         *
+         * @param  threads the number of worker threads (at least 1)
+         *
+         * @return         this builder
+         */
+        public Builder threads(int threads) {
+            this._threads = threads;
+            return this;
+        }
+
+        /**
+         * Sets the cache shared by all requests for results of unchanged files.
+         *
+         * @param  resultCache the result cache, or {@code null} to disable caching
+         *
+         * @return             this builder
+         */
+        public Builder resultCache(ResultCache resultCache) {
+            this._resultCache = resultCache;
+            return this;
+        }
+
+        /**
+         * Sets the least severe severity evaluated and reported for all requests.
+         *
+         * @param  minimumSeverity the minimum reported severity
+         *
+         * @return                 this builder
+         */
+        public Builder minimumSeverity(Severity minimumSeverity) {
+            this._minimumSeverity = minimumSeverity;
+            return this;
+        }
+
+        /**
+         * Sets the caps on the number of messages reported per file and per rule
+         * for all requests.
+         *
+         * @param  messageLimits the message limits
+         *
+         * @return               this builder
+         */
+        public Builder messageLimits(MessageLimits messageLimits) {
+            this._messageLimits = messageLimits;
+            return this;
+        }
+
+        public LintDaemon build() {
+            return new LintDaemon(this);
+        }
+    }
+}
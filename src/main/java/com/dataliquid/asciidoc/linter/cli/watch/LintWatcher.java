@@ -0,0 +1,391 @@
+package com.dataliquid.asciidoc.linter.cli.watch;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dataliquid.asciidoc.linter.Linter;
+import com.dataliquid.asciidoc.linter.cli.CLIConfig;
+import com.dataliquid.asciidoc.linter.cli.CLIRunner;
+import com.dataliquid.asciidoc.linter.cli.FileDiscoveryService;
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.output.OutputWriter;
+import com.dataliquid.asciidoc.linter.validator.MessageLimits;
+import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
+
+/**
+ * Watches the directories of the lint input patterns and re-validates files as
+ * they are created or modified. The first run validates and reports all files
+ * like a regular {@code lint}; afterwards only changed files are validated with
+ * the same, already warm {@link Linter} and only the difference to their
+ * previous result is printed: messages that are new and messages that have been
+ * resolved. A change of the rule file re-validates all selected files against
+ * the reloaded rules.
+ * <p>
+ * Bursts of file system events, as caused by editors that write a file in
+ * several steps, are collected until no event has arrived for the debounce
+ * interval.
+ */
+public final class LintWatcher implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(LintWatcher.class);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+    private final CLIConfig config;
+    private final OutputWriter outputWriter;
+    private final long debounceMillis;
+    private final Linter linter;
+    private final CLIRunner runner;
+    private final FileDiscoveryService fileDiscoveryService;
+    private final Map<WatchKey, Path> watchedDirectories;
+    private final Map<Path, List<ValidationMessage>> knownMessages;
+    private final Path ruleFile;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private WatchService watchService;
+
+    private LintWatcher(Builder builder) {
+        this.config = Objects.requireNonNull(builder._config, "[" + getClass().getName() + "] config must not be null");
+        this.outputWriter = Objects
+                .requireNonNull(builder._outputWriter, "[" + getClass().getName() + "] outputWriter must not be null");
+        if (builder._debounceMillis < 0) {
+            throw new IllegalArgumentException("debounceMillis must not be negative");
+        }
+        this.debounceMillis = builder._debounceMillis;
+        this.linter = Linter
+                .builder()
+                .threads(config.getThreads())
+                .minimumSeverity(config.getMinSeverity())
+                .messageLimits(MessageLimits.of(config.getMaxMessagesPerFile(), config.getMaxMessagesPerRule()))
+                .build();
+        this.runner = new CLIRunner(linter);
+        this.fileDiscoveryService = new FileDiscoveryService();
+        this.watchedDirectories = new HashMap<>();
+        this.knownMessages = new LinkedHashMap<>();
+        this.ruleFile = config.getConfigFile() != null ? normalize(config.getConfigFile()) : null;
+    }
+
+    /**
+     * Validates and reports all files, then watches for changes until the
+     * watcher is closed, e.g. from a shutdown hook.
+     *
+     * @return             the exit code of the initial run
+     *
+     * @throws IOException if the directories cannot be watched
+     */
+    public int run() throws IOException {
+        watchService = config.getBaseDirectory().getFileSystem().newWatchService();
+        for (Path directory : fileDiscoveryService.discoverDirectories(config)) {
+            register(directory);
+        }
+        if (ruleFile != null && !watchedDirectories.containsValue(ruleFile.getParent())) {
+            register(ruleFile.getParent());
+        }
+
+        int exitCode = runner
+                .run(config, null, (file, result) -> knownMessages.put(normalize(file), result.getMessages()));
+        outputWriter.writeLine("Watching " + watchedDirectories.size() + " directories for changes (Ctrl+C to stop)");
+
+        try {
+            while (!closed.get()) {
+                Set<Path> changed = new LinkedHashSet<>();
+                Set<Path> deleted = new LinkedHashSet<>();
+                collect(watchService.take(), changed, deleted);
+
+                // Wait until the burst of events is over
+                WatchKey key;
+                while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    collect(key, changed, deleted);
+                }
+
+                if (!changed.isEmpty() || !deleted.isEmpty()) {
+                    revalidate(changed, deleted);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Closed while waiting for events
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return exitCode;
+    }
+
+    /**
+     * Stops watching and releases the linter.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close watch service", e);
+            }
+        }
+        linter.close();
+    }
+
+    private void register(Path directory) throws IOException {
+        WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        watchedDirectories.put(key, directory);
+    }
+
+    private void collect(WatchKey key, Set<Path> changed, Set<Path> deleted) throws IOException {
+        Path directory = watchedDirectories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // Events were lost; check every selected file again
+                addAllFiles(changed);
+                continue;
+            }
+            if (directory == null) {
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context()).normalize();
+
+            if (path.equals(ruleFile)) {
+                // The rules apply to every file
+                addAllFiles(changed);
+            } else if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                watchNewDirectory(path, changed);
+            } else if (fileDiscoveryService.matches(path, config)) {
+                if (event.kind() == ENTRY_DELETE) {
+                    changed.remove(path);
+                    deleted.add(path);
+                } else {
+                    deleted.remove(path);
+                    changed.add(path);
+                }
+            }
+        }
+        if (!key.reset()) {
+            // The directory is gone
+            watchedDirectories.remove(key);
+        }
+    }
+
+    private void addAllFiles(Set<Path> changed) throws IOException {
+        for (Path file : fileDiscoveryService.discoverFiles(config)) {
+            changed.add(normalize(file));
+        }
+    }
+
+    /**
+     * Watches a directory created after the watcher started, with its
+     * subdirectories and the selected files they already contain.
+     */
+    private void watchNewDirectory(Path directory, Set<Path> changed) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            paths = walk.map(Path::normalize).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                register(path);
+            } else if (fileDiscoveryService.matches(path, config)) {
+                changed.add(path);
+            }
+        }
+    }
+
+    private void revalidate(Set<Path> changed, Set<Path> deleted) throws IOException {
+        String time = LocalTime.now().format(TIME_FORMATTER);
+
+        for (Path file : deleted) {
+            List<ValidationMessage> previous = knownMessages.remove(file);
+            if (previous != null) {
+                printDelta(time, file, List.of(), previous);
+            }
+        }
+
+        List<Path> files = new ArrayList<>();
+        for (Path file : changed) {
+            if (Files.isRegularFile(file)) {
+                files.add(file);
+            }
+        }
+        if (!files.isEmpty()) {
+            // Reloaded only if the rule file changed since the previous run
+            LinterConfiguration linterConfig = runner.loadLinterConfiguration(config);
+            linter.validateFiles(files, linterConfig, (file, result) -> {
+                List<ValidationMessage> previous = knownMessages.put(file, result.getMessages());
+                printDelta(time, file, result.getMessages(), previous != null ? previous : List.of());
+                linter.getSourceRegistry().release(file.toString());
+            });
+        }
+
+        printSummary();
+    }
+
+    private void printDelta(String time, Path file, List<ValidationMessage> current,
+            List<ValidationMessage> previous) {
+        Map<String, ValidationMessage> before = index(previous);
+        Map<String, ValidationMessage> after = index(current);
+
+        List<ValidationMessage> added = new ArrayList<>();
+        for (Map.Entry<String, ValidationMessage> entry : after.entrySet()) {
+            if (!before.containsKey(entry.getKey())) {
+                added.add(entry.getValue());
+            }
+        }
+        List<ValidationMessage> resolved = new ArrayList<>();
+        for (Map.Entry<String, ValidationMessage> entry : before.entrySet()) {
+            if (!after.containsKey(entry.getKey())) {
+                resolved.add(entry.getValue());
+            }
+        }
+
+        String name = displayName(file);
+        if (added.isEmpty() && resolved.isEmpty()) {
+            outputWriter.writeLine(time + " " + name + ": no changes (" + current.size() + " messages)");
+            return;
+        }
+        outputWriter
+                .writeLine(time + " " + name + ": " + added.size() + " new, " + resolved.size() + " resolved ("
+                        + current.size() + " messages)");
+        for (ValidationMessage message : added) {
+            outputWriter.writeLine("  + " + formatMessage(message));
+        }
+        for (ValidationMessage message : resolved) {
+            outputWriter.writeLine("  - " + formatMessage(message));
+        }
+    }
+
+    private void printSummary() {
+        int errors = 0;
+        int warnings = 0;
+        int infos = 0;
+        for (List<ValidationMessage> messages : knownMessages.values()) {
+            for (ValidationMessage message : messages) {
+                if (message.getSeverity() == Severity.ERROR) {
+                    errors++;
+                } else if (message.getSeverity() == Severity.WARN) {
+                    warnings++;
+                } else {
+                    infos++;
+                }
+            }
+        }
+        outputWriter
+                .writeLine("  " + knownMessages.size() + " files: " + errors + " errors, " + warnings + " warnings, "
+                        + infos + " infos");
+    }
+
+    /**
+     * Keys messages by what a reader recognizes them by, so that messages that
+     * stay the same across runs are not reported again.
+     */
+    private static Map<String, ValidationMessage> index(List<ValidationMessage> messages) {
+        Map<String, ValidationMessage> index = new LinkedHashMap<>();
+        for (ValidationMessage message : messages) {
+            String position = message.getLocation() != null
+                    ? message.getLocation().getStartLine() + ":" + message.getLocation().getStartColumn()
+                    : "";
+            index.putIfAbsent(message.getSeverity() + "|" + message.getRuleId() + "|" + position + "|"
+                    + message.getMessage(), message);
+        }
+        return index;
+    }
+
+    private String formatMessage(ValidationMessage message) {
+        String location = message.getLocation() != null ? message.getLocation().formatLocation() + " " : "";
+        return "[" + message.getSeverity() + "] " + location + message.getMessage() + " (" + message.getRuleId()
+                + ")";
+    }
+
+    private String displayName(Path file) {
+        Path baseDir = normalize(config.getBaseDirectory());
+        return file.startsWith(baseDir) ? baseDir.relativize(file).toString() : file.toString();
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private CLIConfig _config;
+        private OutputWriter _outputWriter;
+        private long _debounceMillis = DEFAULT_DEBOUNCE_MILLIS;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the lint configuration: input patterns, rules and report settings
+         * of the initial run. Threads are honored; the result cache is not, since
+         * watched files change anyway.
+         *
+         * @param  config the CLI configuration
+         *
+         * @return        this builder
+         */
+        public Builder config(CLIConfig config) {
+            this._config = config;
+            return this;
+        }
+
+        /**
+         * Sets the writer that receives the message deltas of changed files.
+         *
+         * @param  outputWriter the output writer
+         *
+         * @return              this builder
+         */
+        public Builder outputWriter(OutputWriter outputWriter) {
+            this._outputWriter = outputWriter;
+            return this;
+        }
+
+        /**
+         * Sets how long the watcher waits for further events before validating
+         * the changed files.
+         *
+         * @param  debounceMillis the quiet period in milliseconds
+         *
+         * @return                this builder
+         */
+        public Builder debounceMillis(long debounceMillis) {
+            this._debounceMillis = debounceMillis;
+            return this;
+        }
+
+        public LintWatcher build() {
+            return new LintWatcher(this);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.dataliquid.asciidoc.linter.config.blocks;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 import com.dataliquid.asciidoc.linter.config.blocks.BlockType;
 import com.dataliquid.asciidoc.linter.config.common.Severity;
@@ -48,6 +49,64 @@ public abstract class AbstractBlock implements Block {
         return order;
     }
 
+    @Override
+    public final Block pruneBelow(Severity minimumSeverity) {
+        Objects.requireNonNull(minimumSeverity, "[" + getClass().getName() + "] minimumSeverity must not be null");
+        if (minimumSeverity == Severity.INFO) {
+            return this;
+        }
+        AbstractBlock pruned = withReportedRules(minimumSeverity);
+        return pruned.equals(this) ? this : pruned;
+    }
+
+    /**
+     * Creates a copy of this block keeping only the rules that are reported at
+     * the given minimum severity.
+     *
+     * @param  minimumSeverity the least severe severity that is still reported
+     *
+     * @return                 the copy
+     */
+    protected abstract AbstractBlock withReportedRules(Severity minimumSeverity);
+
+    /**
+     * Returns the occurrence rule if it is reported at the given minimum severity.
+     */
+    protected final OccurrenceConfig reportedOccurrence(Severity minimumSeverity) {
+        return reported(occurrence, OccurrenceConfig::severity, minimumSeverity);
+    }
+
+    /**
+     * Returns a rule if it is reported at the given minimum severity. A rule
+     * without a severity of its own is reported with the severity of the block.
+     *
+     * @param  rule            the rule, may be {@code null}
+     * @param  severityOf      returns the severity of the rule, may return
+     *                         {@code null}
+     * @param  minimumSeverity the least severe severity that is still reported
+     *
+     * @return                 the rule, or {@code null} if it is not reported
+     */
+    protected final <R> R reported(R rule, Function<R, Severity> severityOf, Severity minimumSeverity) {
+        return rule != null && isReported(severityOf.apply(rule), minimumSeverity) ? rule : null;
+    }
+
+    /**
+     * Returns a rule that is always reported with the severity of the block if
+     * the block severity is reported at the given minimum severity.
+     */
+    protected final <R> R reported(R rule, Severity minimumSeverity) {
+        return isReported(null, minimumSeverity) ? rule : null;
+    }
+
+    /**
+     * Tells whether a rule with the given severity is reported at the given
+     * minimum severity, falling back to the severity of the block.
+     */
+    protected final boolean isReported(Severity ruleSeverity, Severity minimumSeverity) {
+        return (ruleSeverity != null ? ruleSeverity : severity).isAtLeast(minimumSeverity);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
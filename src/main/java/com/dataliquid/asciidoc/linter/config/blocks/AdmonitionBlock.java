@@ -292,6 +292,24 @@ public final class AdmonitionBlock extends AbstractBlock {
         }
     }
 
+    @Override
+    protected AdmonitionBlock withReportedRules(Severity minimumSeverity) {
+        ContentConfig reportedContent = null;
+        if (content != null) {
+            // The line rule falls back to the content severity before the block severity
+            LineConfig lines = content.getLines();
+            boolean linesReported = lines != null
+                    && isReported(lines.severity() != null ? lines.severity() : content.getSeverity(), minimumSeverity);
+            if (linesReported || isReported(content.getSeverity(), minimumSeverity)) {
+                reportedContent = content;
+            }
+        }
+        return new AdmonitionBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(type, TypeConfig::getSeverity, minimumSeverity),
+                reported(title, TitleConfig::getSeverity, minimumSeverity), reportedContent,
+                reported(icon, IconConfig::getSeverity, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -295,6 +295,22 @@ public final class AudioBlock extends AbstractBlock {
         }
     }
 
+    @Override
+    protected AudioBlock withReportedRules(Severity minimumSeverity) {
+        OptionsConfig reportedOptions = null;
+        if (options != null) {
+            AutoplayConfig autoplay = reported(options.getAutoplay(), AutoplayConfig::getSeverity, minimumSeverity);
+            ControlsConfig controls = reported(options.getControls(), ControlsConfig::getSeverity, minimumSeverity);
+            LoopConfig loop = reported(options.getLoop(), LoopConfig::getSeverity, minimumSeverity);
+            if (autoplay != null || controls != null || loop != null) {
+                reportedOptions = new OptionsConfig(autoplay, controls, loop);
+            }
+        }
+        return new AudioBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(url, UrlConfig::getSeverity, minimumSeverity), reportedOptions,
+                reported(title, TitleConfig::getSeverity, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
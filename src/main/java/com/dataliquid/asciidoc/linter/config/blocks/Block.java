@@ -26,4 +26,17 @@ public interface Block {
 
     @JsonProperty(ORDER)
     Integer getOrder();
+
+    /**
+     * Returns this block without the rules whose resolved severity is below the
+     * given minimum, so that their validators are never invoked. The name, order
+     * and severity of the block are kept, as they decide which configuration a
+     * block in the document is matched with.
+     *
+     * @param  minimumSeverity the least severe severity that is still reported
+     *
+     * @return                 this block if every rule is reported, otherwise a
+     *                         copy without the rules below the minimum
+     */
+    Block pruneBelow(Severity minimumSeverity);
 }
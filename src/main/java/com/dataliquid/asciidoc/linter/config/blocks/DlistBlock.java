@@ -1,12 +1,14 @@
 package com.dataliquid.asciidoc.linter.config.blocks;
 
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import com.dataliquid.asciidoc.linter.config.blocks.BlockType;
 import com.dataliquid.asciidoc.linter.config.common.Severity;
 import com.dataliquid.asciidoc.linter.config.rule.OccurrenceConfig;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import static com.dataliquid.asciidoc.linter.config.common.JsonPropertyNames.Literal.CONSISTENT;
@@ -86,6 +88,7 @@ public final class DlistBlock extends AbstractBlock {
         private final Integer max;
         @JsonProperty(PATTERN)
         private final String pattern;
+        private final Pattern compiledPattern;
         @JsonProperty(MIN_LENGTH)
         private final Integer minLength;
         @JsonProperty(MAX_LENGTH)
@@ -94,12 +97,14 @@ public final class DlistBlock extends AbstractBlock {
         private final Severity severity;
 
         @JsonCreator
+        @SuppressWarnings("PMD.NullAssignment")
         public TermsConfig(@JsonProperty(MIN) Integer min, @JsonProperty(MAX) Integer max,
                 @JsonProperty(PATTERN) String pattern, @JsonProperty(MIN_LENGTH) Integer minLength,
                 @JsonProperty(MAX_LENGTH) Integer maxLength, @JsonProperty(SEVERITY) Severity severity) {
             this.min = min;
             this.max = max;
             this.pattern = pattern;
+            this.compiledPattern = pattern != null ? Pattern.compile(pattern) : null;
             this.minLength = minLength;
             this.maxLength = maxLength;
             this.severity = severity;
@@ -117,6 +122,11 @@ public final class DlistBlock extends AbstractBlock {
             return pattern;
         }
 
+        @JsonIgnore
+        public Pattern getCompiledPattern() {
+            return compiledPattern;
+        }
+
         public Integer getMinLength() {
             return minLength;
         }
@@ -159,10 +169,12 @@ public final class DlistBlock extends AbstractBlock {
         private final Integer max;
         @JsonProperty(PATTERN)
         private final String pattern;
+        private final Pattern compiledPattern;
         @JsonProperty(SEVERITY)
         private final Severity severity;
 
         @JsonCreator
+        @SuppressWarnings("PMD.NullAssignment")
         public DescriptionsConfig(@JsonProperty(REQUIRED) Boolean required, @JsonProperty(MIN) Integer min,
                 @JsonProperty(MAX) Integer max, @JsonProperty(PATTERN) String pattern,
                 @JsonProperty(SEVERITY) Severity severity) {
@@ -170,6 +182,7 @@ public final class DlistBlock extends AbstractBlock {
             this.min = min;
             this.max = max;
             this.pattern = pattern;
+            this.compiledPattern = pattern != null ? Pattern.compile(pattern) : null;
             this.severity = severity;
         }
 
@@ -189,6 +202,11 @@ public final class DlistBlock extends AbstractBlock {
             return pattern;
         }
 
+        @JsonIgnore
+        public Pattern getCompiledPattern() {
+            return compiledPattern;
+        }
+
         public Severity getSeverity() {
             return severity;
         }
@@ -301,6 +319,15 @@ public final class DlistBlock extends AbstractBlock {
         }
     }
 
+    @Override
+    protected DlistBlock withReportedRules(Severity minimumSeverity) {
+        return new DlistBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(terms, TermsConfig::getSeverity, minimumSeverity),
+                reported(descriptions, DescriptionsConfig::getSeverity, minimumSeverity),
+                reported(nestingLevel, NestingLevelConfig::getSeverity, minimumSeverity),
+                reported(delimiterStyle, DelimiterStyleConfig::getSeverity, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
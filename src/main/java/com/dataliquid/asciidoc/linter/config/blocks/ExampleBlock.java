@@ -45,6 +45,13 @@ public class ExampleBlock extends AbstractBlock {
         return collapsible;
     }
 
+    @Override
+    protected ExampleBlock withReportedRules(Severity minimumSeverity) {
+        return new ExampleBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(caption, CaptionConfig::getSeverity, minimumSeverity),
+                reported(collapsible, CollapsibleConfig::getSeverity, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -172,6 +172,14 @@ public final class ImageBlock extends AbstractBlock {
         }
     }
 
+    @Override
+    protected ImageBlock withReportedRules(Severity minimumSeverity) {
+        // All image rules are reported with the block severity
+        return new ImageBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(url, minimumSeverity), reported(height, minimumSeverity), reported(width, minimumSeverity),
+                reported(alt, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
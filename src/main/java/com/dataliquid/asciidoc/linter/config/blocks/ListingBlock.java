@@ -183,6 +183,15 @@ public final class ListingBlock extends AbstractBlock {
         }
     }
 
+    @Override
+    protected ListingBlock withReportedRules(Severity minimumSeverity) {
+        return new ListingBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(language, LanguageConfig::getSeverity, minimumSeverity),
+                reported(lines, LineConfig::severity, minimumSeverity),
+                reported(title, TitleConfig::getSeverity, minimumSeverity),
+                reported(callouts, CalloutsConfig::getSeverity, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -206,6 +206,14 @@ public final class LiteralBlock extends AbstractBlock {
         }
     }
 
+    @Override
+    protected LiteralBlock withReportedRules(Severity minimumSeverity) {
+        return new LiteralBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(title, TitleConfig::getSeverity, minimumSeverity),
+                reported(lines, LinesConfig::getSeverity, minimumSeverity),
+                reported(indentation, IndentationConfig::getSeverity, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
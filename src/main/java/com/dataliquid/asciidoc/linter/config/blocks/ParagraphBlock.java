@@ -43,6 +43,23 @@ public final class ParagraphBlock extends AbstractBlock {
         return sentence;
     }
 
+    @Override
+    protected ParagraphBlock withReportedRules(Severity minimumSeverity) {
+        // Sentence and word analysis is the most expensive paragraph rule, so both are pruned separately
+        SentenceConfig reportedSentence = null;
+        if (sentence != null) {
+            OccurrenceConfig occurrence = reported(sentence.getOccurrence(), OccurrenceConfig::severity,
+                    minimumSeverity);
+            WordsConfig words = reported(sentence.getWords(), WordsConfig::getSeverity, minimumSeverity);
+            if (occurrence != null || words != null) {
+                reportedSentence = occurrence == sentence.getOccurrence() && words == sentence.getWords() ? sentence
+                        : new SentenceConfig(occurrence, words);
+            }
+        }
+        return new ParagraphBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(lines, LineConfig::severity, minimumSeverity), reportedSentence);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -213,6 +213,14 @@ public final class PassBlock extends AbstractBlock {
         }
     }
 
+    @Override
+    protected PassBlock withReportedRules(Severity minimumSeverity) {
+        return new PassBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(type, TypeConfig::getSeverity, minimumSeverity),
+                reported(content, ContentConfig::getSeverity, minimumSeverity),
+                reported(reason, ReasonConfig::getSeverity, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
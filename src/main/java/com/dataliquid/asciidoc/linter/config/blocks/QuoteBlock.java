@@ -306,6 +306,18 @@ public class QuoteBlock extends AbstractBlock {
 
     }
 
+    @Override
+    protected QuoteBlock withReportedRules(Severity minimumSeverity) {
+        // The content rules use the block severity, its line rule has its own
+        ContentConfig reportedContent = content != null && (isReported(null, minimumSeverity)
+                || content.getLines() != null && isReported(content.getLines().getSeverity(), minimumSeverity))
+                        ? content
+                        : null;
+        return new QuoteBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(attribution, AttributionConfig::getSeverity, minimumSeverity),
+                reported(citation, CitationConfig::getSeverity, minimumSeverity), reportedContent);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
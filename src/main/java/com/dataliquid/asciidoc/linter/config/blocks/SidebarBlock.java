@@ -286,6 +286,18 @@ public final class SidebarBlock extends AbstractBlock {
         }
     }
 
+    @Override
+    protected SidebarBlock withReportedRules(Severity minimumSeverity) {
+        // The content rules use the block severity, its line rule has its own
+        ContentConfig reportedContent = content != null && (isReported(null, minimumSeverity)
+                || content.getLines() != null && isReported(content.getLines().getSeverity(), minimumSeverity))
+                        ? content
+                        : null;
+        return new SidebarBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(title, TitleConfig::getSeverity, minimumSeverity), reportedContent,
+                reported(position, PositionConfig::getSeverity, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -282,6 +282,16 @@ public final class TableBlock extends AbstractBlock {
         }
     }
 
+    @Override
+    protected TableBlock withReportedRules(Severity minimumSeverity) {
+        return new TableBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(columns, DimensionConfig::getSeverity, minimumSeverity),
+                reported(rows, DimensionConfig::getSeverity, minimumSeverity),
+                reported(header, HeaderConfig::getSeverity, minimumSeverity),
+                reported(caption, CaptionConfig::getSeverity, minimumSeverity),
+                reported(format, FormatConfig::getSeverity, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -128,6 +128,14 @@ public final class UlistBlock extends AbstractBlock {
         }
     }
 
+    @Override
+    protected UlistBlock withReportedRules(Severity minimumSeverity) {
+        return new UlistBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(items, ItemsConfig::getSeverity, minimumSeverity),
+                reported(nestingLevel, NestingLevelConfig::getSeverity, minimumSeverity),
+                reported(markerStyle, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -246,6 +246,14 @@ public final class VerseBlock extends AbstractBlock {
         }
     }
 
+    @Override
+    protected VerseBlock withReportedRules(Severity minimumSeverity) {
+        // All verse rules are reported with the block severity
+        return new VerseBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(author, minimumSeverity), reported(attribution, minimumSeverity),
+                reported(content, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -79,6 +79,19 @@ public class VideoBlock extends AbstractBlock {
         return caption;
     }
 
+    @Override
+    protected VideoBlock withReportedRules(Severity minimumSeverity) {
+        OptionsConfig reportedOptions = options != null
+                && reported(options.getControls(), ControlsConfig::getSeverity, minimumSeverity) != null ? options
+                        : null;
+        return new VideoBlock(getName(), getSeverity(), reportedOccurrence(minimumSeverity), getOrder(),
+                reported(url, UrlConfig::getSeverity, minimumSeverity),
+                reported(width, DimensionConfig::getSeverity, minimumSeverity),
+                reported(height, DimensionConfig::getSeverity, minimumSeverity),
+                reported(poster, PosterConfig::getSeverity, minimumSeverity), reportedOptions,
+                reported(caption, CaptionConfig::getSeverity, minimumSeverity));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -7,6 +7,19 @@ import java.util.Locale;
 public enum Severity {
     ERROR, WARN, INFO;
 
+    /**
+     * Tells whether this severity is at least as severe as the given one, e.g.
+     * {@code ERROR} and {@code WARN} are at least {@code WARN}.
+     *
+     * @param  other the severity to compare with
+     *
+     * @return       {@code true} if this severity is reported at the given
+     *               minimum
+     */
+    public boolean isAtLeast(Severity other) {
+        return compareTo(other) <= 0;
+    }
+
     @JsonValue
     public String toValue() {
         return name().toLowerCase(Locale.ROOT);
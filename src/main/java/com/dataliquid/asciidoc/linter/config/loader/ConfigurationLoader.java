@@ -11,12 +11,15 @@ import org.apache.logging.log4j.Logger;
 import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
 import com.dataliquid.asciidoc.linter.config.validation.RuleSchemaValidator;
 import com.dataliquid.asciidoc.linter.config.validation.RuleValidationException;
+import com.dataliquid.asciidoc.linter.jfr.ConfigurationLoadEvent;
+import com.dataliquid.asciidoc.linter.jfr.LintEvents;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
 public class ConfigurationLoader {
 
     private static final Logger logger = LogManager.getLogger(ConfigurationLoader.class);
+    private static final String INLINE_SOURCE = "inline";
 
     private final ObjectMapper mapper;
     private final RuleSchemaValidator schemaValidator;
@@ -39,6 +42,36 @@ public class ConfigurationLoader {
     }
 
     public LinterConfiguration loadConfiguration(Path configPath) throws IOException {
+        ConfigurationLoadEvent event = new ConfigurationLoadEvent();
+        event.begin();
+        try {
+            return loadValidatedConfiguration(configPath);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setSource(configPath.toString());
+                event.setSize(configPath.toFile().length());
+                event.commit();
+            }
+        }
+    }
+
+    public LinterConfiguration loadConfiguration(String yamlContent) {
+        ConfigurationLoadEvent event = new ConfigurationLoadEvent();
+        event.begin();
+        try {
+            return loadValidatedConfiguration(yamlContent);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setSource(INLINE_SOURCE);
+                event.setSize(LintEvents.utf8Length(yamlContent));
+                event.commit();
+            }
+        }
+    }
+
+    private LinterConfiguration loadValidatedConfiguration(Path configPath) throws IOException {
         // First: Validate user config against schema
         if (!skipRuleSchemaValidation && schemaValidator != null) {
             try {
@@ -54,7 +87,7 @@ public class ConfigurationLoader {
         }
     }
 
-    public LinterConfiguration loadConfiguration(String yamlContent) {
+    private LinterConfiguration loadValidatedConfiguration(String yamlContent) {
         // First: Validate string config against schema
         if (!skipRuleSchemaValidation && schemaValidator != null) {
             try {
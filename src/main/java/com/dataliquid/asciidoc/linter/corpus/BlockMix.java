@@ -0,0 +1,134 @@
+package com.dataliquid.asciidoc.linter.corpus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import com.dataliquid.asciidoc.linter.config.blocks.BlockType;
+import com.dataliquid.asciidoc.linter.util.StringUtils;
+
+/**
+ * Relative weights of the block types in generated documents, written as
+ * {@code paragraph=6,listing=2,table=1}.
+ */
+public final class BlockMix {
+
+    private static final String DEFAULT_MIX = "paragraph=6,listing=2,ulist=2,table=1,admonition=1,image=1";
+
+    private final Map<BlockType, Integer> weights;
+
+    private BlockMix(Map<BlockType, Integer> weights) {
+        this.weights = Collections.unmodifiableMap(new EnumMap<>(weights));
+    }
+
+    /**
+     * Returns the mix used when none is configured, dominated by paragraphs like
+     * most prose documentation.
+     *
+     * @return the default block mix
+     */
+    public static BlockMix defaultMix() {
+        return parse(DEFAULT_MIX);
+    }
+
+    /**
+     * Parses a comma-separated list of {@code type=weight} pairs.
+     *
+     * @param  value the block mix
+     *
+     * @return       the parsed block mix
+     *
+     * @throws IllegalArgumentException if a type is unknown, a weight is not a
+     *                                  non-negative number or all weights are
+     *                                  zero
+     */
+    public static BlockMix parse(String value) {
+        Objects.requireNonNull(value, "[" + BlockMix.class.getName() + "] value must not be null");
+        Map<BlockType, Integer> weights = new EnumMap<>(BlockType.class);
+        for (String entry : value.split(",")) {
+            if (StringUtils.isBlank(entry)) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException(
+                        "Invalid block mix entry '" + entry.trim() + "', expected type=weight");
+            }
+            BlockType type = BlockType.fromValue(entry.substring(0, separator).trim());
+            int weight;
+            try {
+                weight = Integer.parseInt(entry.substring(separator + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight in block mix entry '" + entry.trim() + "'", e);
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in block mix entry '" + entry.trim() + "'");
+            }
+            weights.put(type, weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Block mix must give at least one block type a positive weight");
+        }
+        return new BlockMix(weights);
+    }
+
+    public Map<BlockType, Integer> getWeights() {
+        return weights;
+    }
+
+    /**
+     * Picks a block type according to the weights.
+     *
+     * @param  random the random source
+     *
+     * @return        the picked block type
+     */
+    public BlockType pick(Random random) {
+        return pick(random, weights.keySet());
+    }
+
+    /**
+     * Picks one of the given block types according to the weights. If none of the
+     * candidates has a positive weight, all candidates are equally likely.
+     *
+     * @param  random     the random source
+     * @param  candidates the block types to choose from, not empty
+     *
+     * @return            the picked block type
+     */
+    public BlockType pick(Random random, Collection<BlockType> candidates) {
+        List<BlockType> types = new ArrayList<>(candidates);
+        int total = 0;
+        for (BlockType type : types) {
+            total += weights.getOrDefault(type, 0);
+        }
+        if (total == 0) {
+            return types.get(random.nextInt(types.size()));
+        }
+        int remaining = random.nextInt(total);
+        for (BlockType type : types) {
+            remaining -= weights.getOrDefault(type, 0);
+            if (remaining < 0) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("Block mix weights changed while picking");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<BlockType, Integer> entry : weights.entrySet()) {
+            if (text.length() > 0) {
+                text.append(',');
+            }
+            text.append(entry.getKey().toValue()).append('=').append(entry.getValue());
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,250 @@
+package com.dataliquid.asciidoc.linter.corpus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Random;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+
+/**
+ * Generates reproducible trees of synthetic AsciiDoc documents for measuring
+ * throughput and memory use at scale.
+ * <p>
+ * Every document is generated from its own random source derived from the seed
+ * and the document index, so a document is identical across runs with the same
+ * seed, regardless of the number of documents. Documents are spread over
+ * subdirectories of {@value #DOCUMENTS_PER_DIRECTORY} files each, which keeps
+ * large corpora browsable and matches typical documentation trees.
+ */
+public final class CorpusGenerator {
+
+    static final int DOCUMENTS_PER_DIRECTORY = 500;
+
+    private static final Logger logger = LogManager.getLogger(CorpusGenerator.class);
+
+    private final LinterConfiguration configuration;
+    private final int documentCount;
+    private final long seed;
+    private final int minBlocks;
+    private final int maxBlocks;
+    private final SizeDistribution sizeDistribution;
+    private final BlockMix blockMix;
+    private final int maxDepth;
+    private final double violationRate;
+
+    private CorpusGenerator(Builder builder) {
+        if (builder._documentCount < 0) {
+            throw new IllegalArgumentException("Document count must not be negative");
+        }
+        if (builder._minBlocks < 0 || builder._maxBlocks < builder._minBlocks) {
+            throw new IllegalArgumentException(
+                    "Invalid block range " + builder._minBlocks + "-" + builder._maxBlocks);
+        }
+        if (builder._maxDepth < 0 || builder._maxDepth > 5) {
+            throw new IllegalArgumentException("Nesting depth must be between 0 and 5");
+        }
+        if (builder._violationRate < 0 || builder._violationRate > 1) {
+            throw new IllegalArgumentException("Violation rate must be between 0 and 1");
+        }
+        this.configuration = builder._configuration;
+        this.documentCount = builder._documentCount;
+        this.seed = builder._seed;
+        this.minBlocks = builder._minBlocks;
+        this.maxBlocks = builder._maxBlocks;
+        this.sizeDistribution = Objects
+                .requireNonNull(builder._sizeDistribution,
+                        "[" + getClass().getName() + "] sizeDistribution must not be null");
+        this.blockMix = Objects
+                .requireNonNull(builder._blockMix, "[" + getClass().getName() + "] blockMix must not be null");
+        this.maxDepth = builder._maxDepth;
+        this.violationRate = builder._violationRate;
+    }
+
+    /**
+     * Writes all documents below the output directory.
+     *
+     * @param  outputDirectory the directory to write the corpus to, created if
+     *                         missing
+     *
+     * @return                 the number of documents written
+     *
+     * @throws IOException if a document cannot be written
+     */
+    public int generate(Path outputDirectory) throws IOException {
+        Objects.requireNonNull(outputDirectory, "[" + getClass().getName() + "] outputDirectory must not be null");
+        for (int index = 0; index < documentCount; index++) {
+            Path file = outputDirectory.resolve(relativePath(index));
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, generateDocument(index), StandardCharsets.UTF_8);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Generated {} documents in {} (seed {})", documentCount, outputDirectory, seed);
+        }
+        return documentCount;
+    }
+
+    /**
+     * Generates the content of a single document.
+     *
+     * @param  index the document index
+     *
+     * @return       the AsciiDoc source of the document
+     */
+    public String generateDocument(int index) {
+        return new DocumentGenerator(this, new Random(seed * 31 + index)).generate();
+    }
+
+    /**
+     * Returns the path of a document relative to the output directory, for
+     * example {@code part-0001/doc-000512.adoc}.
+     *
+     * @param  index the document index
+     *
+     * @return       the relative path of the document
+     */
+    public Path relativePath(int index) {
+        String directory = String.format(Locale.ROOT, "part-%04d", index / DOCUMENTS_PER_DIRECTORY);
+        return Path.of(directory, String.format(Locale.ROOT, "doc-%06d.adoc", index));
+    }
+
+    public LinterConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public int getDocumentCount() {
+        return documentCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getMinBlocks() {
+        return minBlocks;
+    }
+
+    public int getMaxBlocks() {
+        return maxBlocks;
+    }
+
+    public SizeDistribution getSizeDistribution() {
+        return sizeDistribution;
+    }
+
+    public BlockMix getBlockMix() {
+        return blockMix;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public double getViolationRate() {
+        return violationRate;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private LinterConfiguration _configuration;
+        private int _documentCount = 100;
+        private long _seed = 1L;
+        private int _minBlocks = 5;
+        private int _maxBlocks = 20;
+        private SizeDistribution _sizeDistribution = SizeDistribution.UNIFORM;
+        private BlockMix _blockMix = BlockMix.defaultMix();
+        private int _maxDepth = 3;
+        private double _violationRate;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the rule configuration the documents are generated for. Without one,
+         * free-form documents are generated.
+         *
+         * @param  configuration the rule configuration, or {@code null}
+         *
+         * @return               this builder
+         */
+        public Builder configuration(LinterConfiguration configuration) {
+            this._configuration = configuration;
+            return this;
+        }
+
+        public Builder documentCount(int documentCount) {
+            this._documentCount = documentCount;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this._seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the range of the number of blocks per section. Sizes of tables,
+         * listings and lists are drawn with the same distribution.
+         *
+         * @param  minBlocks the minimum number of blocks per section
+         * @param  maxBlocks the maximum number of blocks per section
+         *
+         * @return           this builder
+         */
+        public Builder blocks(int minBlocks, int maxBlocks) {
+            this._minBlocks = minBlocks;
+            this._maxBlocks = maxBlocks;
+            return this;
+        }
+
+        public Builder sizeDistribution(SizeDistribution sizeDistribution) {
+            this._sizeDistribution = sizeDistribution;
+            return this;
+        }
+
+        public Builder blockMix(BlockMix blockMix) {
+            this._blockMix = blockMix;
+            return this;
+        }
+
+        /**
+         * Sets the maximum section nesting depth of free-form documents. With a rule
+         * configuration, the section tree of the configuration is used instead.
+         *
+         * @param  maxDepth the maximum section level, 0 for documents without
+         *                  sections
+         *
+         * @return          this builder
+         */
+        public Builder maxDepth(int maxDepth) {
+            this._maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Sets the probability with which each rule-constrained value is
+         * deliberately broken.
+         *
+         * @param  violationRate a probability between 0 (conforming documents) and 1
+         *
+         * @return               this builder
+         */
+        public Builder violationRate(double violationRate) {
+            this._violationRate = violationRate;
+            return this;
+        }
+
+        public CorpusGenerator build() {
+            return new CorpusGenerator(this);
+        }
+    }
+}
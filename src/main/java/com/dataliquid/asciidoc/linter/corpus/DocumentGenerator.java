@@ -0,0 +1,596 @@
+package com.dataliquid.asciidoc.linter.corpus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.blocks.AdmonitionBlock;
+import com.dataliquid.asciidoc.linter.config.blocks.Block;
+import com.dataliquid.asciidoc.linter.config.blocks.BlockType;
+import com.dataliquid.asciidoc.linter.config.blocks.DlistBlock;
+import com.dataliquid.asciidoc.linter.config.blocks.ImageBlock;
+import com.dataliquid.asciidoc.linter.config.blocks.ListingBlock;
+import com.dataliquid.asciidoc.linter.config.blocks.ParagraphBlock;
+import com.dataliquid.asciidoc.linter.config.blocks.TableBlock;
+import com.dataliquid.asciidoc.linter.config.blocks.UlistBlock;
+import com.dataliquid.asciidoc.linter.config.document.DocumentConfiguration;
+import com.dataliquid.asciidoc.linter.config.rule.AttributeConfig;
+import com.dataliquid.asciidoc.linter.config.rule.LineConfig;
+import com.dataliquid.asciidoc.linter.config.rule.OccurrenceConfig;
+import com.dataliquid.asciidoc.linter.config.rule.SectionConfig;
+
+/**
+ * Writes a single generated document. Without a rule configuration the
+ * document is free-form: a section tree up to the configured depth filled with
+ * blocks from the block mix. With a configuration the section tree, attributes
+ * and blocks follow its rules, and each constrained value is broken with the
+ * configured violation rate.
+ */
+final class DocumentGenerator {
+
+    private static final int PARAGRAPH_LINES_MIN = 1;
+    private static final int PARAGRAPH_LINES_MAX = 8;
+    private static final int SENTENCE_WORDS_MIN = 6;
+    private static final int SENTENCE_WORDS_MAX = 14;
+    private static final int LISTING_LINES_MIN = 3;
+    private static final int LISTING_LINES_MAX = 120;
+    private static final int TABLE_COLUMNS_MIN = 2;
+    private static final int TABLE_COLUMNS_MAX = 6;
+    private static final int TABLE_ROWS_MIN = 2;
+    private static final int TABLE_ROWS_MAX = 200;
+    private static final int LIST_ITEMS_MIN = 2;
+    private static final int LIST_ITEMS_MAX = 20;
+    private static final int ADMONITION_LINES_MIN = 1;
+    private static final int ADMONITION_LINES_MAX = 3;
+    private static final int IMAGE_WIDTH = 640;
+    private static final int IMAGE_HEIGHT = 480;
+    private static final int TOP_LEVEL_SECTIONS_MIN = 2;
+    private static final int TOP_LEVEL_SECTIONS_MAX = 5;
+    private static final int SUBSECTIONS_MAX = 3;
+    private static final int EXTRA_OCCURRENCES_MAX = 2;
+
+    private static final String[] ADMONITION_TYPES = { "NOTE", "TIP", "IMPORTANT", "WARNING", "CAUTION" };
+
+    private final CorpusGenerator settings;
+    private final Random random;
+    private final StringBuilder text = new StringBuilder();
+    private int number;
+    private BlockType previousType;
+
+    DocumentGenerator(CorpusGenerator settings, Random random) {
+        this.settings = settings;
+        this.random = random;
+    }
+
+    String generate() {
+        LinterConfiguration configuration = settings.getConfiguration();
+        if (configuration == null || configuration.document() == null) {
+            generateFreeForm();
+        } else {
+            generateFromRules(configuration.document());
+        }
+        return text.toString();
+    }
+
+    private void generateFreeForm() {
+        text.append("= ").append(SampleText.topic(random)).append(" Guide\n");
+        text.append(":author: ").append(SampleText.person(random)).append('\n');
+        text.append(":revnumber: 1.").append(random.nextInt(10)).append(".0\n");
+        text.append(":revdate: 2024-01-").append(String.format(Locale.ROOT, "%02d", 1 + random.nextInt(28)));
+        text.append("\n\n");
+
+        if (settings.getMaxDepth() == 0) {
+            freeFormBlocks();
+            return;
+        }
+        int sections = settings.getSizeDistribution().sample(random, TOP_LEVEL_SECTIONS_MIN, TOP_LEVEL_SECTIONS_MAX);
+        for (int i = 0; i < sections; i++) {
+            freeFormSection(1);
+        }
+    }
+
+    private void freeFormSection(int level) {
+        heading(level, SampleText.topic(random) + " " + SampleText.word(random));
+        freeFormBlocks();
+        if (level < settings.getMaxDepth()) {
+            int subsections = random.nextInt(SUBSECTIONS_MAX + 1);
+            for (int i = 0; i < subsections; i++) {
+                freeFormSection(level + 1);
+            }
+        }
+    }
+
+    private void freeFormBlocks() {
+        int blocks = blockCount();
+        for (int i = 0; i < blocks; i++) {
+            block(settings.getBlockMix().pick(random), null, null);
+        }
+    }
+
+    private void generateFromRules(DocumentConfiguration document) {
+        List<SectionConfig> sections = document.sections() != null ? document.sections() : List.of();
+        SectionConfig documentTitle = null;
+        List<SectionConfig> bodySections = new ArrayList<>();
+        for (SectionConfig section : sections) {
+            if (section.level() == 0) {
+                documentTitle = section;
+            } else {
+                bodySections.add(section);
+            }
+        }
+
+        String title = SampleText.topic(random) + " Guide";
+        if (documentTitle != null && documentTitle.title() != null) {
+            title = title(documentTitle.title().pattern(), title, List.of());
+        }
+        text.append("= ").append(title).append('\n');
+        if (document.metadata() != null && document.metadata().attributes() != null) {
+            for (AttributeConfig attribute : document.metadata().attributes()) {
+                attribute(attribute);
+            }
+        }
+        text.append('\n');
+
+        if (documentTitle != null) {
+            if (documentTitle.allowedBlocks() != null && !documentTitle.allowedBlocks().isEmpty()) {
+                blocks(documentTitle.allowedBlocks());
+            }
+            if (documentTitle.subsections() != null) {
+                bodySections.addAll(0, documentTitle.subsections());
+            }
+        }
+        sections(bodySections);
+    }
+
+    private void attribute(AttributeConfig attribute) {
+        Pattern pattern = attribute.pattern() != null ? Pattern.compile(attribute.pattern()) : null;
+        String value;
+        if (violate()) {
+            if (attribute.required()) {
+                return;
+            }
+            value = SampleText.violating(random, pattern, attribute.minLength(), attribute.maxLength());
+        } else {
+            if (!attribute.required() && random.nextBoolean()) {
+                return;
+            }
+            value = SampleText
+                    .conforming(random, pattern, attribute.minLength(), attribute.maxLength(), null, nextNumber(),
+                            candidate -> false);
+        }
+        if (value != null) {
+            text.append(':').append(attribute.name()).append(": ").append(value).append('\n');
+        }
+    }
+
+    private void sections(List<SectionConfig> configs) {
+        List<SectionConfig> ordered = new ArrayList<>(configs);
+        ordered.sort(Comparator.comparing(SectionConfig::order, Comparator.nullsLast(Comparator.naturalOrder())));
+        for (SectionConfig config : ordered) {
+            int occurrences = occurrences(config.occurrence(), 1);
+            for (int i = 0; i < occurrences; i++) {
+                String title = title(config.title() != null ? config.title().pattern() : null,
+                        SampleText.topic(random), earlierPatterns(config, configs));
+                if (config.title() != null && violate()) {
+                    String invalid = SampleText.violating(random, compile(config.title().pattern()), null, null);
+                    title = invalid != null ? invalid : title;
+                }
+                heading(Math.max(1, config.level()), title);
+                blocks(config.allowedBlocks());
+                if (config.subsections() != null) {
+                    sections(config.subsections());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the title patterns of the siblings declared before the given
+     * section. A section is matched to the first rule whose pattern accepts its
+     * title, so a title matching one of these would be attributed to that rule.
+     */
+    private List<Pattern> earlierPatterns(SectionConfig config, List<SectionConfig> siblings) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (SectionConfig sibling : siblings) {
+            if (sibling == config) {
+                break;
+            }
+            if (sibling.level() == config.level() && sibling.title() != null && sibling.title().pattern() != null) {
+                patterns.add(Pattern.compile(sibling.title().pattern()));
+            }
+        }
+        return patterns;
+    }
+
+    private String title(String pattern, String preferred, List<Pattern> excluded) {
+        Predicate<String> matchesEarlier = value -> excluded.stream().anyMatch(p -> p.matcher(value).matches());
+        return SampleText.conforming(random, compile(pattern), null, null, preferred, nextNumber(), matchesEarlier);
+    }
+
+    private void blocks(List<Block> allowed) {
+        if (allowed == null || allowed.isEmpty()) {
+            freeFormBlocks();
+            return;
+        }
+
+        int[] counts = new int[allowed.size()];
+        int total = 0;
+        for (int i = 0; i < allowed.size(); i++) {
+            OccurrenceConfig occurrence = allowed.get(i).getOccurrence();
+            counts[i] = occurrence != null ? occurrence.min() : 0;
+            total += counts[i];
+        }
+        int target = blockCount();
+        while (total < target) {
+            List<Integer> open = new ArrayList<>();
+            Set<BlockType> openTypes = new LinkedHashSet<>();
+            for (int i = 0; i < allowed.size(); i++) {
+                OccurrenceConfig occurrence = allowed.get(i).getOccurrence();
+                if (occurrence == null || counts[i] < occurrence.max()) {
+                    open.add(i);
+                    openTypes.add(allowed.get(i).getType());
+                }
+            }
+            if (open.isEmpty()) {
+                break;
+            }
+            BlockType type = settings.getBlockMix().pick(random, openTypes);
+            open.removeIf(i -> allowed.get(i).getType() != type);
+            counts[open.get(random.nextInt(open.size()))]++;
+            total++;
+        }
+        for (int i = 0; i < allowed.size(); i++) {
+            OccurrenceConfig occurrence = allowed.get(i).getOccurrence();
+            if (occurrence != null && violate()) {
+                counts[i] = occurrences(occurrence, counts[i]);
+            }
+        }
+
+        // Blocks select one of several rules of the same type by name
+        Set<BlockType> seenTypes = EnumSet.noneOf(BlockType.class);
+        Set<BlockType> sharedTypes = EnumSet.noneOf(BlockType.class);
+        for (Block config : allowed) {
+            if (!seenTypes.add(config.getType())) {
+                sharedTypes.add(config.getType());
+            }
+        }
+
+        List<Block> sequence = new ArrayList<>();
+        boolean ordered = false;
+        for (int i = 0; i < allowed.size(); i++) {
+            ordered |= allowed.get(i).getOrder() != null;
+            sequence.addAll(Collections.nCopies(counts[i], allowed.get(i)));
+        }
+        if (ordered) {
+            sequence.sort(Comparator.comparing(Block::getOrder, Comparator.nullsLast(Comparator.naturalOrder())));
+        } else {
+            Collections.shuffle(sequence, random);
+        }
+        for (Block config : sequence) {
+            block(config.getType(), config, sharedTypes.contains(config.getType()) ? config.getName() : null);
+        }
+    }
+
+    /**
+     * Returns how often a section or block is generated. A violation goes just
+     * below the minimum or above the maximum.
+     */
+    private int occurrences(OccurrenceConfig occurrence, int fallback) {
+        if (occurrence == null) {
+            return fallback;
+        }
+        if (violate()) {
+            if (occurrence.min() > 0) {
+                return occurrence.min() - 1;
+            }
+            if (occurrence.max() != Integer.MAX_VALUE) {
+                return occurrence.max() + 1;
+            }
+        }
+        int max = Math.min(occurrence.max(), Math.max(occurrence.min(), 1) + EXTRA_OCCURRENCES_MAX);
+        return occurrence.min() + random.nextInt(max - occurrence.min() + 1);
+    }
+
+    private void block(BlockType type, Block config, String name) {
+        if (type == previousType && (type == BlockType.ULIST || type == BlockType.DLIST)) {
+            // A line comment keeps adjacent lists from merging into one
+            text.append("//\n\n");
+        }
+        previousType = type;
+        if (name != null) {
+            text.append("[name=\"").append(name).append("\"]\n");
+        }
+        switch (type) {
+        case PARAGRAPH -> paragraph(config instanceof ParagraphBlock paragraph ? paragraph : null);
+        case LISTING -> listing(config instanceof ListingBlock listing ? listing : null);
+        case TABLE -> table(config instanceof TableBlock table ? table : null);
+        case ULIST -> ulist(config instanceof UlistBlock ulist ? ulist : null);
+        case IMAGE -> image(config instanceof ImageBlock image ? image : null);
+        case ADMONITION -> admonition(config instanceof AdmonitionBlock admonition ? admonition : null);
+        case DLIST -> dlist(config instanceof DlistBlock dlist ? dlist : null);
+        case QUOTE -> delimited("[quote, " + SampleText.person(random) + "]",
+                "____", SampleText.sentence(random, SENTENCE_WORDS_MIN, SENTENCE_WORDS_MAX));
+        case VERSE -> delimited("[verse]", "____", lines(ADMONITION_LINES_MIN, ADMONITION_LINES_MAX + 2));
+        case SIDEBAR -> delimited(null, "****", lines(PARAGRAPH_LINES_MIN, PARAGRAPH_LINES_MAX));
+        case EXAMPLE -> delimited("." + SampleText.topic(random), "====", lines(PARAGRAPH_LINES_MIN,
+                PARAGRAPH_LINES_MAX));
+        case LITERAL -> delimited(null, "....", lines(PARAGRAPH_LINES_MIN, PARAGRAPH_LINES_MAX));
+        case PASS -> delimited(null, "++++", "<p>" + SampleText.sentence(random, SENTENCE_WORDS_MIN,
+                SENTENCE_WORDS_MAX) + "</p>");
+        case AUDIO -> text.append("audio::media/clip-").append(nextNumber()).append(".mp3[]\n\n");
+        case VIDEO -> text.append("video::media/clip-").append(nextNumber()).append(".mp4[]\n\n");
+        default -> throw new IllegalArgumentException("Unsupported block type: " + type);
+        }
+    }
+
+    private void paragraph(ParagraphBlock config) {
+        LineConfig lines = config != null ? config.getLines() : null;
+        int count = size(lines != null ? lines.min() : null, lines != null ? lines.max() : null, PARAGRAPH_LINES_MIN,
+                PARAGRAPH_LINES_MAX, lines != null && violate());
+        int minWords = SENTENCE_WORDS_MIN;
+        int maxWords = SENTENCE_WORDS_MAX;
+        if (config != null && config.getSentence() != null && config.getSentence().getWords() != null) {
+            ParagraphBlock.WordsConfig words = config.getSentence().getWords();
+            minWords = words.getMin() != null ? words.getMin() : Math.min(minWords, words.getMax());
+            maxWords = words.getMax() != null ? words.getMax() : Math.max(maxWords, words.getMin());
+        }
+        for (int i = 0; i < Math.max(1, count); i++) {
+            text.append(SampleText.sentence(random, Math.max(1, minWords), maxWords)).append('\n');
+        }
+        text.append('\n');
+    }
+
+    private void listing(ListingBlock config) {
+        ListingBlock.TitleConfig title = config != null ? config.getTitle() : null;
+        if (title != null && (title.isRequired() || title.getPattern() != null)) {
+            if (!violate()) {
+                text.append('.').append(SampleText.conforming(random, title.getPattern(), null, null,
+                        SampleText.topic(random), nextNumber(), value -> false)).append('\n');
+            } else if (!title.isRequired()) {
+                text.append('.').append(SampleText.violating(random, title.getPattern(), null, null)).append('\n');
+            }
+        }
+
+        ListingBlock.LanguageConfig language = config != null ? config.getLanguage() : null;
+        String languageName = null;
+        if (language != null && violate()) {
+            languageName = language.isRequired() ? null : "cobol";
+        } else if (language != null && !language.getAllowed().isEmpty()) {
+            languageName = language.getAllowed().get(random.nextInt(language.getAllowed().size()));
+        } else if (language != null && language.isRequired() || random.nextBoolean()) {
+            languageName = SampleText.language(random);
+        }
+        if (languageName != null) {
+            text.append("[source,").append(languageName).append("]\n");
+        }
+
+        LineConfig lines = config != null ? config.getLines() : null;
+        int count = size(lines != null ? lines.min() : null, lines != null ? lines.max() : null, LISTING_LINES_MIN,
+                LISTING_LINES_MAX, lines != null && violate());
+        text.append("----\n");
+        for (int i = 0; i < count; i++) {
+            text
+                    .append(SampleText.word(random))
+                    .append(" = ")
+                    .append(SampleText.word(random))
+                    .append('(')
+                    .append(i)
+                    .append(");\n");
+        }
+        text.append("----\n\n");
+    }
+
+    private void table(TableBlock config) {
+        TableBlock.CaptionConfig caption = config != null ? config.getCaption() : null;
+        if (caption != null && (caption.isRequired() || caption.getPattern() != null)) {
+            if (!violate()) {
+                text.append('.').append(SampleText.conforming(random, caption.getPattern(), caption.getMinLength(),
+                        caption.getMaxLength(), null, nextNumber(), value -> false)).append('\n');
+            } else if (!caption.isRequired()) {
+                text.append('.').append(SampleText.violating(random, caption.getPattern(), null, null)).append('\n');
+            }
+        }
+
+        TableBlock.DimensionConfig columnsConfig = config != null ? config.getColumns() : null;
+        TableBlock.DimensionConfig rowsConfig = config != null ? config.getRows() : null;
+        int columns = Math.max(1, size(columnsConfig != null ? columnsConfig.getMin() : null,
+                columnsConfig != null ? columnsConfig.getMax() : null, TABLE_COLUMNS_MIN, TABLE_COLUMNS_MAX,
+                columnsConfig != null && violate()));
+        int rows = size(rowsConfig != null ? rowsConfig.getMin() : null,
+                rowsConfig != null ? rowsConfig.getMax() : null,
+                TABLE_ROWS_MIN, TABLE_ROWS_MAX, rowsConfig != null && violate());
+
+        TableBlock.HeaderConfig header = config != null ? config.getHeader() : null;
+        boolean withHeader = header != null && header.isRequired() ? !violate() : random.nextBoolean();
+        if (withHeader) {
+            text.append("[options=\"header\"]\n");
+        }
+        text.append("|===\n");
+        if (withHeader) {
+            for (int column = 0; column < columns; column++) {
+                text.append(column > 0 ? " |" : "|");
+                text.append(SampleText.conforming(random, header != null ? header.getPattern() : null, null, null,
+                        SampleText.topic(random), column + 1, value -> false));
+            }
+            text.append("\n\n");
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                text.append(column > 0 ? " |" : "|").append(SampleText.word(random));
+            }
+            text.append('\n');
+        }
+        text.append("|===\n\n");
+    }
+
+    private void ulist(UlistBlock config) {
+        UlistBlock.ItemsConfig items = config != null ? config.getItems() : null;
+        int count = Math.max(1, size(items != null ? items.getMin() : null, items != null ? items.getMax() : null,
+                LIST_ITEMS_MIN, LIST_ITEMS_MAX, items != null && violate()));
+        for (int i = 0; i < count; i++) {
+            text.append("* ").append(SampleText.sentence(random, 3, SENTENCE_WORDS_MIN)).append('\n');
+        }
+        text.append('\n');
+    }
+
+    private void image(ImageBlock config) {
+        ImageBlock.UrlConfig url = config != null ? config.getUrl() : null;
+        String target = "images/figure-" + nextNumber() + ".png";
+        if (url != null && url.getPattern() != null) {
+            target = violate() ? "figure.bmp"
+                    : SampleText.conforming(random, url.getPattern(), null, null, target, number, value -> false);
+        }
+
+        List<String> attributes = new ArrayList<>();
+        ImageBlock.AltTextConfig alt = config != null ? config.getAlt() : null;
+        if (alt == null || !violate()) {
+            Integer minLength = alt != null ? alt.getMinLength() : null;
+            Integer maxLength = alt != null ? alt.getMaxLength() : null;
+            attributes.add("alt=\"" + SampleText.conforming(random, null, minLength, maxLength,
+                    SampleText.words(random, 4), number, value -> false) + "\"");
+        } else if (!alt.isRequired()) {
+            String invalid = SampleText.violating(random, null, alt.getMinLength(), alt.getMaxLength());
+            attributes.add("alt=\"" + (invalid != null ? invalid : "") + "\"");
+        }
+        dimension(attributes, "width", config != null ? config.getWidth() : null, IMAGE_WIDTH);
+        dimension(attributes, "height", config != null ? config.getHeight() : null, IMAGE_HEIGHT);
+
+        text.append("image::").append(target).append('[').append(String.join(",", attributes)).append("]\n\n");
+    }
+
+    private void dimension(List<String> attributes, String name, ImageBlock.DimensionConfig config, int preferred) {
+        if (config == null) {
+            attributes.add(name + "=" + preferred);
+            return;
+        }
+        int value = size(config.getMinValue(), config.getMaxValue(), preferred / 2, preferred, false);
+        if (violate()) {
+            if (config.isRequired()) {
+                return;
+            }
+            value = config.getMaxValue() != null ? config.getMaxValue() + 1 : Math.max(0, value - preferred);
+        }
+        attributes.add(name + "=" + value);
+    }
+
+    private void admonition(AdmonitionBlock config) {
+        String type = ADMONITION_TYPES[random.nextInt(ADMONITION_TYPES.length)];
+        if (config != null && config.getTypeConfig() != null && !config.getTypeConfig().getAllowed().isEmpty()) {
+            List<String> allowed = config.getTypeConfig().getAllowed();
+            type = allowed.get(random.nextInt(allowed.size())).toUpperCase(Locale.ROOT);
+        }
+
+        AdmonitionBlock.TitleConfig title = config != null ? config.getTitle() : null;
+        if (title != null && (title.isRequired() || title.getPattern() != null)) {
+            if (!violate()) {
+                text.append('.').append(SampleText.conforming(random, title.getPattern(), title.getMinLength(),
+                        title.getMaxLength(), SampleText.topic(random), nextNumber(), value -> false)).append('\n');
+            } else if (!title.isRequired()) {
+                text.append('.').append(SampleText.violating(random, title.getPattern(), null, null)).append('\n');
+            }
+        }
+
+        AdmonitionBlock.ContentConfig content = config != null ? config.getContent() : null;
+        LineConfig lines = content != null ? content.getLines() : null;
+        int count = Math.max(1, size(lines != null ? lines.min() : null, lines != null ? lines.max() : null,
+                ADMONITION_LINES_MIN, ADMONITION_LINES_MAX, lines != null && violate()));
+        Integer maxLength = content != null ? content.getMaxLength() : null;
+        int words = maxLength != null ? Math.max(1, maxLength / (count * 12)) : SENTENCE_WORDS_MAX;
+        text.append('[').append(type).append("]\n====\n");
+        for (int i = 0; i < count; i++) {
+            text.append(SampleText.sentence(random, Math.min(SENTENCE_WORDS_MIN, words), words)).append('\n');
+        }
+        text.append("====\n\n");
+    }
+
+    private void dlist(DlistBlock config) {
+        DlistBlock.TermsConfig terms = config != null ? config.getTerms() : null;
+        DlistBlock.DescriptionsConfig descriptions = config != null ? config.getDescriptions() : null;
+        int count = Math.max(1, size(terms != null ? terms.getMin() : null, terms != null ? terms.getMax() : null,
+                LIST_ITEMS_MIN, LIST_ITEMS_MAX, terms != null && violate()));
+        for (int i = 0; i < count; i++) {
+            String term = SampleText.topic(random);
+            if (terms != null) {
+                term = violate() ? SampleText.violating(random, terms.getCompiledPattern(), terms.getMinLength(),
+                        terms.getMaxLength())
+                        : SampleText.conforming(random, terms.getCompiledPattern(), terms.getMinLength(),
+                                terms.getMaxLength(), term, i + 1, value -> false);
+                term = term != null ? term : SampleText.topic(random);
+            }
+            String description = SampleText.sentence(random, 3, SENTENCE_WORDS_MIN);
+            if (descriptions != null && descriptions.getCompiledPattern() != null) {
+                description = SampleText.conforming(random, descriptions.getCompiledPattern(), null, null,
+                        description, i + 1, value -> false);
+            }
+            text.append(term).append("::");
+            if (descriptions == null || !Boolean.TRUE.equals(descriptions.getRequired()) || !violate()) {
+                text.append(' ').append(description);
+            }
+            text.append('\n');
+        }
+        text.append('\n');
+    }
+
+    private void delimited(String header, String delimiter, String content) {
+        if (header != null) {
+            text.append(header).append('\n');
+        }
+        text.append(delimiter).append('\n').append(content).append('\n').append(delimiter).append("\n\n");
+    }
+
+    private String lines(int min, int max) {
+        int count = settings.getSizeDistribution().sample(random, min, max);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lines.add(SampleText.sentence(random, SENTENCE_WORDS_MIN, SENTENCE_WORDS_MAX));
+        }
+        return String.join("\n", lines);
+    }
+
+    private void heading(int level, String title) {
+        text.append("=".repeat(level + 1)).append(' ').append(title).append("\n\n");
+    }
+
+    private int blockCount() {
+        return settings.getSizeDistribution().sample(random, settings.getMinBlocks(), settings.getMaxBlocks());
+    }
+
+    /**
+     * Draws a size within the configured bounds, falling back to the default
+     * range for missing bounds. A violation goes just outside the bounds.
+     */
+    private int size(Integer min, Integer max, int defaultMin, int defaultMax, boolean violation) {
+        if (violation) {
+            if (min != null && min > 0) {
+                return min - 1;
+            }
+            if (max != null) {
+                return max + 1;
+            }
+        }
+        int high = max != null ? max : Math.max(defaultMax, min != null ? min : defaultMin);
+        int low = Math.min(min != null ? min : defaultMin, high);
+        return settings.getSizeDistribution().sample(random, low, high);
+    }
+
+    private boolean violate() {
+        return settings.getViolationRate() > 0 && random.nextDouble() < settings.getViolationRate();
+    }
+
+    private int nextNumber() {
+        return ++number;
+    }
+
+    private static Pattern compile(String pattern) {
+        return pattern != null ? Pattern.compile(pattern) : null;
+    }
+}
@@ -0,0 +1,287 @@
+package com.dataliquid.asciidoc.linter.corpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Produces strings that match a regular expression. Covers the constructs used
+ * in rule configurations: literals, escapes, character classes, groups with
+ * alternatives and quantifiers. Wildcard runs ({@code .*}, {@code .+}) become
+ * words so that generated titles stay readable.
+ */
+final class PatternSampler {
+
+    private static final int ATTEMPTS = 10;
+    private static final int OPEN_REPETITIONS = 3;
+    private static final int PRINTABLE_FIRST = 32;
+    private static final int PRINTABLE_LAST = 126;
+
+    private final Random random;
+    private String source;
+    private int position;
+
+    private PatternSampler(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Generates a string matching the pattern.
+     *
+     * @param  random  the random source
+     * @param  pattern the pattern to match
+     *
+     * @return         a matching string, or {@code null} if the pattern uses
+     *                 constructs that are not supported
+     */
+    static String sample(Random random, Pattern pattern) {
+        PatternSampler sampler = new PatternSampler(random);
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            String value;
+            try {
+                value = sampler.generate(pattern.pattern());
+            } catch (UnsupportedPatternException e) {
+                return null;
+            }
+            if (pattern.matcher(value).matches()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private String generate(String regex) {
+        this.source = regex;
+        this.position = 0;
+        StringBuilder text = new StringBuilder();
+        alternatives(text);
+        if (position < source.length()) {
+            throw new UnsupportedPatternException("Unbalanced group in " + source);
+        }
+        return text.toString();
+    }
+
+    private void alternatives(StringBuilder text) {
+        List<String> options = new ArrayList<>();
+        while (true) {
+            StringBuilder option = new StringBuilder();
+            sequence(option);
+            options.add(option.toString());
+            if (position < source.length() && source.charAt(position) == '|') {
+                position++;
+            } else {
+                break;
+            }
+        }
+        text.append(options.get(random.nextInt(options.size())));
+    }
+
+    private void sequence(StringBuilder text) {
+        while (position < source.length()) {
+            char c = source.charAt(position);
+            if (c == '|' || c == ')') {
+                return;
+            }
+            int atomSource = position;
+            int atomStart = text.length();
+            boolean wildcard = atom(text);
+            int[] bounds = quantifier();
+            if (bounds == null) {
+                continue;
+            }
+            int next = position;
+            text.setLength(atomStart);
+            if (wildcard && bounds[1] > 1) {
+                if (bounds[0] > 0 || random.nextBoolean()) {
+                    text.append(' ').append(SampleText.words(random, 1 + random.nextInt(OPEN_REPETITIONS)));
+                }
+                continue;
+            }
+            // Sample the atom again for every repetition so that classes vary
+            int count = bounds[0] + random.nextInt(bounds[1] - bounds[0] + 1);
+            for (int i = 0; i < count; i++) {
+                position = atomSource;
+                atom(text);
+            }
+            position = next;
+        }
+    }
+
+    /**
+     * Appends one sample of the atom at the current position.
+     *
+     * @return whether the atom is the {@code .} wildcard
+     */
+    private boolean atom(StringBuilder text) {
+        char c = source.charAt(position++);
+        switch (c) {
+        case '^', '$' -> {
+            return false;
+        }
+        case '.' -> {
+            text.append(SampleText.word(random).charAt(0));
+            return true;
+        }
+        case '(' -> {
+            if (source.startsWith("?:", position)) {
+                position += 2;
+            } else if (position < source.length() && source.charAt(position) == '?') {
+                throw new UnsupportedPatternException("Lookaround and flags are not supported");
+            }
+            alternatives(text);
+            expect(')');
+            return false;
+        }
+        case '[' -> {
+            int start = position - 1;
+            skipClass();
+            text.append(pick(source.substring(start, position)));
+            return false;
+        }
+        case '\\' -> {
+            escape(text);
+            return false;
+        }
+        default -> {
+            text.append(c);
+            return false;
+        }
+        }
+    }
+
+    private void escape(StringBuilder text) {
+        if (position >= source.length()) {
+            throw new UnsupportedPatternException("Dangling escape");
+        }
+        char c = source.charAt(position++);
+        if (c == 'b' || c == 'B' || c == 'A' || c == 'z' || c == 'Z') {
+            return;
+        }
+        if (Character.isDigit(c) || c == 'k' || c == 'Q') {
+            throw new UnsupportedPatternException("Back references and quoting are not supported");
+        }
+        if (c == 'p' || c == 'P') {
+            int end = source.indexOf('}', position);
+            if (end < 0) {
+                throw new UnsupportedPatternException("Unterminated property");
+            }
+            position = end + 1;
+        }
+        String escape = source.substring(source.lastIndexOf('\\', position - 1), position);
+        if (Character.isLetter(c)) {
+            text.append(pick(escape));
+        } else {
+            text.append(c);
+        }
+    }
+
+    /**
+     * Reads the quantifier at the current position.
+     *
+     * @return the minimum and maximum repetitions, or {@code null} if the atom is
+     *         not quantified
+     */
+    private int[] quantifier() {
+        if (position >= source.length()) {
+            return null;
+        }
+        char c = source.charAt(position);
+        int min;
+        int max;
+        if (c == '?') {
+            min = 0;
+            max = 1;
+            position++;
+        } else if (c == '*' || c == '+') {
+            min = c == '*' ? 0 : 1;
+            max = min + OPEN_REPETITIONS;
+            position++;
+        } else if (c == '{') {
+            int end = source.indexOf('}', position);
+            if (end < 0) {
+                throw new UnsupportedPatternException("Unterminated quantifier");
+            }
+            String[] bounds = source.substring(position + 1, end).split(",", -1);
+            try {
+                min = Integer.parseInt(bounds[0].trim());
+                max = bounds.length == 1 ? min
+                        : bounds[1].isBlank() ? min + OPEN_REPETITIONS : Integer.parseInt(bounds[1].trim());
+            } catch (NumberFormatException e) {
+                throw new UnsupportedPatternException("Invalid quantifier", e);
+            }
+            position = end + 1;
+        } else {
+            return null;
+        }
+        if (position < source.length() && (source.charAt(position) == '?' || source.charAt(position) == '+')) {
+            position++;
+        }
+        return new int[] { min, max };
+    }
+
+    private void skipClass() {
+        int depth = 1;
+        if (position < source.length() && source.charAt(position) == '^') {
+            position++;
+        }
+        if (position < source.length() && source.charAt(position) == ']') {
+            position++;
+        }
+        while (position < source.length() && depth > 0) {
+            char c = source.charAt(position++);
+            if (c == '\\') {
+                position++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            }
+        }
+        if (depth > 0) {
+            throw new UnsupportedPatternException("Unterminated character class");
+        }
+    }
+
+    /**
+     * Picks a printable ASCII character matched by a character class or escape,
+     * preferring letters and digits.
+     */
+    private char pick(String characterClass) {
+        Pattern compiled = Pattern.compile(characterClass);
+        List<Character> preferred = new ArrayList<>();
+        List<Character> others = new ArrayList<>();
+        for (int c = PRINTABLE_FIRST; c <= PRINTABLE_LAST; c++) {
+            if (compiled.matcher(String.valueOf((char) c)).matches()) {
+                (Character.isLetterOrDigit(c) ? preferred : others).add((char) c);
+            }
+        }
+        List<Character> candidates = !preferred.isEmpty() ? preferred : others;
+        if (candidates.isEmpty()) {
+            throw new UnsupportedPatternException("No printable character matches " + characterClass);
+        }
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private void expect(char expected) {
+        if (position >= source.length() || source.charAt(position) != expected) {
+            throw new UnsupportedPatternException("Expected '" + expected + "' in " + source);
+        }
+        position++;
+    }
+
+    /**
+     * Signals a pattern construct the sampler cannot generate text for.
+     */
+    private static final class UnsupportedPatternException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedPatternException(String message) {
+            super(message);
+        }
+
+        UnsupportedPatternException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
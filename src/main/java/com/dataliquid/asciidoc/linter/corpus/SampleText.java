@@ -0,0 +1,184 @@
+package com.dataliquid.asciidoc.linter.corpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Vocabulary and value selection for generated documents. Values that a rule
+ * constrains by pattern are chosen from a pool of typical candidates (titles,
+ * names, versions, dates, image paths) before falling back to strings generated
+ * from the pattern itself, which keeps the generated text readable.
+ */
+final class SampleText {
+
+    private static final String[] WORDS = { "linter", "document", "section", "block", "table", "listing",
+            "paragraph", "attribute", "rule", "configuration", "validation", "report", "author", "content", "format",
+            "structure", "pattern", "release", "version", "source", "output", "message", "severity", "example",
+            "service", "request", "response", "cluster", "storage", "network", "endpoint", "schema", "pipeline",
+            "build", "deploy", "monitor", "metric", "latency", "throughput", "cache", "index", "query", "update",
+            "simple", "robust", "fast", "stable", "common", "optional", "required", "default", "custom", "reliable" };
+
+    private static final String[] TOPICS = { "Architecture", "Configuration", "Deployment", "Installation",
+            "Monitoring", "Performance", "Security", "Troubleshooting", "Usage", "Migration", "Overview",
+            "Integration", "Testing", "Design", "Operations", "Getting Started", "Data Model", "Error Handling" };
+
+    private static final String[] PERSONS = { "Jane Doe", "John Smith", "Maria Garcia", "Wei Chen", "Amara Okafor",
+            "Lars Nilsson" };
+
+    private static final String[] NUMBERED_PREFIXES = { "Listing", "Example", "Code", "Table", "Figure", "Step",
+            "Chapter", "Part" };
+
+    private static final String[] IMAGE_EXTENSIONS = { "png", "jpg", "svg" };
+
+    private static final String[] LANGUAGES = { "java", "python", "javascript", "yaml", "json", "xml", "bash" };
+
+    private static final int SAMPLE_ATTEMPTS = 5;
+
+    private static final String INVALID_VALUE = "invalid value!";
+
+    private SampleText() {
+        // Utility class
+    }
+
+    static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(word(random));
+        }
+        return text.toString();
+    }
+
+    static String sentence(Random random, int minWords, int maxWords) {
+        String words = words(random, minWords + random.nextInt(Math.max(1, maxWords - minWords + 1)));
+        return Character.toUpperCase(words.charAt(0)) + words.substring(1) + ".";
+    }
+
+    static String topic(Random random) {
+        return TOPICS[random.nextInt(TOPICS.length)];
+    }
+
+    static String person(Random random) {
+        return PERSONS[random.nextInt(PERSONS.length)];
+    }
+
+    static String language(Random random) {
+        return LANGUAGES[random.nextInt(LANGUAGES.length)];
+    }
+
+    /**
+     * Chooses a value that satisfies the given constraints. The preferred value is
+     * used if it conforms, then a typical candidate, then a value generated from
+     * the pattern.
+     *
+     * @param  random    the random source
+     * @param  pattern   the pattern the value must match, or {@code null}
+     * @param  minLength the minimum length, or {@code null}
+     * @param  maxLength the maximum length, or {@code null}
+     * @param  preferred the value to use if it conforms, or {@code null}
+     * @param  number    number used in numbered candidates such as
+     *                   {@code Table 3. ...}
+     * @param  excluded  values that must not be chosen, for example because they
+     *                   match an earlier section rule
+     *
+     * @return           a conforming value, or the closest candidate if none
+     *                   conforms
+     */
+    static String conforming(Random random, Pattern pattern, Integer minLength, Integer maxLength, String preferred,
+            int number, Predicate<String> excluded) {
+        Predicate<String> accepted = value -> (pattern == null || pattern.matcher(value).matches())
+                && (minLength == null || value.length() >= minLength)
+                && (maxLength == null || value.length() <= maxLength) && !excluded.test(value);
+        if (preferred != null) {
+            String value = fit(random, preferred, minLength, maxLength);
+            if (accepted.test(value)) {
+                return value;
+            }
+        }
+        List<String> matches = new ArrayList<>();
+        for (String candidate : candidates(random, number)) {
+            String value = fit(random, candidate, minLength, maxLength);
+            if (accepted.test(value)) {
+                matches.add(value);
+            }
+        }
+        if (!matches.isEmpty()) {
+            return matches.get(random.nextInt(matches.size()));
+        }
+        if (pattern != null) {
+            for (int attempt = 0; attempt < SAMPLE_ATTEMPTS; attempt++) {
+                String value = PatternSampler.sample(random, pattern);
+                if (value != null && accepted.test(value)) {
+                    return value;
+                }
+            }
+        }
+        return fit(random, preferred != null ? preferred : topic(random), minLength, maxLength);
+    }
+
+    /**
+     * Chooses a value that breaks the given constraints.
+     *
+     * @param  random    the random source
+     * @param  pattern   the pattern the value must not match, or {@code null}
+     * @param  minLength the minimum length, or {@code null}
+     * @param  maxLength the maximum length, or {@code null}
+     *
+     * @return           a violating value, or {@code null} if the constraints
+     *                   cannot be broken by any value
+     */
+    static String violating(Random random, Pattern pattern, Integer minLength, Integer maxLength) {
+        if (pattern != null && !pattern.matcher(INVALID_VALUE).matches()) {
+            return INVALID_VALUE;
+        }
+        if (minLength != null && minLength > 1) {
+            return "x";
+        }
+        if (maxLength != null) {
+            return words(random, maxLength / 2 + 2);
+        }
+        return null;
+    }
+
+    private static List<String> candidates(Random random, int number) {
+        List<String> candidates = new ArrayList<>();
+        String topic = topic(random);
+        for (String prefix : NUMBERED_PREFIXES) {
+            candidates.add(prefix + " " + number + ". " + topic);
+        }
+        for (String candidate : TOPICS) {
+            candidates.add(candidate);
+        }
+        for (String person : PERSONS) {
+            candidates.add(person);
+        }
+        candidates.add("1." + number + ".0");
+        candidates.add("v1." + number + ".0");
+        candidates.add(String.format(Locale.ROOT, "2024-%02d-%02d", 1 + number % 12, 1 + number % 28));
+        String extension = IMAGE_EXTENSIONS[random.nextInt(IMAGE_EXTENSIONS.length)];
+        candidates.add("images/figure-" + number + "." + extension);
+        candidates.add(sentence(random, 4, 8));
+        return candidates;
+    }
+
+    private static String fit(Random random, String value, Integer minLength, Integer maxLength) {
+        StringBuilder text = new StringBuilder(value);
+        while (minLength != null && text.length() < minLength) {
+            text.append(' ').append(word(random));
+        }
+        if (maxLength != null && text.length() > maxLength) {
+            text.setLength(maxLength);
+        }
+        return text.toString().trim();
+    }
+}
@@ -0,0 +1,59 @@
+package com.dataliquid.asciidoc.linter.corpus;
+
+import java.util.Random;
+
+/**
+ * Distribution of sizes (blocks per section, rows per table, lines per listing)
+ * within a configured range.
+ */
+public enum SizeDistribution {
+    /**
+     * Every size in the range is equally likely.
+     */
+    UNIFORM("uniform"),
+
+    /**
+     * Most sizes are close to the minimum, a few reach the maximum. Mirrors real
+     * documentation trees where a handful of huge documents dominate the run time.
+     */
+    LONG_TAIL("long-tail");
+
+    private final String value;
+
+    SizeDistribution(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Draws a size.
+     *
+     * @param  random the random source
+     * @param  min    the smallest size
+     * @param  max    the largest size, not smaller than {@code min}
+     *
+     * @return        a size between {@code min} and {@code max}, inclusive
+     */
+    public int sample(Random random, int min, int max) {
+        if (max <= min) {
+            return min;
+        }
+        double fraction = random.nextDouble();
+        if (this == LONG_TAIL) {
+            fraction = fraction * fraction * fraction;
+        }
+        return min + (int) Math.round(fraction * (max - min));
+    }
+
+    public static SizeDistribution fromValue(String value) {
+        for (SizeDistribution distribution : SizeDistribution.values()) {
+            if (distribution.value.equalsIgnoreCase(value)) {
+                return distribution;
+            }
+        }
+        throw new IllegalArgumentException("Unknown size distribution: " + value);
+    }
+}
@@ -0,0 +1,237 @@
+package com.dataliquid.asciidoc.linter.discovery;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Scans a directory tree for files, optionally listing directories in parallel.
+ * With a parallelism above one, every directory is listed by its own fork/join
+ * task, so wide trees and slow file systems keep all workers busy.
+ * <p>
+ * Results are nevertheless reported on the calling thread in a fixed order: a
+ * directory, its files sorted by name, then its subdirectories in the same way.
+ * A result is reported as soon as everything before it has been listed, while
+ * the workers carry on with the rest of the tree. Symbolic links are followed;
+ * links back to a directory being scanned are skipped.
+ */
+public final class DirectoryScanner {
+
+    private static final Logger logger = LogManager.getLogger(DirectoryScanner.class);
+    private static final String SCANNER_THREAD_PREFIX = "asciidoc-linter-scan-";
+
+    private final int parallelism;
+
+    /**
+     * Creates a scanner.
+     *
+     * @param parallelism the number of threads listing directories; 1 lists them
+     *                    on the calling thread
+     */
+    public DirectoryScanner(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "[" + getClass().getName() + "] parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Reports the files below the root that the filter accepts.
+     *
+     * @param  root        the directory to scan; nothing is reported if it is not
+     *                     a directory
+     * @param  filter      the filter of the root directory
+     * @param  files       receives the accepted files
+     *
+     * @throws IOException if the scan is interrupted
+     */
+    public void scan(Path root, ScanFilter filter, Consumer<Path> files) throws IOException {
+        scan(root, filter, files, directory -> {
+        });
+    }
+
+    /**
+     * Reports the files below the root that the filter accepts, and every
+     * directory the filter enters, starting with the root.
+     *
+     * @param  root        the directory to scan; nothing is reported if it is not
+     *                     a directory
+     * @param  filter      the filter of the root directory
+     * @param  files       receives the accepted files
+     * @param  directories receives the entered directories
+     *
+     * @throws IOException if the scan is interrupted
+     */
+    public void scan(Path root, ScanFilter filter, Consumer<Path> files, Consumer<Path> directories)
+            throws IOException {
+        Objects.requireNonNull(root, "[" + getClass().getName() + "] root must not be null");
+        Objects.requireNonNull(filter, "[" + getClass().getName() + "] filter must not be null");
+        Objects.requireNonNull(files, "[" + getClass().getName() + "] files must not be null");
+        Objects.requireNonNull(directories, "[" + getClass().getName() + "] directories must not be null");
+
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        Object rootKey = Files.readAttributes(root, BasicFileAttributes.class).fileKey();
+
+        if (parallelism == 1) {
+            emit(new DirectoryTask(root, filter, null, rootKey, false), files, directories);
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism, new ScannerThreadFactory(), null, false);
+        try {
+            DirectoryTask rootTask = new DirectoryTask(root, filter, null, rootKey, true);
+            pool.execute(rootTask);
+            emit(rootTask, files, directories);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void emit(DirectoryTask task, Consumer<Path> files, Consumer<Path> directories) throws IOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Directory scan interrupted");
+        }
+        if (task.parallel) {
+            await(task);
+        } else {
+            task.list();
+        }
+
+        directories.accept(task.directory);
+        for (Path file : task.files) {
+            files.accept(file);
+        }
+        for (DirectoryTask child : task.children) {
+            emit(child, files, directories);
+        }
+    }
+
+    private void await(DirectoryTask task) throws IOException {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Directory scan interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to scan directory: " + task.directory, e.getCause());
+        }
+    }
+
+    /**
+     * Lists one directory and, when running in parallel, forks the listing of its
+     * subdirectories without waiting for them.
+     */
+    private static final class DirectoryTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Path directory;
+        private final ScanFilter filter;
+        private final DirectoryTask parent;
+        private final Object fileKey;
+        private final boolean parallel;
+        private final List<Path> files = new ArrayList<>();
+        private final List<DirectoryTask> children = new ArrayList<>();
+
+        DirectoryTask(Path directory, ScanFilter filter, DirectoryTask parent, Object fileKey, boolean parallel) {
+            this.directory = directory;
+            this.filter = filter;
+            this.parent = parent;
+            this.fileKey = fileKey;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected void compute() {
+            list();
+            for (DirectoryTask child : children) {
+                child.fork();
+            }
+        }
+
+        void list() {
+            List<Path> entries = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path entry : stream) {
+                    entries.add(entry);
+                }
+            } catch (IOException e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("Could not access directory: {} ({})", directory, e.getMessage());
+                }
+                return;
+            }
+            Collections.sort(entries);
+
+            for (Path entry : entries) {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    if (logger.isWarnEnabled()) {
+                        logger.warn("Could not access file: {} ({})", entry, e.getMessage());
+                    }
+                    continue;
+                }
+
+                if (attributes.isDirectory()) {
+                    ScanFilter childFilter = filter.enter(entry);
+                    if (childFilter != null && !isLinkCycle(entry, attributes.fileKey())) {
+                        children.add(new DirectoryTask(entry, childFilter, this, attributes.fileKey(), parallel));
+                    }
+                } else if (attributes.isRegularFile() && filter.accept(entry)) {
+                    files.add(entry);
+                }
+            }
+        }
+
+        private boolean isLinkCycle(Path entry, Object entryKey) {
+            for (DirectoryTask ancestor = this; ancestor != null; ancestor = ancestor.parent) {
+                if (entryKey != null ? entryKey.equals(ancestor.fileKey) : isSameFile(entry, ancestor.directory)) {
+                    if (logger.isWarnEnabled()) {
+                        logger.warn("Skipping directory link cycle: {}", entry);
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isSameFile(Path first, Path second) {
+            try {
+                return Files.isSameFile(first, second);
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+
+    private static final class ScannerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(SCANNER_THREAD_PREFIX + counter.incrementAndGet());
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.dataliquid.asciidoc.linter.discovery;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Entries of a {@code .gitignore}-style file. The entries apply to the
+ * directory containing the file and everything below it:
+ * <ul>
+ * <li>blank lines and lines starting with {@code #} are skipped</li>
+ * <li>{@code *} and {@code ?} match within one path segment, {@code **}
+ * across segments, {@code [...]} matches one character of a class</li>
+ * <li>an entry without a slash matches a name at any depth; an entry with a
+ * leading or inner slash is relative to the directory of the file</li>
+ * <li>an entry ending with a slash only matches directories</li>
+ * <li>an entry starting with {@code !} includes again what an earlier entry
+ * ignored, unless a parent directory is ignored</li>
+ * </ul>
+ * The last matching entry decides.
+ */
+public final class IgnoreFile {
+
+    /**
+     * What the entries of an ignore file say about a path.
+     */
+    public enum Verdict {
+        /** The path is ignored. */
+        IGNORED,
+        /** The path is included again by a negated entry. */
+        INCLUDED,
+        /** No entry matches the path. */
+        UNDECIDED
+    }
+
+    private final List<Entry> entries;
+
+    private IgnoreFile(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Reads an ignore file.
+     *
+     * @param  file        the ignore file
+     *
+     * @return             the entries of the file
+     *
+     * @throws IOException if the file cannot be read
+     */
+    public static IgnoreFile load(Path file) throws IOException {
+        Objects.requireNonNull(file, "[" + IgnoreFile.class.getName() + "] file must not be null");
+        return parse(Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses the lines of an ignore file.
+     *
+     * @param  lines the lines of the file
+     *
+     * @return       the entries
+     */
+    public static IgnoreFile parse(List<String> lines) {
+        Objects.requireNonNull(lines, "[" + IgnoreFile.class.getName() + "] lines must not be null");
+
+        List<Entry> entries = new ArrayList<>();
+        for (String line : lines) {
+            Entry entry = Entry.parse(line);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return new IgnoreFile(entries);
+    }
+
+    /**
+     * Tells whether the entries ignore a path below the directory of the file.
+     *
+     * @param  relativePath the path relative to the directory of the file, with
+     *                      {@code /} as separator
+     * @param  isDirectory  whether the path is a directory
+     *
+     * @return              the verdict of the last matching entry
+     */
+    public Verdict check(String relativePath, boolean isDirectory) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            Entry entry = entries.get(i);
+            if ((isDirectory || !entry.directoryOnly) && entry.pattern.matcher(relativePath).matches()) {
+                return entry.negated ? Verdict.INCLUDED : Verdict.IGNORED;
+            }
+        }
+        return Verdict.UNDECIDED;
+    }
+
+    private static final class Entry {
+        private final Pattern pattern;
+        private final boolean negated;
+        private final boolean directoryOnly;
+
+        private Entry(Pattern pattern, boolean negated, boolean directoryOnly) {
+            this.pattern = pattern;
+            this.negated = negated;
+            this.directoryOnly = directoryOnly;
+        }
+
+        static Entry parse(String line) {
+            String glob = stripTrailingSpaces(line);
+            if (glob.isEmpty() || glob.startsWith("#")) {
+                return null;
+            }
+
+            boolean negated = glob.startsWith("!");
+            if (negated) {
+                glob = glob.substring(1);
+            } else if (glob.startsWith("\\!") || glob.startsWith("\\#")) {
+                glob = glob.substring(1);
+            }
+
+            boolean directoryOnly = glob.endsWith("/");
+            if (directoryOnly) {
+                glob = glob.substring(0, glob.length() - 1);
+            }
+
+            // A slash anywhere but at the end anchors the entry to the directory of the file
+            boolean anchored = glob.contains("/");
+            if (glob.startsWith("/")) {
+                glob = glob.substring(1);
+            }
+            if (glob.isEmpty()) {
+                return null;
+            }
+
+            String regex = (anchored ? "" : "(?:.*/)?") + toRegex(glob);
+            return new Entry(Pattern.compile(regex), negated, directoryOnly);
+        }
+
+        private static String stripTrailingSpaces(String line) {
+            int end = line.length();
+            while (end > 0 && line.charAt(end - 1) == ' ' && (end < 2 || line.charAt(end - 2) != '\\')) {
+                end--;
+            }
+            return line.substring(0, end);
+        }
+
+        private static String toRegex(String glob) {
+            StringBuilder regex = new StringBuilder();
+            int i = 0;
+            while (i < glob.length()) {
+                char c = glob.charAt(i);
+                if (glob.startsWith("**/", i) && (i == 0 || glob.charAt(i - 1) == '/')) {
+                    // Any number of leading directories, including none
+                    regex.append("(?:.*/)?");
+                    i += 3;
+                } else if (glob.startsWith("**", i) && (i == 0 || glob.charAt(i - 1) == '/')
+                        && i + 2 == glob.length()) {
+                    regex.append(".*");
+                    i += 2;
+                } else if (c == '*') {
+                    regex.append("[^/]*");
+                    i++;
+                } else if (c == '?') {
+                    regex.append("[^/]");
+                    i++;
+                } else if (c == '[' && glob.indexOf(']', i + 2) > 0) {
+                    int end = glob.indexOf(']', i + 2);
+                    String characterClass = glob.substring(i + 1, end);
+                    if (characterClass.startsWith("!")) {
+                        characterClass = "^" + characterClass.substring(1);
+                    }
+                    regex.append('[').append(characterClass.replace("\\", "\\\\").replace("[", "\\[")).append(']');
+                    i = end + 1;
+                } else if (c == '\\' && i + 1 < glob.length()) {
+                    regex.append(Pattern.quote(String.valueOf(glob.charAt(i + 1))));
+                    i += 2;
+                } else {
+                    regex.append(Pattern.quote(String.valueOf(c)));
+                    i++;
+                }
+            }
+            return regex.toString();
+        }
+    }
+}
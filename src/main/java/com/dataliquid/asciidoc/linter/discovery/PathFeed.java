@@ -0,0 +1,121 @@
+package com.dataliquid.asciidoc.linter.discovery;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Iterator over paths that are produced by a background thread, so that
+ * discovered files can be validated while discovery is still running. The
+ * paths are returned in the order the producer reports them; {@link #hasNext()}
+ * blocks until the next path is available or the producer is done.
+ * <p>
+ * If the producer fails, the iterator ends with its exception, I/O errors
+ * wrapped in an {@link UncheckedIOException}. Closing the feed before it is
+ * exhausted interrupts the producer.
+ */
+public final class PathFeed implements Iterator<Path>, Closeable {
+
+    private static final String PRODUCER_THREAD_NAME = "asciidoc-linter-discovery";
+
+    // Marks the end of the feed; compared by identity
+    private static final Path END = Paths.get("");
+
+    private final BlockingQueue<Path> queue = new LinkedBlockingQueue<>();
+    private final Thread producerThread;
+    private volatile Exception failure;
+    private Path next;
+
+    private PathFeed(Producer producer) {
+        this.producerThread = new Thread(() -> {
+            try {
+                producer.produce(queue::add);
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+            } finally {
+                queue.add(END);
+            }
+        }, PRODUCER_THREAD_NAME);
+        this.producerThread.setDaemon(true);
+    }
+
+    /**
+     * Starts the producer on a new thread.
+     *
+     * @param  producer the producer reporting paths
+     *
+     * @return          the feed returning the reported paths
+     */
+    public static PathFeed start(Producer producer) {
+        Objects.requireNonNull(producer, "[" + PathFeed.class.getName() + "] producer must not be null");
+        PathFeed feed = new PathFeed(producer);
+        feed.producerThread.start();
+        return feed;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for files"));
+            }
+        }
+        if (next == END) {
+            // Keep the marker so that further calls end the same way
+            Exception e = failure;
+            if (e instanceof IOException) {
+                throw new UncheckedIOException((IOException) e);
+            } else if (e != null) {
+                throw (RuntimeException) e;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Path next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Path path = next;
+        next = null;
+        return path;
+    }
+
+    /**
+     * Stops the producer if it is still running.
+     */
+    @Override
+    public void close() {
+        producerThread.interrupt();
+    }
+
+    /**
+     * Reports paths to a consumer, e.g. by scanning directories.
+     */
+    @FunctionalInterface
+    public interface Producer {
+
+        /**
+         * Reports all paths, in order, to the consumer.
+         *
+         * @param  consumer    receives the paths
+         *
+         * @throws IOException if producing the paths fails
+         */
+        void produce(Consumer<Path> consumer) throws IOException;
+    }
+}
@@ -0,0 +1,33 @@
+package com.dataliquid.asciidoc.linter.discovery;
+
+import java.nio.file.Path;
+
+/**
+ * Decides which directories a {@link DirectoryScanner} enters and which files
+ * it reports. A filter belongs to one directory and returns the filter for a
+ * subdirectory, so that state such as the path segments so far or the patterns
+ * still able to match can be carried down the tree without synchronization.
+ */
+public interface ScanFilter {
+
+    /**
+     * Returns the filter for a subdirectory of the directory this filter belongs
+     * to.
+     *
+     * @param  directory the subdirectory
+     *
+     * @return           the filter for the subdirectory, or {@code null} to skip
+     *                   it with everything below it
+     */
+    ScanFilter enter(Path directory);
+
+    /**
+     * Tells whether a regular file of the directory this filter belongs to is
+     * reported.
+     *
+     * @param  file the file
+     *
+     * @return      {@code true} to report the file
+     */
+    boolean accept(Path file);
+}
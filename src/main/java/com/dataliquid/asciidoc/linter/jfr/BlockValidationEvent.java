@@ -0,0 +1,51 @@
+package com.dataliquid.asciidoc.linter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted while the blocks of a document preamble or a section are validated.
+ */
+@Name(LintEvents.NAME_PREFIX + "BlockValidation")
+@Label("Validate Blocks")
+@Category(LintEvents.CATEGORY)
+@Description("Block rules are applied to the blocks of one container")
+@StackTrace(false)
+public final class BlockValidationEvent extends Event {
+
+    @Label("File")
+    @Description("Name of the document")
+    private String file;
+
+    @Label("Container")
+    @Description("Kind of block container: document or section")
+    private String container;
+
+    @Label("Blocks")
+    @Description("Number of blocks directly in the container")
+    private int blockCount;
+
+    @Label("Messages")
+    @Description("Number of validation messages produced")
+    private int messageCount;
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public void setContainer(String container) {
+        this.container = container;
+    }
+
+    public void setBlockCount(int blockCount) {
+        this.blockCount = blockCount;
+    }
+
+    public void setMessageCount(int messageCount) {
+        this.messageCount = messageCount;
+    }
+}
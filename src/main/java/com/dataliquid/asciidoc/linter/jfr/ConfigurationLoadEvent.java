@@ -0,0 +1,37 @@
+package com.dataliquid.asciidoc.linter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted while a rule configuration is checked against the schema and parsed.
+ */
+@Name(LintEvents.NAME_PREFIX + "ConfigurationLoad")
+@Label("Load Configuration")
+@Category(LintEvents.CATEGORY)
+@Description("A rule configuration is validated and parsed")
+@StackTrace(false)
+public final class ConfigurationLoadEvent extends Event {
+
+    @Label("Source")
+    @Description("Path of the configuration file, or inline for YAML content")
+    private String source;
+
+    @Label("Size")
+    @Description("Size of the configuration in UTF-8")
+    @DataAmount
+    private long size;
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+}
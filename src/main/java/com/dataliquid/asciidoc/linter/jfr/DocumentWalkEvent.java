@@ -0,0 +1,45 @@
+package com.dataliquid.asciidoc.linter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted while the section tree of a document is walked once to apply the
+ * section and the block rules together. Block containers are additionally
+ * covered by their own {@link BlockValidationEvent}.
+ */
+@Name(LintEvents.NAME_PREFIX + "DocumentWalk")
+@Label("Walk Document")
+@Category(LintEvents.CATEGORY)
+@Description("Section and block rules are applied in one descent of the section tree")
+@StackTrace(false)
+public final class DocumentWalkEvent extends Event {
+
+    @Label("File")
+    @Description("Name of the document")
+    private String file;
+
+    @Label("Sections")
+    @Description("Number of sections walked, including nested sections")
+    private int sectionCount;
+
+    @Label("Messages")
+    @Description("Number of validation messages produced")
+    private int messageCount;
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public void setSectionCount(int sectionCount) {
+        this.sectionCount = sectionCount;
+    }
+
+    public void setMessageCount(int messageCount) {
+        this.messageCount = messageCount;
+    }
+}
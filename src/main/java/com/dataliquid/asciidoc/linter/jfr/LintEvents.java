@@ -0,0 +1,90 @@
+package com.dataliquid.asciidoc.linter.jfr;
+
+import java.util.List;
+
+import org.asciidoctor.ast.Section;
+import org.asciidoctor.ast.StructuralNode;
+
+/**
+ * Shared names and helpers of the Java Flight Recorder events emitted by the
+ * linter. The events are registered with JFR on first use and cost close to
+ * nothing while no recording is running: callers only compute event fields
+ * after {@code shouldCommit()} confirms that the event will be recorded.
+ */
+public final class LintEvents {
+
+    static final String NAME_PREFIX = "com.dataliquid.asciidoc.linter.";
+    static final String CATEGORY = "AsciiDoc Linter";
+
+    private static final int ONE_BYTE_LIMIT = 0x80;
+    private static final int TWO_BYTE_LIMIT = 0x800;
+
+    private LintEvents() {
+    }
+
+    /**
+     * Returns the number of bytes the text takes in UTF-8, without encoding it.
+     *
+     * @param  text the text
+     *
+     * @return      the UTF-8 length in bytes
+     */
+    public static long utf8Length(CharSequence text) {
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < ONE_BYTE_LIMIT) {
+                bytes += 1;
+            } else if (c < TWO_BYTE_LIMIT) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Counts the blocks below the node, including sections and nested blocks.
+     *
+     * @param  node the root of the tree
+     *
+     * @return      the number of descendant blocks
+     */
+    public static int countBlocks(StructuralNode node) {
+        List<StructuralNode> blocks = node.getBlocks();
+        if (blocks == null) {
+            return 0;
+        }
+        int count = blocks.size();
+        for (StructuralNode block : blocks) {
+            count += countBlocks(block);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the sections below the node, including nested sections.
+     *
+     * @param  node the root of the tree
+     *
+     * @return      the number of descendant sections
+     */
+    public static int countSections(StructuralNode node) {
+        List<StructuralNode> blocks = node.getBlocks();
+        if (blocks == null) {
+            return 0;
+        }
+        int count = 0;
+        for (StructuralNode block : blocks) {
+            if (block instanceof Section) {
+                count += 1 + countSections(block);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,37 @@
+package com.dataliquid.asciidoc.linter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted while Asciidoctor parses a document into its AST.
+ */
+@Name(LintEvents.NAME_PREFIX + "Parse")
+@Label("Parse Document")
+@Category(LintEvents.CATEGORY)
+@Description("Asciidoctor parses an AsciiDoc document")
+@StackTrace(false)
+public final class ParseEvent extends Event {
+
+    @Label("File")
+    @Description("Name of the document")
+    private String file;
+
+    @Label("Size")
+    @Description("Size of the document source in UTF-8")
+    @DataAmount
+    private long size;
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+}
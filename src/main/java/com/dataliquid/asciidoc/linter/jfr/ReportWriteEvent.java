@@ -0,0 +1,43 @@
+package com.dataliquid.asciidoc.linter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted while a report is written for a validation result.
+ */
+@Name(LintEvents.NAME_PREFIX + "ReportWrite")
+@Label("Write Report")
+@Category(LintEvents.CATEGORY)
+@Description("Validation results are written as a report")
+@StackTrace(false)
+public final class ReportWriteEvent extends Event {
+
+    @Label("Format")
+    @Description("Report format")
+    private String format;
+
+    @Label("Files")
+    @Description("Number of files in the report")
+    private int fileCount;
+
+    @Label("Messages")
+    @Description("Number of validation messages produced")
+    private int messageCount;
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public void setFileCount(int fileCount) {
+        this.fileCount = fileCount;
+    }
+
+    public void setMessageCount(int messageCount) {
+        this.messageCount = messageCount;
+    }
+}
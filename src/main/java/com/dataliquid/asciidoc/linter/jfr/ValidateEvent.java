@@ -0,0 +1,53 @@
+package com.dataliquid.asciidoc.linter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted while all validators run on a parsed document.
+ */
+@Name(LintEvents.NAME_PREFIX + "Validate")
+@Label("Validate Document")
+@Category(LintEvents.CATEGORY)
+@Description("All rules are applied to a parsed document")
+@StackTrace(false)
+public final class ValidateEvent extends Event {
+
+    @Label("File")
+    @Description("Name of the document")
+    private String file;
+
+    @Label("Size")
+    @Description("Size of the document source in UTF-8")
+    @DataAmount
+    private long size;
+
+    @Label("Blocks")
+    @Description("Number of blocks in the document")
+    private int blockCount;
+
+    @Label("Messages")
+    @Description("Number of validation messages produced")
+    private int messageCount;
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public void setBlockCount(int blockCount) {
+        this.blockCount = blockCount;
+    }
+
+    public void setMessageCount(int messageCount) {
+        this.messageCount = messageCount;
+    }
+}
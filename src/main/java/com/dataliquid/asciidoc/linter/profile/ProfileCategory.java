@@ -0,0 +1,23 @@
+package com.dataliquid.asciidoc.linter.profile;
+
+/**
+ * Groups the entries of a profile by what was measured.
+ */
+public enum ProfileCategory {
+    /** A step every document goes through, such as parsing or reporting. */
+    PHASE("phase"),
+    /** A block type validator or a container-wide block check. */
+    VALIDATOR("validator"),
+    /** A rule ID, counted once per message it produced. */
+    RULE("rule");
+
+    private final String value;
+
+    ProfileCategory(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,71 @@
+package com.dataliquid.asciidoc.linter.profile;
+
+import java.util.Objects;
+
+/**
+ * Totals recorded by a {@link Profiler} for one phase, validator or rule.
+ */
+public final class ProfileEntry {
+
+    private final ProfileCategory category;
+    private final String name;
+    private final long count;
+    private final long nanos;
+    private final long allocatedBytes;
+
+    ProfileEntry(ProfileCategory category, String name, long count, long nanos, long allocatedBytes) {
+        this.category = Objects.requireNonNull(category, "[" + getClass().getName() + "] category must not be null");
+        this.name = Objects.requireNonNull(name, "[" + getClass().getName() + "] name must not be null");
+        this.count = count;
+        this.nanos = nanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public ProfileCategory getCategory() {
+        return category;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns how often the phase or validator ran, or for rules, how many
+     * messages the rule produced.
+     *
+     * @return the invocation or message count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the wall time spent in all invocations. Rules are not timed on
+     * their own; their time is part of the validator that checks them.
+     *
+     * @return the total wall time in nanoseconds
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Returns the bytes allocated on the heap by all invocations.
+     *
+     * @return the allocated bytes, or {@code -1} if the JVM does not measure
+     *         allocations per thread
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Tells whether the entry carries time and allocation figures or only a
+     * count.
+     *
+     * @return {@code true} if the entry was measured
+     */
+    public boolean isTimed() {
+        return category != ProfileCategory.RULE;
+    }
+}
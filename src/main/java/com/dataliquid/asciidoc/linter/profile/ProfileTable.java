@@ -0,0 +1,92 @@
+package com.dataliquid.asciidoc.linter.profile;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Renders the entries of a {@link Profiler} as plain text tables: phases and
+ * validators ranked by wall time, followed by rules ranked by message count.
+ */
+public final class ProfileTable {
+
+    private static final String NOT_MEASURED = "n/a";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_KIB = 1024.0;
+    private static final String[] BYTE_UNITS = { "B", "KiB", "MiB", "GiB", "TiB" };
+    private static final int NAME_WIDTH = 32;
+
+    private ProfileTable() {
+    }
+
+    /**
+     * Writes the profile tables and flushes the writer.
+     *
+     * @param profiler the profiler holding the measurements
+     * @param writer   the writer to output the tables
+     */
+    public static void print(Profiler profiler, PrintWriter writer) {
+        Objects.requireNonNull(profiler, "[" + ProfileTable.class.getName() + "] profiler must not be null");
+        Objects.requireNonNull(writer, "[" + ProfileTable.class.getName() + "] writer must not be null");
+
+        List<ProfileEntry> timed = new ArrayList<>();
+        List<ProfileEntry> rules = new ArrayList<>();
+        long phaseNanos = 0;
+        for (ProfileEntry entry : profiler.getEntries()) {
+            if (entry.isTimed()) {
+                timed.add(entry);
+            } else {
+                rules.add(entry);
+            }
+            if (entry.getCategory() == ProfileCategory.PHASE) {
+                phaseNanos += entry.getNanos();
+            }
+        }
+        rules.sort((first, second) -> Long.compare(second.getCount(), first.getCount()));
+
+        writer.println();
+        writer.println("Profile (summed over all files and threads; validators run within the blocks phase)");
+        writer
+                .println(String
+                        .format(Locale.ROOT, "%-10s %-" + NAME_WIDTH + "s %10s %12s %7s %12s", "Category", "Name",
+                                "Count", "Time", "Share", "Allocated"));
+        for (ProfileEntry entry : timed) {
+            double share = phaseNanos > 0 ? 100.0 * entry.getNanos() / phaseNanos : 0;
+            writer
+                    .println(String
+                            .format(Locale.ROOT, "%-10s %-" + NAME_WIDTH + "s %10d %12s %6.1f%% %12s",
+                                    entry.getCategory().getValue(), entry.getName(), entry.getCount(),
+                                    formatMillis(entry.getNanos()), share, formatBytes(entry.getAllocatedBytes())));
+        }
+
+        if (!rules.isEmpty()) {
+            writer.println();
+            writer.println(String.format(Locale.ROOT, "%-" + NAME_WIDTH + "s %10s", "Rule", "Messages"));
+            for (ProfileEntry entry : rules) {
+                writer
+                        .println(String
+                                .format(Locale.ROOT, "%-" + NAME_WIDTH + "s %10d", entry.getName(), entry.getCount()));
+            }
+        }
+        writer.flush();
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.1fms", nanos / NANOS_PER_MILLI);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 0) {
+            return NOT_MEASURED;
+        }
+        double value = bytes;
+        int unit = 0;
+        while (value >= BYTES_PER_KIB && unit < BYTE_UNITS.length - 1) {
+            value /= BYTES_PER_KIB;
+            unit++;
+        }
+        return unit == 0 ? bytes + " B" : String.format(Locale.ROOT, "%.1f %s", value, BYTE_UNITS[unit]);
+    }
+}
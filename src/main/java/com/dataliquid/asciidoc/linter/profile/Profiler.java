@@ -0,0 +1,200 @@
+package com.dataliquid.asciidoc.linter.profile;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records wall time, invocation counts and allocated bytes of the phases and
+ * validators of a lint run, and how many messages each rule produced. A
+ * measurement is started and recorded on the same thread; files validated in
+ * parallel are added up, so totals can exceed the elapsed time of the run.
+ * <p>
+ * The {@link #disabled() disabled} profiler records nothing and costs a null
+ * check per measurement.
+ */
+public final class Profiler {
+
+    private static final Profiler DISABLED = new Profiler(false);
+    private static final Comparator<ProfileEntry> BY_COST = Comparator
+            .comparingLong(ProfileEntry::getNanos)
+            .thenComparingLong(ProfileEntry::getCount)
+            .reversed()
+            .thenComparing(ProfileEntry::getName);
+
+    private final boolean enabled;
+    private final com.sun.management.ThreadMXBean allocations;
+    private final Map<String, Totals> totals;
+
+    private Profiler(boolean enabled) {
+        this.enabled = enabled;
+        this.allocations = enabled ? allocationBean() : null;
+        this.totals = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a profiler that records measurements.
+     *
+     * @return a new, empty profiler
+     */
+    public static Profiler create() {
+        return new Profiler(true);
+    }
+
+    /**
+     * Returns the shared profiler that ignores all measurements.
+     *
+     * @return the disabled profiler
+     */
+    public static Profiler disabled() {
+        return DISABLED;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threads;
+        if (bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean;
+        }
+        return null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a measurement on the current thread.
+     *
+     * @return the started measurement, or {@code null} if the profiler is
+     *         disabled
+     */
+    public Sample start() {
+        if (!enabled) {
+            return null;
+        }
+        return new Sample(System.nanoTime(), allocatedBytes());
+    }
+
+    /**
+     * Ends a measurement started on the current thread and adds it to the totals
+     * of the phase or validator.
+     *
+     * @param category the category of the measured code
+     * @param name     the name of the phase or validator
+     * @param sample   the measurement returned by {@link #start()}
+     */
+    public void record(ProfileCategory category, String name, Sample sample) {
+        if (sample == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - sample.nanos;
+        long bytes = sample.bytes >= 0 ? allocatedBytes() - sample.bytes : -1;
+        Totals entry = totals.computeIfAbsent(key(category, name), key -> new Totals(category, name));
+        entry.count.increment();
+        entry.nanos.add(nanos);
+        if (bytes >= 0) {
+            entry.bytes.add(bytes);
+        } else {
+            entry.unmeasured = true;
+        }
+    }
+
+    /**
+     * Adds to a count without measuring time, e.g. the messages of a rule.
+     *
+     * @param category the category of the counted item
+     * @param name     the name of the counted item
+     * @param count    the amount to add
+     */
+    public void count(ProfileCategory category, String name, long count) {
+        if (!enabled) {
+            return;
+        }
+        totals.computeIfAbsent(key(category, name), key -> new Totals(category, name)).count.add(count);
+    }
+
+    /**
+     * Returns the recorded totals, most expensive first: by wall time, then by
+     * count.
+     *
+     * @return a snapshot of all entries
+     */
+    public List<ProfileEntry> getEntries() {
+        List<ProfileEntry> entries = new ArrayList<>(totals.size());
+        for (Totals entry : totals.values()) {
+            entries.add(entry.toEntry());
+        }
+        entries.sort(BY_COST);
+        return entries;
+    }
+
+    /**
+     * Returns the recorded totals of one category, most expensive first.
+     *
+     * @param  category the category
+     *
+     * @return          a snapshot of the entries of the category
+     */
+    public List<ProfileEntry> getEntries(ProfileCategory category) {
+        Objects.requireNonNull(category, "[" + getClass().getName() + "] category must not be null");
+        List<ProfileEntry> entries = new ArrayList<>();
+        for (ProfileEntry entry : getEntries()) {
+            if (entry.getCategory() == category) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private long allocatedBytes() {
+        return allocations != null ? allocations.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static String key(ProfileCategory category, String name) {
+        return category.getValue() + ':' + name;
+    }
+
+    /**
+     * Start of a measurement, taken by {@link Profiler#start()}.
+     */
+    public static final class Sample {
+        private final long nanos;
+        private final long bytes;
+
+        private Sample(long nanos, long bytes) {
+            this.nanos = nanos;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class Totals {
+        private final ProfileCategory category;
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private volatile boolean unmeasured;
+
+        Totals(ProfileCategory category, String name) {
+            this.category = category;
+            this.name = name;
+        }
+
+        ProfileEntry toEntry() {
+            long allocated = unmeasured || category == ProfileCategory.RULE ? -1 : bytes.sum();
+            return new ProfileEntry(category, name, count.sum(), nanos.sum(), allocated);
+        }
+    }
+}
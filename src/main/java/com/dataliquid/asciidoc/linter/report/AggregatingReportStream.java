@@ -0,0 +1,41 @@
+package com.dataliquid.asciidoc.linter.report;
+
+import java.io.PrintWriter;
+import java.util.Objects;
+
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+
+/**
+ * Report stream for formats that need all results at once. Collects the added
+ * results into one {@link ValidationResult} and formats it on close.
+ */
+final class AggregatingReportStream implements ReportStream {
+
+    private final ReportFormatter formatter;
+    private final PrintWriter writer;
+    private final ValidationResult.Builder aggregated;
+
+    AggregatingReportStream(ReportFormatter formatter, PrintWriter writer) {
+        this.formatter = Objects.requireNonNull(formatter, "[" + getClass().getName() + "] formatter must not be null");
+        this.writer = Objects.requireNonNull(writer, "[" + getClass().getName() + "] writer must not be null");
+        this.aggregated = ValidationResult.builder();
+    }
+
+    @Override
+    public void add(ValidationResult result) {
+        Objects.requireNonNull(result, "[" + getClass().getName() + "] result must not be null");
+        aggregated.addScannedFiles(result.getScannedFiles());
+        aggregated.addMessages(result.getMessages());
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        formatter.format(aggregated.complete().build(), writer);
+        writer.flush();
+    }
+}
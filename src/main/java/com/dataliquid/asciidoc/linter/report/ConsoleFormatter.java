@@ -16,6 +16,8 @@ import com.dataliquid.asciidoc.linter.report.console.MessageGroup;
 import com.dataliquid.asciidoc.linter.report.console.MessageGroups;
 import com.dataliquid.asciidoc.linter.report.console.MessageRenderer;
 import com.dataliquid.asciidoc.linter.report.console.SummaryRenderer;
+import com.dataliquid.asciidoc.linter.report.console.SummaryStatistics;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
 import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
 import com.dataliquid.asciidoc.linter.validator.ValidationResult;
 
@@ -42,8 +44,16 @@ public class ConsoleFormatter implements ReportFormatter {
      * Creates a console formatter with the specified configuration.
      */
     public ConsoleFormatter(OutputConfiguration config) {
+        this(config, new SourceRegistry());
+    }
+
+    /**
+     * Creates a console formatter that reads source context from the given
+     * registry.
+     */
+    public ConsoleFormatter(OutputConfiguration config, SourceRegistry sourceRegistry) {
         this.config = Objects.requireNonNull(config, "[" + getClass().getName() + "] config must not be null");
-        this.messageRenderer = new MessageRenderer(config);
+        this.messageRenderer = new MessageRenderer(config, sourceRegistry);
         this.groupingEngine = new GroupingEngine(config.getErrorGrouping());
         this.summaryRenderer = new SummaryRenderer(config.getSummary(), config.getDisplay());
     }
@@ -57,7 +67,7 @@ public class ConsoleFormatter implements ReportFormatter {
 
         // Messages with grouping
         if (!result.getMessages().isEmpty()) {
-            renderMessages(result, writer);
+            renderMessages(result.getMessages(), writer);
         } else {
             renderNoIssuesFound(writer);
         }
@@ -68,6 +78,15 @@ public class ConsoleFormatter implements ReportFormatter {
         }
     }
 
+    /**
+     * Opens a report that renders each file as soon as it is added. Similar
+     * messages are grouped within a file, since later files are not known yet.
+     */
+    @Override
+    public ReportStream open(PrintWriter writer) {
+        return new ConsoleReportStream(writer);
+    }
+
     private void renderHeader(PrintWriter writer) {
         if (config.getFormat() != OutputFormat.COMPACT) {
             AsciiBoxDrawer boxDrawer = new AsciiBoxDrawer(DisplayConstants.DEFAULT_BOX_WIDTH, writer);
@@ -78,9 +97,7 @@ public class ConsoleFormatter implements ReportFormatter {
         }
     }
 
-    private void renderMessages(ValidationResult result, PrintWriter writer) {
-        List<ValidationMessage> messages = result.getMessages();
-
+    private void renderMessages(List<ValidationMessage> messages, PrintWriter writer) {
         // Grouping if enabled
         if (config.getErrorGrouping().isEnabled() && config.getFormat() != OutputFormat.COMPACT) {
             MessageGroups groups = groupingEngine.group(messages);
@@ -228,4 +245,51 @@ public class ConsoleFormatter implements ReportFormatter {
     public String getName() {
         return "console";
     }
+
+    /**
+     * Writes the messages of every file when it is added and keeps only the
+     * counters needed for the summary.
+     */
+    private final class ConsoleReportStream implements ReportStream {
+        private final PrintWriter writer;
+        private final SummaryStatistics statistics;
+
+        ConsoleReportStream(PrintWriter writer) {
+            this.writer = Objects.requireNonNull(writer, "[" + getClass().getName() + "] writer must not be null");
+            this.statistics = new SummaryStatistics();
+
+            if (config.getDisplay().isShowHeader()) {
+                renderHeader(writer);
+                writer.flush();
+            }
+        }
+
+        @Override
+        public void add(ValidationResult result) {
+            Objects.requireNonNull(result, "[" + getClass().getName() + "] result must not be null");
+            statistics.add(result);
+
+            if (result.hasMessages()) {
+                renderMessages(result.getMessages(), writer);
+            }
+            writer.flush();
+        }
+
+        @Override
+        public boolean isIncremental() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            statistics.complete();
+            if (!statistics.hasMessages()) {
+                renderNoIssuesFound(writer);
+            }
+            if (config.getSummary().isEnabled()) {
+                summaryRenderer.render(statistics, writer);
+            }
+            writer.flush();
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package com.dataliquid.asciidoc.linter.report;
+
+import java.util.Objects;
+
+import com.dataliquid.asciidoc.linter.jfr.ReportWriteEvent;
+import com.dataliquid.asciidoc.linter.profile.ProfileCategory;
+import com.dataliquid.asciidoc.linter.profile.Profiler;
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+
+/**
+ * Report stream that records the time spent rendering results as a phase of
+ * the profile and emits a {@link ReportWriteEvent} for every added result and
+ * for completing the report.
+ */
+final class InstrumentedReportStream implements ReportStream {
+
+    private final ReportStream report;
+    private final String format;
+    private final Profiler profiler;
+    private final String phase;
+    private int files;
+    private int messages;
+
+    InstrumentedReportStream(ReportStream report, String format, Profiler profiler, String phase) {
+        this.report = Objects.requireNonNull(report, "[" + getClass().getName() + "] report must not be null");
+        this.format = Objects.requireNonNull(format, "[" + getClass().getName() + "] format must not be null");
+        this.profiler = Objects.requireNonNull(profiler, "[" + getClass().getName() + "] profiler must not be null");
+        this.phase = Objects.requireNonNull(phase, "[" + getClass().getName() + "] phase must not be null");
+    }
+
+    @Override
+    public void add(ValidationResult result) {
+        ReportWriteEvent event = new ReportWriteEvent();
+        event.begin();
+        Profiler.Sample sample = profiler.start();
+
+        report.add(result);
+
+        profiler.record(ProfileCategory.PHASE, phase, sample);
+        files += result.getScannedFileCount();
+        messages += result.getMessages().size();
+        commit(event, result.getScannedFileCount(), result.getMessages().size());
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return report.isIncremental();
+    }
+
+    @Override
+    public void close() {
+        ReportWriteEvent event = new ReportWriteEvent();
+        event.begin();
+        Profiler.Sample sample = profiler.start();
+
+        report.close();
+
+        profiler.record(ProfileCategory.PHASE, phase, sample);
+        commit(event, files, messages);
+    }
+
+    private void commit(ReportWriteEvent event, int fileCount, int messageCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFormat(format);
+            event.setFileCount(fileCount);
+            event.setMessageCount(messageCount);
+            event.commit();
+        }
+    }
+}
@@ -5,20 +5,24 @@ import java.io.PrintWriter;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.profile.ProfileCategory;
+import com.dataliquid.asciidoc.linter.profile.ProfileEntry;
+import com.dataliquid.asciidoc.linter.profile.Profiler;
 import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
 import com.dataliquid.asciidoc.linter.validator.ValidationResult;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 /**
  * Formats validation results as JSON using Jackson. Supports both
- * pretty-printed and compact (single-line) output formats.
+ * pretty-printed and compact (single-line) output formats. Messages are
+ * streamed through a {@link JsonGenerator} straight to the writer, so memory
+ * use does not grow with the number of messages beyond the results themselves.
  */
 public class JsonFormatter implements ReportFormatter {
 
@@ -28,7 +32,9 @@ public class JsonFormatter implements ReportFormatter {
     private static final int MILLIS_PER_SECOND = 1000;
 
     private final String name;
-    private final ObjectMapper objectMapper;
+    private final boolean prettyPrint;
+    private final JsonFactory jsonFactory;
+    private final Profiler profiler;
 
     /**
      * Creates a JSON formatter with the specified name and pretty-print setting.
@@ -37,14 +43,22 @@ public class JsonFormatter implements ReportFormatter {
      * @param prettyPrint whether to enable pretty printing
      */
     public JsonFormatter(String name, boolean prettyPrint) {
-        this.name = name;
-        this.objectMapper = new ObjectMapper();
+        this(name, prettyPrint, Profiler.disabled());
+    }
 
-        if (prettyPrint) {
-            this.objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-        } else {
-            this.objectMapper.disable(SerializationFeature.INDENT_OUTPUT);
-        }
+    /**
+     * Creates a JSON formatter that adds the measurements of the given profiler
+     * to every report it writes.
+     *
+     * @param name        the formatter name (e.g., "json" or "json-compact")
+     * @param prettyPrint whether to enable pretty printing
+     * @param profiler    the profiler of the run, reported if it is enabled
+     */
+    public JsonFormatter(String name, boolean prettyPrint, Profiler profiler) {
+        this.name = name;
+        this.profiler = Objects.requireNonNull(profiler, "[" + getClass().getName() + "] profiler must not be null");
+        this.prettyPrint = prettyPrint;
+        this.jsonFactory = new JsonFactory();
     }
 
     /**
@@ -67,62 +81,122 @@ public class JsonFormatter implements ReportFormatter {
 
     @Override
     public void format(ValidationResult result, PrintWriter writer) {
-        Map<String, Object> root = Collections.synchronizedMap(new LinkedHashMap<>());
-
-        // Timestamp
-        root.put("timestamp", ISO_FORMATTER.format(Instant.now()));
-
-        // Duration
-        root.put("duration", formatDuration(result.getValidationTimeMillis()));
-
-        // Summary
-        Map<String, Object> summary = Collections.synchronizedMap(new LinkedHashMap<>());
-        summary.put("totalMessages", result.getMessages().size());
-        summary.put("errors", result.getErrorCount());
-        summary.put("warnings", result.getWarningCount());
-        summary.put("infos", result.getInfoCount());
-        root.put("summary", summary);
-
-        // Messages
-        List<Map<String, Object>> messages = result
-                .getMessages()
-                .stream()
-                .map(this::formatMessage)
-                .collect(Collectors.toList());
-        root.put("messages", messages);
-
-        // Write JSON to PrintWriter
+        SeverityCounts counts = new SeverityCounts(result);
         try {
-            objectMapper.writeValue(writer, root);
+            JsonGenerator generator = createGenerator(writer);
+            generator.writeStartObject();
+            generator.writeStringField("timestamp", ISO_FORMATTER.format(Instant.now()));
+            generator.writeStringField("duration", formatDuration(result.getValidationTimeMillis()));
+            writeSummary(generator, counts);
+
+            generator.writeArrayFieldStart("messages");
+            for (ValidationMessage message : result.getMessages()) {
+                writeMessage(generator, message);
+            }
+            generator.writeEndArray();
+
+            // Profile, written last as the report phase is still running
+            if (profiler.isEnabled()) {
+                writeProfile(generator);
+            }
+            generator.writeEndObject();
+            generator.close();
             writer.flush();
         } catch (IOException e) {
             throw new RuntimeException("Failed to write JSON output", e);
         }
     }
 
-    private Map<String, Object> formatMessage(ValidationMessage message) {
-        Map<String, Object> messageMap = Collections.synchronizedMap(new LinkedHashMap<>());
+    /**
+     * Opens a report that writes the messages of every file as soon as it is
+     * added. Since the counters are only known at the end, the duration and the
+     * summary follow the messages in a streamed report.
+     */
+    @Override
+    public ReportStream open(PrintWriter writer) {
+        return new JsonReportStream(writer);
+    }
+
+    private JsonGenerator createGenerator(PrintWriter writer) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(writer);
+        // The writer belongs to the caller
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (prettyPrint) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    private void writeSummary(JsonGenerator generator, SeverityCounts counts) throws IOException {
+        generator.writeObjectFieldStart("summary");
+        generator.writeNumberField("totalMessages", counts.total);
+        generator.writeNumberField("errors", counts.errors);
+        generator.writeNumberField("warnings", counts.warnings);
+        generator.writeNumberField("infos", counts.infos);
+        generator.writeEndObject();
+    }
+
+    private void writeMessage(JsonGenerator generator, ValidationMessage message) throws IOException {
+        generator.writeStartObject();
 
         // Add location fields first if available
         if (message.getLocation() != null) {
-            messageMap.put("file", message.getLocation().getFilename());
-            messageMap.put("line", message.getLocation().getStartLine());
+            generator.writeStringField("file", message.getLocation().getFilename());
+            generator.writeNumberField("line", message.getLocation().getStartLine());
             // Only add column if it's meaningfully set (different from endColumn or > 1)
             if (message.getLocation().getStartColumn() > 1
                     || message.getLocation().getStartColumn() != message.getLocation().getEndColumn()) {
-                messageMap.put("column", message.getLocation().getStartColumn());
+                generator.writeNumberField("column", message.getLocation().getStartColumn());
             }
         }
 
-        messageMap.put("severity", message.getSeverity().toString());
-        messageMap.put("message", message.getMessage());
-        messageMap.put("ruleId", message.getRuleId());
+        generator.writeStringField("severity", message.getSeverity().toString());
+        generator.writeStringField("message", message.getMessage());
+        generator.writeStringField("ruleId", message.getRuleId());
 
         // Add optional fields if present
-        message.getActualValue().ifPresent(value -> messageMap.put("actualValue", value));
-        message.getExpectedValue().ifPresent(value -> messageMap.put("expectedValue", value));
+        if (message.getActualValue().isPresent()) {
+            generator.writeStringField("actualValue", message.getActualValue().get());
+        }
+        if (message.getExpectedValue().isPresent()) {
+            generator.writeStringField("expectedValue", message.getExpectedValue().get());
+        }
+
+        generator.writeEndObject();
+    }
+
+    private void writeProfile(JsonGenerator generator) throws IOException {
+        generator.writeObjectFieldStart("profile");
+        writeProfileEntries(generator, "phases", ProfileCategory.PHASE);
+        writeProfileEntries(generator, "validators", ProfileCategory.VALIDATOR);
 
-        return messageMap;
+        List<ProfileEntry> rules = new ArrayList<>(profiler.getEntries(ProfileCategory.RULE));
+        rules.sort((first, second) -> Long.compare(second.getCount(), first.getCount()));
+        generator.writeArrayFieldStart("rules");
+        for (ProfileEntry entry : rules) {
+            generator.writeStartObject();
+            generator.writeStringField("ruleId", entry.getName());
+            generator.writeNumberField("messages", entry.getCount());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeProfileEntries(JsonGenerator generator, String fieldName, ProfileCategory category)
+            throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (ProfileEntry entry : profiler.getEntries(category)) {
+            generator.writeStartObject();
+            generator.writeStringField("name", entry.getName());
+            generator.writeNumberField("count", entry.getCount());
+            generator.writeNumberField("timeNanos", entry.getNanos());
+            if (entry.getAllocatedBytes() >= 0) {
+                generator.writeNumberField("allocatedBytes", entry.getAllocatedBytes());
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
     }
 
     private String formatDuration(long millis) {
@@ -137,4 +211,95 @@ public class JsonFormatter implements ReportFormatter {
     public String getName() {
         return name;
     }
+
+    /**
+     * Message counters of a report, by severity.
+     */
+    private static final class SeverityCounts {
+        private int total;
+        private int errors;
+        private int warnings;
+        private int infos;
+
+        SeverityCounts() {
+        }
+
+        SeverityCounts(ValidationResult result) {
+            this.total = result.getMessages().size();
+            this.errors = result.getErrorCount();
+            this.warnings = result.getWarningCount();
+            this.infos = result.getInfoCount();
+        }
+
+        void add(ValidationMessage message) {
+            total++;
+            if (message.getSeverity() == Severity.ERROR) {
+                errors++;
+            } else if (message.getSeverity() == Severity.WARN) {
+                warnings++;
+            } else if (message.getSeverity() == Severity.INFO) {
+                infos++;
+            }
+        }
+    }
+
+    /**
+     * Writes the messages of every file when it is added and keeps only the
+     * counters needed for the summary.
+     */
+    private final class JsonReportStream implements ReportStream {
+        private final PrintWriter writer;
+        private final JsonGenerator generator;
+        private final SeverityCounts counts = new SeverityCounts();
+        private final long startTime;
+
+        JsonReportStream(PrintWriter writer) {
+            this.writer = Objects.requireNonNull(writer, "[" + getClass().getName() + "] writer must not be null");
+            this.startTime = System.currentTimeMillis();
+            try {
+                this.generator = createGenerator(writer);
+                generator.writeStartObject();
+                generator.writeStringField("timestamp", ISO_FORMATTER.format(Instant.now()));
+                generator.writeArrayFieldStart("messages");
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write JSON output", e);
+            }
+        }
+
+        @Override
+        public void add(ValidationResult result) {
+            Objects.requireNonNull(result, "[" + getClass().getName() + "] result must not be null");
+            try {
+                for (ValidationMessage message : result.getMessages()) {
+                    counts.add(message);
+                    writeMessage(generator, message);
+                }
+                generator.flush();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write JSON output", e);
+            }
+        }
+
+        @Override
+        public boolean isIncremental() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            try {
+                generator.writeEndArray();
+                generator.writeStringField("duration", formatDuration(System.currentTimeMillis() - startTime));
+                writeSummary(generator, counts);
+                if (profiler.isEnabled()) {
+                    writeProfile(generator);
+                }
+                generator.writeEndObject();
+                generator.close();
+                writer.flush();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write JSON output", e);
+            }
+        }
+    }
 }
@@ -17,6 +17,20 @@ public interface ReportFormatter {
      */
     void format(ValidationResult result, PrintWriter writer);
 
+    /**
+     * Opens a report on the writer to which results are added file by file. The
+     * default implementation collects all results and formats them together when
+     * the stream is closed; formatters that can render files independently
+     * override it to write each file as soon as it is added.
+     *
+     * @param  writer the writer to output the formatted results
+     *
+     * @return        the report stream
+     */
+    default ReportStream open(PrintWriter writer) {
+        return new AggregatingReportStream(this, writer);
+    }
+
     /**
      * Returns the name of this formatter (e.g., "console", "json").
      *
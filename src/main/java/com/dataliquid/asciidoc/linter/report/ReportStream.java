@@ -0,0 +1,34 @@
+package com.dataliquid.asciidoc.linter.report;
+
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+
+/**
+ * A report that receives validation results one file at a time. Formats that
+ * can render a file on its own write it as soon as it is added; everything that
+ * depends on all results, such as a summary, is written on {@link #close()}.
+ */
+public interface ReportStream extends AutoCloseable {
+
+    /**
+     * Adds the result of one validated file.
+     *
+     * @param result the validation result of a single file
+     */
+    void add(ValidationResult result);
+
+    /**
+     * Tells whether {@link #add(ValidationResult)} renders the result right away.
+     * If so, the source of the file is no longer needed once the call returns;
+     * otherwise it is read again when the report is closed.
+     *
+     * @return {@code true} if results are rendered as they are added
+     */
+    boolean isIncremental();
+
+    /**
+     * Writes the remaining output and flushes the writer. The writer itself is not
+     * closed.
+     */
+    @Override
+    void close();
+}
@@ -14,6 +14,10 @@ import java.util.Objects;
 import java.util.Set;
 
 import com.dataliquid.asciidoc.linter.config.output.OutputConfiguration;
+import com.dataliquid.asciidoc.linter.jfr.ReportWriteEvent;
+import com.dataliquid.asciidoc.linter.profile.ProfileCategory;
+import com.dataliquid.asciidoc.linter.profile.Profiler;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
 import com.dataliquid.asciidoc.linter.validator.ValidationResult;
 
 /**
@@ -25,18 +29,46 @@ public class ReportWriter {
     // Constants
     private static final String DEFAULT_FORMAT = "console";
     private static final String CONSOLE_FORMAT = "console";
+    private static final String REPORT_PHASE = "report";
 
     private final Map<String, ReportFormatter> formatters;
+    private final SourceRegistry sourceRegistry;
+    private final Profiler profiler;
 
     public ReportWriter() {
+        this(new SourceRegistry());
+    }
+
+    /**
+     * Creates a report writer whose console output reads source context from the
+     * given registry.
+     *
+     * @param sourceRegistry the registry holding the validated sources
+     */
+    public ReportWriter(SourceRegistry sourceRegistry) {
+        this(sourceRegistry, Profiler.disabled());
+    }
+
+    /**
+     * Creates a report writer that records the time spent writing reports in the
+     * given profiler and adds its measurements to JSON reports.
+     *
+     * @param sourceRegistry the registry holding the validated sources
+     * @param profiler       the profiler of the run
+     */
+    public ReportWriter(SourceRegistry sourceRegistry, Profiler profiler) {
+        this.sourceRegistry = Objects
+                .requireNonNull(sourceRegistry, "[" + getClass().getName() + "] sourceRegistry must not be null");
+        this.profiler = Objects.requireNonNull(profiler, "[" + getClass().getName() + "] profiler must not be null");
         this.formatters = new HashMap<>();
         registerDefaultFormatters();
     }
 
     private final void registerDefaultFormatters() {
         // Console formatter will be created dynamically with output config
-        registerFormatter(JsonFormatter.pretty());
-        registerFormatter(JsonFormatter.compact());
+        registerFormatter(new JsonFormatter("json", true, profiler));
+        registerFormatter(new JsonFormatter("json-compact", false, profiler));
+        registerFormatter(new SarifFormatter());
     }
 
     /**
@@ -131,8 +163,26 @@ public class ReportWriter {
         Objects.requireNonNull(writer, "[" + getClass().getName() + "] writer must not be null");
 
         ReportFormatter formatter = getFormatter(format, outputConfig);
-        formatter.format(result, writer);
-        writer.flush();
+        formatReport(result, formatter, writer);
+    }
+
+    /**
+     * Opens a report on the writer to which results are added file by file, so
+     * output can appear while further files are still being validated. Closing
+     * the returned stream completes the report but leaves the writer open.
+     *
+     * @param  format       the output format
+     * @param  writer       the writer to write to
+     * @param  outputConfig the output configuration for console format, or null
+     *                      for default
+     *
+     * @return              the report stream
+     */
+    public ReportStream open(String format, PrintWriter writer, OutputConfiguration outputConfig) {
+        Objects.requireNonNull(writer, "[" + getClass().getName() + "] writer must not be null");
+
+        ReportFormatter formatter = getFormatter(format, outputConfig);
+        return new InstrumentedReportStream(formatter.open(writer), formatter.getName(), profiler, REPORT_PHASE);
     }
 
     /**
@@ -163,15 +213,32 @@ public class ReportWriter {
 
     private void writeToConsole(ValidationResult result, ReportFormatter formatter) {
         try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))) {
-            formatter.format(result, writer);
-            writer.flush();
+            formatReport(result, formatter, writer);
         }
     }
 
     private void writeToFile(ValidationResult result, ReportFormatter formatter, String outputPath) throws IOException {
         try (PrintWriter writer = new PrintWriter(
                 new OutputStreamWriter(Files.newOutputStream(Paths.get(outputPath)), StandardCharsets.UTF_8))) {
-            formatter.format(result, writer);
+            formatReport(result, formatter, writer);
+        }
+    }
+
+    private void formatReport(ValidationResult result, ReportFormatter formatter, PrintWriter writer) {
+        ReportWriteEvent event = new ReportWriteEvent();
+        event.begin();
+        Profiler.Sample sample = profiler.start();
+
+        formatter.format(result, writer);
+        writer.flush();
+
+        profiler.record(ProfileCategory.PHASE, REPORT_PHASE, sample);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFormat(formatter.getName());
+            event.setFileCount(result.getScannedFileCount());
+            event.setMessageCount(result.getMessages().size());
+            event.commit();
         }
     }
 
@@ -181,9 +248,9 @@ public class ReportWriter {
         // Special handling for console format with output configuration
         if (CONSOLE_FORMAT.equals(formatName)) {
             if (outputConfig != null) {
-                return new ConsoleFormatter(outputConfig);
+                return new ConsoleFormatter(outputConfig, sourceRegistry);
             } else {
-                return new ConsoleFormatter();
+                return new ConsoleFormatter(OutputConfiguration.defaultConfig(), sourceRegistry);
             }
         }
 
@@ -0,0 +1,333 @@
+package com.dataliquid.asciidoc.linter.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.dataliquid.asciidoc.linter.cli.VersionInfo;
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.validator.ErrorType;
+import com.dataliquid.asciidoc.linter.validator.RuleIds;
+import com.dataliquid.asciidoc.linter.validator.SourceLocation;
+import com.dataliquid.asciidoc.linter.validator.Suggestion;
+import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Formats validation results as a SARIF 2.1.0 log with a single run, e.g. for
+ * code scanning dashboards. Every message becomes a result referring to a rule
+ * descriptor by its rule ID, described by {@link RuleIds#describe(String)};
+ * the location becomes a region, and suggestions with a fixed value become
+ * fixes replacing the region, or inserting at its start for missing values.
+ * <p>
+ * Results are streamed through a {@link JsonGenerator} as files are added. The
+ * rule descriptors are only known at the end, so the tool object follows the
+ * results within the run, which SARIF permits as the order of properties is
+ * not significant.
+ */
+public class SarifFormatter implements ReportFormatter {
+
+    private static final String SCHEMA_URI = "https://json.schemastore.org/sarif-2.1.0.json";
+    private static final String SARIF_VERSION = "2.1.0";
+    private static final String TOOL_NAME = "asciidoc-linter";
+    private static final String TOOL_INFORMATION_URI = "https://github.com/dataliquid/asciidoc-linter";
+
+    private final String name;
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Creates a pretty-printing SARIF formatter named "sarif".
+     */
+    public SarifFormatter() {
+        this("sarif");
+    }
+
+    /**
+     * Creates a pretty-printing SARIF formatter with the specified name.
+     *
+     * @param name the formatter name
+     */
+    public SarifFormatter(String name) {
+        this.name = Objects.requireNonNull(name, "[" + getClass().getName() + "] name must not be null");
+        this.jsonFactory = new JsonFactory();
+    }
+
+    @Override
+    public void format(ValidationResult result, PrintWriter writer) {
+        try (ReportStream report = open(writer)) {
+            report.add(result);
+        }
+    }
+
+    @Override
+    public ReportStream open(PrintWriter writer) {
+        return new SarifReportStream(writer);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    private static String toLevel(Severity severity) {
+        return switch (severity) {
+        case ERROR -> "error";
+        case WARN -> "warning";
+        case INFO -> "note";
+        };
+    }
+
+    /**
+     * Tells whether a location has meaningful columns; a location built with the
+     * defaults spans only column 1.
+     */
+    private static boolean hasColumns(SourceLocation location) {
+        return location.getStartColumn() > 1
+                || location.getStartColumn() > 0 && location.getStartColumn() != location.getEndColumn();
+    }
+
+    private static String toUri(String filename) {
+        Path path = Paths.get(filename);
+        if (path.isAbsolute()) {
+            return path.toUri().toString();
+        }
+        String relativePath = filename.replace(File.separatorChar, '/');
+        try {
+            return new URI(null, null, relativePath, null).toASCIIString();
+        } catch (URISyntaxException e) {
+            return relativePath;
+        }
+    }
+
+    /**
+     * Rule descriptor of a reported rule. The description is the static one of
+     * the rule, the level the severity of the first message of the rule.
+     */
+    private static final class RuleDescriptor {
+        private final String id;
+        private final String description;
+        private final Severity severity;
+
+        RuleDescriptor(String id, String description, Severity severity) {
+            this.id = id;
+            this.description = description;
+            this.severity = severity;
+        }
+    }
+
+    /**
+     * Writes the results of every file when it is added and keeps only the rule
+     * descriptors needed for the tool object.
+     */
+    private final class SarifReportStream implements ReportStream {
+        private final PrintWriter writer;
+        private final JsonGenerator generator;
+        private final Map<String, Integer> ruleIndexes = new HashMap<>();
+        private final List<RuleDescriptor> rules = new ArrayList<>();
+        private String lastFilename;
+        private String lastUri;
+
+        SarifReportStream(PrintWriter writer) {
+            this.writer = Objects.requireNonNull(writer, "[" + getClass().getName() + "] writer must not be null");
+            try {
+                this.generator = jsonFactory.createGenerator(writer);
+                // The writer belongs to the caller
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.useDefaultPrettyPrinter();
+
+                generator.writeStartObject();
+                generator.writeStringField("$schema", SCHEMA_URI);
+                generator.writeStringField("version", SARIF_VERSION);
+                generator.writeArrayFieldStart("runs");
+                generator.writeStartObject();
+                generator.writeStringField("columnKind", "utf16CodeUnits");
+                generator.writeArrayFieldStart("results");
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write SARIF output", e);
+            }
+        }
+
+        @Override
+        public void add(ValidationResult result) {
+            Objects.requireNonNull(result, "[" + getClass().getName() + "] result must not be null");
+            try {
+                for (ValidationMessage message : result.getMessages()) {
+                    writeResult(message);
+                }
+                generator.flush();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write SARIF output", e);
+            }
+        }
+
+        @Override
+        public boolean isIncremental() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            try {
+                generator.writeEndArray();
+                writeTool();
+                generator.writeEndObject();
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.close();
+                writer.flush();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write SARIF output", e);
+            }
+        }
+
+        private void writeResult(ValidationMessage message) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("ruleId", message.getRuleId());
+            generator.writeNumberField("ruleIndex", ruleIndex(message));
+            generator.writeStringField("level", toLevel(message.getSeverity()));
+            generator.writeObjectFieldStart("message");
+            generator.writeStringField("text", message.getMessage());
+            generator.writeEndObject();
+
+            SourceLocation location = message.getLocation();
+            if (location != null) {
+                generator.writeArrayFieldStart("locations");
+                generator.writeStartObject();
+                generator.writeObjectFieldStart("physicalLocation");
+                writeArtifactLocation(location);
+                writeRegion("region", location, false);
+                generator.writeEndObject();
+                generator.writeEndObject();
+                generator.writeEndArray();
+
+                writeFixes(message);
+            }
+            generator.writeEndObject();
+        }
+
+        private int ruleIndex(ValidationMessage message) {
+            Integer index = ruleIndexes.get(message.getRuleId());
+            if (index == null) {
+                index = rules.size();
+                ruleIndexes.put(message.getRuleId(), index);
+                rules
+                        .add(new RuleDescriptor(message.getRuleId(), RuleIds.describe(message.getRuleId()),
+                                message.getSeverity()));
+            }
+            return index;
+        }
+
+        private void writeArtifactLocation(SourceLocation location) throws IOException {
+            if (!location.getFilename().equals(lastFilename)) {
+                lastFilename = location.getFilename();
+                lastUri = toUri(lastFilename);
+            }
+            generator.writeObjectFieldStart("artifactLocation");
+            generator.writeStringField("uri", lastUri);
+            generator.writeEndObject();
+        }
+
+        /**
+         * Writes the region of a location. Lines and columns are 1-based in both
+         * models, but the end column of a SARIF region is exclusive. Locations
+         * without columns cover whole lines; an insertion is written as an empty
+         * region at the start column.
+         */
+        private void writeRegion(String fieldName, SourceLocation location, boolean insertion) throws IOException {
+            if (location.getStartLine() < 1) {
+                return;
+            }
+            generator.writeObjectFieldStart(fieldName);
+            generator.writeNumberField("startLine", location.getStartLine());
+            if (location.getEndLine() > location.getStartLine() && !insertion) {
+                generator.writeNumberField("endLine", location.getEndLine());
+            }
+            if (hasColumns(location)) {
+                generator.writeNumberField("startColumn", location.getStartColumn());
+                if (insertion) {
+                    generator.writeNumberField("endColumn", location.getStartColumn());
+                } else if (location.getEndColumn() >= location.getStartColumn()) {
+                    generator.writeNumberField("endColumn", location.getEndColumn() + 1);
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        /**
+         * Writes a fix for every suggestion with a fixed value. Fixes need a column
+         * to know what to replace, so messages without one get none.
+         */
+        private void writeFixes(ValidationMessage message) throws IOException {
+            SourceLocation location = message.getLocation();
+            if (location.getStartLine() < 1 || !hasColumns(location)) {
+                return;
+            }
+
+            boolean started = false;
+            for (Suggestion suggestion : message.getSuggestions()) {
+                if (!suggestion.hasFixedValue()) {
+                    continue;
+                }
+                if (!started) {
+                    generator.writeArrayFieldStart("fixes");
+                    started = true;
+                }
+                generator.writeStartObject();
+                generator.writeObjectFieldStart("description");
+                generator.writeStringField("text", suggestion.getDescription());
+                generator.writeEndObject();
+                generator.writeArrayFieldStart("artifactChanges");
+                generator.writeStartObject();
+                writeArtifactLocation(location);
+                generator.writeArrayFieldStart("replacements");
+                generator.writeStartObject();
+                writeRegion("deletedRegion", location, message.getErrorType() == ErrorType.MISSING_VALUE);
+                generator.writeObjectFieldStart("insertedContent");
+                generator.writeStringField("text", suggestion.getFixedValue());
+                generator.writeEndObject();
+                generator.writeEndObject();
+                generator.writeEndArray();
+                generator.writeEndObject();
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            if (started) {
+                generator.writeEndArray();
+            }
+        }
+
+        private void writeTool() throws IOException {
+            generator.writeObjectFieldStart("tool");
+            generator.writeObjectFieldStart("driver");
+            generator.writeStringField("name", TOOL_NAME);
+            generator.writeStringField("version", VersionInfo.getInstance().getVersion());
+            generator.writeStringField("informationUri", TOOL_INFORMATION_URI);
+            generator.writeArrayFieldStart("rules");
+            for (RuleDescriptor rule : rules) {
+                generator.writeStartObject();
+                generator.writeStringField("id", rule.id);
+                generator.writeObjectFieldStart("shortDescription");
+                generator.writeStringField("text", rule.description);
+                generator.writeEndObject();
+                generator.writeObjectFieldStart("defaultConfiguration");
+                generator.writeStringField("level", toLevel(rule.severity));
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.dataliquid.asciidoc.linter.report.console.context.PositionContextStra
 import com.dataliquid.asciidoc.linter.report.console.context.SectionContextStrategy;
 import com.dataliquid.asciidoc.linter.report.console.context.TitleContextStrategy;
 import com.dataliquid.asciidoc.linter.report.console.context.UlistContextStrategy;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
 import com.dataliquid.asciidoc.linter.validator.ErrorType;
 import com.dataliquid.asciidoc.linter.validator.SourceLocation;
 import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
@@ -32,12 +33,21 @@ import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
 public class ContextRenderer {
 
     private final DisplayConfig config;
-    private final FileContentCache fileCache;
+    private final SourceRegistry sourceRegistry;
     private final ContextStrategyRegistry strategyRegistry;
 
     public ContextRenderer(DisplayConfig config) {
+        this(config, new SourceRegistry());
+    }
+
+    /**
+     * Creates a renderer that reads source lines from the given registry, so
+     * files already loaded for validation are not read again.
+     */
+    public ContextRenderer(DisplayConfig config, SourceRegistry sourceRegistry) {
         this.config = Objects.requireNonNull(config, "[" + getClass().getName() + "] config must not be null");
-        this.fileCache = new FileContentCache();
+        this.sourceRegistry = Objects
+                .requireNonNull(sourceRegistry, "[" + getClass().getName() + "] sourceRegistry must not be null");
         this.strategyRegistry = initializeStrategyRegistry();
     }
 
@@ -69,7 +79,7 @@ public class ContextRenderer {
         }
 
         // Read from file
-        List<String> fileLines = fileCache.getFileLines(loc.getFilename());
+        List<String> fileLines = sourceRegistry.getLines(loc.getFilename());
 
         if (fileLines.isEmpty()) {
             return handleEmptyFile(message, loc);
@@ -120,9 +130,9 @@ public class ContextRenderer {
     }
 
     /**
-     * Clears the file cache to free memory.
+     * Clears the source registry to free memory.
      */
     public void clearCache() {
-        fileCache.clear();
+        sourceRegistry.clear();
     }
 }
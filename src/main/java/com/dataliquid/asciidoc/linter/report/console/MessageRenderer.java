@@ -5,6 +5,7 @@ import java.io.StringWriter;
 import java.util.Objects;
 
 import com.dataliquid.asciidoc.linter.config.output.OutputConfiguration;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
 import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
 
 /**
@@ -18,8 +19,12 @@ public class MessageRenderer {
     private final ColorScheme colorScheme;
 
     public MessageRenderer(OutputConfiguration config) {
+        this(config, new SourceRegistry());
+    }
+
+    public MessageRenderer(OutputConfiguration config, SourceRegistry sourceRegistry) {
         this.config = Objects.requireNonNull(config, "[" + getClass().getName() + "] config must not be null");
-        this.contextRenderer = new ContextRenderer(config.getDisplay());
+        this.contextRenderer = new ContextRenderer(config.getDisplay(), sourceRegistry);
         this.highlightRenderer = new HighlightRenderer(config.getDisplay());
         this.suggestionRenderer = new SuggestionRenderer(config.getSuggestions(), config.getDisplay());
         this.colorScheme = new ColorScheme(config.getDisplay().isUseColors());
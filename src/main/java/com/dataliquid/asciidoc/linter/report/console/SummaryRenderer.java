@@ -1,17 +1,13 @@
 package com.dataliquid.asciidoc.linter.report.console;
 
 import java.io.PrintWriter;
-import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import com.dataliquid.asciidoc.linter.cli.display.AsciiBoxDrawer;
 import com.dataliquid.asciidoc.linter.cli.display.DisplayConstants;
 import com.dataliquid.asciidoc.linter.config.output.DisplayConfig;
 import com.dataliquid.asciidoc.linter.config.output.SummaryConfig;
-import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
 import com.dataliquid.asciidoc.linter.validator.ValidationResult;
 
 /**
@@ -30,6 +26,14 @@ public class SummaryRenderer {
      * Renders the validation summary.
      */
     public void render(ValidationResult result, PrintWriter writer) {
+        render(SummaryStatistics.of(result), writer);
+    }
+
+    /**
+     * Renders the validation summary from statistics collected while the results
+     * were reported.
+     */
+    public void render(SummaryStatistics statistics, PrintWriter writer) {
         if (!config.isEnabled()) {
             return;
         }
@@ -41,35 +45,35 @@ public class SummaryRenderer {
         boxDrawer.drawBottom();
 
         if (config.isShowStatistics()) {
-            renderStatistics(result, writer);
+            renderStatistics(statistics, writer);
         }
 
         if (config.isShowMostCommon()) {
-            renderMostCommonIssues(result, writer);
+            renderMostCommonIssues(statistics, writer);
         }
 
         if (config.isShowFileList()) {
-            renderFileList(result, writer);
+            renderFileList(statistics, writer);
         }
 
-        renderSummaryLine(result, writer);
+        renderSummaryLine(statistics, writer);
 
         boxDrawer.drawTop();
     }
 
-    private void renderStatistics(ValidationResult result, PrintWriter writer) {
+    private void renderStatistics(SummaryStatistics statistics, PrintWriter writer) {
         // File statistics
-        int totalFiles = getUniqueFileCount(result);
-        int filesWithErrors = getFilesWithErrorCount(result);
+        int totalFiles = statistics.getScannedFileCount();
+        int filesWithErrors = statistics.getFilesWithErrorCount();
 
         writer.println("  Total files scanned:     " + totalFiles);
         writer.println("  Files with errors:       " + filesWithErrors);
         writer.println();
 
         // Error counts with visual bars
-        int errors = result.getErrorCount();
-        int warnings = result.getWarningCount();
-        int infos = result.getInfoCount();
+        int errors = statistics.getErrorCount();
+        int warnings = statistics.getWarningCount();
+        int infos = statistics.getInfoCount();
         int total = errors + warnings + infos;
 
         if (total > 0) {
@@ -80,12 +84,8 @@ public class SummaryRenderer {
         }
     }
 
-    private void renderMostCommonIssues(ValidationResult result, PrintWriter writer) {
-        Map<String, Long> issueFrequency = result
-                .getMessages()
-                .stream()
-                .collect(
-                        Collectors.groupingBy(ValidationMessage::getRuleId, LinkedHashMap::new, Collectors.counting()));
+    private void renderMostCommonIssues(SummaryStatistics statistics, PrintWriter writer) {
+        Map<String, Long> issueFrequency = statistics.getRuleFrequency();
 
         if (issueFrequency.isEmpty()) {
             return;
@@ -103,14 +103,8 @@ public class SummaryRenderer {
                     String ruleId = entry.getKey();
                     long count = entry.getValue();
 
-                    // Try to get a description from the first message with this rule
-                    String description = result
-                            .getMessages()
-                            .stream()
-                            .filter(msg -> msg.getRuleId().equals(ruleId))
-                            .findFirst()
-                            .map(msg -> extractShortDescription(msg.getMessage()))
-                            .orElse(ruleId);
+                    // Describe the issue by the first message reported for this rule
+                    String description = extractShortDescription(statistics.getFirstMessage(ruleId));
 
                     writer.printf("  - %s (%d occurrence%s)%n", description, count, count == 1 ? "" : "s");
                 });
@@ -118,26 +112,17 @@ public class SummaryRenderer {
         writer.println();
     }
 
-    private void renderFileList(ValidationResult result, PrintWriter writer) {
-        Map<String, List<ValidationMessage>> byFile = result.getMessagesByFile();
+    private void renderFileList(SummaryStatistics statistics, PrintWriter writer) {
+        Map<String, SummaryStatistics.FileCounts> byFile = statistics.getFileCounts();
 
         if (byFile.isEmpty()) {
             return;
         }
 
         writer.println("  Files with issues:");
-        byFile.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
-            String filename = entry.getKey();
-            List<ValidationMessage> messages = entry.getValue();
-
-            long errorCount = messages
-                    .stream()
-                    .filter(msg -> msg.getSeverity() == com.dataliquid.asciidoc.linter.config.common.Severity.ERROR)
-                    .count();
-            long warnCount = messages
-                    .stream()
-                    .filter(msg -> msg.getSeverity() == com.dataliquid.asciidoc.linter.config.common.Severity.WARN)
-                    .count();
+        byFile.forEach((filename, counts) -> {
+            long errorCount = counts.getErrors();
+            long warnCount = counts.getWarnings();
 
             writer.printf("  - %s: ", filename);
             if (errorCount > 0) {
@@ -154,10 +139,10 @@ public class SummaryRenderer {
         writer.println();
     }
 
-    private void renderSummaryLine(ValidationResult result, PrintWriter writer) {
-        int errors = result.getErrorCount();
-        int warnings = result.getWarningCount();
-        int infos = result.getInfoCount();
+    private void renderSummaryLine(SummaryStatistics statistics, PrintWriter writer) {
+        int errors = statistics.getErrorCount();
+        int warnings = statistics.getWarningCount();
+        int infos = statistics.getInfoCount();
 
         String summary = String
                 .format("Summary: %d error%s, %d warning%s, %d info message%s", errors, errors == 1 ? "" : "s",
@@ -174,22 +159,7 @@ public class SummaryRenderer {
 
         writer.println();
         writer.println(summary);
-        writer.println("Validation completed in " + result.getValidationTimeMillis() + "ms");
-    }
-
-    private int getUniqueFileCount(ValidationResult result) {
-        // Use the actual scanned file count from ValidationResult
-        return result.getScannedFileCount();
-    }
-
-    private int getFilesWithErrorCount(ValidationResult result) {
-        return (int) result
-                .getMessages()
-                .stream()
-                .filter(msg -> msg.getSeverity() == com.dataliquid.asciidoc.linter.config.common.Severity.ERROR)
-                .map(msg -> msg.getLocation().getFilename())
-                .distinct()
-                .count();
+        writer.println("Validation completed in " + statistics.getValidationTimeMillis() + "ms");
     }
 
     private String extractShortDescription(String message) {
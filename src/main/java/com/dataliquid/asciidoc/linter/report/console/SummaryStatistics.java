@@ -0,0 +1,173 @@
+package com.dataliquid.asciidoc.linter.report.console;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+
+/**
+ * Counters behind the validation summary. Results are added one at a time, so a
+ * summary can be rendered for a streamed report without keeping the messages of
+ * all files in memory.
+ */
+public final class SummaryStatistics {
+
+    private final long startTime;
+    private long endTime;
+    private final Set<String> scannedFiles = new HashSet<>();
+    private final Set<String> filesWithErrors = new HashSet<>();
+    private final Map<String, Long> ruleFrequency = new LinkedHashMap<>();
+    private final Map<String, String> ruleDescriptions = new HashMap<>();
+    private final Map<String, FileCounts> fileCounts = new TreeMap<>();
+    private int errorCount;
+    private int warningCount;
+    private int infoCount;
+
+    /**
+     * Creates empty statistics whose validation time starts now.
+     */
+    public SummaryStatistics() {
+        this.startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Creates statistics for a complete validation result.
+     *
+     * @param  result the validation result
+     *
+     * @return        the statistics of the result
+     */
+    public static SummaryStatistics of(ValidationResult result) {
+        SummaryStatistics statistics = new SummaryStatistics();
+        statistics.add(result);
+        statistics.endTime = statistics.startTime + result.getValidationTimeMillis();
+        return statistics;
+    }
+
+    /**
+     * Adds the scanned files and messages of a result.
+     *
+     * @param result the validation result to add
+     */
+    public void add(ValidationResult result) {
+        Objects.requireNonNull(result, "[" + getClass().getName() + "] result must not be null");
+        scannedFiles.addAll(result.getScannedFiles());
+        errorCount += result.getErrorCount();
+        warningCount += result.getWarningCount();
+        infoCount += result.getInfoCount();
+
+        // The groups of the result need one lookup per file and rule, not per message
+        for (Map.Entry<String, List<ValidationMessage>> entry : result.getMessagesByFile().entrySet()) {
+            FileCounts counts = fileCounts.computeIfAbsent(entry.getKey(), key -> new FileCounts());
+            for (ValidationMessage message : entry.getValue()) {
+                if (message.getSeverity() == Severity.ERROR) {
+                    counts.errors++;
+                } else if (message.getSeverity() == Severity.WARN) {
+                    counts.warnings++;
+                }
+            }
+            if (counts.errors > 0) {
+                filesWithErrors.add(entry.getKey());
+            }
+        }
+        for (Map.Entry<String, List<ValidationMessage>> entry : result.getMessagesByRule().entrySet()) {
+            ruleFrequency.merge(entry.getKey(), (long) entry.getValue().size(), Long::sum);
+            ruleDescriptions.putIfAbsent(entry.getKey(), entry.getValue().get(0).getMessage());
+        }
+    }
+
+    /**
+     * Marks the end of the validation. Until this is called, the validation time
+     * keeps running.
+     */
+    public void complete() {
+        this.endTime = System.currentTimeMillis();
+    }
+
+    public int getScannedFileCount() {
+        return scannedFiles.size();
+    }
+
+    public int getFilesWithErrorCount() {
+        return filesWithErrors.size();
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public int getWarningCount() {
+        return warningCount;
+    }
+
+    public int getInfoCount() {
+        return infoCount;
+    }
+
+    public boolean hasMessages() {
+        return !ruleFrequency.isEmpty();
+    }
+
+    /**
+     * Returns the number of messages per rule, in the order the rules were first
+     * reported.
+     *
+     * @return rule id to message count
+     */
+    public Map<String, Long> getRuleFrequency() {
+        return Collections.unmodifiableMap(ruleFrequency);
+    }
+
+    /**
+     * Returns the text of the first message reported for a rule.
+     *
+     * @param  ruleId the rule id
+     *
+     * @return        the message text, or {@code null} if the rule was not reported
+     */
+    public String getFirstMessage(String ruleId) {
+        return ruleDescriptions.get(ruleId);
+    }
+
+    /**
+     * Returns the files with messages, sorted by name.
+     *
+     * @return filename to message counts
+     */
+    public Map<String, FileCounts> getFileCounts() {
+        return Collections.unmodifiableMap(fileCounts);
+    }
+
+    public long getValidationTimeMillis() {
+        long end = endTime != 0 ? endTime : System.currentTimeMillis();
+        return end - startTime;
+    }
+
+    /**
+     * Error and warning counts of a single file.
+     */
+    public static final class FileCounts {
+        private long errors;
+        private long warnings;
+
+        private FileCounts() {
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getWarnings() {
+            return warnings;
+        }
+    }
+}
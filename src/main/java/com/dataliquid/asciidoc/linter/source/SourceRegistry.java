@@ -0,0 +1,201 @@
+package com.dataliquid.asciidoc.linter.source;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the source text of the documents being linted so that parsing,
+ * validation and report rendering all work on the same buffer. Each file is
+ * read from disk once and split into lines once; in-memory content can be
+ * registered under a name and is then visible to everything that looks sources
+ * up by filename. Names that are neither registered nor readable files are not
+ * remembered.
+ * <p>
+ * The registry is thread-safe. Entries stay until they are released, so
+ * callers that process many files should release the sources they no longer
+ * need.
+ */
+public final class SourceRegistry {
+
+    private static final String FILENAME_NULL_MSG = "] filename must not be null";
+
+    private final Map<String, Source> sources = new ConcurrentHashMap<>();
+
+    /**
+     * Reads a file from disk and registers its content, replacing any content
+     * registered before under the same name.
+     *
+     * @param  file        the file to read
+     *
+     * @return             the file content
+     *
+     * @throws IOException if the file cannot be read
+     */
+    public String read(Path file) throws IOException {
+        Objects.requireNonNull(file, "[" + getClass().getName() + "] file must not be null");
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        sources.put(file.toString(), new Source(content));
+        return content;
+    }
+
+    /**
+     * Registers in-memory content under the given name, replacing any content
+     * registered before under the same name.
+     *
+     * @param filename the name the content is looked up by
+     * @param content  the content
+     */
+    public void register(String filename, String content) {
+        Objects.requireNonNull(filename, "[" + getClass().getName() + FILENAME_NULL_MSG);
+        Objects.requireNonNull(content, "[" + getClass().getName() + "] content must not be null");
+        sources.put(filename, new Source(content));
+    }
+
+    /**
+     * Returns the lines of a source, reading the file on first access if nothing
+     * is registered under that name.
+     *
+     * @param  filename the filename or registered name
+     *
+     * @return          the lines, empty if the file does not exist or is not
+     *                  readable
+     *
+     * @throws UncheckedIOException if the file exists but cannot be read
+     */
+    public List<String> getLines(String filename) {
+        return lookup(filename).lines();
+    }
+
+    /**
+     * Returns the content of a source, reading the file on first access if
+     * nothing is registered under that name.
+     *
+     * @param  filename the filename or registered name
+     *
+     * @return          the content, empty if the file does not exist or is not
+     *                  readable
+     *
+     * @throws UncheckedIOException if the file exists but cannot be read
+     */
+    public String getContent(String filename) {
+        return lookup(filename).content();
+    }
+
+    /**
+     * Returns the suppression comments of a source, indexed on first access from
+     * the lines already held for it.
+     *
+     * @param  filename the filename or registered name
+     *
+     * @return          the suppressions, {@link Suppressions#NONE} if the source
+     *                  has none or does not exist
+     *
+     * @throws UncheckedIOException if the file exists but cannot be read
+     */
+    public Suppressions getSuppressions(String filename) {
+        return lookup(filename).suppressions();
+    }
+
+    /**
+     * Checks whether a source is currently registered.
+     *
+     * @param  filename the filename or registered name
+     *
+     * @return          {@code true} if the source is registered
+     */
+    public boolean contains(String filename) {
+        return filename != null && sources.containsKey(filename);
+    }
+
+    /**
+     * Removes a source from the registry.
+     *
+     * @param filename the filename or registered name
+     */
+    public void release(String filename) {
+        if (filename != null) {
+            sources.remove(filename);
+        }
+    }
+
+    /**
+     * Removes all sources from the registry.
+     */
+    public void clear() {
+        sources.clear();
+    }
+
+    private Source lookup(String filename) {
+        Objects.requireNonNull(filename, "[" + getClass().getName() + FILENAME_NULL_MSG);
+        Source source = sources.get(filename);
+        if (source != null) {
+            return source;
+        }
+        source = load(filename);
+        if (source == Source.EMPTY) {
+            // Not remembered, the file may still be created or registered later
+            return source;
+        }
+        Source registered = sources.putIfAbsent(filename, source);
+        return registered != null ? registered : source;
+    }
+
+    private static Source load(String filename) {
+        Path path;
+        try {
+            path = Paths.get(filename);
+        } catch (InvalidPathException e) {
+            // Not a valid path (e.g. a name registered for in-memory content)
+            return Source.EMPTY;
+        }
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+            return Source.EMPTY;
+        }
+        try {
+            return new Source(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read file: " + filename, e);
+        }
+    }
+
+    private static final class Source {
+        private static final Source EMPTY = new Source("");
+
+        private final String content;
+        private final List<String> lines;
+        // Indexed lazily; indexing twice under contention yields equal results
+        private volatile Suppressions suppressions;
+
+        Source(String content) {
+            this.content = content;
+            this.lines = content.lines().toList();
+        }
+
+        String content() {
+            return content;
+        }
+
+        List<String> lines() {
+            return lines;
+        }
+
+        Suppressions suppressions() {
+            Suppressions result = suppressions;
+            if (result == null) {
+                // Most sources have no suppression comments and need no line scan
+                result = content.contains("asciidoc-linter-") ? Suppressions.scan(lines) : Suppressions.NONE;
+                suppressions = result;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.dataliquid.asciidoc.linter.source;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.dataliquid.asciidoc.linter.validator.SourceLocation;
+import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
+
+/**
+ * Rules suppressed by comments in the source of a document. Suppressions are
+ * written as line comments naming rule IDs or rule ID prefixes, separated by
+ * commas or spaces; without a rule every rule is suppressed:
+ * <ul>
+ * <li>{@code // asciidoc-linter-disable-file [rules]} suppresses the rules in
+ * the whole file</li>
+ * <li>{@code // asciidoc-linter-disable [rules]} suppresses the rules from the
+ * next line until {@code // asciidoc-linter-enable [rules]}, or until the end
+ * of the file; an enable comment without rules ends every open region</li>
+ * <li>{@code // asciidoc-linter-disable-next-block [rules]} suppresses the
+ * rules for the block following the comment, including its attribute and title
+ * lines, up to its closing delimiter or the next blank line</li>
+ * </ul>
+ * A rule prefix such as {@code paragraph} or {@code block.occurrence} covers
+ * every rule ID below it. Comments inside listing, literal, passthrough and
+ * comment blocks are content and suppress nothing. The comments are indexed in
+ * one pass over the lines into sorted intervals per rule, so lookups do not
+ * rescan the source.
+ */
+public final class Suppressions {
+
+    /** Suppressions of a source without suppression comments. */
+    public static final Suppressions NONE = new Suppressions(Collections.emptySet(), Collections.emptyMap());
+
+    private static final String ALL_RULES = "*";
+    private static final String DIRECTIVE_PREFIX = "asciidoc-linter-";
+    private static final String DISABLE_FILE = "disable-file";
+    private static final String DISABLE_NEXT_BLOCK = "disable-next-block";
+    private static final String DISABLE = "disable";
+    private static final String ENABLE = "enable";
+    private static final Pattern RULE_SEPARATOR = Pattern.compile("[,\\s]+");
+    private static final Pattern BLOCK_DELIMITER = Pattern
+            .compile("-{4,}|\\.{4,}|={4,}|\\*{4,}|_{4,}|\\+{4,}|/{4,}|--|\\|===");
+    private static final Pattern VERBATIM_DELIMITER = Pattern.compile("-{4,}|\\.{4,}|\\+{4,}|/{4,}");
+
+    private final Set<String> fileRules;
+    private final Map<String, int[][]> regions;
+
+    private Suppressions(Set<String> fileRules, Map<String, int[][]> regions) {
+        this.fileRules = fileRules;
+        this.regions = regions;
+    }
+
+    /**
+     * Indexes the suppression comments of a source.
+     *
+     * @param  lines the lines of the source
+     *
+     * @return       the suppressions, {@link #NONE} if there are none
+     */
+    public static Suppressions scan(List<String> lines) {
+        Objects.requireNonNull(lines, "[" + Suppressions.class.getName() + "] lines must not be null");
+        Scanner scanner = new Scanner();
+        for (int i = 0; i < lines.size(); i++) {
+            scanner.accept(lines.get(i), i + 1);
+        }
+        return scanner.finish(lines.size());
+    }
+
+    /**
+     * Tells whether a message is suppressed at its location. Messages without a
+     * location are only suppressed for the whole file.
+     *
+     * @param  message the message
+     *
+     * @return         {@code true} if the rule of the message is suppressed
+     */
+    public boolean isSuppressed(ValidationMessage message) {
+        Objects.requireNonNull(message, "[" + getClass().getName() + "] message must not be null");
+        SourceLocation location = message.getLocation();
+        return isSuppressed(message.getRuleId(), location != null ? location.getStartLine() : 0);
+    }
+
+    /**
+     * Tells whether a rule, or every rule below a rule prefix, is suppressed at a
+     * line.
+     *
+     * @param  ruleId the rule ID or rule prefix, e.g. {@code paragraph}
+     * @param  line   the 1-based line
+     *
+     * @return        {@code true} if the rule is suppressed at the line
+     */
+    public boolean isSuppressed(String ruleId, int line) {
+        if (isSuppressedInFile(ruleId)) {
+            return true;
+        }
+        if (line < 1) {
+            return false;
+        }
+        for (Map.Entry<String, int[][]> entry : regions.entrySet()) {
+            if (covers(entry.getKey(), ruleId) && contains(entry.getValue(), line)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells whether a rule, or every rule below a rule prefix, is suppressed in
+     * the whole file.
+     *
+     * @param  ruleId the rule ID or rule prefix, e.g. {@code metadata}
+     *
+     * @return        {@code true} if the rule is suppressed in the whole file
+     */
+    public boolean isSuppressedInFile(String ruleId) {
+        Objects.requireNonNull(ruleId, "[" + getClass().getName() + "] ruleId must not be null");
+        for (String rule : fileRules) {
+            if (covers(rule, ruleId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells whether every rule is suppressed in the whole file, so the file does
+     * not need to be validated at all.
+     *
+     * @return {@code true} if the file opts out of linting
+     */
+    public boolean isFileSuppressed() {
+        return fileRules.contains(ALL_RULES);
+    }
+
+    /**
+     * Tells whether the source has no suppression comments.
+     *
+     * @return {@code true} if nothing is suppressed
+     */
+    public boolean isEmpty() {
+        return fileRules.isEmpty() && regions.isEmpty();
+    }
+
+    /**
+     * Tells whether a suppressed rule covers a rule ID or rule prefix, either as
+     * the same ID or as one of its dot-separated prefixes.
+     */
+    private static boolean covers(String suppressed, String ruleId) {
+        return ALL_RULES.equals(suppressed) || ruleId.equals(suppressed)
+                || ruleId.startsWith(suppressed) && ruleId.charAt(suppressed.length()) == '.';
+    }
+
+    /**
+     * Binary search over sorted, disjoint intervals.
+     */
+    private static boolean contains(int[][] intervals, int line) {
+        int low = 0;
+        int high = intervals.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int[] interval = intervals[middle];
+            if (line < interval[0]) {
+                high = middle - 1;
+            } else if (line > interval[1]) {
+                low = middle + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * State of the single pass over the lines of a source.
+     */
+    private static final class Scanner {
+        private final Set<String> fileRules = new HashSet<>();
+        private final Map<String, List<int[]>> intervals = new HashMap<>();
+        private final Map<String, Integer> openRegions = new LinkedHashMap<>();
+
+        // The block following a disable-next-block comment
+        private List<String> nextBlockRules;
+        private int nextBlockStart;
+        private String nextBlockDelimiter;
+        private boolean inNextBlock;
+        // Whether only attribute, title or comment lines of the next block were seen
+        private boolean isHeaderOnly;
+        // The delimiter of the listing, literal, passthrough or comment block being skipped
+        private String verbatimDelimiter;
+
+        void accept(String line, int lineNumber) {
+            String trimmed = line.trim();
+            if (nextBlockRules != null) {
+                trackNextBlock(trimmed, lineNumber);
+            }
+            if (verbatimDelimiter != null) {
+                // Comments in listings and comment blocks are content, e.g. examples
+                if (trimmed.equals(verbatimDelimiter)) {
+                    verbatimDelimiter = null;
+                }
+                return;
+            }
+            if (VERBATIM_DELIMITER.matcher(trimmed).matches()) {
+                verbatimDelimiter = trimmed;
+            } else if (trimmed.startsWith("//") && !trimmed.startsWith("///")) {
+                String comment = trimmed.substring(2).trim();
+                if (comment.startsWith(DIRECTIVE_PREFIX)) {
+                    directive(comment.substring(DIRECTIVE_PREFIX.length()), lineNumber);
+                }
+            }
+        }
+
+        private void directive(String directive, int lineNumber) {
+            int end = 0;
+            while (end < directive.length() && !Character.isWhitespace(directive.charAt(end))) {
+                end++;
+            }
+            String name = directive.substring(0, end);
+            List<String> rules = parseRules(directive.substring(end));
+
+            switch (name) {
+            case DISABLE_FILE:
+                fileRules.addAll(rules.isEmpty() ? List.of(ALL_RULES) : rules);
+                break;
+            case DISABLE:
+                for (String rule : rules.isEmpty() ? List.of(ALL_RULES) : rules) {
+                    openRegions.putIfAbsent(rule, lineNumber + 1);
+                }
+                break;
+            case ENABLE:
+                List<String> closed = rules.isEmpty() ? new ArrayList<>(openRegions.keySet()) : rules;
+                for (String rule : closed) {
+                    Integer start = openRegions.remove(rule);
+                    if (start != null) {
+                        addInterval(rule, start, lineNumber - 1);
+                    }
+                }
+                break;
+            case DISABLE_NEXT_BLOCK:
+                if (nextBlockRules != null && inNextBlock) {
+                    endNextBlock(lineNumber - 1);
+                }
+                nextBlockRules = rules.isEmpty() ? List.of(ALL_RULES) : rules;
+                inNextBlock = false;
+                nextBlockDelimiter = null;
+                break;
+            default:
+                // Unknown directives are ordinary comments
+                break;
+            }
+        }
+
+        /**
+         * Finds the extent of the block following a disable-next-block comment:
+         * blank lines before it are skipped, attribute and title lines belong to
+         * it, and it ends at its closing delimiter or before the next blank line.
+         */
+        private void trackNextBlock(String trimmed, int lineNumber) {
+            if (nextBlockDelimiter != null) {
+                if (trimmed.equals(nextBlockDelimiter)) {
+                    endNextBlock(lineNumber);
+                }
+                return;
+            }
+            if (trimmed.isEmpty()) {
+                if (inNextBlock && !isHeaderOnly) {
+                    endNextBlock(lineNumber - 1);
+                }
+                return;
+            }
+            if (!inNextBlock) {
+                inNextBlock = true;
+                isHeaderOnly = true;
+                nextBlockStart = lineNumber;
+            }
+            if (!isHeaderOnly) {
+                return;
+            }
+            if (BLOCK_DELIMITER.matcher(trimmed).matches()) {
+                nextBlockDelimiter = trimmed;
+                isHeaderOnly = false;
+            } else if (!isBlockHeader(trimmed)) {
+                isHeaderOnly = false;
+            }
+        }
+
+        private static boolean isBlockHeader(String trimmed) {
+            if (trimmed.startsWith("[") && trimmed.endsWith("]")) {
+                return true;
+            }
+            if (trimmed.startsWith("//") && !trimmed.startsWith("////")) {
+                return true;
+            }
+            return trimmed.length() > 1 && trimmed.charAt(0) == '.' && trimmed.charAt(1) != '.'
+                    && !Character.isWhitespace(trimmed.charAt(1));
+        }
+
+        private void endNextBlock(int endLine) {
+            for (String rule : nextBlockRules) {
+                addInterval(rule, nextBlockStart, endLine);
+            }
+            nextBlockRules = null;
+            nextBlockDelimiter = null;
+            inNextBlock = false;
+        }
+
+        private void addInterval(String rule, int start, int end) {
+            if (end >= start) {
+                intervals.computeIfAbsent(rule, r -> new ArrayList<>()).add(new int[] { start, end });
+            }
+        }
+
+        Suppressions finish(int lineCount) {
+            // Regions still open at the end of the file extend to its last line
+            if (nextBlockRules != null && inNextBlock) {
+                endNextBlock(lineCount);
+            }
+            for (Map.Entry<String, Integer> open : openRegions.entrySet()) {
+                addInterval(open.getKey(), open.getValue(), lineCount);
+            }
+            if (fileRules.isEmpty() && intervals.isEmpty()) {
+                return NONE;
+            }
+
+            Map<String, int[][]> regions = new HashMap<>();
+            for (Map.Entry<String, List<int[]>> entry : intervals.entrySet()) {
+                regions.put(entry.getKey(), merge(entry.getValue()));
+            }
+            return new Suppressions(Collections.unmodifiableSet(fileRules), Collections.unmodifiableMap(regions));
+        }
+
+        /**
+         * Sorts the intervals of a rule and merges overlapping ones, so lookups can
+         * binary search them.
+         */
+        private static int[][] merge(List<int[]> intervals) {
+            intervals.sort((a, b) -> Integer.compare(a[0], b[0]));
+            List<int[]> merged = new ArrayList<>();
+            for (int[] interval : intervals) {
+                int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+                if (last != null && interval[0] <= last[1] + 1) {
+                    last[1] = Math.max(last[1], interval[1]);
+                } else {
+                    merged.add(new int[] { interval[0], interval[1] });
+                }
+            }
+            return merged.toArray(new int[0][]);
+        }
+
+        private static List<String> parseRules(String text) {
+            List<String> rules = new ArrayList<>();
+            for (String rule : RULE_SEPARATOR.split(text.trim())) {
+                if (!rule.isEmpty()) {
+                    rules.add(rule);
+                }
+            }
+            return rules;
+        }
+    }
+}
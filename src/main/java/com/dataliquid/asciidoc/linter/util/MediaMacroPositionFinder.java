@@ -6,7 +6,6 @@ import org.asciidoctor.ast.StructuralNode;
 
 import com.dataliquid.asciidoc.linter.validator.SourcePosition;
 import com.dataliquid.asciidoc.linter.validator.block.BlockValidationContext;
-import com.dataliquid.asciidoc.linter.report.console.FileContentCache;
 
 /**
  * Utility class for finding source positions in media macro blocks (video,
@@ -24,19 +23,18 @@ public final class MediaMacroPositionFinder {
      * image::).
      *
      * @param  block     the structural node representing the media block
-     * @param  context   the validation context containing filename and file cache
+     * @param  context   the validation context providing the source lines
      * @param  macroName the macro name without colons (e.g., "video", "audio",
      *                   "image")
      * @param  url       the URL to find, or null if URL is missing
-     * @param  fileCache the file cache to retrieve source lines
      *
      * @return           the source position of the URL, or a fallback position if
      *                   not found
      */
     public static SourcePosition findMacroUrlPosition(StructuralNode block, BlockValidationContext context,
-            String macroName, String url, FileContentCache fileCache) {
+            String macroName, String url) {
 
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
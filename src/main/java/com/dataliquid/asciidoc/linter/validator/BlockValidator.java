@@ -2,12 +2,12 @@ package com.dataliquid.asciidoc.linter.validator;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.asciidoctor.ast.Document;
 import org.asciidoctor.ast.Section;
@@ -19,6 +19,11 @@ import com.dataliquid.asciidoc.linter.config.blocks.BlockType;
 import com.dataliquid.asciidoc.linter.config.common.Severity;
 import com.dataliquid.asciidoc.linter.config.blocks.Block;
 import com.dataliquid.asciidoc.linter.config.rule.SectionConfig;
+import com.dataliquid.asciidoc.linter.jfr.BlockValidationEvent;
+import com.dataliquid.asciidoc.linter.profile.ProfileCategory;
+import com.dataliquid.asciidoc.linter.profile.Profiler;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
+import com.dataliquid.asciidoc.linter.source.Suppressions;
 import com.dataliquid.asciidoc.linter.validator.block.BlockContainer;
 import com.dataliquid.asciidoc.linter.validator.block.BlockOccurrenceValidator;
 import com.dataliquid.asciidoc.linter.validator.block.BlockTypeDetector;
@@ -49,11 +54,66 @@ public final class BlockValidator {
     private final Map<BlockType, BlockTypeValidator> validators;
     private final BlockTypeDetector typeDetector;
     private final BlockOccurrenceValidator occurrenceValidator;
+    private final RulePlan rulePlan;
+    private final SourceRegistry sourceRegistry;
+    private final Profiler profiler;
 
     public BlockValidator() {
+        this((RulePlan) null, new SourceRegistry());
+    }
+
+    /**
+     * Creates a block validator that looks up allowed blocks in the given rule
+     * plan and reads source lines from the given registry. The validator keeps no
+     * per-document state and can be shared by concurrent validations.
+     *
+     * @param rulePlan       the precompiled rule plan, or {@code null} to index
+     *                       the allowed blocks of each section on demand
+     * @param sourceRegistry the registry holding the sources being validated
+     */
+    public BlockValidator(RulePlan rulePlan, SourceRegistry sourceRegistry) {
+        this(rulePlan, sourceRegistry, Profiler.disabled());
+    }
+
+    /**
+     * Creates a block validator that additionally records the cost of every
+     * block type validator and of the occurrence and order checks.
+     *
+     * @param rulePlan       the precompiled rule plan, or {@code null} to index
+     *                       the allowed blocks of each section on demand
+     * @param sourceRegistry the registry holding the sources being validated
+     * @param profiler       the profiler to record measurements in
+     */
+    public BlockValidator(RulePlan rulePlan, SourceRegistry sourceRegistry, Profiler profiler) {
         this.validators = createValidators();
         this.typeDetector = new BlockTypeDetector();
         this.occurrenceValidator = new BlockOccurrenceValidator();
+        this.rulePlan = rulePlan;
+        this.sourceRegistry = Objects
+                .requireNonNull(sourceRegistry, "[" + getClass().getName() + "] sourceRegistry must not be null");
+        this.profiler = Objects.requireNonNull(profiler, "[" + getClass().getName() + "] profiler must not be null");
+    }
+
+    private BlockValidator(BlockValidator other, SourceRegistry sourceRegistry) {
+        this.validators = other.validators;
+        this.typeDetector = other.typeDetector;
+        this.occurrenceValidator = other.occurrenceValidator;
+        this.rulePlan = other.rulePlan;
+        this.sourceRegistry = Objects
+                .requireNonNull(sourceRegistry, "[" + getClass().getName() + "] sourceRegistry must not be null");
+        this.profiler = other.profiler;
+    }
+
+    /**
+     * Returns a block validator that shares the block type validators of this one
+     * but reads source lines from the given registry.
+     *
+     * @param  sourceRegistry the registry holding the sources being validated
+     *
+     * @return                the block validator
+     */
+    public BlockValidator withSourceRegistry(SourceRegistry sourceRegistry) {
+        return new BlockValidator(this, sourceRegistry);
     }
 
     /**
@@ -92,15 +152,33 @@ public final class BlockValidator {
      * @return          validation result containing all messages
      */
     public ValidationResult validate(Document document, SectionConfig config, String filename) {
+        return validate(document, config, filename, MessageBudget.unlimited());
+    }
+
+    /**
+     * Validates all blocks at document level (level 0) against the configuration,
+     * counting the messages against the budget of the file.
+     *
+     * @param  document the AsciiDoc document to validate
+     * @param  config   the section configuration containing block rules (level 0)
+     * @param  filename the filename for error reporting
+     * @param  budget   the message budget of the file
+     *
+     * @return          validation result containing the messages within the
+     *                  budget
+     */
+    public ValidationResult validate(Document document, SectionConfig config, String filename,
+            MessageBudget budget) {
         Objects.requireNonNull(document, "[" + getClass().getName() + "] document must not be null");
         Objects.requireNonNull(config, "[" + getClass().getName() + "] config must not be null");
         Objects.requireNonNull(filename, "[" + getClass().getName() + "] filename must not be null");
+        Objects.requireNonNull(budget, "[" + getClass().getName() + "] budget must not be null");
 
         // Use the generic validation method with a document container
         BlockContainer container = BlockContainer.fromDocument(document);
-        BlockValidationContext context = new BlockValidationContext(document, filename);
+        BlockValidationContext context = new BlockValidationContext(document, filename, sourceRegistry);
         // Starting document validation
-        return validateContainer(container, config, context);
+        return validateContainer(container, config, context, budget);
     }
 
     /**
@@ -113,21 +191,38 @@ public final class BlockValidator {
      * @return          validation result containing all messages
      */
     public ValidationResult validate(Section section, SectionConfig config, String filename) {
+        return validate(section, config, filename, MessageBudget.unlimited());
+    }
+
+    /**
+     * Validates all blocks within a section against the configuration, counting
+     * the messages against the budget of the file.
+     *
+     * @param  section  the AsciiDoc section to validate
+     * @param  config   the section configuration containing block rules
+     * @param  filename the filename for error reporting
+     * @param  budget   the message budget of the file
+     *
+     * @return          validation result containing the messages within the
+     *                  budget
+     */
+    public ValidationResult validate(Section section, SectionConfig config, String filename, MessageBudget budget) {
         Objects.requireNonNull(section, "[" + getClass().getName() + "] section must not be null");
         Objects.requireNonNull(config, "[" + getClass().getName() + "] config must not be null");
         Objects.requireNonNull(filename, "[" + getClass().getName() + "] filename must not be null");
+        Objects.requireNonNull(budget, "[" + getClass().getName() + "] budget must not be null");
 
         // Use the generic validation method with a section container
         BlockContainer container = BlockContainer.fromSection(section);
-        BlockValidationContext context = new BlockValidationContext(section, filename);
-        return validateContainer(container, config, context);
+        BlockValidationContext context = new BlockValidationContext(section, filename, sourceRegistry);
+        return validateContainer(container, config, context, budget);
     }
 
     /**
      * Generic validation method for any block container.
      */
     private ValidationResult validateContainer(BlockContainer container, SectionConfig config,
-            BlockValidationContext context) {
+            BlockValidationContext context, MessageBudget budget) {
         List<ValidationMessage> messages = new ArrayList<>();
 
         // No block validation if no blocks configured
@@ -135,24 +230,50 @@ public final class BlockValidator {
             return ValidationResult.builder().addMessages(messages).build();
         }
 
-        // First pass: validate individual blocks and track occurrences
-        validateContainerBlocks(container, config, context, messages);
+        BlockValidationEvent event = new BlockValidationEvent();
+        event.begin();
 
-        // Second pass: validate occurrences
-        messages.addAll(occurrenceValidator.validate(context, config.allowedBlocks()));
+        RulePlan.BlockIndex blockIndex = rulePlan != null ? rulePlan.getBlockIndex(config)
+                : RulePlan.BlockIndex.of(config.allowedBlocks());
 
-        // Third pass: validate block order based on order attribute
-        validateBlockOrder(container, config, context, messages);
+        // Single pass over the blocks: validate them, track occurrences and match
+        // the ordered configurations
+        BlockOrder blockOrder = new BlockOrder(blockIndex);
+        validateContainerBlocks(container, blockIndex, context, blockOrder, messages, budget);
+
+        // The occurrences are incomplete once the budget stopped the first pass
+        if (!budget.isExhausted()) {
+            // Validate occurrences from the tracked blocks
+            Profiler.Sample occurrence = profiler.start();
+            budget.addAll(occurrenceValidator.validate(context, config.allowedBlocks()), messages::add);
+            profiler.record(ProfileCategory.VALIDATOR, "occurrence", occurrence);
+        }
 
+        if (!budget.isExhausted()) {
+            // Validate block order from the matched configurations
+            Profiler.Sample order = profiler.start();
+            validateBlockOrder(blockOrder, context, messages, budget);
+            profiler.record(ProfileCategory.VALIDATOR, "order", order);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFile(context.getFilename());
+            event.setContainer(container.getContainerType());
+            event.setBlockCount(container.getBlocks().size());
+            event.setMessageCount(messages.size());
+            event.commit();
+        }
         return ValidationResult.builder().addMessages(messages).build();
     }
 
     /**
-     * Validates individual blocks from the container and tracks them in the
-     * context.
+     * Validates individual blocks from the container, tracks them in the context
+     * and records them for the order check.
      */
-    private void validateContainerBlocks(BlockContainer container, SectionConfig config, BlockValidationContext context,
-            List<ValidationMessage> messages) {
+    private void validateContainerBlocks(BlockContainer container, RulePlan.BlockIndex blockIndex,
+            BlockValidationContext context, BlockOrder blockOrder, List<ValidationMessage> messages,
+            MessageBudget budget) {
 
         // Get all blocks from the container (handles preamble expansion automatically)
         List<StructuralNode> blocks = container.getBlocks();
@@ -162,6 +283,10 @@ public final class BlockValidator {
         }
 
         for (StructuralNode block : blocks) {
+            if (budget.isExhausted()) {
+                // No further messages are reported for this file
+                break;
+            }
             try {
                 // Skip sections - they are handled by SectionValidator
                 if (block instanceof Section) {
@@ -173,7 +298,7 @@ public final class BlockValidator {
 
                 if (actualType == null) {
                     // Unknown block type - add validation message
-                    messages
+                    budget
                             .add(ValidationMessage
                                     .builder()
                                     .severity(Severity.ERROR)
@@ -182,16 +307,17 @@ public final class BlockValidator {
                                     .message("Unknown block type: " + block.getContext())
                                     .actualValue(block.getContext())
                                     .expectedValue("Valid AsciiDoc block type")
-                                    .build());
+                                    .build(), messages::add);
                     continue;
                 }
 
                 // Find matching configuration
-                Block blockConfig = findBlockConfig(actualType, block, config.allowedBlocks());
+                Block blockConfig = findBlockConfig(actualType, block, blockIndex);
+                blockOrder.record(actualType, block, blockConfig);
 
                 if (blockConfig == null) {
                     // Block type not allowed
-                    messages
+                    budget
                             .add(ValidationMessage
                                     .builder()
                                     .severity(Severity.ERROR)
@@ -200,7 +326,7 @@ public final class BlockValidator {
                                     .message("Block type not allowed in " + container.getContainerType())
                                     .actualValue(actualType.toString())
                                     .expectedValue("One of the allowed block types")
-                                    .build());
+                                    .build(), messages::add);
                     continue;
                 }
 
@@ -212,160 +338,151 @@ public final class BlockValidator {
 
                 // Validate if we have a validator for this type
                 BlockTypeValidator validator = validators.get(actualType);
-                if (validator != null) {
-                    messages.addAll(validator.validate(block, blockConfig, context));
+                if (validator != null && !isSuppressed(actualType, block, context)) {
+                    Profiler.Sample sample = profiler.start();
+                    budget.addAll(validator.validate(block, blockConfig, context), messages::add);
+                    profiler.record(ProfileCategory.VALIDATOR, actualType.toValue(), sample);
                 }
             } catch (Exception e) {
                 // Handle validation exceptions gracefully
-                messages
+                budget
                         .add(ValidationMessage
                                 .builder()
                                 .severity(Severity.ERROR)
                                 .ruleId(VALIDATION_ERROR)
                                 .location(context.createLocation(block))
                                 .message("Error validating block: " + e.getMessage())
-                                .build());
+                                .build(), messages::add);
             }
         }
     }
 
     /**
-     * Finds the configuration for a specific block. Matching logic: 1. If block has
-     * a name attribute, try to find config with matching name and type 2.
-     * Otherwise, find any config with matching type 3. Config names are for
-     * identification only and don't prevent matching unnamed blocks
+     * Tells whether all rules of a block type are suppressed where the block
+     * starts, so its validator does not need to run. Single suppressed rules are
+     * dropped from the result instead.
      */
-    private Block findBlockConfig(BlockType type, StructuralNode block, List<Block> configs) {
-        // First try to match by name attribute if block has one
-        Object nameAttr = block.getAttribute("name");
-        if (nameAttr != null) {
-            String blockName = nameAttr.toString();
-            for (Block config : configs) {
-                if (config.getType() == type && blockName.equals(config.getName())) {
-                    return config;
-                }
-            }
-        }
-
-        // Then match by type only (config name is just for identification)
-        for (Block config : configs) {
-            if (config.getType() == type) {
-                return config;
-            }
+    private boolean isSuppressed(BlockType type, StructuralNode block, BlockValidationContext context) {
+        Suppressions suppressions = context.getSourceRegistry().getSuppressions(context.getFilename());
+        if (suppressions.isEmpty()) {
+            return false;
         }
-
-        return null;
+        int line = block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 0;
+        return suppressions.isSuppressed(type.toValue(), line);
     }
 
     /**
-     * Special version of findBlockConfig that tracks which configs have already
-     * been matched. This ensures each config is only matched once when multiple
-     * blocks of the same type exist.
+     * Finds the configuration for a specific block. Matching logic: 1. If block has
+     * a name attribute, try to find config with matching name and type 2.
+     * Otherwise, find any config with matching type 3. Config names are for
+     * identification only and don't prevent matching unnamed blocks
      */
-    private Block findBlockConfigForOrder(BlockType type, StructuralNode block, List<Block> configs,
-            Set<Block> alreadyMatched) {
-        // First try to match by name attribute if block has one
+    private Block findBlockConfig(BlockType type, StructuralNode block, RulePlan.BlockIndex blockIndex) {
         Object nameAttr = block.getAttribute("name");
-        if (nameAttr != null) {
-            String blockName = nameAttr.toString();
-            for (Block config : configs) {
-                if (config.getType() == type && blockName.equals(config.getName())
-                        && !alreadyMatched.contains(config)) {
-                    return config;
-                }
-            }
-        }
-
-        // Then match by type only, but skip already matched configs
-        for (Block config : configs) {
-            if (config.getType() == type && !alreadyMatched.contains(config)) {
-                return config;
-            }
-        }
-
-        return null;
+        return blockIndex.find(type, nameAttr != null ? nameAttr.toString() : null);
     }
 
     /**
      * Validates block order based on the order attribute in block configurations.
      */
-    private void validateBlockOrder(BlockContainer container, SectionConfig config, BlockValidationContext context,
-            List<ValidationMessage> messages) {
-        List<Block> orderedBlocks = config
-                .allowedBlocks()
-                .stream()
-                .filter(block -> block.getOrder() != null)
-                .sorted((b1, b2) -> b1.getOrder().compareTo(b2.getOrder()))
-                .collect(Collectors.toList());
-
-        if (orderedBlocks.isEmpty()) {
-            return; // No order constraints
-        }
-
-        List<StructuralNode> blocks = container.getBlocks();
-        List<Block> matchedBlockConfigs = new ArrayList<>();
-        Set<Block> alreadyMatched = new HashSet<>();
+    private void validateBlockOrder(BlockOrder blockOrder, BlockValidationContext context,
+            List<ValidationMessage> messages, MessageBudget budget) {
+        List<Block> matchedBlockConfigs = blockOrder.matched;
 
-        // First, match each document block to its configuration
-        for (StructuralNode block : blocks) {
-            if (block instanceof Section) {
-                continue;
-            }
-
-            BlockType type = typeDetector.detectType(block);
-            if (type == null) {
-                continue;
-            }
-
-            Block blockConfig = findBlockConfigForOrder(type, block, config.allowedBlocks(), alreadyMatched);
-            if (blockConfig != null && blockConfig.getOrder() != null) {
-                matchedBlockConfigs.add(blockConfig);
-                alreadyMatched.add(blockConfig);
-            }
-        }
-
-        // Now check if the matched blocks are in the correct order
+        // Check if the matched blocks are in the correct order
         for (int i = 0; i < matchedBlockConfigs.size() - 1; i++) {
             Block current = matchedBlockConfigs.get(i);
             Block next = matchedBlockConfigs.get(i + 1);
 
             if (current.getOrder() > next.getOrder()) {
-                // Find the actual block positions for error reporting
-                int currentBlockIndex = -1;
-                int nextBlockIndex = -1;
-
-                for (int j = 0; j < blocks.size(); j++) {
-                    StructuralNode block = blocks.get(j);
-                    if (block instanceof Section) {
-                        continue;
-                    }
-
-                    BlockType type = typeDetector.detectType(block);
-                    if (type != null) {
-                        Block blockCfg = findBlockConfig(type, block, config.allowedBlocks());
-                        if (blockCfg.equals(current) && currentBlockIndex == -1) {
-                            currentBlockIndex = j;
-                        } else if (blockCfg.equals(next) && nextBlockIndex == -1) {
-                            nextBlockIndex = j;
-                        }
-                    }
-                }
-
                 String currentKey = current.getName() != null ? current.getName() : current.getType().toString();
                 String nextKey = next.getName() != null ? next.getName() : next.getType().toString();
 
-                messages
+                budget
                         .add(ValidationMessage
                                 .builder()
                                 .severity(Severity.ERROR)
                                 .ruleId(ORDER)
-                                .location(context.createLocation(blocks.get(currentBlockIndex)))
+                                .location(context.createLocation(blockOrder.locate(current, i)))
                                 .message("Block order violation: '" + currentKey + "' (order=" + current.getOrder()
                                         + ") appears after '" + nextKey + "' (order=" + next.getOrder() + ")")
                                 .actualValue(currentKey + " at position " + i)
                                 .expectedValue(currentKey + " should appear before " + nextKey)
-                                .build());
+                                .build(), messages::add);
+            }
+        }
+    }
+
+    /**
+     * Matches the blocks of a container to the ordered configurations while the
+     * blocks are validated. Each configuration is matched only once, so multiple
+     * blocks of the same type take the configurations in turn. The first block
+     * of every configuration is kept as the location of order violations.
+     */
+    private static final class BlockOrder {
+        private final RulePlan.BlockIndex blockIndex;
+        private final boolean enabled;
+        private final List<Block> matched = new ArrayList<>();
+        private final List<StructuralNode> matchedNodes = new ArrayList<>();
+        private final Set<Block> alreadyMatched = new HashSet<>();
+        private final Map<Block, StructuralNode> firstBlocks = new HashMap<>();
+
+        BlockOrder(RulePlan.BlockIndex blockIndex) {
+            this.blockIndex = blockIndex;
+            this.enabled = !blockIndex.getOrderedBlocks().isEmpty();
+        }
+
+        void record(BlockType type, StructuralNode block, Block blockConfig) {
+            if (!enabled) {
+                return;
+            }
+            if (blockConfig != null) {
+                firstBlocks.putIfAbsent(blockConfig, block);
+            }
+            Block orderConfig = findBlockConfigForOrder(type, block);
+            if (orderConfig != null && orderConfig.getOrder() != null) {
+                matched.add(orderConfig);
+                matchedNodes.add(block);
+                alreadyMatched.add(orderConfig);
             }
         }
+
+        /**
+         * Returns the first block of a configuration, or the block matched at the
+         * given position if no block resolves to the configuration directly.
+         */
+        StructuralNode locate(Block config, int position) {
+            StructuralNode block = firstBlocks.get(config);
+            return block != null ? block : matchedNodes.get(position);
+        }
+
+        /**
+         * Special version of findBlockConfig that tracks which configs have already
+         * been matched. This ensures each config is only matched once when multiple
+         * blocks of the same type exist.
+         */
+        private Block findBlockConfigForOrder(BlockType type, StructuralNode block) {
+            List<Block> configs = blockIndex.getBlocks(type);
+
+            // First try to match by name attribute if block has one
+            Object nameAttr = block.getAttribute("name");
+            if (nameAttr != null) {
+                String blockName = nameAttr.toString();
+                for (Block config : configs) {
+                    if (blockName.equals(config.getName()) && !alreadyMatched.contains(config)) {
+                        return config;
+                    }
+                }
+            }
+
+            // Then match by type only, but skip already matched configs
+            for (Block config : configs) {
+                if (!alreadyMatched.contains(config)) {
+                    return config;
+                }
+            }
+
+            return null;
+        }
     }
 }
@@ -0,0 +1,46 @@
+package com.dataliquid.asciidoc.linter.validator;
+
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.Section;
+
+/**
+ * Receives the section tree of a document from a {@link DocumentWalker}.
+ * Several visitors share one descent: every callback is dispatched to all
+ * visitors before the walker moves on. Sections are entered in document order,
+ * a section's subsections are entered and left before the section itself is
+ * left.
+ */
+public interface DocumentVisitor {
+
+    /**
+     * Called before the first section of the document is entered.
+     *
+     * @param document the document
+     */
+    default void startDocument(Document document) {
+    }
+
+    /**
+     * Called when the walker descends into a section.
+     *
+     * @param section the section
+     */
+    default void enterSection(Section section) {
+    }
+
+    /**
+     * Called after all subsections of a section were visited.
+     *
+     * @param section the section
+     */
+    default void leaveSection(Section section) {
+    }
+
+    /**
+     * Called after the last section of the document was left.
+     *
+     * @param document the document
+     */
+    default void endDocument(Document document) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.dataliquid.asciidoc.linter.validator;
+
+import java.util.List;
+
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.Section;
+import org.asciidoctor.ast.StructuralNode;
+
+/**
+ * Walks the section tree of a document once and dispatches every section to a
+ * list of {@link DocumentVisitor visitors}, so section and block validation do
+ * not descend the tree separately. Only sections are walked; the blocks of a
+ * section are left to the visitors.
+ */
+public final class DocumentWalker {
+
+    private DocumentWalker() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Walks the sections of a document.
+     *
+     * @param document the document
+     * @param visitors the visitors, called in the given order
+     */
+    public static void walk(Document document, List<? extends DocumentVisitor> visitors) {
+        for (DocumentVisitor visitor : visitors) {
+            visitor.startDocument(document);
+        }
+        walkSections(document.getBlocks(), visitors);
+        for (DocumentVisitor visitor : visitors) {
+            visitor.endDocument(document);
+        }
+    }
+
+    private static void walkSections(List<StructuralNode> blocks, List<? extends DocumentVisitor> visitors) {
+        for (StructuralNode block : blocks) {
+            if (!(block instanceof Section)) {
+                continue;
+            }
+            Section section = (Section) block;
+            for (DocumentVisitor visitor : visitors) {
+                visitor.enterSection(section);
+            }
+            walkSections(section.getBlocks(), visitors);
+            for (DocumentVisitor visitor : visitors) {
+                visitor.leaveSection(section);
+            }
+        }
+    }
+}
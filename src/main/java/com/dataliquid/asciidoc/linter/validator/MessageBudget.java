@@ -0,0 +1,170 @@
+package com.dataliquid.asciidoc.linter.validator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+
+/**
+ * Counts the messages of one file against its {@link MessageLimits}. Validators
+ * add their messages through the budget, which passes on the reported messages
+ * within the limits and counts the rest. Once the file limit is reached the
+ * budget is exhausted and validators stop evaluating further rules for the
+ * file.
+ * <p>
+ * Every rule limit that dropped messages is summarized by one message at the
+ * location of the first dropped message, with the highest dropped severity so
+ * that the exit code does not change. Reaching the file limit is always
+ * summarized, at the location of the message that reached it, because the
+ * rules that were not evaluated afterwards leave no messages to count. A budget
+ * belongs to a single validation and is not thread-safe.
+ */
+public final class MessageBudget {
+
+    private final MessageLimits limits;
+    private final Predicate<ValidationMessage> reported;
+    private final Map<String, Integer> ruleCounts = new HashMap<>();
+    private final Map<String, Dropped> droppedByRule = new LinkedHashMap<>();
+    private Dropped fileLimit;
+    private int count;
+
+    MessageBudget(MessageLimits limits, Predicate<ValidationMessage> reported) {
+        this.limits = Objects.requireNonNull(limits, "[" + getClass().getName() + "] limits must not be null");
+        this.reported = Objects.requireNonNull(reported, "[" + getClass().getName() + "] reported must not be null");
+    }
+
+    /**
+     * Creates a budget that passes on every message.
+     *
+     * @return an unlimited budget
+     */
+    public static MessageBudget unlimited() {
+        return new MessageBudget(MessageLimits.UNLIMITED, message -> true);
+    }
+
+    /**
+     * Passes a message on if it is reported and within the limits.
+     *
+     * @param message the message
+     * @param sink    receives the message if it is passed on
+     */
+    public void add(ValidationMessage message, Consumer<ValidationMessage> sink) {
+        if (!reported.test(message)) {
+            return;
+        }
+        if (limits.isUnlimited()) {
+            sink.accept(message);
+            return;
+        }
+
+        String ruleId = message.getRuleId();
+        int ruleCount = ruleCounts.getOrDefault(ruleId, 0);
+        if (limits.getMaxPerRule() > 0 && ruleCount >= limits.getMaxPerRule()) {
+            droppedByRule.computeIfAbsent(ruleId, r -> new Dropped(message)).add(message);
+        } else if (isExhausted()) {
+            fileLimit.add(message);
+        } else {
+            ruleCounts.put(ruleId, ruleCount + 1);
+            count++;
+            sink.accept(message);
+            if (isExhausted()) {
+                // Record the limit now: the rules that are skipped from here on
+                // never add a message
+                fileLimit = new Dropped(message);
+            }
+        }
+    }
+
+    /**
+     * Passes on the reported messages within the limits.
+     *
+     * @param messages the messages
+     * @param sink     receives the messages that are passed on
+     */
+    public void addAll(Collection<ValidationMessage> messages, Consumer<ValidationMessage> sink) {
+        for (ValidationMessage message : messages) {
+            add(message, sink);
+        }
+    }
+
+    /**
+     * Tells whether the file limit is reached, so that no further rules need to
+     * be evaluated.
+     *
+     * @return {@code true} if no more messages are passed on
+     */
+    public boolean isExhausted() {
+        return limits.getMaxPerFile() > 0 && count >= limits.getMaxPerFile();
+    }
+
+    /**
+     * Creates one message for every rule limit that dropped messages, in the
+     * order they were reached, followed by one message if the file limit was
+     * reached.
+     *
+     * @return the summary messages, empty if nothing was dropped
+     */
+    public List<ValidationMessage> summarize() {
+        List<ValidationMessage> summaries = new ArrayList<>();
+        for (Map.Entry<String, Dropped> entry : droppedByRule.entrySet()) {
+            Dropped dropped = entry.getValue();
+            summaries
+                    .add(dropped
+                            .summary(RuleIds.Limit.MESSAGES_PER_RULE,
+                                    more(dropped.count) + " of rule '" + entry.getKey()
+                                            + "' suppressed after reaching the limit of " + limits.getMaxPerRule()
+                                            + " messages per rule"));
+        }
+        if (fileLimit != null) {
+            summaries
+                    .add(fileLimit
+                            .summary(RuleIds.Limit.MESSAGES_PER_FILE,
+                                    "Validation stopped after reaching the limit of " + limits.getMaxPerFile()
+                                            + " messages per file; remaining rules were not evaluated"));
+        }
+        return summaries;
+    }
+
+    private static String more(int count) {
+        return count == 1 ? "1 more message" : count + " more messages";
+    }
+
+    /**
+     * Summarizes one limit: where the summary is located and the number and
+     * highest severity of the messages the limit dropped.
+     */
+    private static final class Dropped {
+        private final ValidationMessage first;
+        private Severity severity;
+        private int count;
+
+        Dropped(ValidationMessage first) {
+            this.first = first;
+            this.severity = first.getSeverity();
+        }
+
+        void add(ValidationMessage message) {
+            if (message.getSeverity().isAtLeast(severity)) {
+                severity = message.getSeverity();
+            }
+            count++;
+        }
+
+        ValidationMessage summary(String ruleId, String text) {
+            return ValidationMessage
+                    .builder()
+                    .severity(severity)
+                    .ruleId(ruleId)
+                    .location(first.getLocation())
+                    .message(text)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.dataliquid.asciidoc.linter.validator;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Caps on the number of messages reported for a file, in total and per rule. A
+ * limit of {@code 0} means unlimited. The limits are shared; every validated
+ * file counts against them in its own {@link MessageBudget}.
+ */
+public final class MessageLimits {
+
+    /** No limits. */
+    public static final MessageLimits UNLIMITED = new MessageLimits(0, 0);
+
+    private final int maxPerFile;
+    private final int maxPerRule;
+
+    private MessageLimits(int maxPerFile, int maxPerRule) {
+        this.maxPerFile = maxPerFile;
+        this.maxPerRule = maxPerRule;
+    }
+
+    /**
+     * Creates message limits.
+     *
+     * @param  maxPerFile the maximum number of messages per file, {@code 0} for
+     *                    unlimited
+     * @param  maxPerRule the maximum number of messages per rule and file,
+     *                    {@code 0} for unlimited
+     *
+     * @return            the limits
+     */
+    public static MessageLimits of(int maxPerFile, int maxPerRule) {
+        if (maxPerFile < 0) {
+            throw new IllegalArgumentException("maxPerFile must not be negative");
+        }
+        if (maxPerRule < 0) {
+            throw new IllegalArgumentException("maxPerRule must not be negative");
+        }
+        if (maxPerFile == 0 && maxPerRule == 0) {
+            return UNLIMITED;
+        }
+        return new MessageLimits(maxPerFile, maxPerRule);
+    }
+
+    public int getMaxPerFile() {
+        return maxPerFile;
+    }
+
+    public int getMaxPerRule() {
+        return maxPerRule;
+    }
+
+    public boolean isUnlimited() {
+        return maxPerFile == 0 && maxPerRule == 0;
+    }
+
+    /**
+     * Starts counting the messages of one file.
+     *
+     * @param  reported tells which messages are reported at all; the others are
+     *                  dropped without counting against the limits
+     *
+     * @return          the budget of the file
+     */
+    public MessageBudget newBudget(Predicate<ValidationMessage> reported) {
+        return new MessageBudget(this, reported);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MessageLimits that = (MessageLimits) o;
+        return maxPerFile == that.maxPerFile && maxPerRule == that.maxPerRule;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxPerFile, maxPerRule);
+    }
+
+    @Override
+    public String toString() {
+        return "MessageLimits{maxPerFile=" + maxPerFile + ", maxPerRule=" + maxPerRule + "}";
+    }
+}
@@ -18,15 +18,17 @@ import com.dataliquid.asciidoc.linter.validator.rules.LengthRule;
 import com.dataliquid.asciidoc.linter.validator.rules.OrderRule;
 import com.dataliquid.asciidoc.linter.validator.rules.PatternRule;
 import com.dataliquid.asciidoc.linter.validator.rules.RequiredRule;
-import com.dataliquid.asciidoc.linter.report.console.FileContentCache;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
 
 public final class MetadataValidator {
     private final List<AttributeRule> rules;
-    private final FileContentCache fileCache;
+    private final SourceRegistry sourceRegistry;
+    private final MessageBudget messageBudget;
 
     private MetadataValidator(Builder builder) {
         this.rules = Collections.unmodifiableList(new ArrayList<>(builder.rules));
-        this.fileCache = new FileContentCache();
+        this.sourceRegistry = builder.sourceRegistry != null ? builder.sourceRegistry : new SourceRegistry();
+        this.messageBudget = builder.messageBudget != null ? builder.messageBudget : MessageBudget.unlimited();
     }
 
     public ValidationResult validate(Document document) {
@@ -42,20 +44,20 @@ public final class MetadataValidator {
         validateAttributes(attributes, resultBuilder);
 
         RequiredRule requiredRule = findRequiredRule();
-        if (requiredRule != null) {
+        if (requiredRule != null && !messageBudget.isExhausted()) {
             Set<String> presentAttributes = new HashSet<>(attributes.keySet());
 
             SourceLocation docLocation = findLocationForMissingAttributes(filename);
 
             List<ValidationMessage> missingMessages = requiredRule
                     .validateMissingAttributes(presentAttributes, docLocation);
-            missingMessages.forEach(resultBuilder::addMessage);
+            messageBudget.addAll(missingMessages, resultBuilder::addMessage);
         }
 
         OrderRule orderRule = findOrderRule();
-        if (orderRule != null) {
+        if (orderRule != null && !messageBudget.isExhausted()) {
             List<ValidationMessage> orderMessages = orderRule.validateOrder();
-            orderMessages.forEach(resultBuilder::addMessage);
+            messageBudget.addAll(orderMessages, resultBuilder::addMessage);
         }
 
         return resultBuilder.complete().build();
@@ -76,9 +78,9 @@ public final class MetadataValidator {
             AttributeWithLocation attrWithLoc = entry.getValue();
 
             for (AttributeRule rule : rules) {
-                if (rule.isApplicable(attrName)) {
+                if (rule.isApplicable(attrName) && !messageBudget.isExhausted()) {
                     List<ValidationMessage> messages = rule.validate(attrName, attrWithLoc.value, attrWithLoc.location);
-                    messages.forEach(resultBuilder::addMessage);
+                    messageBudget.addAll(messages, resultBuilder::addMessage);
                 }
             }
         }
@@ -88,7 +90,7 @@ public final class MetadataValidator {
         Map<String, AttributeWithLocation> result = Collections.synchronizedMap(new LinkedHashMap<>());
 
         Map<String, Object> attributes = document.getAttributes();
-        List<String> fileLines = fileCache.getFileLines(filename);
+        List<String> fileLines = sourceRegistry.getLines(filename);
 
         for (Map.Entry<String, Object> entry : attributes.entrySet()) {
             String key = entry.getKey();
@@ -157,7 +159,7 @@ public final class MetadataValidator {
     }
 
     private SourceLocation findLocationForMissingAttributes(String filename) {
-        List<String> fileLines = fileCache.getFileLines(filename);
+        List<String> fileLines = sourceRegistry.getLines(filename);
         if (fileLines.isEmpty()) {
             return SourceLocation.builder().filename(filename).line(1).build();
         }
@@ -295,6 +297,8 @@ public final class MetadataValidator {
 
     public static final class Builder {
         private final List<AttributeRule> rules = new ArrayList<>();
+        private SourceRegistry sourceRegistry;
+        private MessageBudget messageBudget;
 
         private Builder() {
         }
@@ -305,6 +309,30 @@ public final class MetadataValidator {
             return this;
         }
 
+        /**
+         * Sets the registry the source lines for error positions are read from.
+         *
+         * @param  sourceRegistry the source registry
+         *
+         * @return                this builder
+         */
+        public Builder sourceRegistry(SourceRegistry sourceRegistry) {
+            this.sourceRegistry = sourceRegistry;
+            return this;
+        }
+
+        /**
+         * Sets the budget the messages of the file are counted against.
+         *
+         * @param  messageBudget the message budget of the file
+         *
+         * @return               this builder
+         */
+        public Builder messageBudget(MessageBudget messageBudget) {
+            this.messageBudget = messageBudget;
+            return this;
+        }
+
         public MetadataValidator build() {
             return new MetadataValidator(this);
         }
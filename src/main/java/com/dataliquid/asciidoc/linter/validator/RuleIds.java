@@ -1,5 +1,10 @@
 package com.dataliquid.asciidoc.linter.validator;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
 /**
  * Central repository for all validation rule IDs. This class provides constants
  * for rule IDs used across all validators to ensure consistency and
@@ -7,10 +12,100 @@ package com.dataliquid.asciidoc.linter.validator;
  */
 public final class RuleIds {
 
+    /**
+     * Descriptions of the rules whose ID does not end with a common constraint.
+     */
+    private static final Map<String, String> DESCRIPTIONS = Map
+            .ofEntries(Map.entry(Block.TYPE_UNKNOWN, "Block type must be a known AsciiDoc block type"),
+                    Map.entry(Block.TYPE_NOT_ALLOWED, "Block type must be allowed in its section"),
+                    Map.entry(Block.VALIDATION_ERROR, "Block could not be validated"),
+                    Map.entry(Block.ORDER, "Blocks must appear in the configured order"),
+                    Map.entry(Block.ORDER_FIXED, "Block must appear at its configured position"),
+                    Map.entry(Block.ORDER_BEFORE, "Block must appear before the configured blocks"),
+                    Map.entry(Block.ORDER_AFTER, "Block must appear after the configured blocks"),
+                    Map.entry(Section.UNEXPECTED, "Section must be configured for its level"),
+                    Map.entry(Section.LEVEL, "Section must be at its configured level"),
+                    Map.entry(Section.MIN_OCCURRENCES, "Section must occur at least the configured number of times"),
+                    Map.entry(Section.MAX_OCCURRENCES,
+                            "Section must not occur more than the configured number of times"),
+                    Map.entry(Section.LEVEL0_MISSING, "Document must have a title"),
+                    Map.entry(Section.ORDER, "Sections must appear in the configured order"),
+                    Map.entry(Metadata.LENGTH, "Metadata attribute must have the configured length"),
+                    Map.entry(Metadata.ORDER, "Metadata attributes must appear in the configured order"),
+                    Map.entry(Limit.MESSAGES_PER_FILE, "Validation stopped at the message limit per file"),
+                    Map.entry(Limit.MESSAGES_PER_RULE,
+                            "Messages of a rule were suppressed at the message limit per rule"),
+                    Map.entry(Literal.INDENTATION_MIN_SPACES,
+                            "Literal indentation must have at least the configured number of spaces"),
+                    Map.entry(Literal.INDENTATION_MAX_SPACES,
+                            "Literal indentation must not exceed the configured number of spaces"),
+                    Map.entry(Literal.INDENTATION_CONSISTENT, "Literal indentation must be consistent"),
+                    Map.entry(Table.FORMAT_STYLE, "Table must use the configured format style"),
+                    Map.entry(Table.FORMAT_BORDERS, "Table must use the configured borders"),
+                    Map.entry(Ulist.MARKER_STYLE, "Unordered list must use the configured marker style"),
+                    Map.entry("parse-error", "Document must be parseable"),
+                    Map.entry("io-error", "File must be readable"));
+
+    /**
+     * Describes the common constraint a rule ID ends with.
+     */
+    private static final Map<String, String> CONSTRAINTS = Map
+            .ofEntries(Map.entry("required", "is required"),
+                    Map.entry("pattern", "must match the configured pattern"),
+                    Map.entry("min", "must not be below the configured minimum"),
+                    Map.entry("max", "must not exceed the configured maximum"),
+                    Map.entry("minLength", "must have at least the configured length"),
+                    Map.entry("maxLength", "must not exceed the configured length"),
+                    Map.entry("allowed", "must be one of the allowed values"),
+                    Map.entry("notAllowed", "is not allowed"), Map.entry("invalid", "must be valid"));
+
+    /**
+     * Names of the block types that are not written out in their rule IDs.
+     */
+    private static final Map<String, String> SUBJECTS = Map
+            .of("ulist", "unordered list", "dlist", "description list");
+
+    private static final Pattern CAMEL_CASE = Pattern.compile("(?<=[a-z])(?=[A-Z])");
+
     // Prevent instantiation
     private RuleIds() {
     }
 
+    /**
+     * Describes what a rule checks, independent of any particular finding. Rules
+     * that end with a common constraint, including the rule IDs that block
+     * validators derive from field names, are described by their subject and
+     * constraint, e.g. {@code paragraph.lines.max} as "Paragraph lines must not
+     * exceed the configured maximum".
+     *
+     * @param  ruleId the rule ID
+     *
+     * @return        the description of the rule
+     */
+    public static String describe(String ruleId) {
+        Objects.requireNonNull(ruleId, "[" + RuleIds.class.getName() + "] ruleId must not be null");
+        String description = DESCRIPTIONS.get(ruleId);
+        if (description != null) {
+            return description;
+        }
+
+        String[] segments = ruleId.split("\\.");
+        String constraint = segments.length > 1 ? CONSTRAINTS.get(segments[segments.length - 1]) : null;
+        int subjectLength = constraint != null ? segments.length - 1 : segments.length;
+        StringBuilder subject = new StringBuilder();
+        for (int i = 0; i < subjectLength; i++) {
+            if (i > 0) {
+                subject.append(' ');
+            }
+            String segment = i == 0 ? SUBJECTS.getOrDefault(segments[i], segments[i]) : segments[i];
+            subject.append(CAMEL_CASE.matcher(segment).replaceAll(" ").toLowerCase(Locale.ROOT));
+        }
+        if (subject.length() > 0) {
+            subject.setCharAt(0, Character.toUpperCase(subject.charAt(0)));
+        }
+        return constraint != null ? subject + " " + constraint : subject.toString();
+    }
+
     /**
      * Utility method to check if a rule ID belongs to any of the defined rule
      * categories.
@@ -65,6 +160,14 @@ public final class RuleIds {
         public static final String ORDER = "metadata.order";
     }
 
+    /**
+     * Rule IDs for messages summarizing what the message limits suppressed
+     */
+    public static final class Limit {
+        public static final String MESSAGES_PER_FILE = "limit.messages.per-file";
+        public static final String MESSAGES_PER_RULE = "limit.messages.per-rule";
+    }
+
     /**
      * Rule IDs for admonition block validation
      */
@@ -0,0 +1,378 @@
+package com.dataliquid.asciidoc.linter.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.blocks.Block;
+import com.dataliquid.asciidoc.linter.config.blocks.BlockType;
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.config.rule.SectionConfig;
+import com.dataliquid.asciidoc.linter.config.rule.TitleConfig;
+
+/**
+ * Lookup structures derived once from a {@link LinterConfiguration} and shared
+ * by all validations that use it. The plan holds the compiled title patterns,
+ * the section configurations of every scope indexed by level and the allowed
+ * blocks of every section indexed by type and name, so that validators do not
+ * recompile regular expressions or scan configuration lists for every node.
+ * <p>
+ * A plan compiled with a minimum severity leaves out the block rules whose
+ * resolved severity is below it, so their validators are never invoked.
+ * <p>
+ * A plan is immutable after {@link #compile(LinterConfiguration)} and can be
+ * used by any number of threads. Lookups for configuration objects that are not
+ * part of the compiled configuration are answered by computing the result on
+ * the fly.
+ */
+public final class RulePlan {
+
+    private final LinterConfiguration configuration;
+    private final Severity minimumSeverity;
+    private final boolean headerOnly;
+    private final List<SectionConfig> rootSections;
+    private final List<SectionConfig> level0Sections;
+    private final List<SectionConfig> level1Sections;
+    private final List<SectionConfig> orderedRootSections;
+    private final Map<TitleConfig, Pattern> titlePatterns;
+    private final Map<List<SectionConfig>, Map<Integer, List<SectionConfig>>> levelIndexes;
+    private final Map<SectionConfig, BlockIndex> blockIndexes;
+
+    private RulePlan(LinterConfiguration configuration, Severity minimumSeverity) {
+        this.configuration = configuration;
+        this.minimumSeverity = minimumSeverity;
+        this.headerOnly = configuration.document() == null || configuration.document().sections().isEmpty();
+        this.rootSections = configuration.document() != null && configuration.document().sections() != null
+                ? configuration.document().sections()
+                : Collections.emptyList();
+        this.titlePatterns = new IdentityHashMap<>();
+        this.levelIndexes = new IdentityHashMap<>();
+        this.blockIndexes = new IdentityHashMap<>();
+
+        this.level0Sections = sectionsAtLevel(rootSections, 0);
+        this.level1Sections = determineLevel1Sections(level0Sections, rootSections);
+        this.orderedRootSections = rootSections
+                .stream()
+                .filter(config -> config.order() != null)
+                .sorted(Comparator.comparing(SectionConfig::order))
+                .collect(Collectors.toUnmodifiableList());
+
+        indexScope(rootSections);
+        indexScope(level1Sections);
+    }
+
+    /**
+     * Compiles the plan for the given configuration.
+     *
+     * @param  configuration                          the linter configuration
+     *
+     * @return                                        the compiled plan
+     *
+     * @throws java.util.regex.PatternSyntaxException if a configured title pattern
+     *                                                is not a valid regular
+     *                                                expression
+     */
+    public static RulePlan compile(LinterConfiguration configuration) {
+        return compile(configuration, Severity.INFO);
+    }
+
+    /**
+     * Compiles the plan for the given configuration, leaving out the block rules
+     * whose severity is below the given minimum.
+     *
+     * @param  configuration                          the linter configuration
+     * @param  minimumSeverity                        the least severe severity
+     *                                                that is still reported
+     *
+     * @return                                        the compiled plan
+     *
+     * @throws java.util.regex.PatternSyntaxException if a configured title pattern
+     *                                                is not a valid regular
+     *                                                expression
+     */
+    public static RulePlan compile(LinterConfiguration configuration, Severity minimumSeverity) {
+        Objects.requireNonNull(configuration, "[" + RulePlan.class.getName() + "] configuration must not be null");
+        Objects
+                .requireNonNull(minimumSeverity,
+                        "[" + RulePlan.class.getName() + "] minimumSeverity must not be null");
+        return new RulePlan(configuration, minimumSeverity);
+    }
+
+    private void indexScope(List<SectionConfig> scope) {
+        if (levelIndexes.containsKey(scope)) {
+            return;
+        }
+        Map<Integer, List<SectionConfig>> byLevel = new HashMap<>();
+        for (SectionConfig config : scope) {
+            byLevel.computeIfAbsent(config.level(), level -> new ArrayList<>()).add(config);
+        }
+        byLevel.replaceAll((level, configs) -> Collections.unmodifiableList(configs));
+        levelIndexes.put(scope, byLevel);
+
+        for (SectionConfig config : scope) {
+            if (config.title() != null && config.title().pattern() != null) {
+                titlePatterns.put(config.title(), Pattern.compile(config.title().pattern()));
+            }
+            blockIndexes
+                    .computeIfAbsent(config, section -> BlockIndex.of(section.allowedBlocks(), minimumSeverity));
+            if (config.subsections() != null) {
+                indexScope(config.subsections());
+            }
+        }
+    }
+
+    private static List<SectionConfig> determineLevel1Sections(List<SectionConfig> level0Sections,
+            List<SectionConfig> rootSections) {
+        // If a level 0 config has subsections, those apply to level 1 sections;
+        // otherwise all non-level-0 configs from the root apply
+        for (SectionConfig config : level0Sections) {
+            if (config.subsections() != null && !config.subsections().isEmpty()) {
+                return config.subsections();
+            }
+        }
+        return rootSections.stream().filter(config -> config.level() != 0).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the configuration this plan was compiled from.
+     *
+     * @return the linter configuration
+     */
+    public LinterConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Returns the minimum severity of the rules in this plan.
+     *
+     * @return the least severe severity that is still reported
+     */
+    public Severity getMinimumSeverity() {
+        return minimumSeverity;
+    }
+
+    /**
+     * Checks whether messages of the given severity are reported.
+     *
+     * @param  severity the message severity
+     *
+     * @return          {@code true} if the severity is at least the minimum
+     *                  severity
+     */
+    public boolean isReported(Severity severity) {
+        return severity.isAtLeast(minimumSeverity);
+    }
+
+    /**
+     * Checks whether only the document header is needed for validation. This is
+     * the case when no section or block rules are configured, so documents can be
+     * parsed without their body.
+     *
+     * @return {@code true} if the configuration only has metadata rules or no
+     *         rules at all
+     */
+    public boolean isHeaderOnly() {
+        return headerOnly;
+    }
+
+    /**
+     * Returns the top-level section configurations.
+     *
+     * @return the root sections, empty if none are configured
+     */
+    public List<SectionConfig> getRootSections() {
+        return rootSections;
+    }
+
+    /**
+     * Returns the top-level section configurations for the document title.
+     *
+     * @return the level 0 sections
+     */
+    public List<SectionConfig> getLevel0Sections() {
+        return level0Sections;
+    }
+
+    /**
+     * Returns the configurations that apply to level 1 sections: the subsections
+     * of the level 0 configuration if it defines any, otherwise all non-level-0
+     * root configurations.
+     *
+     * @return the level 1 sections
+     */
+    public List<SectionConfig> getLevel1Sections() {
+        return level1Sections;
+    }
+
+    /**
+     * Returns the top-level section configurations that define an order, sorted
+     * by that order.
+     *
+     * @return the ordered root sections
+     */
+    public List<SectionConfig> getOrderedRootSections() {
+        return orderedRootSections;
+    }
+
+    /**
+     * Returns the compiled pattern of a title configuration.
+     *
+     * @param  title the title configuration, may be {@code null}
+     *
+     * @return       the compiled pattern, or {@code null} if no pattern is
+     *               configured
+     */
+    public Pattern getTitlePattern(TitleConfig title) {
+        if (title == null || title.pattern() == null) {
+            return null;
+        }
+        Pattern pattern = titlePatterns.get(title);
+        return pattern != null ? pattern : Pattern.compile(title.pattern());
+    }
+
+    /**
+     * Returns the configurations of the given scope that apply to the given
+     * section level, in configuration order.
+     *
+     * @param  scope the section configurations to search
+     * @param  level the section level
+     *
+     * @return       the matching configurations, empty if none
+     */
+    public List<SectionConfig> getSectionsAtLevel(List<SectionConfig> scope, int level) {
+        Map<Integer, List<SectionConfig>> byLevel = levelIndexes.get(scope);
+        if (byLevel == null) {
+            return sectionsAtLevel(scope, level);
+        }
+        return byLevel.getOrDefault(level, Collections.emptyList());
+    }
+
+    private static List<SectionConfig> sectionsAtLevel(List<SectionConfig> scope, int level) {
+        return scope.stream().filter(config -> config.level() == level).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the allowed blocks of a section configuration indexed by type and
+     * name.
+     *
+     * @param  section the section configuration
+     *
+     * @return         the block index
+     */
+    public BlockIndex getBlockIndex(SectionConfig section) {
+        BlockIndex index = blockIndexes.get(section);
+        return index != null ? index : BlockIndex.of(section.allowedBlocks(), minimumSeverity);
+    }
+
+    /**
+     * Allowed blocks of one section, indexed by block type and by configured
+     * name. The blocks of an index built with a minimum severity only have the
+     * rules reported at that severity.
+     */
+    public static final class BlockIndex {
+
+        private final List<Block> blocks;
+        private final Map<BlockType, List<Block>> byType;
+        private final Map<BlockType, Map<String, Block>> byName;
+        private final List<Block> ordered;
+
+        private BlockIndex(List<Block> blocks) {
+            this.blocks = blocks != null ? blocks : Collections.emptyList();
+            this.byType = new EnumMap<>(BlockType.class);
+            this.byName = new EnumMap<>(BlockType.class);
+
+            for (Block block : this.blocks) {
+                byType.computeIfAbsent(block.getType(), type -> new ArrayList<>()).add(block);
+                if (block.getName() != null) {
+                    byName
+                            .computeIfAbsent(block.getType(), type -> new LinkedHashMap<>())
+                            .putIfAbsent(block.getName(), block);
+                }
+            }
+            byType.replaceAll((type, configs) -> Collections.unmodifiableList(configs));
+
+            this.ordered = this.blocks
+                    .stream()
+                    .filter(block -> block.getOrder() != null)
+                    .sorted(Comparator.comparing(Block::getOrder))
+                    .collect(Collectors.toUnmodifiableList());
+        }
+
+        static BlockIndex of(List<Block> blocks) {
+            return new BlockIndex(blocks);
+        }
+
+        static BlockIndex of(List<Block> blocks, Severity minimumSeverity) {
+            if (blocks == null || minimumSeverity == Severity.INFO) {
+                return new BlockIndex(blocks);
+            }
+            List<Block> pruned = new ArrayList<>(blocks.size());
+            for (Block block : blocks) {
+                pruned.add(block.pruneBelow(minimumSeverity));
+            }
+            return new BlockIndex(Collections.unmodifiableList(pruned));
+        }
+
+        /**
+         * Returns all allowed blocks in configuration order.
+         *
+         * @return the allowed blocks
+         */
+        public List<Block> getBlocks() {
+            return blocks;
+        }
+
+        /**
+         * Returns the allowed blocks of a type in configuration order.
+         *
+         * @param  type the block type
+         *
+         * @return      the blocks of that type, empty if none
+         */
+        public List<Block> getBlocks(BlockType type) {
+            return byType.getOrDefault(type, Collections.emptyList());
+        }
+
+        /**
+         * Finds the configuration for a block: the first configuration of that type
+         * with the given name if there is one, otherwise the first configuration of
+         * that type.
+         *
+         * @param  type the block type
+         * @param  name the block name, may be {@code null}
+         *
+         * @return      the matching configuration, or {@code null} if the type is
+         *              not allowed
+         */
+        public Block find(BlockType type, String name) {
+            if (name != null) {
+                Map<String, Block> named = byName.get(type);
+                Block block = named != null ? named.get(name) : null;
+                if (block != null) {
+                    return block;
+                }
+            }
+            List<Block> candidates = byType.get(type);
+            return candidates != null ? candidates.get(0) : null;
+        }
+
+        /**
+         * Returns the blocks that define an order, sorted by that order.
+         *
+         * @return the ordered blocks
+         */
+        public List<Block> getOrderedBlocks() {
+            return ordered;
+        }
+    }
+}
@@ -2,41 +2,47 @@ package com.dataliquid.asciidoc.linter.validator;
 
 import static com.dataliquid.asciidoc.linter.validator.RuleIds.Section.*;
 
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.asciidoctor.ast.Document;
 import org.asciidoctor.ast.Section;
-import org.asciidoctor.ast.StructuralNode;
 
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
 import com.dataliquid.asciidoc.linter.config.document.DocumentConfiguration;
 import com.dataliquid.asciidoc.linter.config.common.Severity;
 import com.dataliquid.asciidoc.linter.config.rule.SectionConfig;
 import com.dataliquid.asciidoc.linter.config.rule.TitleConfig;
-import com.dataliquid.asciidoc.linter.report.console.FileContentCache;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
 import com.dataliquid.asciidoc.linter.validator.Suggestion;
 import com.dataliquid.asciidoc.linter.util.StringUtils;
 
 public final class SectionValidator {
     private final DocumentConfiguration configuration;
     private final Map<String, Integer> sectionOccurrences;
+    private final RulePlan rulePlan;
     private final List<SectionConfig> rootSections;
-    private final FileContentCache fileCache;
+    private final SourceRegistry sourceRegistry;
+    private final MessageBudget messageBudget;
 
     private SectionValidator(Builder builder) {
         this.configuration = Objects
                 .requireNonNull(builder._configuration,
                         "[" + getClass().getName() + "] configuration must not be null");
         this.sectionOccurrences = new HashMap<>();
-        this.rootSections = configuration.sections() != null ? configuration.sections() : Collections.emptyList();
-        this.fileCache = new FileContentCache();
+        this.rulePlan = builder._rulePlan != null && builder._rulePlan.getConfiguration().document() == configuration
+                ? builder._rulePlan
+                : RulePlan.compile(new LinterConfiguration(configuration));
+        this.rootSections = rulePlan.getRootSections();
+        this.sourceRegistry = builder._sourceRegistry != null ? builder._sourceRegistry : new SourceRegistry();
+        this.messageBudget = builder._messageBudget != null ? builder._messageBudget : MessageBudget.unlimited();
     }
 
     public ValidationResult validate(Document document) {
@@ -45,54 +51,120 @@ public final class SectionValidator {
     }
 
     public ValidationResult validate(Document document, String filename) {
-        long startTime = System.currentTimeMillis();
-        ValidationResult.Builder resultBuilder = ValidationResult.builder().startTime(startTime);
+        Traversal traversal = traverse(filename);
+        DocumentWalker.walk(document, List.of(traversal));
+        return traversal.getResult();
+    }
 
-        // Validate document title as level 0 section
-        validateDocumentTitle(document, filename, resultBuilder);
+    /**
+     * Starts a validation that is driven by a {@link DocumentWalker}, so that
+     * other visitors can share the descent. The result is available once the
+     * walker ended the document.
+     *
+     * @param  filename the name of the validated file
+     *
+     * @return          the visitor that validates the sections
+     */
+    public Traversal traverse(String filename) {
+        return new Traversal(filename);
+    }
 
-        List<StructuralNode> sections = document
-                .getBlocks()
-                .stream()
-                .filter(block -> block instanceof Section)
-                .collect(Collectors.toList());
+    /**
+     * Validates the sections as they are entered. The configurations allowed for
+     * the current level are kept on a stack; the occurrences and the order of the
+     * root sections are collected on the way down and checked when the document
+     * ends.
+     */
+    public final class Traversal implements DocumentVisitor {
+        private final String filename;
+        private final Deque<List<SectionConfig>> allowedConfigs = new ArrayDeque<>();
+        private final Map<String, Integer> actualOrder = new LinkedHashMap<>();
+        private ValidationResult.Builder resultBuilder;
+        private ValidationResult result;
+        private int rootSectionCount;
+
+        private Traversal(String filename) {
+            this.filename = filename;
+        }
 
-        validateRootSections(sections, filename, resultBuilder);
+        @Override
+        public void startDocument(Document document) {
+            resultBuilder = ValidationResult.builder().startTime(System.currentTimeMillis());
 
-        validateMinMaxOccurrences(filename, resultBuilder);
+            // Validate document title as level 0 section
+            validateDocumentTitle(document, filename, resultBuilder);
 
-        validateSectionOrder(sections, filename, resultBuilder);
+            // Determine which configs to use for level 1 sections
+            allowedConfigs.push(rulePlan.getLevel1Sections());
+        }
 
-        return resultBuilder.complete().build();
-    }
+        @Override
+        public void enterSection(Section section) {
+            List<SectionConfig> allowed = allowedConfigs.peek();
+            if (allowedConfigs.size() == 1) {
+                trackRootOrder(section, rootSectionCount++);
+            }
 
-    private void validateRootSections(List<StructuralNode> sections, String filename,
-            ValidationResult.Builder resultBuilder) {
-        // Determine which configs to use for level 1 sections
-        List<SectionConfig> level1Configs = determineLevel1Configs();
+            if (messageBudget.isExhausted()) {
+                // Keep the stack balanced, no further messages are reported
+                allowedConfigs.push(allowed);
+                return;
+            }
+            allowedConfigs.push(validateSection(section, allowed, filename, resultBuilder));
+        }
+
+        @Override
+        public void leaveSection(Section section) {
+            allowedConfigs.pop();
+        }
+
+        @Override
+        public void endDocument(Document document) {
+            allowedConfigs.clear();
 
-        for (StructuralNode node : sections) {
-            if (node instanceof Section) {
-                Section section = (Section) node;
-                validateSection(section, level1Configs, filename, resultBuilder);
+            // The occurrences are incomplete once the budget stopped the sections
+            if (!messageBudget.isExhausted()) {
+                validateMinMaxOccurrences(filename, resultBuilder);
             }
+
+            if (!messageBudget.isExhausted()) {
+                validateSectionOrder(actualOrder, filename, resultBuilder);
+            }
+
+            result = resultBuilder.complete().build();
         }
-    }
 
-    private List<SectionConfig> determineLevel1Configs() {
-        // Check if level 0 config has subsections defined
-        for (SectionConfig config : rootSections) {
-            if (config.level() == 0 && config.subsections() != null && !config.subsections().isEmpty()) {
-                return config.subsections();
+        /**
+         * Returns the result of the validation.
+         *
+         * @return                       the result
+         *
+         * @throws IllegalStateException if the document has not ended yet
+         */
+        public ValidationResult getResult() {
+            if (result == null) {
+                throw new IllegalStateException("Section validation of " + filename + " has not ended");
             }
+            return result;
         }
 
-        // Fallback: use all non-level-0 configs from root
-        return rootSections.stream().filter(config -> config.level() != 0).collect(Collectors.toList());
+        private void trackRootOrder(Section section, int position) {
+            if (rulePlan.getOrderedRootSections().isEmpty()) {
+                return;
+            }
+            SectionConfig config = findMatchingConfig(section, rootSections);
+            if (config != null && config.order() != null) {
+                actualOrder.put(config.name(), position);
+            }
+        }
     }
 
-    private void validateSection(Section section, List<SectionConfig> allowedConfigs, String filename,
-            ValidationResult.Builder resultBuilder) {
+    /**
+     * Validates a section against the configurations allowed at its position and
+     * returns the configurations allowed for its subsections.
+     */
+    private List<SectionConfig> validateSection(Section section, List<SectionConfig> allowedConfigs,
+            String filename, ValidationResult.Builder resultBuilder) {
 
         int level = section.getLevel();
         String title = section.getTitle();
@@ -129,7 +201,7 @@ public final class SectionValidator {
                         .message("Section title does not match required pattern")
                         .actualValue(title)
                         .expectedValue(expectedPattern != null ? expectedPattern : "One of configured patterns")
-                        .addSuggestion(Suggestion
+                        .addSuggestionLazily(() -> Suggestion
                                 .builder()
                                 .description("Adjust section title to match required pattern")
                                 .addExample("== Introduction")
@@ -138,7 +210,7 @@ public final class SectionValidator {
                                 .explanation("Section titles must follow the configured naming pattern for consistency")
                                 .build())
                         .build();
-                resultBuilder.addMessage(message);
+                messageBudget.add(message, resultBuilder::addMessage);
             } else {
                 // No configs for this level at all
                 ValidationMessage message = ValidationMessage
@@ -149,7 +221,7 @@ public final class SectionValidator {
                         .message("Section not allowed at level " + level + ": '" + title + "'")
                         .actualValue(title)
                         .expectedValue("No sections configured for level " + level)
-                        .addSuggestion(Suggestion
+                        .addSuggestionLazily(() -> Suggestion
                                 .builder()
                                 .description("Remove unexpected section or move to appropriate level")
                                 .addExample("Remove this section if not needed")
@@ -158,7 +230,7 @@ public final class SectionValidator {
                                 .explanation("This section level is not allowed in the current document structure")
                                 .build())
                         .build();
-                resultBuilder.addMessage(message);
+                messageBudget.add(message, resultBuilder::addMessage);
             }
             // Don't return - still need to validate subsections
         }
@@ -178,29 +250,15 @@ public final class SectionValidator {
             }
         }
 
-        // Always validate subsections
-        List<StructuralNode> subsections = section
-                .getBlocks()
-                .stream()
-                .filter(block -> block instanceof Section)
-                .collect(Collectors.toList());
-
-        for (StructuralNode subsection : subsections) {
-            // Determine which configs to use for subsections
-            List<SectionConfig> subsectionConfigs;
-
-            if (matchingConfig != null && matchingConfig.subsections() != null) {
-                // Use the subsections from the matching config
-                subsectionConfigs = matchingConfig.subsections();
-            } else {
-                // Important: When parent doesn't match, we need to determine the right configs
-                // for subsections
-                // Look for configs that have subsections defined and could be parent configs
-                subsectionConfigs = determineSubsectionConfigsFromParent(allowedConfigs, level);
-            }
-
-            validateSection((Section) subsection, subsectionConfigs, filename, resultBuilder);
+        // Determine which configs to use for subsections
+        if (matchingConfig != null && matchingConfig.subsections() != null) {
+            // Use the subsections from the matching config
+            return matchingConfig.subsections();
         }
+        // Important: When parent doesn't match, we need to determine the right configs
+        // for subsections
+        // Look for configs that have subsections defined and could be parent configs
+        return determineSubsectionConfigsFromParent(allowedConfigs, level);
     }
 
     private void validateTitle(Section section, TitleConfig titleConfig, String filename,
@@ -212,8 +270,8 @@ public final class SectionValidator {
         String title = section.getTitle();
         SourceLocation location = createLocation(filename, section);
 
-        if (titleConfig.pattern() != null) {
-            Pattern pattern = Pattern.compile(titleConfig.pattern());
+        Pattern pattern = rulePlan.getTitlePattern(titleConfig);
+        if (pattern != null) {
             if (!pattern.matcher(title).matches()) {
                 ValidationMessage message = ValidationMessage
                         .builder()
@@ -223,7 +281,7 @@ public final class SectionValidator {
                         .message("Section title does not match required pattern")
                         .actualValue(title)
                         .expectedValue("Pattern: " + titleConfig.pattern())
-                        .addSuggestion(Suggestion
+                        .addSuggestionLazily(() -> Suggestion
                                 .builder()
                                 .description("Format section title to match pattern")
                                 .addExample("Use consistent capitalization")
@@ -232,7 +290,7 @@ public final class SectionValidator {
                                 .explanation("Section titles must match the configured regex pattern")
                                 .build())
                         .build();
-                resultBuilder.addMessage(message);
+                messageBudget.add(message, resultBuilder::addMessage);
             }
         }
     }
@@ -244,6 +302,8 @@ public final class SectionValidator {
 
         if (actualLevel != expectedLevel) {
             SourceLocation location = createLocation(filename, section);
+            // The suggestion is built lazily, so keep the title rather than the AST node
+            String title = section.getTitle();
             ValidationMessage message = ValidationMessage
                     .builder()
                     .severity(Severity.ERROR)
@@ -252,16 +312,16 @@ public final class SectionValidator {
                     .message("Section level mismatch")
                     .actualValue(String.valueOf(actualLevel))
                     .expectedValue(String.valueOf(expectedLevel))
-                    .addSuggestion(Suggestion
+                    .addSuggestionLazily(() -> Suggestion
                             .builder()
                             .description("Adjust section heading level")
-                            .fixedValue("=".repeat(expectedLevel + 1) + " " + section.getTitle())
+                            .fixedValue("=".repeat(expectedLevel + 1) + " " + title)
                             .addExample("=".repeat(expectedLevel + 1) + " Section Title")
                             .explanation("Section must be at level " + expectedLevel + " (use "
                                     + "=".repeat(expectedLevel + 1) + ")")
                             .build())
                     .build();
-            resultBuilder.addMessage(message);
+            messageBudget.add(message, resultBuilder::addMessage);
         }
     }
 
@@ -296,8 +356,8 @@ public final class SectionValidator {
                     .endColumn(0)
                     .build();
 
-            // Generate section placeholder based on level
-            String sectionPlaceholder = "=".repeat(config.level() + 1) + " " + config.name();
+            // Generate section placeholder based on level, only when it is rendered
+            Supplier<String> sectionPlaceholder = () -> "=".repeat(config.level() + 1) + " " + config.name();
 
             // Build context message
             String context = "";
@@ -314,18 +374,18 @@ public final class SectionValidator {
                     .actualValue(occurrences + " occurrences")
                     .expectedValue("At least " + config.occurrence().min() + " occurrence(s)")
                     .errorType(ErrorType.MISSING_VALUE)
-                    .missingValueHint(sectionPlaceholder)
+                    .missingValueHintLazily(sectionPlaceholder)
                     .placeholderContext(
                             PlaceholderContext.builder().type(PlaceholderContext.PlaceholderType.INSERT_BEFORE).build())
-                    .addSuggestion(Suggestion
+                    .addSuggestionLazily(() -> Suggestion
                             .builder()
                             .description("Add required section")
-                            .fixedValue(sectionPlaceholder)
-                            .addExample(sectionPlaceholder + "\nContent for " + config.name())
+                            .fixedValue(sectionPlaceholder.get())
+                            .addExample(sectionPlaceholder.get() + "\nContent for " + config.name())
                             .explanation("This section is required by the document structure configuration")
                             .build())
                     .build();
-            resultBuilder.addMessage(message);
+            messageBudget.add(message, resultBuilder::addMessage);
         }
 
         if (config.occurrence() != null && occurrences > config.occurrence().max()) {
@@ -339,7 +399,7 @@ public final class SectionValidator {
                     .message("Too many occurrences of section: " + config.name())
                     .actualValue(String.valueOf(occurrences))
                     .expectedValue("At most " + config.occurrence().max())
-                    .addSuggestion(Suggestion
+                    .addSuggestionLazily(() -> Suggestion
                             .builder()
                             .description("Remove or consolidate duplicate sections")
                             .addExample("Merge duplicate '" + config.name() + "' sections")
@@ -348,7 +408,7 @@ public final class SectionValidator {
                                     "Maximum " + config.occurrence().max() + " occurrence(s) allowed for this section")
                             .build())
                     .build();
-            resultBuilder.addMessage(message);
+            messageBudget.add(message, resultBuilder::addMessage);
         }
 
         // Recursively validate subsection occurrences
@@ -361,8 +421,8 @@ public final class SectionValidator {
 
     private void validateDocumentTitleConfig(String title, TitleConfig titleConfig, SourceLocation location,
             ValidationResult.Builder resultBuilder) {
-        if (titleConfig.pattern() != null) {
-            Pattern pattern = Pattern.compile(titleConfig.pattern());
+        Pattern pattern = rulePlan.getTitlePattern(titleConfig);
+        if (pattern != null) {
             if (!pattern.matcher(title).matches()) {
                 ValidationMessage message = ValidationMessage
                         .builder()
@@ -372,7 +432,7 @@ public final class SectionValidator {
                         .message("Document title does not match required pattern")
                         .actualValue(title)
                         .expectedValue("Pattern: " + titleConfig.pattern())
-                        .addSuggestion(Suggestion
+                        .addSuggestionLazily(() -> Suggestion
                                 .builder()
                                 .description("Format document title to match pattern")
                                 .addExample("= Project Documentation")
@@ -382,18 +442,15 @@ public final class SectionValidator {
                                         "Document title must match the configured pattern: " + titleConfig.pattern())
                                 .build())
                         .build();
-                resultBuilder.addMessage(message);
+                messageBudget.add(message, resultBuilder::addMessage);
             }
         }
     }
 
     private void validateDocumentTitle(Document document, String filename, ValidationResult.Builder resultBuilder) {
         // Find level 0 section config (document title)
-        SectionConfig titleConfig = rootSections
-                .stream()
-                .filter(config -> config.level() == 0)
-                .findFirst()
-                .orElse(null);
+        List<SectionConfig> level0Configs = rulePlan.getLevel0Sections();
+        SectionConfig titleConfig = level0Configs.isEmpty() ? null : level0Configs.get(0);
 
         if (titleConfig == null) {
             return; // No level 0 validation configured
@@ -427,7 +484,7 @@ public final class SectionValidator {
                     .missingValueHint("= Document Title")
                     .placeholderContext(
                             PlaceholderContext.builder().type(PlaceholderContext.PlaceholderType.INSERT_BEFORE).build())
-                    .addSuggestion(Suggestion
+                    .addSuggestionLazily(() -> Suggestion
                             .builder()
                             .description("Add document title")
                             .fixedValue("= Document Title")
@@ -437,7 +494,7 @@ public final class SectionValidator {
                             .explanation("Every AsciiDoc document should have a title at the beginning")
                             .build())
                     .build();
-            resultBuilder.addMessage(message);
+            messageBudget.add(message, resultBuilder::addMessage);
             return;
         }
 
@@ -451,28 +508,9 @@ public final class SectionValidator {
         sectionOccurrences.put(configKey, documentTitle != null ? 1 : 0);
     }
 
-    private void validateSectionOrder(List<StructuralNode> sections, String filename,
+    private void validateSectionOrder(Map<String, Integer> actualOrder, String filename,
             ValidationResult.Builder resultBuilder) {
-        List<SectionConfig> orderedConfigs = rootSections
-                .stream()
-                .filter(config -> config.order() != null)
-                .sorted(Comparator.comparing(SectionConfig::order))
-                .collect(Collectors.toList());
-
-        if (orderedConfigs.isEmpty()) {
-            return;
-        }
-
-        Map<String, Integer> actualOrder = Collections.synchronizedMap(new LinkedHashMap<>());
-        for (int i = 0; i < sections.size(); i++) {
-            if (sections.get(i) instanceof Section) {
-                Section section = (Section) sections.get(i);
-                SectionConfig config = findMatchingConfig(section, rootSections);
-                if (config != null && config.order() != null) {
-                    actualOrder.put(config.name(), i);
-                }
-            }
-        }
+        List<SectionConfig> orderedConfigs = rulePlan.getOrderedRootSections();
 
         for (int i = 0; i < orderedConfigs.size() - 1; i++) {
             SectionConfig current = orderedConfigs.get(i);
@@ -492,7 +530,7 @@ public final class SectionValidator {
                         .message("Section order violation")
                         .actualValue(current.name() + " appears after " + next.name())
                         .expectedValue(current.name() + " should appear before " + next.name())
-                        .addSuggestion(Suggestion
+                        .addSuggestionLazily(() -> Suggestion
                                 .builder()
                                 .description("Reorder sections according to configuration")
                                 .addExample("Move '" + current.name() + "' before '" + next.name() + "'")
@@ -500,7 +538,7 @@ public final class SectionValidator {
                                 .explanation("Sections must appear in the configured order for document consistency")
                                 .build())
                         .build();
-                resultBuilder.addMessage(message);
+                messageBudget.add(message, resultBuilder::addMessage);
             }
         }
     }
@@ -509,13 +547,9 @@ public final class SectionValidator {
         String title = section.getTitle();
         int level = section.getLevel();
 
-        for (SectionConfig config : configs) {
-            if (config.level() != level) {
-                continue;
-            }
-
-            if (config.title() != null && config.title().pattern() != null) {
-                Pattern pattern = Pattern.compile(config.title().pattern());
+        for (SectionConfig config : rulePlan.getSectionsAtLevel(configs, level)) {
+            Pattern pattern = rulePlan.getTitlePattern(config.title());
+            if (pattern != null) {
                 if (pattern.matcher(title).matches()) {
                     return config;
                 }
@@ -528,7 +562,7 @@ public final class SectionValidator {
     }
 
     private List<SectionConfig> findConfigsForLevel(int level, List<SectionConfig> configs) {
-        return configs.stream().filter(config -> config.level() == level).collect(Collectors.toList());
+        return rulePlan.getSectionsAtLevel(configs, level);
     }
 
     private SectionConfig findConfigForOccurrenceTracking(Section section, List<SectionConfig> configs) {
@@ -536,9 +570,10 @@ public final class SectionValidator {
 
         // Find the first config that matches the level and has a name (for occurrence
         // tracking)
-        return configs
+        return rulePlan
+                .getSectionsAtLevel(configs, level)
                 .stream()
-                .filter(config -> config.level() == level && config.name() != null)
+                .filter(config -> config.name() != null)
                 .findFirst()
                 .orElse(null);
     }
@@ -585,7 +620,7 @@ public final class SectionValidator {
     }
 
     private SourceLocation createDocumentTitleLocation(String filename, String title) {
-        List<String> fileLines = fileCache.getFileLines(filename);
+        List<String> fileLines = sourceRegistry.getLines(filename);
 
         if (fileLines.isEmpty()) {
             return SourceLocation.builder().filename(filename).line(1).build();
@@ -617,7 +652,7 @@ public final class SectionValidator {
 
     private SourceLocation createLocation(String filename, Section section) {
         int lineNumber = section.getSourceLocation() != null ? section.getSourceLocation().getLineNumber() : 1;
-        List<String> fileLines = fileCache.getFileLines(filename);
+        List<String> fileLines = sourceRegistry.getLines(filename);
 
         if (fileLines.isEmpty() || lineNumber <= 0 || lineNumber > fileLines.size()) {
             return SourceLocation.builder().filename(filename).line(lineNumber).build();
@@ -660,6 +695,9 @@ public final class SectionValidator {
 
     public static final class Builder {
         private DocumentConfiguration _configuration;
+        private RulePlan _rulePlan;
+        private SourceRegistry _sourceRegistry;
+        private MessageBudget _messageBudget;
 
         private Builder() {
         }
@@ -669,6 +707,44 @@ public final class SectionValidator {
             return this;
         }
 
+        /**
+         * Sets a precompiled rule plan to share across validations. The plan is
+         * only used if it was compiled from the same document configuration;
+         * otherwise a plan is compiled when the validator is built.
+         *
+         * @param  rulePlan the rule plan
+         *
+         * @return          this builder
+         */
+        public Builder rulePlan(RulePlan rulePlan) {
+            this._rulePlan = rulePlan;
+            return this;
+        }
+
+        /**
+         * Sets the registry the source lines for error positions are read from.
+         *
+         * @param  sourceRegistry the source registry
+         *
+         * @return                this builder
+         */
+        public Builder sourceRegistry(SourceRegistry sourceRegistry) {
+            this._sourceRegistry = sourceRegistry;
+            return this;
+        }
+
+        /**
+         * Sets the budget the messages of the file are counted against.
+         *
+         * @param  messageBudget the message budget of the file
+         *
+         * @return               this builder
+         */
+        public Builder messageBudget(MessageBudget messageBudget) {
+            this._messageBudget = messageBudget;
+            return this;
+        }
+
         public SectionValidator build() {
             return new SectionValidator(this);
         }
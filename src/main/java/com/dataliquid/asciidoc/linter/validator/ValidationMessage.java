@@ -1,12 +1,21 @@
 package com.dataliquid.asciidoc.linter.validator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import com.dataliquid.asciidoc.linter.config.common.Severity;
 
+/**
+ * A finding of a validator. Suggestions and the missing value hint are only
+ * shown by some report formats, so they can be given as suppliers that are not
+ * called until a formatter asks for them. They are derived from the finding and
+ * therefore not part of {@link #equals(Object)} and {@link #hashCode()}, so
+ * comparing messages does not build them.
+ */
 public final class ValidationMessage {
     private final Severity severity;
     private final String ruleId;
@@ -18,9 +27,13 @@ public final class ValidationMessage {
 
     // Enhanced fields for improved console output
     private final ErrorType errorType;
-    private final String missingValueHint;
+    // The hint is pure, so resolving it twice in a race is harmless
+    private volatile String missingValueHint;
+    private final Supplier<String> missingValueHintSupplier;
     private final PlaceholderContext placeholderContext;
-    private final List<Suggestion> suggestions;
+    private final List<Supplier<Suggestion>> suggestionSuppliers;
+    // Suggestions are pure, so resolving them twice in a race is harmless
+    private volatile List<Suggestion> suggestions;
     private final List<String> contextLines;
     private final Throwable cause;
 
@@ -37,8 +50,9 @@ public final class ValidationMessage {
         this.expectedValue = builder._expectedValue;
         this.errorType = builder._errorType != null ? builder._errorType : ErrorType.GENERIC;
         this.missingValueHint = builder._missingValueHint;
+        this.missingValueHintSupplier = builder._missingValueHintSupplier;
         this.placeholderContext = builder._placeholderContext;
-        this.suggestions = new ArrayList<>(builder._suggestions);
+        this.suggestionSuppliers = builder._suggestions.isEmpty() ? List.of() : new ArrayList<>(builder._suggestions);
         this.contextLines = new ArrayList<>(builder._contextLines);
         this.cause = builder._cause;
     }
@@ -75,20 +89,56 @@ public final class ValidationMessage {
         return errorType;
     }
 
+    /**
+     * Returns the missing value hint, calling the supplier of a lazily set hint on
+     * first access.
+     *
+     * @return the hint, or {@code null} if none was set
+     */
     public String getMissingValueHint() {
-        return missingValueHint;
+        String hint = missingValueHint;
+        if (hint == null && missingValueHintSupplier != null) {
+            hint = Objects
+                    .requireNonNull(missingValueHintSupplier.get(),
+                            "[" + getClass().getName() + "] missingValueHint must not be null");
+            missingValueHint = hint;
+        }
+        return hint;
     }
 
     public PlaceholderContext getPlaceholderContext() {
         return placeholderContext;
     }
 
+    /**
+     * Returns the suggestions, calling the suppliers of lazily added suggestions
+     * on first access.
+     *
+     * @return a copy of the suggestions
+     */
     public List<Suggestion> getSuggestions() {
-        return new ArrayList<>(suggestions);
+        List<Suggestion> resolved = suggestions;
+        if (resolved == null) {
+            List<Suggestion> list = new ArrayList<>(suggestionSuppliers.size());
+            for (Supplier<Suggestion> supplier : suggestionSuppliers) {
+                list
+                        .add(Objects
+                                .requireNonNull(supplier.get(),
+                                        "[" + getClass().getName() + "] suggestion must not be null"));
+            }
+            resolved = Collections.unmodifiableList(list);
+            suggestions = resolved;
+        }
+        return new ArrayList<>(resolved);
     }
 
+    /**
+     * Tells whether the message has suggestions without resolving them.
+     *
+     * @return {@code true} if suggestions were added
+     */
     public boolean hasSuggestions() {
-        return !suggestions.isEmpty();
+        return !suggestionSuppliers.isEmpty();
     }
 
     public List<String> getContextLines() {
@@ -129,9 +179,8 @@ public final class ValidationMessage {
         return severity == that.severity && Objects.equals(ruleId, that.ruleId) && Objects.equals(message, that.message)
                 && Objects.equals(location, that.location) && Objects.equals(attributeName, that.attributeName)
                 && Objects.equals(actualValue, that.actualValue) && Objects.equals(expectedValue, that.expectedValue)
-                && errorType == that.errorType && Objects.equals(missingValueHint, that.missingValueHint)
-                && Objects.equals(placeholderContext, that.placeholderContext)
-                && Objects.equals(suggestions, that.suggestions) && Objects.equals(contextLines, that.contextLines)
+                && errorType == that.errorType && Objects.equals(placeholderContext, that.placeholderContext)
+                && Objects.equals(contextLines, that.contextLines)
                 && Objects.equals(cause, that.cause);
     }
 
@@ -139,7 +188,7 @@ public final class ValidationMessage {
     public int hashCode() {
         return Objects
                 .hash(severity, ruleId, message, location, attributeName, actualValue, expectedValue, errorType,
-                        missingValueHint, placeholderContext, suggestions, contextLines, cause);
+                        placeholderContext, contextLines, cause);
     }
 
     @Override
@@ -161,8 +210,9 @@ public final class ValidationMessage {
         private String _expectedValue;
         private ErrorType _errorType;
         private String _missingValueHint;
+        private Supplier<String> _missingValueHintSupplier;
         private PlaceholderContext _placeholderContext;
-        private final List<Suggestion> _suggestions = new ArrayList<>();
+        private final List<Supplier<Suggestion>> _suggestions = new ArrayList<>();
         private final List<String> _contextLines = new ArrayList<>();
         private Throwable _cause;
 
@@ -211,6 +261,23 @@ public final class ValidationMessage {
 
         public Builder missingValueHint(String missingValueHint) {
             this._missingValueHint = missingValueHint;
+            this._missingValueHintSupplier = null;
+            return this;
+        }
+
+        /**
+         * Sets a hint that is only built when a formatter renders it.
+         *
+         * The supplier is called on the first access and must not return
+         * {@code null}.
+         *
+         * @param  missingValueHint supplies the hint
+         *
+         * @return                  this builder
+         */
+        public Builder missingValueHintLazily(Supplier<String> missingValueHint) {
+            this._missingValueHint = null;
+            this._missingValueHintSupplier = missingValueHint;
             return this;
         }
 
@@ -220,6 +287,23 @@ public final class ValidationMessage {
         }
 
         public Builder addSuggestion(Suggestion suggestion) {
+            if (suggestion != null) {
+                this._suggestions.add(() -> suggestion);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a suggestion that is only built when a formatter asks for the
+         * suggestions of the message, e.g. with suggestions enabled in the console
+         * output. The supplier is called on the first access and must not return
+         * {@code null}.
+         *
+         * @param  suggestion supplies the suggestion
+         *
+         * @return            this builder
+         */
+        public Builder addSuggestionLazily(Supplier<Suggestion> suggestion) {
             if (suggestion != null) {
                 this._suggestions.add(suggestion);
             }
@@ -229,7 +313,9 @@ public final class ValidationMessage {
         public Builder suggestions(List<Suggestion> suggestions) {
             this._suggestions.clear();
             if (suggestions != null) {
-                this._suggestions.addAll(suggestions);
+                for (Suggestion suggestion : suggestions) {
+                    addSuggestion(suggestion);
+                }
             }
             return this;
         }
@@ -1,30 +1,48 @@
 package com.dataliquid.asciidoc.linter.validator;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 import com.dataliquid.asciidoc.linter.config.common.Severity;
 import com.dataliquid.asciidoc.linter.output.ConsoleWriter;
 import com.dataliquid.asciidoc.linter.output.OutputWriter;
 
+/**
+ * Messages and scanned files of a validation. While messages are added to the
+ * builder, it counts them by severity and files them by file and start line and
+ * by rule, so counters and groups are available without going over all
+ * messages again.
+ * Building a result does not copy the messages; a builder that is used again
+ * after {@link Builder#build()} copies its data before the next change.
+ */
 public final class ValidationResult {
     private final List<ValidationMessage> messages;
     private final Set<String> scannedFiles;
+    private final int[] severityCounts;
+    private final NavigableMap<String, NavigableMap<Integer, MessageGroup>> messagesByFile;
+    private final Map<String, List<ValidationMessage>> messagesByRule;
     private final long startTime;
     private final long endTime;
+    private volatile Map<String, List<ValidationMessage>> fileGroups;
 
     private ValidationResult(Builder builder) {
-        this.messages = Collections.unmodifiableList(new ArrayList<>(builder._messages));
-        this.scannedFiles = Collections.unmodifiableSet(new HashSet<>(builder._scannedFiles));
+        this.messages = Collections.unmodifiableList(builder._messages);
+        this.scannedFiles = Collections.unmodifiableSet(builder._scannedFiles);
+        this.severityCounts = builder._severityCounts;
+        this.messagesByFile = builder._messagesByFile;
+        this.messagesByRule = Collections.unmodifiableMap(builder._messagesByRule);
         this.startTime = builder._startTime;
         this.endTime = builder._endTime;
     }
@@ -41,23 +59,75 @@ public final class ValidationResult {
         return scannedFiles.size();
     }
 
+    /**
+     * Returns the messages of a severity in the order they were added. Only the
+     * number of messages per severity is indexed, so the messages are collected
+     * on every call; use the counters to check for or count messages.
+     *
+     * @param  severity the severity
+     *
+     * @return          the unmodifiable messages, empty if there are none
+     */
     public List<ValidationMessage> getMessagesBySeverity(Severity severity) {
-        return messages.stream().filter(msg -> msg.getSeverity() == severity).collect(Collectors.toList());
+        if (countOf(severity) == 0) {
+            return Collections.emptyList();
+        }
+        return messages.stream().filter(msg -> msg.getSeverity() == severity).toList();
+    }
+
+    private int countOf(Severity severity) {
+        return severityCounts[severity.ordinal()];
     }
 
+    /**
+     * Returns the messages grouped by file. The groups are collected from the line
+     * index on the first call, so the messages of a file are ordered by start
+     * line; messages of the same line keep the order they were added in.
+     *
+     * @return the unmodifiable messages of every file with messages, sorted by
+     *         file name and then by start line
+     */
     public Map<String, List<ValidationMessage>> getMessagesByFile() {
-        return messages
-                .stream()
-                .collect(Collectors
-                        .groupingBy(msg -> msg.getLocation().getFilename(), TreeMap::new, Collectors.toList()));
+        Map<String, List<ValidationMessage>> groups = fileGroups;
+        if (groups == null) {
+            groups = new TreeMap<>();
+            for (Map.Entry<String, NavigableMap<Integer, MessageGroup>> entry : messagesByFile.entrySet()) {
+                List<ValidationMessage> fileMessages = new ArrayList<>();
+                for (MessageGroup lineMessages : entry.getValue().values()) {
+                    fileMessages.addAll(lineMessages);
+                }
+                groups.put(entry.getKey(), Collections.unmodifiableList(fileMessages));
+            }
+            groups = Collections.unmodifiableMap(groups);
+            fileGroups = groups;
+        }
+        return groups;
+    }
+
+    /**
+     * Returns the messages grouped by rule.
+     *
+     * @return the unmodifiable messages of every rule with messages, in the order
+     *         the rules first occurred
+     */
+    public Map<String, List<ValidationMessage>> getMessagesByRule() {
+        return messagesByRule;
     }
 
+    /**
+     * Returns the messages of a file grouped by start line.
+     *
+     * @param  filename the file name
+     *
+     * @return          the unmodifiable messages of every line with messages,
+     *                  sorted by line
+     */
     public Map<Integer, List<ValidationMessage>> getMessagesByLine(String filename) {
-        return messages
-                .stream()
-                .filter(msg -> msg.getLocation().getFilename().equals(filename))
-                .collect(Collectors
-                        .groupingBy(msg -> msg.getLocation().getStartLine(), TreeMap::new, Collectors.toList()));
+        NavigableMap<Integer, MessageGroup> lines = messagesByFile.get(filename);
+        if (lines == null) {
+            return Collections.emptySortedMap();
+        }
+        return Collections.unmodifiableSortedMap(lines);
     }
 
     public boolean isValid() {
@@ -65,11 +135,11 @@ public final class ValidationResult {
     }
 
     public boolean hasErrors() {
-        return messages.stream().anyMatch(msg -> msg.getSeverity() == Severity.ERROR);
+        return countOf(Severity.ERROR) > 0;
     }
 
     public boolean hasWarnings() {
-        return messages.stream().anyMatch(msg -> msg.getSeverity() == Severity.WARN);
+        return countOf(Severity.WARN) > 0;
     }
 
     public boolean hasMessages() {
@@ -77,15 +147,15 @@ public final class ValidationResult {
     }
 
     public int getErrorCount() {
-        return (int) messages.stream().filter(msg -> msg.getSeverity() == Severity.ERROR).count();
+        return countOf(Severity.ERROR);
     }
 
     public int getWarningCount() {
-        return (int) messages.stream().filter(msg -> msg.getSeverity() == Severity.WARN).count();
+        return countOf(Severity.WARN);
     }
 
     public int getInfoCount() {
-        return (int) messages.stream().filter(msg -> msg.getSeverity() == Severity.INFO).count();
+        return countOf(Severity.INFO);
     }
 
     public long getValidationTimeMillis() {
@@ -113,18 +183,16 @@ public final class ValidationResult {
         if (messages.isEmpty()) {
             outputWriter.writeLine("No validation issues found.");
         } else {
-            Map<String, List<ValidationMessage>> messagesByFile = getMessagesByFile();
-
-            for (Map.Entry<String, List<ValidationMessage>> entry : messagesByFile.entrySet()) {
-                List<ValidationMessage> fileMessages = entry.getValue();
-                fileMessages
-                        .sort(Comparator
-                                .comparing((ValidationMessage msg) -> msg.getLocation().getStartLine())
-                                .thenComparing(msg -> msg.getLocation().getStartColumn()));
-
-                for (ValidationMessage msg : fileMessages) {
-                    outputWriter.writeLine(msg.format());
-                    outputWriter.writeLine();
+            // The index already orders the messages by file and line
+            for (NavigableMap<Integer, MessageGroup> lines : messagesByFile.values()) {
+                for (MessageGroup line : lines.values()) {
+                    List<ValidationMessage> lineMessages = new ArrayList<>(line);
+                    lineMessages.sort(Comparator.comparingInt(msg -> msg.getLocation().getStartColumn()));
+
+                    for (ValidationMessage msg : lineMessages) {
+                        outputWriter.writeLine(msg.format());
+                        outputWriter.writeLine();
+                    }
                 }
             }
         }
@@ -140,34 +208,83 @@ public final class ValidationResult {
     }
 
     public static final class Builder {
-        private final List<ValidationMessage> _messages = new ArrayList<>();
-        private final Set<String> _scannedFiles = new HashSet<>();
+        private List<ValidationMessage> _messages = new ArrayList<>();
+        private int[] _severityCounts = new int[Severity.values().length];
+        private NavigableMap<String, NavigableMap<Integer, MessageGroup>> _messagesByFile = new TreeMap<>();
+        private Map<String, MessageGroup> _messagesByRule = new LinkedHashMap<>();
+        private Set<String> _scannedFiles = new HashSet<>();
         private long _startTime = System.currentTimeMillis();
         private long _endTime;
+        private boolean _built;
 
         private Builder() {
         }
 
         public Builder addMessage(ValidationMessage message) {
             Objects.requireNonNull(message, "[" + getClass().getName() + "] message must not be null");
+            unshare();
             this._messages.add(message);
+            index(message);
             return this;
         }
 
         public Builder addMessages(Collection<ValidationMessage> messages) {
             Objects.requireNonNull(messages, "[" + getClass().getName() + "] messages must not be null");
+            unshare();
             this._messages.addAll(messages);
+            for (ValidationMessage message : messages) {
+                index(message);
+            }
             return this;
         }
 
+        private void index(ValidationMessage message) {
+            _severityCounts[message.getSeverity().ordinal()]++;
+            _messagesByFile
+                    .computeIfAbsent(message.getLocation().getFilename(), filename -> new TreeMap<>())
+                    .computeIfAbsent(message.getLocation().getStartLine(), line -> new MessageGroup())
+                    .append(message);
+            _messagesByRule.computeIfAbsent(message.getRuleId(), ruleId -> new MessageGroup()).append(message);
+        }
+
+        /**
+         * Copies the data handed to a built result, so the result does not change
+         * when the builder is used again.
+         */
+        private void unshare() {
+            if (!_built) {
+                return;
+            }
+            _messages = new ArrayList<>(_messages);
+            _severityCounts = _severityCounts.clone();
+            NavigableMap<String, NavigableMap<Integer, MessageGroup>> messagesByFile = new TreeMap<>();
+            for (Map.Entry<String, NavigableMap<Integer, MessageGroup>> file : _messagesByFile.entrySet()) {
+                NavigableMap<Integer, MessageGroup> lines = new TreeMap<>();
+                for (Map.Entry<Integer, MessageGroup> line : file.getValue().entrySet()) {
+                    lines.put(line.getKey(), new MessageGroup(line.getValue()));
+                }
+                messagesByFile.put(file.getKey(), lines);
+            }
+            _messagesByFile = messagesByFile;
+            Map<String, MessageGroup> messagesByRule = new LinkedHashMap<>();
+            for (Map.Entry<String, MessageGroup> rule : _messagesByRule.entrySet()) {
+                messagesByRule.put(rule.getKey(), new MessageGroup(rule.getValue()));
+            }
+            _messagesByRule = messagesByRule;
+            _scannedFiles = new HashSet<>(_scannedFiles);
+            _built = false;
+        }
+
         public Builder addScannedFile(String filename) {
             Objects.requireNonNull(filename, "[" + getClass().getName() + "] filename must not be null");
+            unshare();
             this._scannedFiles.add(filename);
             return this;
         }
 
         public Builder addScannedFiles(Collection<String> filenames) {
             Objects.requireNonNull(filenames, "[" + getClass().getName() + "] filenames must not be null");
+            unshare();
             this._scannedFiles.addAll(filenames);
             return this;
         }
@@ -191,7 +308,38 @@ public final class ValidationResult {
             if (_endTime == 0) {
                 _endTime = System.currentTimeMillis();
             }
+            _built = true;
             return new ValidationResult(this);
         }
     }
+
+    /**
+     * Messages of one line or rule in the order they were added. Only the builder
+     * can add messages; to everybody else the list is unmodifiable.
+     */
+    private static final class MessageGroup extends AbstractList<ValidationMessage> implements RandomAccess {
+        private final List<ValidationMessage> messages;
+
+        MessageGroup() {
+            this.messages = new ArrayList<>(1);
+        }
+
+        MessageGroup(MessageGroup other) {
+            this.messages = new ArrayList<>(other.messages);
+        }
+
+        void append(ValidationMessage message) {
+            messages.add(message);
+        }
+
+        @Override
+        public ValidationMessage get(int index) {
+            return messages.get(index);
+        }
+
+        @Override
+        public int size() {
+            return messages.size();
+        }
+    }
 }
@@ -11,7 +11,6 @@ import org.asciidoctor.ast.StructuralNode;
 import com.dataliquid.asciidoc.linter.config.common.Severity;
 import com.dataliquid.asciidoc.linter.util.StringUtils;
 import com.dataliquid.asciidoc.linter.config.blocks.Block;
-import com.dataliquid.asciidoc.linter.report.console.FileContentCache;
 import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
 
 /**
@@ -35,7 +34,6 @@ public abstract class AbstractBlockValidator<T extends Block> implements BlockTy
      * Shared file content cache for accessing source file content. Used by
      * subclasses to find exact positions in source files for error reporting.
      */
-    protected final FileContentCache fileCache = new FileContentCache();
 
     /**
      * Returns the specific block configuration class type. Used for safe casting of
@@ -78,33 +76,31 @@ public abstract class AbstractBlockValidator<T extends Block> implements BlockTy
     // Common helper methods
 
     /**
-     * Extracts text content from a structural node. Handles both direct content and
-     * nested blocks.
+     * Extracts the raw source of a structural node. Handles both leaf blocks and
+     * nested blocks without converting the node.
      *
      * @param  node the node to extract content from
      *
-     * @return      the text content or empty string if none
+     * @return      the source text or empty string if none
+     *
+     * @see         BlockSource#source(StructuralNode)
      */
     protected String getBlockContent(StructuralNode node) {
-        if (node.getContent() instanceof String) {
-            return (String) node.getContent();
-        }
-
-        // Handle nested blocks
-        if (node.getBlocks() != null && !node.getBlocks().isEmpty()) {
-            StringBuilder content = new StringBuilder();
-            for (Object block : node.getBlocks()) {
-                if (block instanceof StructuralNode) {
-                    StructuralNode childNode = (StructuralNode) block;
-                    if (childNode.getContent() instanceof String) {
-                        content.append(childNode.getContent()).append('\n');
-                    }
-                }
-            }
-            return content.toString().trim();
-        }
+        return BlockSource.source(node);
+    }
 
-        return "";
+    /**
+     * Extracts the text of a structural node with inline markup removed, for rules
+     * that count words or sentences.
+     *
+     * @param  node the node to extract text from
+     *
+     * @return      the plain text or empty string if none
+     *
+     * @see         BlockSource#plainText(StructuralNode)
+     */
+    protected String getBlockText(StructuralNode node) {
+        return BlockSource.plainText(node);
     }
 
     /**
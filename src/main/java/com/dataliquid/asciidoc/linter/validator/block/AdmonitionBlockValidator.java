@@ -142,7 +142,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                             .message("Admonition block must have a type")
                             .actualValue("No type")
                             .expectedValue("Type required")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add an admonition type")
                                     .addExample("NOTE: For general information")
@@ -172,7 +172,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                                 .message("Admonition type '" + admonitionType + "' is not allowed")
                                 .actualValue(admonitionType)
                                 .expectedValue("One of: " + String.join(", ", config.getAllowed()))
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use one of the allowed admonition types")
                                         .fixedValue(config.getAllowed().get(0))
@@ -205,7 +205,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add a title before the admonition")
                                     .addExample(".Security Note\nNOTE: Always use HTTPS for API calls")
@@ -233,7 +233,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                                 .message("Admonition title does not match required pattern")
                                 .actualValue(title)
                                 .expectedValue("Pattern: " + config.getPattern().pattern())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Adjust title to match the required pattern")
                                         .addExample("Pattern: " + config.getPattern().pattern())
@@ -257,7 +257,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                                 .message("Admonition title is too short")
                                 .actualValue(title.length() + CHARACTERS_UNIT)
                                 .expectedValue("At least " + config.getMinLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Provide a more descriptive title")
                                         .addExample("Instead of 'Note', use 'Security Considerations'")
@@ -282,7 +282,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                                 .message("Admonition title is too long")
                                 .actualValue(title.length() + CHARACTERS_UNIT)
                                 .expectedValue("At most " + config.getMaxLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten the title while keeping it descriptive")
                                         .addExample(
@@ -316,7 +316,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add content after the admonition type")
                                     .addExample("NOTE: This is the content of the note")
@@ -341,7 +341,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                             .message("Admonition content is too short")
                             .actualValue(contentLength + CHARACTERS_UNIT)
                             .expectedValue("At least " + config.getMinLength() + CHARACTERS_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Provide more detailed information")
                                     .addExample("Add context and details to make the admonition more useful")
@@ -363,7 +363,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                             .message("Admonition content is too long")
                             .actualValue(contentLength + CHARACTERS_UNIT)
                             .expectedValue("At most " + config.getMaxLength() + CHARACTERS_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Condense the content or split into multiple admonitions")
                                     .addExample("Consider breaking long admonitions into smaller, focused ones")
@@ -399,7 +399,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                             .message("Admonition block has too few lines")
                             .actualValue(String.valueOf(lineCount))
                             .expectedValue("At least " + config.min() + " lines")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add more lines to the admonition")
                                     .addExample("Split content into multiple lines for better readability")
@@ -418,7 +418,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                             .message("Admonition block has too many lines")
                             .actualValue(String.valueOf(lineCount))
                             .expectedValue("At most " + config.max() + " lines")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Reduce the number of lines or split into multiple admonitions")
                                     .addExample("Keep admonitions concise and focused")
@@ -449,7 +449,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Enable icons for admonitions")
                                     .addExample(":icons: font\n\nNOTE: This note will have an icon")
@@ -476,7 +476,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
                                 .message("Admonition icon does not match required pattern")
                                 .actualValue(iconValue)
                                 .expectedValue("Pattern: " + config.getPattern().pattern())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use an icon matching the required pattern")
                                         .addExample("Common icon options: font, image, or custom icon name")
@@ -495,7 +495,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
      * Finds the position of admonition title.
      */
     private SourcePosition findTitlePosition(StructuralNode block, BlockValidationContext context, String title) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -528,7 +528,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
      * Finds the position of admonition content.
      */
     private SourcePosition findContentPosition(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -567,7 +567,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
      */
     private SourcePosition findTypePosition(StructuralNode block, BlockValidationContext context,
             String admonitionType) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -597,7 +597,7 @@ public final class AdmonitionBlockValidator extends AbstractBlockValidator<Admon
      * Finds the position of icon attribute in admonition block.
      */
     private SourcePosition findIconPosition(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
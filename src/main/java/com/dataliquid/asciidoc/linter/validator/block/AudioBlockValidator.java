@@ -100,9 +100,10 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
             return target.toString();
         }
 
-        // For audio blocks, the content might contain the path
-        if (block.getContent() != null) {
-            return block.getContent().toString();
+        // For audio blocks, the source might contain the path
+        String source = getBlockContent(block);
+        if (!source.isEmpty()) {
+            return source;
         }
 
         return null;
@@ -146,7 +147,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.SIMPLE_VALUE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add audio URL")
                                     .fixedValue("audio.mp3")
@@ -170,7 +171,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
                                 .message("Audio URL does not match required pattern")
                                 .actualValue(url)
                                 .expectedValue("Pattern: " + urlConfig.getPattern().pattern())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use valid audio URL format")
                                         .addExample("audio::file.mp3[]")
@@ -218,7 +219,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
                             .message("Audio autoplay is not allowed")
                             .actualValue("autoplay enabled")
                             .expectedValue("autoplay must not be used")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Remove autoplay option")
                                     .addExample("audio::file.mp3[options=controls]")
@@ -253,7 +254,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
                                     .type(PlaceholderContext.PlaceholderType.ATTRIBUTE_VALUE)
                                     .attributeName("options")
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Enable audio controls")
                                     .addExample("audio::file.mp3[options=controls]")
@@ -281,7 +282,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
                             .message("Audio loop is not allowed")
                             .actualValue("loop enabled")
                             .expectedValue("loop must not be used")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Remove loop option")
                                     .addExample("audio::file.mp3[options=controls]")
@@ -325,7 +326,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add a title for the audio")
                                     .addExample(".Background Music\naudio::music.mp3[]")
@@ -349,7 +350,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
                                 .actualValue(title.length() + StringConstants.CHARACTERS_SUFFIX)
                                 .expectedValue(
                                         "At least " + titleConfig.getMinLength() + StringConstants.CHARACTERS_SUFFIX)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Provide a more descriptive title")
                                         .addExample("Instead of 'Audio', use 'Introduction Speech'")
@@ -370,7 +371,7 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
                                 .actualValue(title.length() + StringConstants.CHARACTERS_SUFFIX)
                                 .expectedValue(
                                         "At most " + titleConfig.getMaxLength() + StringConstants.CHARACTERS_SUFFIX)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten the title while keeping it descriptive")
                                         .addExample(String
@@ -385,14 +386,14 @@ public final class AudioBlockValidator extends AbstractBlockValidator<AudioBlock
      * Finds the column position of URL in audio macro.
      */
     private SourcePosition findSourcePosition(StructuralNode block, BlockValidationContext context, String url) {
-        return MediaMacroPositionFinder.findMacroUrlPosition(block, context, "audio", url, fileCache);
+        return MediaMacroPositionFinder.findMacroUrlPosition(block, context, "audio", url);
     }
 
     /**
      * Finds the column position for controls attribute in audio macro.
      */
     private SourcePosition findSourcePosition(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
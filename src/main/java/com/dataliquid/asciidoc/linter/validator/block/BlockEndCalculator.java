@@ -2,7 +2,7 @@ package com.dataliquid.asciidoc.linter.validator.block;
 
 import java.util.List;
 import org.asciidoctor.ast.StructuralNode;
-import com.dataliquid.asciidoc.linter.report.console.FileContentCache;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
 import com.dataliquid.asciidoc.linter.util.StringUtils;
 
 import static com.dataliquid.asciidoc.linter.validator.block.AsciiDocConstants.*;
@@ -17,10 +17,10 @@ public class BlockEndCalculator {
     private static final char TAB_CHAR = '\t';
     private static final int TAB_SIZE = 4;
 
-    private final FileContentCache fileCache;
+    private final SourceRegistry sourceRegistry;
 
-    public BlockEndCalculator(FileContentCache fileCache) {
-        this.fileCache = fileCache;
+    public BlockEndCalculator(SourceRegistry sourceRegistry) {
+        this.sourceRegistry = sourceRegistry;
     }
 
     /**
@@ -38,7 +38,7 @@ public class BlockEndCalculator {
         }
 
         int startLine = block.getSourceLocation().getLineNumber();
-        List<String> fileLines = fileCache.getFileLines(filename);
+        List<String> fileLines = sourceRegistry.getLines(filename);
 
         if (fileLines.isEmpty() || startLine > fileLines.size()) {
             return startLine;
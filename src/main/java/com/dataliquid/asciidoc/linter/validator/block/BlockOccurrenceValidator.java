@@ -8,7 +8,6 @@ import java.util.Locale;
 import java.util.Objects;
 
 import com.dataliquid.asciidoc.linter.config.blocks.Block;
-import com.dataliquid.asciidoc.linter.report.console.FileContentCache;
 import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
 
 /**
@@ -16,7 +15,6 @@ import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
  */
 public final class BlockOccurrenceValidator {
 
-    private final FileContentCache fileCache = new FileContentCache();
 
     /**
      * Validates occurrence rules for all blocks in a section.
@@ -212,7 +210,7 @@ public final class BlockOccurrenceValidator {
 
             if (lastBlock != null && lastBlock.getSourceLocation() != null) {
                 // Use BlockEndCalculator to get the actual end line of the block
-                BlockEndCalculator calculator = new BlockEndCalculator(fileCache);
+                BlockEndCalculator calculator = new BlockEndCalculator(context.getSourceRegistry());
                 insertLine = calculator.calculateBlockEndLine(lastBlock, context.getFilename());
 
                 // Add 2 lines: one for empty line after block, one for new content
@@ -0,0 +1,178 @@
+package com.dataliquid.asciidoc.linter.validator.block;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.asciidoctor.ast.Block;
+import org.asciidoctor.ast.Cell;
+import org.asciidoctor.ast.DescriptionList;
+import org.asciidoctor.ast.DescriptionListEntry;
+import org.asciidoctor.ast.ListItem;
+import org.asciidoctor.ast.Row;
+import org.asciidoctor.ast.StructuralNode;
+import org.asciidoctor.ast.Table;
+
+/**
+ * Gives validators access to the raw AsciiDoc source of a block without running
+ * the converter. {@link StructuralNode#getContent()} renders the block and all
+ * of its children to HTML, which is both the most expensive operation during
+ * validation and not what line, length or sentence rules are meant to measure.
+ * <p>
+ * Leaf blocks (paragraph, listing, literal, pass, verse, ...) contribute their
+ * source lines. Compound blocks (sidebar, example, quote, delimited admonition,
+ * ...) contribute the source of their children, recursively. Nodes that expose
+ * neither source lines nor children, such as custom node implementations, fall
+ * back to their converted content.
+ */
+public final class BlockSource {
+
+    private static final Pattern URL_MACRO = Pattern
+            .compile("\\b(?:https?|ftp|irc|mailto):[^\\s\\[]*\\[([^\\]]*)\\]");
+    private static final Pattern INLINE_MACRO = Pattern.compile("\\b[a-z][a-z0-9_-]*:{1,2}([^\\s\\[]*)\\[([^\\]]*)\\]");
+    private static final Pattern XREF_WITH_TEXT = Pattern.compile("<<[^,>]+,\\s*([^>]+)>>");
+    private static final Pattern XREF = Pattern.compile("<<([^,>]+)>>");
+    private static final Pattern ROLE_PREFIX = Pattern.compile("\\[[.#][^\\]]*\\](?=[#*_`])");
+    private static final Pattern UNCONSTRAINED = Pattern.compile("(\\*\\*|__|``|##|\\+\\+)(.+?)\\1");
+    private static final Pattern CONSTRAINED = Pattern.compile("(?<![\\w\\\\])([*_`#+^~])(\\S(?:.*?\\S)?)\\1(?!\\w)");
+    private static final Pattern HARD_LINE_BREAK = Pattern.compile("\\s\\+$", Pattern.MULTILINE);
+    private static final Pattern ESCAPE = Pattern.compile("\\\\([*_`#+^~\\[\\]<{])");
+
+    private BlockSource() {
+        // Utility class
+    }
+
+    /**
+     * Returns the raw source lines of a block.
+     *
+     * @param  node the block
+     *
+     * @return      the source lines, empty if the block has no content
+     */
+    public static List<String> lines(StructuralNode node) {
+        List<String> lines = new ArrayList<>();
+        collectLines(node, lines);
+        return lines;
+    }
+
+    /**
+     * Returns the raw source of a block with lines joined by {@code \n}.
+     *
+     * @param  node the block
+     *
+     * @return      the source text, empty if the block has no content
+     */
+    public static String source(StructuralNode node) {
+        return String.join("\n", lines(node));
+    }
+
+    /**
+     * Returns the source of a block with inline markup (formatting marks, macros
+     * and cross references) removed, for rules that look at words and sentences.
+     *
+     * @param  node the block
+     *
+     * @return      the plain text, empty if the block has no content
+     */
+    public static String plainText(StructuralNode node) {
+        return stripInlineMarkup(source(node));
+    }
+
+    /**
+     * Removes inline AsciiDoc markup from the given text while keeping the visible
+     * words.
+     *
+     * @param  text the AsciiDoc text
+     *
+     * @return      the text without inline markup
+     */
+    public static String stripInlineMarkup(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        String result = URL_MACRO.matcher(text).replaceAll(match -> quote(match.group(1)));
+        result = INLINE_MACRO.matcher(result).replaceAll(BlockSource::macroText);
+        result = XREF_WITH_TEXT.matcher(result).replaceAll(match -> quote(match.group(1)));
+        result = XREF.matcher(result).replaceAll(match -> quote(match.group(1)));
+        result = ROLE_PREFIX.matcher(result).replaceAll("");
+        result = UNCONSTRAINED.matcher(result).replaceAll(match -> quote(match.group(2)));
+        result = CONSTRAINED.matcher(result).replaceAll(match -> quote(match.group(2)));
+        result = HARD_LINE_BREAK.matcher(result).replaceAll("");
+        result = ESCAPE.matcher(result).replaceAll("$1");
+        return result;
+    }
+
+    private static String macroText(MatchResult match) {
+        // Prefer the visible text; fall back to the target (e.g. kbd:[Ctrl+C])
+        String text = match.group(2);
+        return quote(text.isEmpty() ? match.group(1) : text);
+    }
+
+    private static String quote(String replacement) {
+        return Matcher.quoteReplacement(replacement);
+    }
+
+    private static void collectLines(StructuralNode node, List<String> lines) {
+        if (node instanceof Block block && block.getLines() != null && !block.getLines().isEmpty()) {
+            lines.addAll(block.getLines());
+            return;
+        }
+
+        if (node instanceof ListItem item && item.getSource() != null) {
+            lines.add(item.getSource());
+        }
+
+        if (node instanceof DescriptionList list) {
+            collectDescriptionList(list, lines);
+            return;
+        }
+
+        if (node instanceof Table table) {
+            collectTable(table, lines);
+            return;
+        }
+
+        List<StructuralNode> children = node.getBlocks();
+        if (children != null && !children.isEmpty()) {
+            for (StructuralNode child : children) {
+                collectLines(child, lines);
+            }
+            return;
+        }
+
+        if (!(node instanceof Block) && !(node instanceof ListItem)) {
+            // Custom node without source access
+            Object content = node.getContent();
+            if (content instanceof String text && !text.isEmpty()) {
+                lines.add(text);
+            }
+        }
+    }
+
+    private static void collectDescriptionList(DescriptionList list, List<String> lines) {
+        for (DescriptionListEntry entry : list.getItems()) {
+            for (ListItem term : entry.getTerms()) {
+                collectLines(term, lines);
+            }
+            if (entry.getDescription() != null) {
+                collectLines(entry.getDescription(), lines);
+            }
+        }
+    }
+
+    private static void collectTable(Table table, List<String> lines) {
+        List<Row> rows = new ArrayList<>(table.getHeader());
+        rows.addAll(table.getBody());
+        rows.addAll(table.getFooter());
+        for (Row row : rows) {
+            for (Cell cell : row.getCells()) {
+                if (cell.getSource() != null && !cell.getSource().isEmpty()) {
+                    lines.add(cell.getSource());
+                }
+            }
+        }
+    }
+}
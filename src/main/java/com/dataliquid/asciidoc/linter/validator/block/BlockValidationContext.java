@@ -13,6 +13,7 @@ import org.asciidoctor.ast.Section;
 import org.asciidoctor.ast.StructuralNode;
 
 import com.dataliquid.asciidoc.linter.config.blocks.Block;
+import com.dataliquid.asciidoc.linter.source.SourceRegistry;
 import com.dataliquid.asciidoc.linter.validator.SourceLocation;
 
 /**
@@ -22,6 +23,7 @@ import com.dataliquid.asciidoc.linter.validator.SourceLocation;
 public final class BlockValidationContext {
     private final StructuralNode container; // Can be Section or Document
     private final String filename;
+    private final SourceRegistry sourceRegistry;
     private final Map<String, List<BlockOccurrence>> occurrences;
     private final List<BlockPosition> blockOrder;
 
@@ -29,8 +31,17 @@ public final class BlockValidationContext {
      * Constructor for section validation.
      */
     public BlockValidationContext(Section section, String filename) {
+        this(section, filename, new SourceRegistry());
+    }
+
+    /**
+     * Constructor for section validation reading sources from the given registry.
+     */
+    public BlockValidationContext(Section section, String filename, SourceRegistry sourceRegistry) {
         this.container = Objects.requireNonNull(section, "[" + getClass().getName() + "] section must not be null");
         this.filename = Objects.requireNonNull(filename, "[" + getClass().getName() + "] filename must not be null");
+        this.sourceRegistry = Objects
+                .requireNonNull(sourceRegistry, "[" + getClass().getName() + "] sourceRegistry must not be null");
         this.occurrences = new HashMap<>();
         this.blockOrder = new ArrayList<>();
     }
@@ -39,8 +50,18 @@ public final class BlockValidationContext {
      * Constructor for document validation.
      */
     public BlockValidationContext(Document document, String filename) {
+        this(document, filename, new SourceRegistry());
+    }
+
+    /**
+     * Constructor for document validation reading sources from the given
+     * registry.
+     */
+    public BlockValidationContext(Document document, String filename, SourceRegistry sourceRegistry) {
         this.container = Objects.requireNonNull(document, "[" + getClass().getName() + "] document must not be null");
         this.filename = Objects.requireNonNull(filename, "[" + getClass().getName() + "] filename must not be null");
+        this.sourceRegistry = Objects
+                .requireNonNull(sourceRegistry, "[" + getClass().getName() + "] sourceRegistry must not be null");
         this.occurrences = new HashMap<>();
         this.blockOrder = new ArrayList<>();
     }
@@ -57,6 +78,17 @@ public final class BlockValidationContext {
         return filename;
     }
 
+    public SourceRegistry getSourceRegistry() {
+        return sourceRegistry;
+    }
+
+    /**
+     * Returns the source lines of the file being validated.
+     */
+    public List<String> getSourceLines() {
+        return sourceRegistry.getLines(filename);
+    }
+
     /**
      * Creates a source location for the given block.
      */
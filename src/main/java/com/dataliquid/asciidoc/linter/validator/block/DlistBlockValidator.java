@@ -112,7 +112,7 @@ public final class DlistBlockValidator extends AbstractBlockValidator<DlistBlock
                             .message("Definition list has too few terms")
                             .actualValue(String.valueOf(termCount))
                             .expectedValue("At least " + config.getMin() + " terms")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add term with description")
                                     .addExample("Term1::")
@@ -121,7 +121,7 @@ public final class DlistBlockValidator extends AbstractBlockValidator<DlistBlock
                                     .addExample("Term2::")
                                     .addExample("  Description for Term2")
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add simple definition")
                                     .addExample("API:: Application Programming Interface")
@@ -141,14 +141,14 @@ public final class DlistBlockValidator extends AbstractBlockValidator<DlistBlock
                             .message("Definition list has too many terms")
                             .actualValue(String.valueOf(termCount))
                             .expectedValue("At most " + config.getMax() + " terms")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Split into multiple definition lists")
                                     .addExample("Group related terms into separate lists with headings")
                                     .explanation(
                                             "Consider organizing " + (termCount - config.getMax()) + " excess terms")
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Remove less important terms")
                                     .addExample("Keep only the most relevant definitions")
@@ -159,7 +159,7 @@ public final class DlistBlockValidator extends AbstractBlockValidator<DlistBlock
 
         // Validate each term
         if (config.getPattern() != null || config.getMinLength() != null || config.getMaxLength() != null) {
-            Pattern pattern = config.getPattern() != null ? Pattern.compile(config.getPattern()) : null;
+            Pattern pattern = config.getCompiledPattern();
 
             for (DescriptionListEntry entry : entries) {
                 List<ListItem> termItems = entry.getTerms();
@@ -190,7 +190,7 @@ public final class DlistBlockValidator extends AbstractBlockValidator<DlistBlock
                             .message("Definition list term does not match required pattern")
                             .actualValue(term)
                             .expectedValue("Pattern: " + config.getPattern())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Follow pattern format")
                                     .addExample("Use consistent term format")
@@ -212,7 +212,7 @@ public final class DlistBlockValidator extends AbstractBlockValidator<DlistBlock
                             .message("Definition list term is too short")
                             .actualValue(term + " (length: " + term.length() + ")")
                             .expectedValue("Minimum length: " + config.getMinLength())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Use more descriptive term")
                                     .addExample("Expand abbreviation: API → Application Programming Interface")
@@ -234,7 +234,7 @@ public final class DlistBlockValidator extends AbstractBlockValidator<DlistBlock
                             .message("Definition list term is too long")
                             .actualValue(term + " (length: " + term.length() + ")")
                             .expectedValue("Maximum length: " + config.getMaxLength())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Shorten term")
                                     .addExample("Use abbreviation or acronym")
@@ -252,7 +252,7 @@ public final class DlistBlockValidator extends AbstractBlockValidator<DlistBlock
         // Get severity with fallback to block severity
         Severity severity = resolveSeverity(config.getSeverity(), blockConfig.getSeverity());
 
-        Pattern pattern = config.getPattern() != null ? Pattern.compile(config.getPattern()) : null;
+        Pattern pattern = config.getCompiledPattern();
 
         for (DescriptionListEntry entry : entries) {
             ListItem description = entry.getDescription();
@@ -286,14 +286,14 @@ public final class DlistBlockValidator extends AbstractBlockValidator<DlistBlock
                                             .builder()
                                             .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                             .build())
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description("Add simple description")
                                             .fixedValue("Description text")
                                             .addExample(termText + "::")
                                             .addExample("  Brief explanation of " + termText)
                                             .build())
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description("Add detailed description")
                                             .addExample(termText + "::")
@@ -317,7 +317,7 @@ public final class DlistBlockValidator extends AbstractBlockValidator<DlistBlock
                                     .message("Definition list description does not match required pattern")
                                     .actualValue(descText.length() > 50 ? descText.substring(0, 50) + "..." : descText)
                                     .expectedValue("Pattern: " + config.getPattern())
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description("Follow description pattern")
                                             .addExample("Ensure description format matches requirements")
@@ -336,7 +336,7 @@ public final class DlistBlockValidator extends AbstractBlockValidator<DlistBlock
      */
     private SourcePosition findSourcePosition(StructuralNode block, ListItem termItem, BlockValidationContext context,
             String term) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
 
         // Try to get line number from termItem's source location
         int lineNum = block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1;
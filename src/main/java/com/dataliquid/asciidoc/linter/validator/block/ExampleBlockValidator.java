@@ -85,7 +85,7 @@ public final class ExampleBlockValidator extends AbstractBlockValidator<ExampleB
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add caption to example block")
                                     .fixedValue(".Example Title")
@@ -115,7 +115,7 @@ public final class ExampleBlockValidator extends AbstractBlockValidator<ExampleB
                             .severity(resolveSeverity(config.getSeverity(), block.getSeverity()))
                             .location(context.createLocation(node))
                             .ruleId(CAPTION_MIN_LENGTH)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Use a longer, more descriptive caption")
                                     .addExample("Sample Configuration File")
@@ -137,7 +137,7 @@ public final class ExampleBlockValidator extends AbstractBlockValidator<ExampleB
                             .severity(resolveSeverity(config.getSeverity(), block.getSeverity()))
                             .location(context.createLocation(node))
                             .ruleId(CAPTION_MAX_LENGTH)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Shorten the caption")
                                     .addExample("Config Example")
@@ -160,7 +160,7 @@ public final class ExampleBlockValidator extends AbstractBlockValidator<ExampleB
                             .severity(resolveSeverity(config.getSeverity(), block.getSeverity()))
                             .location(context.createLocation(node))
                             .ruleId(CAPTION_PATTERN)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Format caption to match required pattern")
                                     .addExample("Example 1: Basic Setup")
@@ -209,7 +209,7 @@ public final class ExampleBlockValidator extends AbstractBlockValidator<ExampleB
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add collapsible attribute to example block")
                                     .fixedValue(COLLAPSIBLE_ATTRIBUTE)
@@ -253,7 +253,7 @@ public final class ExampleBlockValidator extends AbstractBlockValidator<ExampleB
                                 .severity(resolveSeverity(config.getSeverity(), block.getSeverity()))
                                 .location(context.createLocation(node))
                                 .ruleId(COLLAPSIBLE_ALLOWED)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use a valid collapsible value")
                                         .fixedValue(config.getAllowed().contains(true) ? COLLAPSIBLE_ATTRIBUTE
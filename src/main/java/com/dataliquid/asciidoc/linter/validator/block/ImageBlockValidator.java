@@ -104,9 +104,10 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
             return target.toString();
         }
 
-        // For image blocks, the content might contain the path
-        if (block.getContent() != null) {
-            return block.getContent().toString();
+        // For image blocks, the source might contain the path
+        String source = getBlockContent(block);
+        if (!source.isEmpty()) {
+            return source;
         }
 
         return null;
@@ -161,7 +162,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.SIMPLE_VALUE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add an image path or URL")
                                     .addExample("image::images/diagram.png[]")
@@ -188,7 +189,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
                                 .message("Image URL does not match required pattern")
                                 .actualValue(url)
                                 .expectedValue("Pattern: " + urlConfig.getPattern().pattern())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use a path matching the required pattern")
                                         .addExample("Common image formats: .png, .jpg, .jpeg, .svg, .gif")
@@ -226,7 +227,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
                                     .attributeName(dimensionName)
                                     .hasExistingAttributes(true)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description(String.format("Add %s attribute to the image", dimensionName))
                                     .addExample(String.format("image::image.png[%s=640]", dimensionName))
@@ -255,7 +256,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
                                     .message("Image " + dimensionName + " is too small")
                                     .actualValue(numericValue + "px")
                                     .expectedValue("At least " + dimConfig.getMinValue() + "px")
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description(String
                                                     .format("Increase %s to meet minimum requirement", dimensionName))
@@ -279,7 +280,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
                                     .message("Image " + dimensionName + " is too large")
                                     .actualValue(numericValue + "px")
                                     .expectedValue("At most " + dimConfig.getMaxValue() + "px")
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description(
                                                     String.format("Reduce %s to meet maximum limit", dimensionName))
@@ -330,7 +331,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.SIMPLE_VALUE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add descriptive alt text for accessibility")
                                     .addExample("image::diagram.png[Architecture diagram showing system components]")
@@ -358,7 +359,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
                                 .actualValue(altText.length() + StringConstants.CHARACTERS_SUFFIX)
                                 .expectedValue(
                                         "At least " + altConfig.getMinLength() + StringConstants.CHARACTERS_SUFFIX)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Provide more descriptive alt text")
                                         .addExample("Instead of 'logo', use 'Company XYZ corporate logo'")
@@ -385,7 +386,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
                                 .actualValue(altText.length() + StringConstants.CHARACTERS_SUFFIX)
                                 .expectedValue(
                                         "At most " + altConfig.getMaxLength() + StringConstants.CHARACTERS_SUFFIX)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten the alt text while keeping it descriptive")
                                         .addExample(String
@@ -401,7 +402,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
      * Finds the column position of alt text in image macro.
      */
     private SourcePosition findAltTextPosition(StructuralNode block, BlockValidationContext context, String altText) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -450,7 +451,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
      * Finds the column position of URL in image macro.
      */
     private SourcePosition findSourcePosition(StructuralNode block, BlockValidationContext context, String url) {
-        return MediaMacroPositionFinder.findMacroUrlPosition(block, context, "image", url, fileCache);
+        return MediaMacroPositionFinder.findMacroUrlPosition(block, context, "image", url);
     }
 
     /**
@@ -459,7 +460,7 @@ public final class ImageBlockValidator extends AbstractBlockValidator<ImageBlock
      */
     private SourcePosition findSourcePosition(StructuralNode block, BlockValidationContext context,
             String dimensionName, String value) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
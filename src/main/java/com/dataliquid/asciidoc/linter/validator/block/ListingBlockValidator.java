@@ -142,19 +142,19 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.LIST_VALUE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add Java language")
                                     .fixedValue("java")
                                     .addExample("[source,java]")
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add Python language")
                                     .fixedValue("python")
                                     .addExample("[source,python]")
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add JavaScript language")
                                     .fixedValue("javascript")
@@ -180,7 +180,7 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
                 // Add suggestions for each allowed language
                 for (String allowedLang : config.getAllowed()) {
                     messageBuilder
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Change to " + allowedLang)
                                     .fixedValue(allowedLang)
@@ -210,19 +210,19 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
                             .message("Listing block must have a title")
                             .actualValue("No title")
                             .expectedValue("Title required")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add code example title")
                                     .fixedValue(".Code Example")
                                     .addExample(".Code Example")
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add implementation title")
                                     .fixedValue(".Implementation")
                                     .addExample(".Implementation")
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add descriptive title")
                                     .fixedValue(".Sample Code")
@@ -248,7 +248,7 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
                                 .message("Listing title does not match required pattern")
                                 .actualValue(title)
                                 .expectedValue("Pattern: " + config.getPattern().pattern())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use pattern-compliant title")
                                         .addExample(".Example: Code Implementation")
@@ -368,7 +368,7 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
 
     private SourcePosition findLanguagePosition(StructuralNode block, BlockValidationContext context, String language) {
         // Get the source line
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -424,7 +424,7 @@ public final class ListingBlockValidator extends AbstractBlockValidator<ListingB
      * Finds the position of listing title.
      */
     private SourcePosition findTitlePosition(StructuralNode block, BlockValidationContext context, String title) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -146,7 +146,7 @@ public final class LiteralBlockValidator extends AbstractBlockValidator<LiteralB
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add title to literal block")
                                     .fixedValue(".Configuration Example")
@@ -238,7 +238,7 @@ public final class LiteralBlockValidator extends AbstractBlockValidator<LiteralB
                                         .builder()
                                         .type(PlaceholderContext.PlaceholderType.SIMPLE_VALUE)
                                         .build())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Add proper indentation to literal block content")
                                         .fixedValue(" ".repeat(config.getMinSpaces()))
@@ -263,7 +263,7 @@ public final class LiteralBlockValidator extends AbstractBlockValidator<LiteralB
                                 .message("Line " + lineNumber + " has excessive indentation")
                                 .actualValue(indentSpaces + SPACES_UNIT)
                                 .expectedValue("At most " + config.getMaxSpaces() + SPACES_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Reduce indentation to maximum allowed")
                                         .fixedValue(" ".repeat(config.getMaxSpaces()))
@@ -281,6 +281,7 @@ public final class LiteralBlockValidator extends AbstractBlockValidator<LiteralB
                 if (firstIndentation == null) {
                     firstIndentation = indentSpaces;
                 } else if (indentSpaces != firstIndentation) {
+                    int expectedIndentation = firstIndentation;
                     messages
                             .add(ValidationMessage
                                     .builder()
@@ -290,10 +291,10 @@ public final class LiteralBlockValidator extends AbstractBlockValidator<LiteralB
                                     .message("Line " + lineNumber + " has inconsistent indentation")
                                     .actualValue(indentSpaces + SPACES_UNIT)
                                     .expectedValue(firstIndentation + " spaces (consistent with first non-empty line)")
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description("Make indentation consistent across all lines")
-                                            .fixedValue(" ".repeat(firstIndentation))
+                                            .fixedValue(" ".repeat(expectedIndentation))
                                             .addExample("Align with first line indentation")
                                             .addExample("Use same number of spaces as other lines")
                                             .addExample("Check for mixed tabs and spaces")
@@ -69,18 +69,16 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
             BlockValidationContext context) {
         List<ValidationMessage> messages = new ArrayList<>();
 
-        // Get paragraph content
-        String content = getBlockContent(block);
-
         // Validate line count if configured
         if (paragraphConfig.getLines() != null) {
-            int lineCount = countLinesNonEmpty(content);
+            int lineCount = countLinesNonEmpty(getBlockContent(block));
             validateLineCount(lineCount, paragraphConfig.getLines(), paragraphConfig, context, block, messages);
         }
 
-        // Validate sentence count and structure if configured
+        // Validate sentence count and structure if configured, ignoring inline markup
         if (paragraphConfig.getSentence() != null) {
-            validateSentences(content, paragraphConfig.getSentence(), paragraphConfig, context, block, messages);
+            validateSentences(getBlockText(block), paragraphConfig.getSentence(), paragraphConfig, context, block,
+                    messages);
         }
 
         return messages;
@@ -130,7 +128,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add more lines to paragraph")
                                     .addExample("This is the first line of content.")
@@ -151,7 +149,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
                             .message("Paragraph has too many lines")
                             .actualValue(String.valueOf(actualLines))
                             .expectedValue("At most " + lineConfig.max() + LINES_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Split paragraph into smaller parts")
                                     .addExample("Break into multiple paragraphs")
@@ -189,7 +187,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
                                         .builder()
                                         .type(PlaceholderContext.PlaceholderType.SIMPLE_VALUE)
                                         .build())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Add sentences to paragraph")
                                         .addExample("This is the first sentence.")
@@ -268,7 +266,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.SIMPLE_VALUE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add more sentences")
                                     .addExample("Expand with additional details.")
@@ -290,7 +288,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
                             .message("Paragraph has too many sentences")
                             .actualValue(String.valueOf(sentenceCount))
                             .expectedValue("At most " + occurrenceConfig.max() + SENTENCES_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Reduce sentence count")
                                     .addExample("Split into multiple paragraphs")
@@ -333,7 +331,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
                                         .builder()
                                         .type(PlaceholderContext.PlaceholderType.SIMPLE_VALUE)
                                         .build())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Expand sentence with more detail")
                                         .addExample("Add descriptive adjectives")
@@ -356,7 +354,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
                                 .message("Sentence " + (i + 1) + " has too many words")
                                 .actualValue(wordCount + WORDS_UNIT)
                                 .expectedValue("At most " + wordsConfig.getMax() + WORDS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Simplify sentence")
                                         .addExample("Remove unnecessary words")
@@ -384,7 +382,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
      * positions.
      */
     private SourceLocation createParagraphLocation(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return context.createLocation(block);
         }
@@ -419,7 +417,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
      */
     private SourceLocation createSentenceLocation(StructuralNode block, BlockValidationContext context,
             String sentence) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return context.createLocation(block);
         }
@@ -456,7 +454,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
      */
     private SourcePosition findSentenceEndPosition(StructuralNode block, BlockValidationContext context,
             String sentence) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -511,7 +509,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
      * Finds the position at the end of the paragraph content for appending.
      */
     private SourcePosition findSourcePositionAtEndOfContent(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -538,7 +536,7 @@ public final class ParagraphBlockValidator extends AbstractBlockValidator<Paragr
      * Finds the position where additional lines should be added.
      */
     private SourcePosition findSourcePosition(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
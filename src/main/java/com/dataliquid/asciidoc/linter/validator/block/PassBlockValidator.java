@@ -136,7 +136,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add type attribute to pass block")
                                     .fixedValue("[pass,type=html]")
@@ -165,7 +165,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
                                 .message("Pass block type '" + passType + "' is not allowed")
                                 .actualValue(passType)
                                 .expectedValue("One of: " + String.join(", ", config.getAllowed()))
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use a valid pass block type")
                                         .fixedValue("[pass,type=" + config.getAllowed().get(0) + "]")
@@ -202,7 +202,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add content to pass block")
                                     .addExample("<div>HTML content</div>")
@@ -232,7 +232,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
                                 .message("Pass block content is too long")
                                 .actualValue(contentLength + CHARACTERS_UNIT)
                                 .expectedValue("Maximum " + config.getMaxLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten pass block content")
                                         .addExample("Remove non-essential markup")
@@ -261,7 +261,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
                                 .message("Pass block content does not match required pattern")
                                 .actualValue("Content does not match pattern")
                                 .expectedValue("Pattern: " + config.getPattern().pattern())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Format pass block content to match pattern")
                                         .addExample("Ensure proper markup syntax")
@@ -297,7 +297,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add reason for using pass block")
                                     .fixedValue("[pass,reason=\"Custom HTML widget\"]")
@@ -329,7 +329,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
                                 .message("Pass block reason is too short")
                                 .actualValue(reasonLength + CHARACTERS_UNIT)
                                 .expectedValue("At least " + config.getMinLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Provide a more detailed reason")
                                         .addExample("Custom HTML widget for interactive content")
@@ -357,7 +357,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
                                 .message("Pass block reason is too long")
                                 .actualValue(reasonLength + CHARACTERS_UNIT)
                                 .expectedValue("At most " + config.getMaxLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten the reason description")
                                         .addExample("Custom widget")
@@ -375,7 +375,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
      * Finds the position of pass block content.
      */
     private SourcePosition findSourcePosition(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -404,7 +404,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
      * Finds the position of type attribute or entire [pass] line.
      */
     private SourcePosition findPassTypePosition(StructuralNode block, BlockValidationContext context, String passType) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -452,7 +452,7 @@ public final class PassBlockValidator extends AbstractBlockValidator<PassBlock>
      * Finds the position of reason attribute in [pass] line.
      */
     private SourcePosition findReasonPosition(StructuralNode block, BlockValidationContext context, String reason) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -80,7 +80,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.LIST_VALUE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add quote attribution")
                                     .addExample("[quote, Einstein]")
@@ -103,7 +103,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                         .format("Quote attribution is too short (minimum %d characters, found %d)",
                                                 config.getMinLength(), attribution.length()))
                                 .location(context.createLocation(node))
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use longer attribution")
                                         .addExample("Use full name: Albert Einstein")
@@ -125,7 +125,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                         .format("Quote attribution is too long (maximum %d characters, found %d)",
                                                 config.getMaxLength(), attribution.length()))
                                 .location(context.createLocation(node))
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten attribution")
                                         .addExample("Use initials: A. Einstein")
@@ -152,7 +152,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                         .filename(context.getFilename())
                                         .fromPosition(pos)
                                         .build())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Follow attribution pattern")
                                         .addExample("Match the required format")
@@ -185,7 +185,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.LIST_VALUE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add quote citation")
                                     .addExample("[quote, Einstein, \"Special Relativity\"]")
@@ -208,7 +208,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                         .format("Quote citation is too short (minimum %d characters, found %d)",
                                                 config.getMinLength(), citation.length()))
                                 .location(context.createLocation(node))
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use longer citation")
                                         .addExample("Include full book/article title")
@@ -230,7 +230,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                         .format("Quote citation is too long (maximum %d characters, found %d)",
                                                 config.getMaxLength(), citation.length()))
                                 .location(context.createLocation(node))
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten citation")
                                         .addExample("Use abbreviated title")
@@ -257,7 +257,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                         .filename(context.getFilename())
                                         .fromPosition(pos)
                                         .build())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Follow citation pattern")
                                         .addExample("Use proper citation format")
@@ -281,7 +281,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                             .ruleId(CONTENT_REQUIRED)
                             .message("Quote block requires content")
                             .location(context.createLocation(node))
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add quote content")
                                     .addExample("[quote]")
@@ -305,7 +305,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                         .format("Quote content is too short (minimum %d characters, found %d)",
                                                 config.getMinLength(), content.length()))
                                 .location(context.createLocation(node))
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Expand quote content")
                                         .addExample("Add more context to the quote")
@@ -327,7 +327,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                         .format("Quote content is too long (maximum %d characters, found %d)",
                                                 config.getMaxLength(), content.length()))
                                 .location(context.createLocation(node))
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten quote content")
                                         .addExample("Use ellipsis for shortened quotes")
@@ -361,7 +361,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                     .format("Quote content has too few lines (minimum %d, found %d)", config.getMin(),
                                             lineCount))
                             .location(context.createLocation(node))
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add more lines to quote")
                                     .addExample("Break long sentences across lines")
@@ -381,7 +381,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
                                     .format("Quote content has too many lines (maximum %d, found %d)", config.getMax(),
                                             lineCount))
                             .location(context.createLocation(node))
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Reduce quote lines")
                                     .addExample("Combine related sentences")
@@ -445,7 +445,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
      * Finds the position for quote attribution.
      */
     private SourcePosition findSourcePosition(StructuralNode node, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || node.getSourceLocation() == null) {
             return new SourcePosition(7, 7,
                     node.getSourceLocation() != null ? node.getSourceLocation().getLineNumber() : 1);
@@ -486,7 +486,7 @@ public final class QuoteBlockValidator extends AbstractBlockValidator<QuoteBlock
      * Finds the position for quote citation.
      */
     private SourcePosition findCitationPosition(StructuralNode node, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || node.getSourceLocation() == null) {
             return new SourcePosition(16, 16,
                     node.getSourceLocation() != null ? node.getSourceLocation().getLineNumber() : 1);
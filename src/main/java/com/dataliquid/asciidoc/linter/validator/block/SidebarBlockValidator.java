@@ -100,7 +100,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add title to sidebar block")
                                     .addExample(".Important Information")
@@ -128,7 +128,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
                             .message("Sidebar title too short")
                             .actualValue(title.length() + CHARACTERS_UNIT)
                             .expectedValue("At least " + titleConfig.getMinLength() + CHARACTERS_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Use a longer, more descriptive title")
                                     .addExample("Additional Information")
@@ -150,7 +150,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
                             .message("Sidebar title too long")
                             .actualValue(title.length() + CHARACTERS_UNIT)
                             .expectedValue("At most " + titleConfig.getMaxLength() + CHARACTERS_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Shorten the title")
                                     .addExample("Info")
@@ -175,7 +175,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
                                 .message("Sidebar title does not match required pattern")
                                 .actualValue(title)
                                 .expectedValue("Pattern: " + pattern.pattern())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Format title to match required pattern")
                                         .addExample("Important Note")
@@ -211,7 +211,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add content to sidebar block")
                                     .addExample("This is additional information related to the main content.")
@@ -238,7 +238,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
                             .message("Sidebar content too short")
                             .actualValue(content.length() + CHARACTERS_UNIT)
                             .expectedValue("At least " + contentConfig.getMinLength() + CHARACTERS_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add more detailed content")
                                     .addExample("Expand with additional details or examples")
@@ -260,7 +260,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
                             .message("Sidebar content too long")
                             .actualValue(content.length() + CHARACTERS_UNIT)
                             .expectedValue("At most " + contentConfig.getMaxLength() + CHARACTERS_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Shorten the content")
                                     .addExample("Use bullet points for conciseness")
@@ -299,7 +299,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
                             .message("Sidebar has too few lines")
                             .actualValue(lineCount + LINES_UNIT)
                             .expectedValue("At least " + linesConfig.getMin() + LINES_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add more lines of content")
                                     .addExample("Add additional paragraphs")
@@ -321,7 +321,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
                             .message("Sidebar has too many lines")
                             .actualValue(lineCount + LINES_UNIT)
                             .expectedValue("At most " + linesConfig.getMax() + LINES_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Reduce the number of lines")
                                     .addExample("Combine shorter lines")
@@ -361,7 +361,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add position attribute to sidebar")
                                     .fixedValue("[position=left]")
@@ -387,7 +387,7 @@ public final class SidebarBlockValidator extends AbstractBlockValidator<SidebarB
                                 .message("Invalid sidebar position")
                                 .actualValue(position)
                                 .expectedValue("One of: " + String.join(", ", positionConfig.getAllowed()))
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use a valid position value")
                                         .fixedValue("[position=" + positionConfig.getAllowed().get(0) + "]")
@@ -123,7 +123,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                             .message("Table has too few columns")
                             .actualValue(String.valueOf(columnCount))
                             .expectedValue("At least " + config.getMin() + " columns")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add more columns")
                                     .addExample("|=== ")
@@ -144,7 +144,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                             .message("Table has too many columns")
                             .actualValue(String.valueOf(columnCount))
                             .expectedValue("At most " + config.getMax() + " columns")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Remove excess columns")
                                     .addExample("Combine related columns")
@@ -173,7 +173,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                             .message("Table has too few rows")
                             .actualValue(String.valueOf(rowCount))
                             .expectedValue("At least " + config.getMin() + " rows")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add more rows")
                                     .addExample("| Additional data | More content |")
@@ -192,7 +192,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                             .message("Table has too many rows")
                             .actualValue(String.valueOf(rowCount))
                             .expectedValue("At most " + config.getMax() + " rows")
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Remove excess rows")
                                     .addExample("Keep most important data")
@@ -227,7 +227,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add table header")
                                     .fixedValue("| Header 1 | Header 2 |")
@@ -261,7 +261,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                                         .message("Table header does not match required pattern")
                                         .actualValue(content)
                                         .expectedValue("Pattern: " + config.getPattern())
-                                        .addSuggestion(Suggestion
+                                        .addSuggestionLazily(() -> Suggestion
                                                 .builder()
                                                 .description("Follow header pattern")
                                                 .addExample("Use consistent header format")
@@ -299,7 +299,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add table caption")
                                     .fixedValue(".Table Title")
@@ -330,7 +330,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                                     .message("Table caption does not match required pattern")
                                     .actualValue(caption)
                                     .expectedValue("Pattern: " + config.getPattern())
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description("Follow caption pattern")
                                             .addExample("Use descriptive table title")
@@ -358,7 +358,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                                 .message("Table caption is too short")
                                 .actualValue(caption.length() + CHARACTERS_UNIT)
                                 .expectedValue("At least " + config.getMinLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Make caption more descriptive")
                                         .addExample(".Detailed User Information Table")
@@ -384,7 +384,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                                 .message("Table caption is too long")
                                 .actualValue(caption.length() + CHARACTERS_UNIT)
                                 .expectedValue("At most " + config.getMaxLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten caption")
                                         .addExample(".User Data")
@@ -417,7 +417,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                                 .message("Table does not have required style")
                                 .actualValue(actualStyle != null ? actualStyle : "default")
                                 .expectedValue("Style: " + config.getStyle())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Add table style")
                                         .addExample("[options=\"" + config.getStyle() + "\"]")
@@ -442,7 +442,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
                                 .message("Table must have borders")
                                 .actualValue("No borders")
                                 .expectedValue("Borders required")
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Enable table borders")
                                         .addExample("[frame=\"all\"]")
@@ -459,7 +459,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
      * Finds the position for table caption.
      */
     private SourcePosition findSourcePosition(Table table, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || table.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     table.getSourceLocation() != null ? table.getSourceLocation().getLineNumber() : 1);
@@ -491,7 +491,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
      * Finds the position for table header.
      */
     private SourcePosition findHeaderPosition(Table table, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || table.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     table.getSourceLocation() != null ? table.getSourceLocation().getLineNumber() : 1);
@@ -518,7 +518,7 @@ public final class TableBlockValidator extends AbstractBlockValidator<TableBlock
      * Finds the position for a specific header cell.
      */
     private SourcePosition findHeaderCellPosition(Table table, BlockValidationContext context, String cellContent) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || table.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     table.getSourceLocation() != null ? table.getSourceLocation().getLineNumber() : 1);
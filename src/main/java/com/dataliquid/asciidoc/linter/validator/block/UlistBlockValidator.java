@@ -119,14 +119,14 @@ public final class UlistBlockValidator extends AbstractBlockValidator<UlistBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add list item with asterisk")
                                     .fixedValue("* ")
                                     .addExample("* First item")
                                     .addExample("* Second item")
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add list item with dash")
                                     .fixedValue("- ")
@@ -147,7 +147,7 @@ public final class UlistBlockValidator extends AbstractBlockValidator<UlistBlock
                             .message("Unordered list has too many items")
                             .actualValue(String.valueOf(itemCount))
                             .expectedValue("At most " + config.getMax() + ITEMS_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Remove excess items")
                                     .addExample("Keep only the most important " + config.getMax() + ITEMS_UNIT)
@@ -178,14 +178,14 @@ public final class UlistBlockValidator extends AbstractBlockValidator<UlistBlock
                             .message("Unordered list exceeds maximum nesting level")
                             .actualValue(String.valueOf(nestingLevel))
                             .expectedValue("Maximum nesting level: " + config.getMax())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Flatten nested lists")
                                     .addExample("Move nested items to main level")
                                     .addExample("Use numbered sub-sections instead")
                                     .explanation("Reduce nesting to improve readability")
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Break into separate lists")
                                     .addExample("Split complex nested structure into multiple lists")
@@ -199,7 +199,7 @@ public final class UlistBlockValidator extends AbstractBlockValidator<UlistBlock
             BlockValidationContext context, List<ValidationMessage> messages) {
 
         // Get the marker style from block attributes
-        String actualMarkerStyle = getMarkerStyle(block);
+        String actualMarkerStyle = getMarkerStyle(block, context);
 
         if (actualMarkerStyle != null && !actualMarkerStyle.equals(expectedMarkerStyle)) {
             SourcePosition pos = findSourcePosition(block, context);
@@ -219,7 +219,7 @@ public final class UlistBlockValidator extends AbstractBlockValidator<UlistBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.SIMPLE_VALUE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Change to " + expectedMarkerStyle + " marker")
                                     .fixedValue(expectedMarkerStyle)
@@ -253,16 +253,14 @@ public final class UlistBlockValidator extends AbstractBlockValidator<UlistBlock
         return null;
     }
 
-    private String getMarkerStyle(StructuralNode block) {
+    private String getMarkerStyle(StructuralNode block, BlockValidationContext context) {
         // AsciidoctorJ doesn't provide marker style in attributes
         // We need to detect it from the source
         if (block.getSourceLocation() == null) {
             return null;
         }
 
-        // Get the file lines from cache
-        String filePath = block.getSourceLocation().getPath();
-        List<String> fileLines = fileCache.getFileLines(filePath);
+        List<String> fileLines = context.getSourceLines();
         int lineNum = block.getSourceLocation().getLineNumber();
 
         if (lineNum > 0 && lineNum <= fileLines.size()) {
@@ -292,7 +290,7 @@ public final class UlistBlockValidator extends AbstractBlockValidator<UlistBlock
             return new SourcePosition(1, 1, 1);
         }
 
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
 
         // If there are existing items, position after the last one
         if (!items.isEmpty()) {
@@ -324,7 +322,7 @@ public final class UlistBlockValidator extends AbstractBlockValidator<UlistBlock
             return new SourcePosition(1, 1, 1);
         }
 
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         int lineNum = block.getSourceLocation().getLineNumber();
 
         if (lineNum > 0 && lineNum <= fileLines.size()) {
@@ -357,7 +355,7 @@ public final class UlistBlockValidator extends AbstractBlockValidator<UlistBlock
                 for (StructuralNode nestedBlock : item.getBlocks()) {
                     // Check if it's a nested ulist
                     if (ULIST_CONTEXT.equals(nestedBlock.getContext())) {
-                        String nestedMarkerStyle = getMarkerStyle(nestedBlock);
+                        String nestedMarkerStyle = getMarkerStyle(nestedBlock, context);
                         if (nestedMarkerStyle != null && !nestedMarkerStyle.equals(expectedMarkerStyle)) {
                             SourcePosition pos = findSourcePosition(nestedBlock, context);
                             messages
@@ -374,7 +372,7 @@ public final class UlistBlockValidator extends AbstractBlockValidator<UlistBlock
                                                     + "' does not match expected style '" + expectedMarkerStyle + "'")
                                             .actualValue(nestedMarkerStyle)
                                             .expectedValue(expectedMarkerStyle)
-                                            .addSuggestion(Suggestion
+                                            .addSuggestionLazily(() -> Suggestion
                                                     .builder()
                                                     .description(
                                                             "Change nested list to " + expectedMarkerStyle + " marker")
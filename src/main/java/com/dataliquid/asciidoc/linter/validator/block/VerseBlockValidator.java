@@ -168,7 +168,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.SIMPLE_VALUE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add author to verse block")
                                     .addExample("[verse, \"William Shakespeare\", \"Hamlet\"]")
@@ -197,7 +197,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                                 .message("Verse author is too short")
                                 .actualValue(author.length() + CHARACTERS_UNIT)
                                 .expectedValue("At least " + config.getMinLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use longer author name")
                                         .addExample("William Shakespeare")
@@ -223,7 +223,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                                 .message("Verse author is too long")
                                 .actualValue(author.length() + CHARACTERS_UNIT)
                                 .expectedValue("At most " + config.getMaxLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten author name")
                                         .addExample("Use initials: E.A. Poe")
@@ -251,7 +251,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                                     .message("Verse author does not match required pattern")
                                     .actualValue(author)
                                     .expectedValue("Pattern: " + config.getPattern().pattern())
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description("Format author name to match pattern")
                                             .addExample("John Smith")
@@ -298,7 +298,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.SIMPLE_VALUE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add attribution source to verse block")
                                     .addExample("[verse, \"William Shakespeare\", \"Hamlet Act 3, Scene 1\"]")
@@ -327,7 +327,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                                 .message("Verse attribution is too short")
                                 .actualValue(attribution.length() + CHARACTERS_UNIT)
                                 .expectedValue("At least " + config.getMinLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use longer attribution source")
                                         .addExample("Romeo and Juliet Act 2, Scene 2")
@@ -353,7 +353,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                                 .message("Verse attribution is too long")
                                 .actualValue(attribution.length() + CHARACTERS_UNIT)
                                 .expectedValue("At most " + config.getMaxLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten attribution source")
                                         .addExample("Use abbreviations: Hamlet Act 3")
@@ -381,7 +381,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                                     .message("Verse attribution does not match required pattern")
                                     .actualValue(attribution)
                                     .expectedValue("Pattern: " + config.getPattern().pattern())
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description("Format attribution source to match pattern")
                                             .addExample("Hamlet, Act III, Scene I")
@@ -426,7 +426,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add content to verse block")
                                     .addExample("To be or not to be, that is the question")
@@ -452,7 +452,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                             .message("Verse content is too short")
                             .actualValue(contentLength + CHARACTERS_UNIT)
                             .expectedValue("At least " + config.getMinLength() + CHARACTERS_UNIT)
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add more content to verse block")
                                     .addExample("Include complete verses or stanzas")
@@ -479,7 +479,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                                 .message("Verse content is too long")
                                 .actualValue(content.length() + CHARACTERS_UNIT)
                                 .expectedValue("At most " + config.getMaxLength() + CHARACTERS_UNIT)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten verse content")
                                         .addExample("Use selected stanzas only")
@@ -507,7 +507,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
                                     .message("Verse content does not match required pattern")
                                     .actualValue(content.substring(0, Math.min(content.length(), 50)) + "...")
                                     .expectedValue("Pattern: " + config.getPattern().pattern())
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description("Format verse content to match pattern")
                                             .addExample("Ensure proper line breaks")
@@ -525,7 +525,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
      * Finds the position of author in [verse] attribute line.
      */
     private SourcePosition findSourcePosition(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -565,7 +565,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
      * Finds the position of attribution in [verse] attribute line.
      */
     private SourcePosition findAttributionPosition(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -628,7 +628,7 @@ public final class VerseBlockValidator extends AbstractBlockValidator<VerseBlock
      * Finds the position of verse content.
      */
     private SourcePosition findContentPosition(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -101,7 +101,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.SIMPLE_VALUE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add a video URL using the target attribute")
                                     .addExample("video::https://www.youtube.com/embed/VIDEO_ID[width=640,height=360]")
@@ -130,7 +130,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                 .errorType(ErrorType.INVALID_PATTERN)
                                 .actualValue(url)
                                 .expectedValue(pattern.pattern())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use a URL matching the required pattern")
                                         .addExample("For YouTube: https://www.youtube.com/embed/VIDEO_ID")
@@ -181,7 +181,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                     .attributeName(dimensionType)
                                     .hasExistingAttributes(hasOtherAttributes)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description(String.format("Add %s attribute to video block", dimensionType))
                                     .addExample(String.format("video::video.mp4[%s=640]", dimensionType))
@@ -207,7 +207,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                     .errorType(ErrorType.OUT_OF_RANGE)
                                     .actualValue(String.valueOf(value))
                                     .expectedValue(String.format(">= %d", dimensionConfig.getMinValue()))
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description(String
                                                     .format("Increase %s to at least %d pixels", dimensionType,
@@ -229,7 +229,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                     .errorType(ErrorType.OUT_OF_RANGE)
                                     .actualValue(String.valueOf(value))
                                     .expectedValue(String.format("<= %d", dimensionConfig.getMaxValue()))
-                                    .addSuggestion(Suggestion
+                                    .addSuggestionLazily(() -> Suggestion
                                             .builder()
                                             .description(String
                                                     .format("Reduce %s to at most %d pixels", dimensionType,
@@ -250,7 +250,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                 .errorType(ErrorType.INVALID_PATTERN)
                                 .actualValue(dimensionStr)
                                 .expectedValue("numeric value")
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description(String.format("Use a numeric value for %s", dimensionType))
                                         .addExample(String.format("%s=640", dimensionType))
@@ -293,7 +293,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                     .attributeName("poster")
                                     .hasExistingAttributes(hasOtherAttributes)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add a poster image for the video")
                                     .addExample("video::video.mp4[poster=thumbnail.jpg]")
@@ -322,7 +322,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                 .errorType(ErrorType.INVALID_PATTERN)
                                 .actualValue(poster)
                                 .expectedValue(pattern.pattern())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Use a poster image path matching the required pattern")
                                         .addExample("Common image formats: .jpg, .jpeg, .png, .webp")
@@ -373,7 +373,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                         .build())
                                 .actualValue(controlsAttr)
                                 .expectedValue("controls")
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Enable video player controls")
                                         .addExample("video::video.mp4[options=controls]")
@@ -414,7 +414,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add a caption or title to the video")
                                     .addExample(".Video Title\nvideo::video.mp4[]")
@@ -444,7 +444,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                 .errorType(ErrorType.OUT_OF_RANGE)
                                 .actualValue(String.format("%d characters", length))
                                 .expectedValue(String.format(">= %d characters", captionConfig.getMinLength()))
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Provide a more descriptive caption")
                                         .addExample(String
@@ -470,7 +470,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
                                 .errorType(ErrorType.OUT_OF_RANGE)
                                 .actualValue(String.format("%d characters", length))
                                 .expectedValue(String.format("<= %d characters", captionConfig.getMaxLength()))
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten the caption to fit the limit")
                                         .addExample(String
@@ -486,7 +486,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
      * Finds the column position of URL in video macro.
      */
     private SourcePosition findSourcePosition(StructuralNode block, BlockValidationContext context, String url) {
-        return MediaMacroPositionFinder.findMacroUrlPosition(block, context, "video", url, fileCache);
+        return MediaMacroPositionFinder.findMacroUrlPosition(block, context, "video", url);
     }
 
     /**
@@ -495,7 +495,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
      */
     private SourcePosition findSourcePosition(StructuralNode block, BlockValidationContext context,
             String dimensionType, String dimensionValue) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -537,7 +537,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
      * Finds the column position of poster attribute in video macro.
      */
     private SourcePosition findPosterPosition(StructuralNode block, BlockValidationContext context, String poster) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -580,7 +580,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
      * Finds the column position for controls attribute in video macro.
      */
     private SourcePosition findSourcePosition(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
@@ -609,7 +609,7 @@ public final class VideoBlockValidator extends AbstractBlockValidator<VideoBlock
      * Finds the column position for caption in video macro.
      */
     private SourcePosition findCaptionPosition(StructuralNode block, BlockValidationContext context) {
-        List<String> fileLines = fileCache.getFileLines(context.getFilename());
+        List<String> fileLines = context.getSourceLines();
         if (fileLines.isEmpty() || block.getSourceLocation() == null) {
             return new SourcePosition(1, 1,
                     block.getSourceLocation() != null ? block.getSourceLocation().getLineNumber() : 1);
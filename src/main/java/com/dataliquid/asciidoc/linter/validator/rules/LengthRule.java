@@ -53,7 +53,7 @@ public final class LengthRule implements AttributeRule {
                                 .actualValue(value + " (" + length + CHARACTERS_SUFFIX + ")")
                                 .expectedValue("Minimum " + config.getMinLength() + CHARACTERS_SUFFIX)
                                 .errorType(ErrorType.OUT_OF_RANGE)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Provide a longer value for the attribute")
                                         .addExample("Add more descriptive content")
@@ -79,7 +79,7 @@ public final class LengthRule implements AttributeRule {
                                 .actualValue(value + " (" + length + CHARACTERS_SUFFIX + ")")
                                 .expectedValue("Maximum " + config.getMaxLength() + CHARACTERS_SUFFIX)
                                 .errorType(ErrorType.OUT_OF_RANGE)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Shorten the attribute value")
                                         .addExample("Reduce to " + config.getMaxLength() + " characters or less")
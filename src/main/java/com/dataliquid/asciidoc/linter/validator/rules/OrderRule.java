@@ -68,7 +68,7 @@ public final class OrderRule implements AttributeRule {
                                             .attributeName(attrName)
                                             .actualValue("Line " + actual.location.getStartLine())
                                             .expectedValue("Before line " + otherActual.location.getStartLine())
-                                            .addSuggestion(Suggestion
+                                            .addSuggestionLazily(() -> Suggestion
                                                     .builder()
                                                     .description("Reorder attributes according to configuration")
                                                     .addExample("Move ':" + attrName + ":' before ':" + otherAttrName
@@ -49,7 +49,7 @@ public final class PatternRule implements AttributeRule {
                                 .actualValue(value)
                                 .expectedValue("Pattern '" + config.getPatternString() + "'")
                                 .errorType(ErrorType.INVALID_PATTERN)
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Format attribute value to match pattern")
                                         .addExample(":" + attributeName + ": [value matching pattern]")
@@ -52,7 +52,7 @@ public final class RequiredRule implements AttributeRule {
                                     .builder()
                                     .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                     .build())
-                            .addSuggestion(Suggestion
+                            .addSuggestionLazily(() -> Suggestion
                                     .builder()
                                     .description("Add required attribute")
                                     .fixedValue(":" + attributeName + ": value")
@@ -97,7 +97,7 @@ public final class RequiredRule implements AttributeRule {
                                         .builder()
                                         .type(PlaceholderContext.PlaceholderType.INSERT_BEFORE)
                                         .build())
-                                .addSuggestion(Suggestion
+                                .addSuggestionLazily(() -> Suggestion
                                         .builder()
                                         .description("Add required attribute to document header")
                                         .fixedValue(":" + attrName + ": value")
@@ -0,0 +1,150 @@
+package com.dataliquid.asciidoc.linter.ast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Options;
+import org.asciidoctor.ast.Block;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.ListItem;
+import org.asciidoctor.ast.Section;
+import org.asciidoctor.ast.StructuralNode;
+import org.asciidoctor.ast.Table;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AstSnapshot")
+class AstSnapshotTest {
+
+    private static final String CONTENT = """
+            = Document Title
+            :icons: font
+
+            == Section One
+
+            [source,java,name=example]
+            ----
+            class A {}
+            ----
+
+            * first
+            ** nested
+
+            |===
+            |a |b
+            |===
+            """;
+
+    private static Asciidoctor asciidoctor;
+
+    @BeforeAll
+    static void setUp() {
+        asciidoctor = Asciidoctor.Factory.create();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        asciidoctor.close();
+    }
+
+    private Document load() {
+        return asciidoctor.load(CONTENT, Options.builder().sourcemap(true).build());
+    }
+
+    @Nested
+    @DisplayName("capture")
+    class CaptureTest {
+
+        @Test
+        @DisplayName("should preserve node types and tree structure")
+        void shouldPreserveNodeTypesAndTreeStructure() {
+            Document snapshot = AstSnapshot.capture(load());
+
+            assertEquals(1, snapshot.getBlocks().size());
+            Section section = assertInstanceOf(Section.class, snapshot.getBlocks().get(0));
+            assertEquals("Section One", section.getTitle());
+            assertEquals(1, section.getLevel());
+            assertSame(snapshot, section.getParent());
+            assertSame(snapshot, section.getDocument());
+
+            List<StructuralNode> blocks = section.getBlocks();
+            assertEquals(3, blocks.size());
+            assertInstanceOf(Block.class, blocks.get(0));
+            org.asciidoctor.ast.List list = assertInstanceOf(org.asciidoctor.ast.List.class, blocks.get(1));
+            assertInstanceOf(Table.class, blocks.get(2));
+
+            ListItem item = assertInstanceOf(ListItem.class, list.getItems().get(0));
+            StructuralNode nestedList = item.getBlocks().get(0);
+            assertEquals("ulist", nestedList.getContext());
+            assertSame(item, nestedList.getParent());
+        }
+
+        @Test
+        @DisplayName("should match properties of the original nodes")
+        void shouldMatchPropertiesOfOriginalNodes() {
+            Document original = load();
+            Document snapshot = AstSnapshot.capture(original);
+
+            Block originalListing = (Block) original.getBlocks().get(0).getBlocks().get(0);
+            Block listing = (Block) snapshot.getBlocks().get(0).getBlocks().get(0);
+
+            assertEquals(originalListing.getContext(), listing.getContext());
+            assertEquals(originalListing.getStyle(), listing.getStyle());
+            assertEquals(new HashMap<>(originalListing.getAttributes()), listing.getAttributes());
+            assertEquals(originalListing.getAttribute("name"), listing.getAttribute("name"));
+            assertEquals(originalListing.getAttribute("language"), listing.getAttribute("language"));
+            assertEquals(originalListing.getLines(), listing.getLines());
+            assertEquals(originalListing.getSource(), listing.getSource());
+            assertEquals(originalListing.getSourceLocation().getLineNumber(),
+                    listing.getSourceLocation().getLineNumber());
+            assertEquals(original.getAttribute("icons"), listing.getDocument().getAttribute("icons"));
+        }
+
+        @Test
+        @DisplayName("should not resolve positional attributes by name")
+        void shouldNotResolvePositionalAttributesByName() {
+            Document snapshot = AstSnapshot.capture(load());
+            StructuralNode listing = snapshot.getBlocks().get(0).getBlocks().get(0);
+
+            assertTrue(listing.getAttributes().containsKey("1"));
+            assertNull(listing.getAttribute("1"));
+            assertEquals("fallback", listing.getAttribute("missing", "fallback"));
+        }
+
+        @Test
+        @DisplayName("should return an existing snapshot unchanged")
+        void shouldReturnExistingSnapshotUnchanged() {
+            Document snapshot = AstSnapshot.capture(load());
+
+            assertSame(snapshot, AstSnapshot.capture(snapshot));
+        }
+    }
+
+    @Nested
+    @DisplayName("immutability")
+    class ImmutabilityTest {
+
+        @Test
+        @DisplayName("should reject modifications")
+        void shouldRejectModifications() {
+            Document snapshot = AstSnapshot.capture(load());
+            StructuralNode section = snapshot.getBlocks().get(0);
+
+            assertThrows(UnsupportedOperationException.class, () -> section.setTitle("Other"));
+            assertThrows(UnsupportedOperationException.class, () -> section.setAttribute("role", "x", true));
+            assertThrows(UnsupportedOperationException.class, () -> section.getBlocks().clear());
+            assertThrows(UnsupportedOperationException.class, () -> section.getAttributes().put("role", "x"));
+        }
+    }
+}
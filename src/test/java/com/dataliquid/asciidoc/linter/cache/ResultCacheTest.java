@@ -0,0 +1,300 @@
+package com.dataliquid.asciidoc.linter.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
+import com.dataliquid.asciidoc.linter.validator.ErrorType;
+import com.dataliquid.asciidoc.linter.validator.MessageLimits;
+import com.dataliquid.asciidoc.linter.validator.PlaceholderContext;
+import com.dataliquid.asciidoc.linter.validator.SourceLocation;
+import com.dataliquid.asciidoc.linter.validator.Suggestion;
+import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+
+@DisplayName("ResultCache")
+class ResultCacheTest {
+
+    private static final String CONFIG_YAML = """
+            document:
+              sections:
+                - name: introduction
+                  level: 1
+                  occurrence:
+                    min: 1
+                    max: 1
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private Path cacheDir;
+    private Path file;
+    private LinterConfiguration config;
+    private ResultCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cacheDir = tempDir.resolve("cache");
+        file = tempDir.resolve("doc.adoc");
+        Files.writeString(file, "= Title\n\n== Introduction\n\nText.\n");
+        config = new ConfigurationLoader().loadConfiguration(CONFIG_YAML);
+        cache = new ResultCache(cacheDir, "1.0.0");
+    }
+
+    private ValidationMessage sampleMessage() {
+        return ValidationMessage
+                .builder()
+                .severity(Severity.WARN)
+                .ruleId("block.image.width.required")
+                .message("Image must have width")
+                .location(SourceLocation
+                        .builder()
+                        .filename(file.toString())
+                        .startLine(3)
+                        .startColumn(1)
+                        .endLine(3)
+                        .endColumn(12)
+                        .sourceLine("image::a.png[]")
+                        .build())
+                .attributeName("width")
+                .expectedValue("width attribute")
+                .errorType(ErrorType.MISSING_VALUE)
+                .missingValueHint("100")
+                .placeholderContext(PlaceholderContext
+                        .builder()
+                        .type(PlaceholderContext.PlaceholderType.ATTRIBUTE_VALUE)
+                        .attributeName("width")
+                        .isFirstAttribute(true)
+                        .build())
+                .addSuggestion(Suggestion
+                        .builder()
+                        .description("Add width")
+                        .fixedValue("image::a.png[width=100]")
+                        .preferred(true)
+                        .addExample("width=100")
+                        .build())
+                .addContextLine("image::a.png[]")
+                .build();
+    }
+
+    private String key(ResultCache resultCache, LinterConfiguration linterConfig) throws IOException {
+        return resultCache.key(file, Files.readString(file), linterConfig, Severity.INFO, MessageLimits.UNLIMITED);
+    }
+
+    @Nested
+    @DisplayName("key")
+    class KeyTest {
+
+        @Test
+        @DisplayName("should be stable for unchanged input")
+        void shouldBeStableForUnchangedInput() throws IOException {
+            assertEquals(key(cache, config), key(cache, config));
+        }
+
+        @Test
+        @DisplayName("should change when file content changes")
+        void shouldChangeWhenFileContentChanges() throws IOException {
+            String before = key(cache, config);
+            Files.writeString(file, "= Title\n\n== Other\n");
+
+            assertNotEquals(before, key(cache, config));
+        }
+
+        @Test
+        @DisplayName("should be equal for equal configurations loaded separately")
+        void shouldBeEqualForEqualConfigurations() throws IOException {
+            LinterConfiguration sameConfig = new ConfigurationLoader().loadConfiguration(CONFIG_YAML);
+
+            assertEquals(key(cache, config), key(cache, sameConfig));
+        }
+
+        @Test
+        @DisplayName("should change when configuration changes")
+        void shouldChangeWhenConfigurationChanges() throws IOException {
+            LinterConfiguration otherConfig = new ConfigurationLoader()
+                    .loadConfiguration(CONFIG_YAML.replace("max: 1", "max: 2"));
+
+            assertNotEquals(key(cache, config), key(cache, otherConfig));
+        }
+
+        @Test
+        @DisplayName("should change when linter version changes")
+        void shouldChangeWhenLinterVersionChanges() throws IOException {
+            ResultCache otherVersion = new ResultCache(cacheDir, "2.0.0");
+
+            assertNotEquals(key(cache, config), key(otherVersion, config));
+        }
+
+        @Test
+        @DisplayName("should pair every configuration with its own digest when configurations alternate across threads")
+        void shouldKeepConfigurationDigestsApartAcrossThreads() throws Exception {
+            // Given
+            LinterConfiguration otherConfig = new ConfigurationLoader()
+                    .loadConfiguration(CONFIG_YAML.replace("max: 1", "max: 2"));
+            String expected = key(new ResultCache(cacheDir, "1.0.0"), config);
+            String otherExpected = key(new ResultCache(cacheDir, "1.0.0"), otherConfig);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            try {
+                // When
+                List<Future<Boolean>> futures = new ArrayList<>();
+                for (int task = 0; task < 8; task++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < 200; i++) {
+                            if (!expected.equals(key(cache, config))
+                                    || !otherExpected.equals(key(cache, otherConfig))) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }));
+                }
+
+                // Then
+                for (Future<Boolean> future : futures) {
+                    assertTrue(future.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("should change when the minimum severity changes")
+        void shouldChangeWhenMinimumSeverityChanges() throws IOException {
+            // Given
+            String content = Files.readString(file);
+
+            // When
+            String everything = cache.key(file, content, config, Severity.INFO, MessageLimits.UNLIMITED);
+            String errorsOnly = cache.key(file, content, config, Severity.ERROR, MessageLimits.UNLIMITED);
+
+            // Then
+            assertNotEquals(everything, errorsOnly);
+        }
+
+        @Test
+        @DisplayName("should change when the message limits change")
+        void shouldChangeWhenMessageLimitsChange() throws IOException {
+            // Given
+            String content = Files.readString(file);
+
+            // When
+            String unlimited = cache.key(file, content, config, Severity.INFO, MessageLimits.UNLIMITED);
+            String perFile = cache.key(file, content, config, Severity.INFO, MessageLimits.of(10, 0));
+            String perRule = cache.key(file, content, config, Severity.INFO, MessageLimits.of(0, 10));
+            String both = cache.key(file, content, config, Severity.INFO, MessageLimits.of(10, 5));
+
+            // Then
+            assertEquals(4, Set.of(unlimited, perFile, perRule, both).size());
+            assertEquals(perFile, cache.key(file, content, config, Severity.INFO, MessageLimits.of(10, 0)));
+        }
+
+        @Test
+        @DisplayName("should throw NullPointerException for missing content")
+        void shouldThrowNullPointerExceptionForMissingContent() {
+            assertThrows(NullPointerException.class,
+                    () -> cache.key(file, null, config, Severity.INFO, MessageLimits.UNLIMITED));
+        }
+    }
+
+    @Nested
+    @DisplayName("lookup and store")
+    class LookupAndStoreTest {
+
+        @Test
+        @DisplayName("should miss when nothing was stored")
+        void shouldMissWhenNothingWasStored() throws IOException {
+            Optional<ValidationResult> result = cache.lookup(key(cache, config), file);
+
+            assertFalse(result.isPresent());
+            assertEquals(0, cache.getHits());
+            assertEquals(1, cache.getMisses());
+        }
+
+        @Test
+        @DisplayName("should replay stored messages")
+        void shouldReplayStoredMessages() throws IOException {
+            ValidationMessage message = sampleMessage();
+            ValidationResult original = ValidationResult
+                    .builder()
+                    .addScannedFile(file.toString())
+                    .addMessage(message)
+                    .complete()
+                    .build();
+            String key = key(cache, config);
+
+            cache.store(key, file, original);
+            Optional<ValidationResult> replayed = cache.lookup(key, file);
+
+            assertTrue(replayed.isPresent());
+            assertEquals(original.getMessages(), replayed.get().getMessages());
+            ValidationMessage replayedMessage = replayed.get().getMessages().get(0);
+            assertEquals(message.getMissingValueHint(), replayedMessage.getMissingValueHint());
+            assertEquals(message.getSuggestions(), replayedMessage.getSuggestions());
+            assertEquals(original.getScannedFiles(), replayed.get().getScannedFiles());
+            assertEquals(1, cache.getHits());
+        }
+
+        @Test
+        @DisplayName("should not store results containing parse errors")
+        void shouldNotStoreResultsContainingParseErrors() throws IOException {
+            ValidationResult parseError = ValidationResult
+                    .builder()
+                    .addScannedFile(file.toString())
+                    .addMessage(ValidationMessage
+                            .builder()
+                            .severity(Severity.ERROR)
+                            .ruleId("parse-error")
+                            .message("Failed to parse AsciiDoc file: boom")
+                            .location(SourceLocation.builder().filename(file.toString()).startLine(1).build())
+                            .cause(new IllegalStateException("boom"))
+                            .build())
+                    .complete()
+                    .build();
+            String key = key(cache, config);
+
+            cache.store(key, file, parseError);
+
+            assertFalse(cache.lookup(key, file).isPresent());
+        }
+
+        @Test
+        @DisplayName("should treat corrupt entries as a miss")
+        void shouldTreatCorruptEntriesAsMiss() throws IOException {
+            String key = key(cache, config);
+            cache.store(key, file, ValidationResult.builder().addScannedFile(file.toString()).complete().build());
+            try (Stream<Path> entries = Files.walk(cacheDir)) {
+                for (Path entry : entries.filter(Files::isRegularFile).toList()) {
+                    Files.writeString(entry, "{ not json");
+                }
+            }
+
+            assertFalse(cache.lookup(key, file).isPresent());
+        }
+    }
+}
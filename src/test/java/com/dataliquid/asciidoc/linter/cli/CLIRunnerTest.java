@@ -0,0 +1,102 @@
+package com.dataliquid.asciidoc.linter.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.dataliquid.asciidoc.linter.validator.RuleIds;
+import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
+
+@DisplayName("CLIRunner")
+class CLIRunnerTest {
+
+    private static final String RULES = """
+            document:
+              metadata:
+                attributes:
+                  - name: author
+                    required: true
+                    severity: error
+                  - name: revnumber
+                    required: true
+                    severity: error
+                  - name: keywords
+                    required: true
+                    severity: error
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private Path rules;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        rules = tempDir.resolve("rules.yaml");
+        Files.writeString(rules, RULES);
+        Files.writeString(tempDir.resolve("doc.adoc"), "= Document\n\nContent\n");
+    }
+
+    private List<ValidationMessage> run(CLIConfig.Builder builder, StringWriter console) {
+        List<ValidationMessage> messages = new ArrayList<>();
+        CLIConfig config = builder
+                .inputPatterns(List.of("*.adoc"))
+                .baseDirectory(tempDir)
+                .configFile(rules)
+                .reportFormat("json")
+                .build();
+
+        new CLIRunner()
+                .run(config, new PrintWriter(console, true),
+                        (file, result) -> messages.addAll(result.getMessages()));
+        return messages;
+    }
+
+    @Nested
+    @DisplayName("message limits")
+    class MessageLimitsTest {
+
+        @Test
+        @DisplayName("should pass the per-file limit to the linter")
+        void shouldPassFileLimitToLinter() {
+            // Given
+            StringWriter console = new StringWriter();
+
+            // When
+            List<ValidationMessage> messages = run(CLIConfig.builder().maxMessagesPerFile(1), console);
+
+            // Then
+            assertEquals(2, messages.size());
+            assertEquals(RuleIds.Limit.MESSAGES_PER_FILE, messages.get(1).getRuleId());
+            assertTrue(console.toString().contains("limit of 1 messages per file"), console.toString());
+        }
+
+        @Test
+        @DisplayName("should pass the per-rule limit to the linter")
+        void shouldPassRuleLimitToLinter() {
+            // Given
+            StringWriter console = new StringWriter();
+
+            // When
+            List<ValidationMessage> messages = run(CLIConfig.builder().maxMessagesPerRule(2), console);
+
+            // Then
+            assertEquals(3, messages.size());
+            assertEquals(RuleIds.Limit.MESSAGES_PER_RULE, messages.get(2).getRuleId());
+            assertTrue(console.toString().contains("1 more message of rule"), console.toString());
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.dataliquid.asciidoc.linter.cli.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.dataliquid.asciidoc.linter.cli.CLIRunner;
+import com.dataliquid.asciidoc.linter.cli.command.DaemonCommand;
+import com.dataliquid.asciidoc.linter.cli.command.LintCommand;
+import com.dataliquid.asciidoc.linter.output.OutputWriter;
+import com.dataliquid.asciidoc.linter.validator.MessageLimits;
+
+@DisplayName("LintDaemon")
+class LintDaemonTest {
+
+    private static final String RULES = """
+            document:
+              metadata:
+                attributes:
+                  - name: author
+                    required: true
+                    severity: error
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private Path socket;
+    private LintDaemon daemon;
+    private Thread serveThread;
+    private DaemonClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        socket = tempDir.resolve("lint.sock");
+        daemon = LintDaemon.builder().socketPath(socket).threads(1).build();
+        daemon.start();
+        serveThread = new Thread(() -> {
+            try {
+                daemon.serve();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        serveThread.start();
+        client = new DaemonClient(socket);
+
+        Files.writeString(tempDir.resolve("rules.yaml"), RULES);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        daemon.close();
+        serveThread.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    @Nested
+    @DisplayName("start")
+    class StartTest {
+
+        @Test
+        @DisplayName("should bind a socket only the owner can access")
+        void shouldBindOwnerOnlySocket() throws IOException {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(socket);
+
+            assertEquals(PosixFilePermissions.fromString("rw-------"), permissions);
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertFalse(files.anyMatch(file -> file.getFileName().toString().startsWith(".lint-daemon-")));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("lint")
+    class LintTest {
+
+        @Test
+        @DisplayName("should run the lint command relative to the client working directory")
+        void shouldLintRelativeToWorkingDirectory() throws IOException {
+            Files.writeString(tempDir.resolve("doc.adoc"), "= Document\n\nContent\n");
+            CapturingWriter output = new CapturingWriter();
+
+            int exitCode = client.lint(tempDir, List.of("-i", "*.adoc", "-r", "rules.yaml", "-f", "json"), output);
+
+            assertEquals(1, exitCode);
+            assertTrue(output.text().contains("author"), output.text());
+        }
+
+        @Test
+        @DisplayName("should pick up file changes between requests")
+        void shouldPickUpFileChangesBetweenRequests() throws IOException {
+            Path document = tempDir.resolve("doc.adoc");
+            List<String> arguments = List.of("-i", "*.adoc", "-r", "rules.yaml", "-f", "json");
+            Files.writeString(document, "= Document\n\nContent\n");
+            assertEquals(1, client.lint(tempDir, arguments, new CapturingWriter()));
+
+            Files.writeString(document, "= Document\n:author: Jane Doe\n\nContent\n");
+
+            assertEquals(0, client.lint(tempDir, arguments, new CapturingWriter()));
+        }
+
+        @Test
+        @DisplayName("should use the default rule file of the client working directory")
+        void shouldUseDefaultRuleFileOfWorkingDirectory() throws IOException {
+            Files.writeString(tempDir.resolve(CLIRunner.DEFAULT_CONFIG_FILE), RULES);
+            Files.writeString(tempDir.resolve("doc.adoc"), "= Document\n\nContent\n");
+            CapturingWriter output = new CapturingWriter();
+
+            int exitCode = client.lint(tempDir, List.of("-i", "*.adoc", "-f", "json"), output);
+
+            assertEquals(1, exitCode);
+            assertTrue(output.text().contains("author"), output.text());
+        }
+
+        @Test
+        @DisplayName("should warn about options that are fixed when the daemon starts")
+        void shouldWarnAboutStartupOptions() throws Exception {
+            CapturingWriter output = new CapturingWriter();
+            LintCommand command = new LintCommand(output);
+            CommandLine cmd = new DefaultParser()
+                    .parse(command.getOptions(),
+                            new String[] { "-i", "missing-*.adoc", "--daemon", "--socket", socket.toString(),
+                                    "--threads", "2", "--min-severity", "error", "--profile" });
+
+            command.execute(cmd);
+
+            assertTrue(output.text().contains("--threads, --min-severity ignored"), output.text());
+            assertTrue(output.text().contains("--profile ignored"), output.text());
+        }
+
+        @Test
+        @DisplayName("should apply the message limits the daemon was started with")
+        void shouldApplyMessageLimitsOfDaemon() throws Exception {
+            Files.writeString(tempDir.resolve("doc.adoc"), "= Document\n\nContent\n");
+            Path limitedSocket = tempDir.resolve("limited.sock");
+            LintDaemon limited = LintDaemon
+                    .builder()
+                    .socketPath(limitedSocket)
+                    .threads(1)
+                    .messageLimits(MessageLimits.of(1, 0))
+                    .build();
+            limited.start();
+            Thread limitedThread = new Thread(() -> {
+                try {
+                    limited.serve();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            limitedThread.start();
+            try {
+                CapturingWriter output = new CapturingWriter();
+
+                int exitCode = new DaemonClient(limitedSocket)
+                        .lint(tempDir, List.of("-i", "*.adoc", "-r", "rules.yaml", "-f", "json"), output);
+
+                assertEquals(1, exitCode);
+                assertTrue(output.text().contains("limit of 1 messages per file"), output.text());
+            } finally {
+                limited.close();
+                limitedThread.join(TimeUnit.SECONDS.toMillis(30));
+            }
+        }
+
+        @Test
+        @DisplayName("should lint in-process when no daemon is listening")
+        void shouldLintInProcessWithoutDaemon() throws Exception {
+            Files.writeString(tempDir.resolve("doc.adoc"), "= Document\n:author: Jane Doe\n\nContent\n");
+            CapturingWriter output = new CapturingWriter();
+            LintCommand command = new LintCommand(output);
+            Path absent = tempDir.resolve("absent.sock");
+            CommandLine cmd = new DefaultParser()
+                    .parse(command.getOptions(),
+                            new String[] { "-i", tempDir.resolve("doc.adoc").toString(), "-r",
+                                    tempDir.resolve("rules.yaml").toString(), "--daemon", "--socket",
+                                    absent.toString() });
+
+            int exitCode = command.execute(cmd);
+
+            assertEquals(0, exitCode);
+            assertTrue(output.text().contains("No lint daemon listening on " + absent), output.text());
+        }
+
+        @Test
+        @DisplayName("should report invalid arguments with exit code 2")
+        void shouldReportInvalidArguments() throws IOException {
+            CapturingWriter output = new CapturingWriter();
+
+            int exitCode = client.lint(tempDir, List.of("--unknown"), output);
+
+            assertEquals(2, exitCode);
+            assertTrue(output.text().startsWith("Error:"), output.text());
+        }
+    }
+
+    @Nested
+    @DisplayName("stop")
+    class StopTest {
+
+        @Test
+        @DisplayName("should end serving and remove the socket on close")
+        void shouldEndServingAndRemoveSocket() throws Exception {
+            assertTrue(client.isAvailable());
+
+            client.stop();
+            serveThread.join(TimeUnit.SECONDS.toMillis(30));
+            daemon.close();
+
+            assertFalse(serveThread.isAlive());
+            assertFalse(Files.exists(socket));
+            assertFalse(client.isAvailable());
+        }
+
+        @Test
+        @DisplayName("should report that no daemon is running")
+        void shouldReportMissingDaemon() throws Exception {
+            CapturingWriter output = new CapturingWriter();
+            DaemonCommand command = new DaemonCommand(output);
+            Path absent = tempDir.resolve("absent.sock");
+            CommandLine cmd = new DefaultParser()
+                    .parse(command.getOptions(), new String[] { "--stop", "--socket", absent.toString() });
+
+            int exitCode = command.execute(cmd);
+
+            assertEquals(2, exitCode);
+            assertTrue(output.text().contains("No lint daemon is listening on " + absent), output.text());
+        }
+    }
+
+    private static final class CapturingWriter implements OutputWriter {
+        private final StringBuilder text = new StringBuilder();
+
+        String text() {
+            return text.toString();
+        }
+
+        @Override
+        public void write(String message) {
+            text.append(message);
+        }
+
+        @Override
+        public void writeLine(String message) {
+            text.append(message).append('\n');
+        }
+
+        @Override
+        public void writeError(String message) {
+            writeLine(message);
+        }
+
+        @Override
+        public void writeDebug(String message) {
+            writeLine(message);
+        }
+
+        @Override
+        public void writeWarning(String message) {
+            writeLine(message);
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return false;
+        }
+    }
+}
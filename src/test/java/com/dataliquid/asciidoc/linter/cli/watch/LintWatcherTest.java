@@ -0,0 +1,195 @@
+package com.dataliquid.asciidoc.linter.cli.watch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.dataliquid.asciidoc.linter.cli.CLIConfig;
+import com.dataliquid.asciidoc.linter.cli.FileDiscoveryService;
+import com.dataliquid.asciidoc.linter.output.OutputWriter;
+
+@DisplayName("LintWatcher")
+class LintWatcherTest {
+
+    private static final String RULES = """
+            document:
+              metadata:
+                attributes:
+                  - name: author
+                    required: true
+                    severity: error
+            """;
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(60);
+
+    @TempDir
+    Path tempDir;
+
+    private CLIConfig config;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(tempDir.resolve("docs/guide"));
+        Files.writeString(tempDir.resolve("rules.yaml"), RULES);
+        config = CLIConfig
+                .builder()
+                .inputPatterns(List.of("docs/**/*.adoc"))
+                .baseDirectory(tempDir)
+                .configFile(tempDir.resolve("rules.yaml"))
+                .reportFormat("json")
+                .reportOutput(tempDir.resolve("report.json"))
+                .threads(1)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("discovery")
+    class DiscoveryTest {
+
+        private final FileDiscoveryService service = new FileDiscoveryService();
+
+        @Test
+        @DisplayName("should match files selected by the input patterns only")
+        void shouldMatchSelectedFiles() {
+            assertTrue(service.matches(tempDir.resolve("docs/guide/new.adoc"), config));
+            assertFalse(service.matches(tempDir.resolve("docs/guide/new.txt"), config));
+            assertFalse(service.matches(tempDir.resolve("other/new.adoc"), config));
+        }
+
+        @Test
+        @DisplayName("should return the directories the patterns can reach")
+        void shouldDiscoverDirectories() throws IOException {
+            Files.createDirectories(tempDir.resolve("other/nested"));
+
+            Set<Path> directories = service.discoverDirectories(config);
+
+            Path base = tempDir.toAbsolutePath().normalize();
+            assertEquals(Set.of(base, base.resolve("docs"), base.resolve("docs/guide")), directories);
+        }
+    }
+
+    @Nested
+    @DisplayName("watching")
+    class WatchingTest {
+
+        private CapturingWriter output;
+        private LintWatcher watcher;
+        private Thread watchThread;
+        private final AtomicInteger exitCode = new AtomicInteger(-1);
+
+        @BeforeEach
+        void setUp() throws IOException, InterruptedException {
+            Files.writeString(tempDir.resolve("docs/guide/doc.adoc"), "= Document\n\nContent\n");
+            output = new CapturingWriter();
+            watcher = LintWatcher.builder().config(config).outputWriter(output).debounceMillis(50).build();
+            watchThread = new Thread(() -> {
+                try {
+                    exitCode.set(watcher.run());
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            watchThread.start();
+            awaitOutput("Watching");
+        }
+
+        @AfterEach
+        void tearDown() throws InterruptedException {
+            watcher.close();
+            watchThread.join(TIMEOUT_MILLIS);
+        }
+
+        private void awaitOutput(String text) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (!output.text().contains(text) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertTrue(output.text().contains(text), output.text());
+        }
+
+        @Test
+        @DisplayName("should print resolved messages of a modified file")
+        void shouldPrintResolvedMessages() throws IOException, InterruptedException {
+            Files.writeString(tempDir.resolve("docs/guide/doc.adoc"), "= Document\n:author: Jane Doe\n\nContent\n");
+
+            awaitOutput("1 files: 0 errors");
+            assertTrue(output.text().contains("doc.adoc: 0 new, 1 resolved (0 messages)"), output.text());
+            assertTrue(output.text().contains("  - [ERROR]"), output.text());
+        }
+
+        @Test
+        @DisplayName("should validate files created in new directories")
+        void shouldValidateCreatedFiles() throws IOException, InterruptedException {
+            Path chapter = Files.createDirectories(tempDir.resolve("docs/chapter"));
+            Files.writeString(chapter.resolve("new.adoc"), "= New\n\nContent\n");
+
+            awaitOutput("2 files: 2 errors");
+            assertTrue(output.text().contains("new.adoc: 1 new, 0 resolved (1 messages)"), output.text());
+
+            watcher.close();
+            watchThread.join(TIMEOUT_MILLIS);
+            assertEquals(1, exitCode.get());
+        }
+
+        @Test
+        @DisplayName("should validate all files again when the rule file changes")
+        void shouldRevalidateOnRuleFileChange() throws IOException, InterruptedException {
+            Files.writeString(tempDir.resolve("rules.yaml"), RULES.replace("required: true", "required: false"));
+
+            awaitOutput("1 files: 0 errors");
+            assertTrue(output.text().contains("doc.adoc: 0 new, 1 resolved (0 messages)"), output.text());
+        }
+    }
+
+    private static final class CapturingWriter implements OutputWriter {
+        private final StringBuffer text = new StringBuffer();
+
+        String text() {
+            return text.toString();
+        }
+
+        @Override
+        public void write(String message) {
+            text.append(message);
+        }
+
+        @Override
+        public void writeLine(String message) {
+            text.append(message).append('\n');
+        }
+
+        @Override
+        public void writeError(String message) {
+            writeLine(message);
+        }
+
+        @Override
+        public void writeDebug(String message) {
+            writeLine(message);
+        }
+
+        @Override
+        public void writeWarning(String message) {
+            writeLine(message);
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return false;
+        }
+    }
+}
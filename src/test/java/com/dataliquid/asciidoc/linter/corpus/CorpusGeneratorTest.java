@@ -0,0 +1,279 @@
+package com.dataliquid.asciidoc.linter.corpus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.dataliquid.asciidoc.linter.Linter;
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.blocks.BlockType;
+import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+
+@DisplayName("CorpusGenerator")
+class CorpusGeneratorTest {
+
+    private static final String RULES = """
+            document:
+              metadata:
+                attributes:
+                  - name: author
+                    required: true
+                    pattern: "^[A-Z][a-z]+ [A-Z][a-z]+$"
+                    severity: error
+                  - name: version
+                    required: true
+                    pattern: "^\\\\d+\\\\.\\\\d+$"
+                    severity: error
+              sections:
+                - name: introduction
+                  level: 1
+                  title:
+                    pattern: "^Introduction$"
+                    severity: error
+                  occurrence:
+                    min: 1
+                    max: 1
+                  allowedBlocks:
+                    - paragraph:
+                        severity: error
+                        lines:
+                          min: 2
+                          max: 4
+                - name: reference
+                  level: 1
+                  title:
+                    pattern: "^(API|SDK) [A-Z].*"
+                    severity: error
+                  occurrence:
+                    min: 1
+                  allowedBlocks:
+                    - listing:
+                        severity: error
+                        title:
+                          required: true
+                          pattern: "^Example:.*"
+                          severity: error
+                        language:
+                          required: true
+                          allowed: [java, yaml]
+                          severity: error
+                    - table:
+                        severity: error
+                        caption:
+                          required: true
+                          pattern: "^Table \\\\d+\\\\..*"
+                          severity: error
+                        columns:
+                          min: 2
+                          max: 3
+                          severity: error
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private LinterConfiguration config;
+
+    @BeforeEach
+    void setUp() {
+        config = new ConfigurationLoader().loadConfiguration(RULES);
+    }
+
+    @Nested
+    @DisplayName("reproducibility")
+    class ReproducibilityTest {
+
+        @Test
+        @DisplayName("should generate identical documents for the same seed")
+        void shouldGenerateIdenticalDocumentsForSameSeed() {
+            CorpusGenerator first = CorpusGenerator.builder().seed(7).build();
+            CorpusGenerator second = CorpusGenerator.builder().seed(7).build();
+
+            assertEquals(first.generateDocument(3), second.generateDocument(3));
+        }
+
+        @Test
+        @DisplayName("should generate different documents for different seeds and indexes")
+        void shouldGenerateDifferentDocuments() {
+            CorpusGenerator generator = CorpusGenerator.builder().seed(7).build();
+
+            assertNotEquals(generator.generateDocument(0), generator.generateDocument(1));
+            assertNotEquals(generator.generateDocument(0),
+                    CorpusGenerator.builder().seed(8).build().generateDocument(0));
+        }
+
+        @Test
+        @DisplayName("should not depend on the number of documents")
+        void shouldNotDependOnDocumentCount() {
+            CorpusGenerator small = CorpusGenerator.builder().documentCount(2).build();
+            CorpusGenerator large = CorpusGenerator.builder().documentCount(2000).build();
+
+            assertEquals(small.generateDocument(1), large.generateDocument(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("generate")
+    class GenerateTest {
+
+        @Test
+        @DisplayName("should spread documents over numbered directories")
+        void shouldWriteDocumentsToDirectories() throws IOException {
+            CorpusGenerator generator = CorpusGenerator.builder().documentCount(3).blocks(1, 2).maxDepth(1).build();
+
+            int written = generator.generate(tempDir);
+
+            assertEquals(3, written);
+            try (Stream<Path> files = Files.walk(tempDir)) {
+                assertEquals(3, files.filter(file -> file.toString().endsWith(".adoc")).count());
+            }
+            assertEquals(generator.generateDocument(2),
+                    Files.readString(tempDir.resolve("part-0000").resolve("doc-000002.adoc")));
+        }
+
+        @Test
+        @DisplayName("should limit free-form sections to the nesting depth")
+        void shouldLimitNestingDepth() {
+            CorpusGenerator flat = CorpusGenerator.builder().maxDepth(0).build();
+            CorpusGenerator nested = CorpusGenerator.builder().maxDepth(2).build();
+
+            for (int index = 0; index < 5; index++) {
+                assertFalse(flat.generateDocument(index).contains("\n== "));
+                assertFalse(nested.generateDocument(index).contains("\n==== "));
+            }
+        }
+
+        @Test
+        @DisplayName("should only use block types of the block mix")
+        void shouldUseBlockMix() {
+            CorpusGenerator generator = CorpusGenerator
+                    .builder()
+                    .blockMix(BlockMix.parse("listing=1"))
+                    .maxDepth(1)
+                    .build();
+
+            String document = generator.generateDocument(0);
+
+            assertTrue(document.contains("----"));
+            assertFalse(document.contains("|==="));
+            assertFalse(document.contains("image::"));
+        }
+    }
+
+    @Nested
+    @DisplayName("rule configuration")
+    class RuleConfigurationTest {
+
+        private Linter linter;
+
+        @BeforeEach
+        void setUp() {
+            linter = new Linter();
+        }
+
+        @AfterEach
+        void tearDown() {
+            linter.close();
+        }
+
+        @Test
+        @DisplayName("should generate documents that conform to the rules")
+        void shouldGenerateConformingDocuments() {
+            CorpusGenerator generator = CorpusGenerator.builder().configuration(config).blocks(2, 6).build();
+
+            for (int index = 0; index < 3; index++) {
+                ValidationResult result = linter.validateContent(generator.generateDocument(index), config);
+                assertFalse(result.hasErrors(), () -> result.getMessages().toString());
+            }
+        }
+
+        @Test
+        @DisplayName("should break rules when violations are requested")
+        void shouldGenerateViolatingDocuments() {
+            CorpusGenerator generator = CorpusGenerator
+                    .builder()
+                    .configuration(config)
+                    .blocks(2, 6)
+                    .violationRate(1.0)
+                    .build();
+
+            ValidationResult result = linter.validateContent(generator.generateDocument(0), config);
+
+            assertTrue(result.hasErrors());
+        }
+    }
+
+    @Nested
+    @DisplayName("configuration")
+    class ConfigurationTest {
+
+        @Test
+        @DisplayName("should reject invalid settings")
+        void shouldRejectInvalidSettings() {
+            assertThrows(IllegalArgumentException.class, () -> CorpusGenerator.builder().blocks(5, 2).build());
+            assertThrows(IllegalArgumentException.class, () -> CorpusGenerator.builder().maxDepth(6).build());
+            assertThrows(IllegalArgumentException.class, () -> CorpusGenerator.builder().violationRate(1.5).build());
+        }
+
+        @Test
+        @DisplayName("should parse block mix weights")
+        void shouldParseBlockMix() {
+            BlockMix mix = BlockMix.parse("paragraph=3, table=1");
+
+            assertEquals(3, mix.getWeights().get(BlockType.PARAGRAPH));
+            assertEquals(1, mix.getWeights().get(BlockType.TABLE));
+            assertThrows(IllegalArgumentException.class, () -> BlockMix.parse("paragraph"));
+            assertThrows(IllegalArgumentException.class, () -> BlockMix.parse("paragraph=0"));
+            assertThrows(IllegalArgumentException.class, () -> BlockMix.parse("chart=1"));
+        }
+
+        @Test
+        @DisplayName("should keep sizes within range")
+        void shouldKeepSizesWithinRange() {
+            Random random = new Random(1);
+            for (int i = 0; i < 100; i++) {
+                int size = SizeDistribution.LONG_TAIL.sample(random, 10, 500);
+                assertTrue(size >= 10 && size <= 500, "size " + size);
+            }
+            assertEquals(SizeDistribution.LONG_TAIL, SizeDistribution.fromValue("long-tail"));
+        }
+    }
+
+    @Nested
+    @DisplayName("PatternSampler")
+    class PatternSamplerTest {
+
+        @Test
+        @DisplayName("should generate values matching rule patterns")
+        void shouldGenerateMatchingValues() {
+            Random random = new Random(1);
+            String[] patterns = { "^\\w+ (API|SDK|Library) Documentation$", "^(GET|POST|PUT)\\s+/.*",
+                    "^v?\\d+\\.\\d+\\.\\d+$", "^[A-Z][a-z]{2,5}-\\d{3}$", "^(left|right)?$" };
+
+            for (String regex : patterns) {
+                Pattern pattern = Pattern.compile(regex);
+                String value = PatternSampler.sample(random, pattern);
+                assertNotNull(value, regex);
+                assertTrue(pattern.matcher(value).matches(), regex + " -> " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.dataliquid.asciidoc.linter.discovery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("DirectoryScanner")
+class DirectoryScannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        for (String directory : List.of("b/deep", "a", "skipped/docs")) {
+            Files.createDirectories(tempDir.resolve(directory));
+        }
+        for (String file : List.of("root.adoc", "b/two.adoc", "b/one.adoc", "b/deep/three.adoc", "a/zero.adoc",
+                "a/notes.txt", "skipped/docs/hidden.adoc")) {
+            Files.writeString(tempDir.resolve(file), "= Title\n");
+        }
+    }
+
+    private List<String> scan(int parallelism, ScanFilter filter) throws IOException {
+        List<String> files = new ArrayList<>();
+        new DirectoryScanner(parallelism)
+                .scan(tempDir, filter, file -> files.add(tempDir.relativize(file).toString().replace('\\', '/')));
+        return files;
+    }
+
+    /**
+     * Accepts AsciiDoc files and enters every directory except "skipped".
+     */
+    private static final class AsciiDocFilter implements ScanFilter {
+        @Override
+        public ScanFilter enter(Path directory) {
+            return "skipped".equals(directory.getFileName().toString()) ? null : this;
+        }
+
+        @Override
+        public boolean accept(Path file) {
+            return file.getFileName().toString().endsWith(".adoc");
+        }
+    }
+
+    @Nested
+    @DisplayName("scan")
+    class ScanTest {
+
+        @Test
+        @DisplayName("should report accepted files depth-first in name order")
+        void shouldReportFilesInOrder() throws IOException {
+            List<String> files = scan(1, new AsciiDocFilter());
+
+            assertEquals(List.of("root.adoc", "a/zero.adoc", "b/one.adoc", "b/two.adoc", "b/deep/three.adoc"), files);
+        }
+
+        @Test
+        @DisplayName("should report the same order when listing in parallel")
+        void shouldReportSameOrderInParallel() throws IOException {
+            assertEquals(scan(1, new AsciiDocFilter()), scan(4, new AsciiDocFilter()));
+        }
+
+        @Test
+        @DisplayName("should report the entered directories")
+        void shouldReportEnteredDirectories() throws IOException {
+            List<Path> directories = new ArrayList<>();
+
+            new DirectoryScanner(2).scan(tempDir, new AsciiDocFilter(), file -> {
+            }, directories::add);
+
+            assertEquals(List.of(tempDir, tempDir.resolve("a"), tempDir.resolve("b"), tempDir.resolve("b/deep")),
+                    directories);
+        }
+
+        @Test
+        @DisplayName("should skip symbolic links back to a scanned directory")
+        void shouldSkipLinkCycles() throws IOException {
+            Files.createSymbolicLink(tempDir.resolve("b/deep/loop"), tempDir.resolve("b"));
+
+            List<String> files = scan(2, new AsciiDocFilter());
+
+            assertEquals(5, files.size(), files.toString());
+        }
+
+        @Test
+        @DisplayName("should report nothing for a missing root")
+        void shouldReportNothingForMissingRoot() throws IOException {
+            List<Path> files = new ArrayList<>();
+
+            new DirectoryScanner(2).scan(tempDir.resolve("missing"), new AsciiDocFilter(), files::add);
+
+            assertTrue(files.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("feed")
+    class FeedTest {
+
+        @Test
+        @DisplayName("should return the scanned files in order")
+        void shouldReturnScannedFiles() throws IOException {
+            List<String> files = new ArrayList<>();
+
+            try (PathFeed feed = PathFeed
+                    .start(consumer -> new DirectoryScanner(2).scan(tempDir, new AsciiDocFilter(), consumer))) {
+                while (feed.hasNext()) {
+                    files.add(tempDir.relativize(feed.next()).toString().replace('\\', '/'));
+                }
+            }
+
+            assertEquals(scan(1, new AsciiDocFilter()), files);
+        }
+
+        @Test
+        @DisplayName("should end with the failure of the producer")
+        void shouldEndWithFailure() {
+            try (PathFeed feed = PathFeed.start(consumer -> {
+                consumer.accept(tempDir.resolve("root.adoc"));
+                throw new IOException("disk gone");
+            })) {
+                assertTrue(feed.hasNext());
+                feed.next();
+
+                UncheckedIOException e = assertThrows(UncheckedIOException.class, feed::hasNext);
+                assertEquals("disk gone", e.getCause().getMessage());
+            }
+        }
+    }
+}
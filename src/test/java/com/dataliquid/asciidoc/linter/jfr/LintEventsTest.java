@@ -0,0 +1,127 @@
+package com.dataliquid.asciidoc.linter.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.dataliquid.asciidoc.linter.Linter;
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
+import com.dataliquid.asciidoc.linter.report.ReportWriter;
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@DisplayName("LintEvents")
+class LintEventsTest {
+
+    private static final String RULES = """
+            document:
+              sections:
+                - name: intro
+                  level: 1
+                  allowedBlocks:
+                    - paragraph:
+                        severity: error
+            """;
+
+    private static final String CONTENT = """
+            = Title
+
+            == Intro
+
+            Some text.
+
+            ----
+            code
+            ----
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("recording")
+    class RecordingTest {
+
+        @Test
+        @DisplayName("should emit events for configuration, parsing, validation and reporting")
+        void shouldEmitLifecycleEvents() throws IOException {
+            Path dump = tempDir.resolve("lint.jfr");
+            ValidationResult result;
+
+            try (Recording recording = new Recording()) {
+                recording.enable(LintEvents.NAME_PREFIX + "*");
+                recording.start();
+
+                LinterConfiguration config = new ConfigurationLoader().loadConfiguration(RULES);
+                Linter linter = new Linter();
+                try {
+                    result = linter.validateContent(CONTENT, config);
+                } finally {
+                    linter.close();
+                }
+                new ReportWriter().write(result, "json", new PrintWriter(new StringWriter()));
+
+                recording.stop();
+                recording.dump(dump);
+            }
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+
+            RecordedEvent configuration = event(events, "ConfigurationLoad");
+            assertEquals("inline", configuration.getString("source"));
+            assertEquals(RULES.getBytes(StandardCharsets.UTF_8).length, configuration.getLong("size"));
+
+            RecordedEvent parse = event(events, "Parse");
+            assertEquals(CONTENT.length(), parse.getLong("size"));
+
+            RecordedEvent validate = event(events, "Validate");
+            assertTrue(validate.getInt("blockCount") >= 3);
+            assertEquals(result.getMessages().size(), validate.getInt("messageCount"));
+
+            RecordedEvent blocks = event(events, "BlockValidation");
+            assertEquals("section", blocks.getString("container"));
+            assertEquals(2, blocks.getInt("blockCount"));
+
+            RecordedEvent walk = event(events, "DocumentWalk");
+            assertEquals(1, walk.getInt("sectionCount"));
+            assertEquals(result.getMessages().size(), walk.getInt("messageCount"));
+            assertEquals("json", event(events, "ReportWrite").getString("format"));
+        }
+
+        private RecordedEvent event(List<RecordedEvent> events, String name) {
+            return events
+                    .stream()
+                    .filter(event -> (LintEvents.NAME_PREFIX + name).equals(event.getEventType().getName()))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("No " + name + " event recorded"));
+        }
+    }
+
+    @Nested
+    @DisplayName("utf8Length")
+    class Utf8LengthTest {
+
+        @Test
+        @DisplayName("should count bytes like the UTF-8 encoder")
+        void shouldCountUtf8Bytes() {
+            String text = "ascii äöü € 😀";
+
+            assertEquals(text.getBytes(StandardCharsets.UTF_8).length, LintEvents.utf8Length(text));
+        }
+    }
+}
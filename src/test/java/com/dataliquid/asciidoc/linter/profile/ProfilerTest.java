@@ -0,0 +1,150 @@
+package com.dataliquid.asciidoc.linter.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dataliquid.asciidoc.linter.Linter;
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
+
+@DisplayName("Profiler")
+class ProfilerTest {
+
+    @Nested
+    @DisplayName("recording")
+    class RecordingTest {
+
+        @Test
+        @DisplayName("should ignore measurements when disabled")
+        void shouldIgnoreMeasurementsWhenDisabled() {
+            Profiler profiler = Profiler.disabled();
+
+            Profiler.Sample sample = profiler.start();
+            profiler.record(ProfileCategory.PHASE, "parse", sample);
+            profiler.count(ProfileCategory.RULE, "section.title.pattern", 1);
+
+            assertNull(sample);
+            assertFalse(profiler.isEnabled());
+            assertTrue(profiler.getEntries().isEmpty());
+        }
+
+        @Test
+        @DisplayName("should sum invocations and rank entries by time")
+        void shouldSumAndRankEntries() throws InterruptedException {
+            Profiler profiler = Profiler.create();
+
+            profiler.record(ProfileCategory.PHASE, "read", profiler.start());
+            Profiler.Sample slow = profiler.start();
+            Thread.sleep(5);
+            profiler.record(ProfileCategory.PHASE, "parse", slow);
+            profiler.record(ProfileCategory.PHASE, "parse", profiler.start());
+            profiler.count(ProfileCategory.RULE, "paragraph.lines.min", 2);
+            profiler.count(ProfileCategory.RULE, "paragraph.lines.min", 1);
+
+            List<ProfileEntry> phases = profiler.getEntries(ProfileCategory.PHASE);
+            assertEquals("parse", phases.get(0).getName());
+            assertEquals(2, phases.get(0).getCount());
+            assertTrue(phases.get(0).getNanos() >= 5_000_000L);
+            assertEquals("read", phases.get(1).getName());
+
+            List<ProfileEntry> rules = profiler.getEntries(ProfileCategory.RULE);
+            assertEquals(1, rules.size());
+            assertEquals(3, rules.get(0).getCount());
+            assertEquals(-1, rules.get(0).getAllocatedBytes());
+        }
+
+        @Test
+        @DisplayName("should print timed entries and rule counts")
+        void shouldPrintTable() {
+            Profiler profiler = Profiler.create();
+            profiler.record(ProfileCategory.VALIDATOR, "listing", profiler.start());
+            profiler.count(ProfileCategory.RULE, "listing.language.required", 4);
+            StringWriter output = new StringWriter();
+
+            ProfileTable.print(profiler, new PrintWriter(output));
+
+            String table = output.toString();
+            assertTrue(table.contains("validator  listing"), table);
+            assertTrue(table.contains("listing.language.required"), table);
+        }
+    }
+
+    @Nested
+    @DisplayName("linter")
+    class LinterProfilingTest {
+
+        private Profiler profiler;
+        private Linter linter;
+
+        @BeforeEach
+        void setUp() {
+            profiler = Profiler.create();
+            linter = Linter.builder().profiler(profiler).build();
+        }
+
+        @AfterEach
+        void tearDown() {
+            linter.close();
+        }
+
+        private ProfileEntry entry(ProfileCategory category, String name) {
+            return profiler
+                    .getEntries(category)
+                    .stream()
+                    .filter(entry -> name.equals(entry.getName()))
+                    .findFirst()
+                    .orElseThrow();
+        }
+
+        @Test
+        @DisplayName("should record phases, block validators and rule messages")
+        void shouldProfileValidation() {
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration("""
+                    document:
+                      sections:
+                        - name: intro
+                          level: 1
+                          allowedBlocks:
+                            - listing:
+                                severity: error
+                                language:
+                                  required: true
+                                  severity: error
+                    """);
+            String content = """
+                    = Title
+
+                    == Intro
+
+                    Paragraphs are not allowed here.
+
+                    ----
+                    code
+                    ----
+                    """;
+
+            linter.validateContent(content, config);
+
+            List<String> phases = profiler
+                    .getEntries(ProfileCategory.PHASE)
+                    .stream()
+                    .map(ProfileEntry::getName)
+                    .toList();
+            assertTrue(phases.containsAll(List.of("parse", "snapshot", "structure")), phases.toString());
+            assertEquals(1, entry(ProfileCategory.VALIDATOR, "listing").getCount());
+            assertEquals(1, entry(ProfileCategory.RULE, "block.type.not-allowed").getCount());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.dataliquid.asciidoc.linter.report;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.PrintWriter;
@@ -237,4 +238,68 @@ class ConsoleFormatterTest {
             assertTrue(output.contains("\u001B[31m[ERROR]\u001B[0m")); // Red color
         }
     }
+
+    @Nested
+    @DisplayName("Streaming")
+    class Streaming {
+
+        @Test
+        @DisplayName("should render each file when it is added and the summary on close")
+        void shouldRenderFilesIncrementally() {
+            // Given
+            ValidationResult first = ValidationResult
+                    .builder()
+                    .addScannedFile("first.adoc")
+                    .addMessage(ValidationMessage
+                            .builder()
+                            .severity(Severity.ERROR)
+                            .ruleId("required-attribute")
+                            .location(SourceLocation.builder().filename("first.adoc").startLine(1).build())
+                            .message("Missing required attribute")
+                            .build())
+                    .complete()
+                    .build();
+            ValidationResult second = ValidationResult
+                    .builder()
+                    .addScannedFile("second.adoc")
+                    .addMessage(ValidationMessage
+                            .builder()
+                            .severity(Severity.WARN)
+                            .ruleId("pattern")
+                            .location(SourceLocation.builder().filename("second.adoc").startLine(3).build())
+                            .message("Pattern mismatch")
+                            .build())
+                    .complete()
+                    .build();
+
+            // When
+            ReportStream report = formatter.open(printWriter);
+            report.add(first);
+            String afterFirst = stringWriter.toString();
+            report.add(second);
+            report.close();
+
+            // Then
+            assertTrue(report.isIncremental());
+            assertTrue(afterFirst.contains("Missing required attribute"));
+            assertFalse(afterFirst.contains("Summary:"));
+            String output = stringWriter.toString();
+            assertTrue(output.contains("Pattern mismatch"));
+            assertTrue(output.contains("Summary: 1 error, 1 warning, 0 info messages"));
+        }
+
+        @Test
+        @DisplayName("should report no issues on close when no file has messages")
+        void shouldReportNoIssuesOnClose() {
+            // When
+            ReportStream report = formatter.open(printWriter);
+            report.add(ValidationResult.builder().addScannedFile("clean.adoc").complete().build());
+            report.close();
+
+            // Then
+            String output = stringWriter.toString();
+            assertTrue(output.contains("No validation issues found."));
+            assertTrue(output.contains("Summary: 0 errors, 0 warnings, 0 info messages"));
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.dataliquid.asciidoc.linter.report;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -14,6 +15,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.profile.ProfileCategory;
+import com.dataliquid.asciidoc.linter.profile.Profiler;
 import com.dataliquid.asciidoc.linter.validator.SourceLocation;
 import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
 import com.dataliquid.asciidoc.linter.validator.ValidationResult;
@@ -254,4 +257,109 @@ class JsonFormatterTest {
             assertEquals("2.500s", JsonPath.read(output, "$.duration"));
         }
     }
+
+    @Nested
+    @DisplayName("Streamed report")
+    class StreamedReport {
+
+        private ValidationResult resultOf(String filename, Severity... severities) {
+            ValidationResult.Builder builder = ValidationResult.builder();
+            builder.addScannedFile(filename);
+            for (Severity severity : severities) {
+                builder
+                        .addMessage(ValidationMessage
+                                .builder()
+                                .severity(severity)
+                                .ruleId("rule")
+                                .location(SourceLocation.builder().filename(filename).startLine(1).build())
+                                .message(severity + " in " + filename)
+                                .build());
+            }
+            return builder.complete().build();
+        }
+
+        @Test
+        @DisplayName("should write the messages of all added files followed by the summary")
+        void shouldWriteAddedFiles() {
+            // Given
+            ReportStream report = formatter.open(printWriter);
+
+            // When
+            report.add(resultOf("first.adoc", Severity.ERROR, Severity.WARN));
+            report.add(resultOf("second.adoc"));
+            report.add(resultOf("third.adoc", Severity.INFO));
+            report.close();
+
+            // Then
+            String output = stringWriter.toString();
+            assertTrue(report.isIncremental());
+            assertNotNull(JsonPath.read(output, "$.timestamp"));
+            assertNotNull(JsonPath.read(output, "$.duration"));
+            assertEquals(3, (int) JsonPath.read(output, "$.summary.totalMessages"));
+            assertEquals(1, (int) JsonPath.read(output, "$.summary.errors"));
+            assertEquals(1, (int) JsonPath.read(output, "$.summary.warnings"));
+            assertEquals(1, (int) JsonPath.read(output, "$.summary.infos"));
+            assertEquals("ERROR in first.adoc", JsonPath.read(output, "$.messages[0].message"));
+            assertEquals("INFO in third.adoc", JsonPath.read(output, "$.messages[2].message"));
+        }
+
+        @Test
+        @DisplayName("should write messages as soon as a file is added")
+        void shouldWriteMessagesWhenAdded() {
+            // Given
+            ReportStream report = JsonFormatter.compact().open(printWriter);
+
+            // When
+            report.add(resultOf("first.adoc", Severity.ERROR));
+
+            // Then
+            assertTrue(stringWriter.toString().contains("ERROR in first.adoc"));
+            report.close();
+            assertFalse(stringWriter.toString().contains("\n"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Profile")
+    class Profile {
+
+        @Test
+        @DisplayName("should not include profile when profiling is disabled")
+        void shouldOmitProfileWhenDisabled() {
+            // Given
+            ValidationResult result = ValidationResult.builder().complete().build();
+
+            // When
+            formatter.format(result, printWriter);
+            printWriter.flush();
+
+            // Then
+            assertFalse(stringWriter.toString().contains("\"profile\""));
+        }
+
+        @Test
+        @DisplayName("should include phases, validators and rules of the profiler")
+        void shouldIncludeProfile() {
+            // Given
+            Profiler profiler = Profiler.create();
+            profiler.record(ProfileCategory.PHASE, "parse", profiler.start());
+            profiler.record(ProfileCategory.VALIDATOR, "table", profiler.start());
+            profiler.count(ProfileCategory.RULE, "table.columns.min", 3);
+            JsonFormatter profiling = new JsonFormatter("json", true, profiler);
+            ValidationResult result = ValidationResult.builder().complete().build();
+
+            // When
+            profiling.format(result, printWriter);
+            printWriter.flush();
+
+            // Then
+            String output = stringWriter.toString();
+            assertEquals("parse", JsonPath.read(output, "$.profile.phases[0].name"));
+            assertEquals(1, (int) JsonPath.read(output, "$.profile.phases[0].count"));
+            assertNotNull(JsonPath.read(output, "$.profile.phases[0].timeNanos"));
+            assertEquals("table", JsonPath.read(output, "$.profile.validators[0].name"));
+            assertEquals("table.columns.min", JsonPath.read(output, "$.profile.rules[0].ruleId"));
+            assertEquals(3, (int) JsonPath.read(output, "$.profile.rules[0].messages"));
+        }
+    }
 }
@@ -55,6 +55,7 @@ class ReportWriterTest {
             // Console formatter is created dynamically now
             assertTrue(formats.contains("json"));
             assertTrue(formats.contains("json-compact"));
+            assertTrue(formats.contains("sarif"));
         }
 
         @Test
@@ -0,0 +1,248 @@
+package com.dataliquid.asciidoc.linter.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.validator.ErrorType;
+import com.dataliquid.asciidoc.linter.validator.SourceLocation;
+import com.dataliquid.asciidoc.linter.validator.Suggestion;
+import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
+import com.dataliquid.asciidoc.linter.validator.ValidationResult;
+import com.jayway.jsonpath.JsonPath;
+
+@DisplayName("SarifFormatter")
+class SarifFormatterTest {
+
+    private SarifFormatter formatter;
+    private StringWriter stringWriter;
+    private PrintWriter printWriter;
+
+    @BeforeEach
+    void setUp() {
+        formatter = new SarifFormatter();
+        stringWriter = new StringWriter();
+        printWriter = new PrintWriter(stringWriter);
+    }
+
+    private ValidationMessage message(String ruleId, Severity severity, SourceLocation location) {
+        return ValidationMessage
+                .builder()
+                .severity(severity)
+                .ruleId(ruleId)
+                .location(location)
+                .message("Problem with " + ruleId)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Log structure")
+    class LogStructure {
+
+        @Test
+        @DisplayName("should write an empty run for a result without messages")
+        void shouldWriteEmptyRun() {
+            // Given
+            ValidationResult result = ValidationResult.builder().complete().build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            String output = stringWriter.toString();
+            assertEquals("2.1.0", JsonPath.read(output, "$.version"));
+            assertEquals("asciidoc-linter", JsonPath.read(output, "$.runs[0].tool.driver.name"));
+            assertTrue(((List<?>) JsonPath.read(output, "$.runs[0].results")).isEmpty());
+            assertTrue(((List<?>) JsonPath.read(output, "$.runs[0].tool.driver.rules")).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should refer to one rule descriptor per rule ID")
+        void shouldWriteRuleDescriptors() {
+            // Given
+            SourceLocation location = SourceLocation.builder().filename("docs/guide.adoc").line(3).build();
+            ValidationResult result = ValidationResult
+                    .builder()
+                    .addMessage(message("metadata.required", Severity.ERROR, location))
+                    .addMessage(message("section.level", Severity.WARN, location))
+                    .addMessage(message("metadata.required", Severity.ERROR, location))
+                    .complete()
+                    .build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            String output = stringWriter.toString();
+            assertEquals(2, (int) JsonPath.read(output, "$.runs[0].tool.driver.rules.length()"));
+            assertEquals("section.level", JsonPath.read(output, "$.runs[0].tool.driver.rules[1].id"));
+            assertEquals("warning", JsonPath.read(output, "$.runs[0].tool.driver.rules[1].defaultConfiguration.level"));
+            assertEquals(0, (int) JsonPath.read(output, "$.runs[0].results[2].ruleIndex"));
+            assertEquals("error", JsonPath.read(output, "$.runs[0].results[2].level"));
+            assertEquals("Problem with section.level", JsonPath.read(output, "$.runs[0].results[1].message.text"));
+        }
+
+        @Test
+        @DisplayName("should describe rules independent of the reported messages")
+        void shouldDescribeRulesStatically() {
+            // Given
+            SourceLocation location = SourceLocation.builder().filename("docs/guide.adoc").line(3).build();
+            ValidationResult result = ValidationResult
+                    .builder()
+                    .addMessage(message("section.level", Severity.ERROR, location))
+                    .addMessage(message("paragraph.lines.max", Severity.WARN, location))
+                    .addMessage(message("ulist.items.min", Severity.WARN, location))
+                    .complete()
+                    .build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            String output = stringWriter.toString();
+            assertEquals("Section must be at its configured level",
+                    JsonPath.read(output, "$.runs[0].tool.driver.rules[0].shortDescription.text"));
+            assertEquals("Paragraph lines must not exceed the configured maximum",
+                    JsonPath.read(output, "$.runs[0].tool.driver.rules[1].shortDescription.text"));
+            assertEquals("Unordered list items must not be below the configured minimum",
+                    JsonPath.read(output, "$.runs[0].tool.driver.rules[2].shortDescription.text"));
+        }
+
+        @Test
+        @DisplayName("should write results of a streamed report as files are added")
+        void shouldStreamResults() {
+            // Given
+            SourceLocation location = SourceLocation.builder().filename("a.adoc").line(1).build();
+            ReportStream report = formatter.open(printWriter);
+
+            // When
+            report.add(ValidationResult.builder().addMessage(message("rule", Severity.INFO, location)).build());
+
+            // Then
+            assertTrue(stringWriter.toString().contains("Problem with rule"));
+            report.close();
+            assertEquals("note", JsonPath.read(stringWriter.toString(), "$.runs[0].results[0].level"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Locations")
+    class Locations {
+
+        @Test
+        @DisplayName("should map the location to a region with an exclusive end column")
+        void shouldWriteRegion() {
+            // Given
+            SourceLocation location = SourceLocation
+                    .builder()
+                    .filename("docs/my guide.adoc")
+                    .line(7)
+                    .columns(5, 9)
+                    .build();
+            ValidationResult result = ValidationResult
+                    .builder()
+                    .addMessage(message("rule", Severity.ERROR, location))
+                    .build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            Map<String, Object> physicalLocation = JsonPath
+                    .read(stringWriter.toString(), "$.runs[0].results[0].locations[0].physicalLocation");
+            assertEquals("docs/my%20guide.adoc", JsonPath.read(physicalLocation, "$.artifactLocation.uri"));
+            assertEquals(7, (int) JsonPath.read(physicalLocation, "$.region.startLine"));
+            assertEquals(5, (int) JsonPath.read(physicalLocation, "$.region.startColumn"));
+            assertEquals(10, (int) JsonPath.read(physicalLocation, "$.region.endColumn"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fixes")
+    class Fixes {
+
+        @Test
+        @DisplayName("should map fixed values of suggestions to replacements")
+        void shouldWriteFixes() {
+            // Given
+            ValidationMessage message = ValidationMessage
+                    .builder()
+                    .severity(Severity.ERROR)
+                    .ruleId("listing.language.allowed")
+                    .location(SourceLocation.builder().filename("a.adoc").line(4).columns(10, 12).build())
+                    .message("Language not allowed")
+                    .addSuggestion(Suggestion.builder().description("Use java").fixedValue("java").build())
+                    .addSuggestion(Suggestion.builder().description("Check the documentation").build())
+                    .build();
+            ValidationResult result = ValidationResult.builder().addMessage(message).build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            String output = stringWriter.toString();
+            assertEquals(1, (int) JsonPath.read(output, "$.runs[0].results[0].fixes.length()"));
+            assertEquals("Use java", JsonPath.read(output, "$.runs[0].results[0].fixes[0].description.text"));
+            String replacement = "$.runs[0].results[0].fixes[0].artifactChanges[0].replacements[0]";
+            assertEquals("java", JsonPath.read(output, replacement + ".insertedContent.text"));
+            assertEquals(10, (int) JsonPath.read(output, replacement + ".deletedRegion.startColumn"));
+            assertEquals(13, (int) JsonPath.read(output, replacement + ".deletedRegion.endColumn"));
+        }
+
+        @Test
+        @DisplayName("should insert missing values at the start column")
+        void shouldInsertMissingValues() {
+            // Given
+            ValidationMessage message = ValidationMessage
+                    .builder()
+                    .severity(Severity.ERROR)
+                    .ruleId("metadata.required")
+                    .location(SourceLocation.builder().filename("a.adoc").line(2).columns(8, 8).build())
+                    .message("Missing required attribute")
+                    .errorType(ErrorType.MISSING_VALUE)
+                    .addSuggestion(Suggestion.builder().description("Add it").fixedValue("Jane Doe").build())
+                    .build();
+            ValidationResult result = ValidationResult.builder().addMessage(message).build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            String region = "$.runs[0].results[0].fixes[0].artifactChanges[0].replacements[0].deletedRegion";
+            assertEquals(8, (int) JsonPath.read(stringWriter.toString(), region + ".startColumn"));
+            assertEquals(8, (int) JsonPath.read(stringWriter.toString(), region + ".endColumn"));
+        }
+
+        @Test
+        @DisplayName("should not write fixes without a column")
+        void shouldOmitFixesWithoutColumn() {
+            // Given
+            ValidationMessage message = ValidationMessage
+                    .builder()
+                    .severity(Severity.ERROR)
+                    .ruleId("section.level")
+                    .location(SourceLocation.builder().filename("a.adoc").line(2).build())
+                    .message("Wrong level")
+                    .addSuggestion(Suggestion.builder().description("Fix it").fixedValue("== Title").build())
+                    .build();
+            ValidationResult result = ValidationResult.builder().addMessage(message).build();
+
+            // When
+            formatter.format(result, printWriter);
+
+            // Then
+            assertFalse(stringWriter.toString().contains("\"fixes\""));
+        }
+    }
+}
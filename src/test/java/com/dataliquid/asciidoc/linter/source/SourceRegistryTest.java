@@ -0,0 +1,161 @@
+package com.dataliquid.asciidoc.linter.source;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("SourceRegistry")
+class SourceRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SourceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SourceRegistry();
+    }
+
+    @Nested
+    @DisplayName("read")
+    class ReadTest {
+
+        @Test
+        @DisplayName("should return the content and register it under the file path")
+        void shouldReturnContentAndRegisterIt() throws IOException {
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "= Title\n\nText", StandardCharsets.UTF_8);
+
+            String content = registry.read(file);
+
+            assertEquals("= Title\n\nText", content);
+            assertTrue(registry.contains(file.toString()));
+            assertEquals(List.of("= Title", "", "Text"), registry.getLines(file.toString()));
+        }
+
+        @Test
+        @DisplayName("should keep serving the registered content after the file changes")
+        void shouldServeRegisteredContentAfterFileChanges() throws IOException {
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "first", StandardCharsets.UTF_8);
+            registry.read(file);
+
+            Files.writeString(file, "second", StandardCharsets.UTF_8);
+
+            assertEquals("first", registry.getContent(file.toString()));
+        }
+    }
+
+    @Nested
+    @DisplayName("getLines")
+    class GetLinesTest {
+
+        @Test
+        @DisplayName("should return registered in-memory content")
+        void shouldReturnRegisteredContent() {
+            registry.register("inline-content", "line one\nline two");
+
+            assertEquals(List.of("line one", "line two"), registry.getLines("inline-content"));
+        }
+
+        @Test
+        @DisplayName("should load files on first access and reuse the lines")
+        void shouldLoadFilesOnFirstAccess() throws IOException {
+            Path file = tempDir.resolve("lazy.adoc");
+            Files.writeString(file, "a\nb", StandardCharsets.UTF_8);
+
+            List<String> lines = registry.getLines(file.toString());
+
+            assertEquals(List.of("a", "b"), lines);
+            assertSame(lines, registry.getLines(file.toString()));
+        }
+
+        @Test
+        @DisplayName("should return empty lines for missing files")
+        void shouldReturnEmptyLinesForMissingFiles() {
+            assertTrue(registry.getLines(tempDir.resolve("missing.adoc").toString()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should not remember missing files")
+        void shouldNotRememberMissingFiles() throws IOException {
+            // Given
+            Path file = tempDir.resolve("later.adoc");
+            registry.getLines(file.toString());
+
+            // When
+            Files.writeString(file, "created later");
+
+            // Then
+            assertFalse(registry.contains(file.toString()));
+            assertEquals(List.of("created later"), registry.getLines(file.toString()));
+        }
+    }
+
+    @Nested
+    @DisplayName("getSuppressions")
+    class GetSuppressionsTest {
+
+        @Test
+        @DisplayName("should index the suppression comments once per source")
+        void shouldIndexSuppressionsOnce() {
+            registry.register("doc.adoc", "// asciidoc-linter-disable-file metadata\n= Title");
+
+            Suppressions suppressions = registry.getSuppressions("doc.adoc");
+
+            assertTrue(suppressions.isSuppressedInFile("metadata.required"));
+            assertSame(suppressions, registry.getSuppressions("doc.adoc"));
+        }
+
+        @Test
+        @DisplayName("should return none for a source without suppression comments")
+        void shouldReturnNoneWithoutComments() {
+            registry.register("doc.adoc", "= Title\n\n// a comment");
+
+            assertSame(Suppressions.NONE, registry.getSuppressions("doc.adoc"));
+        }
+    }
+
+    @Nested
+    @DisplayName("release")
+    class ReleaseTest {
+
+        @Test
+        @DisplayName("should remove a single source")
+        void shouldRemoveSingleSource() {
+            registry.register("a.adoc", "a");
+            registry.register("b.adoc", "b");
+
+            registry.release("a.adoc");
+
+            assertFalse(registry.contains("a.adoc"));
+            assertTrue(registry.contains("b.adoc"));
+        }
+
+        @Test
+        @DisplayName("should remove all sources on clear")
+        void shouldRemoveAllSourcesOnClear() {
+            registry.register("a.adoc", "a");
+            registry.register("b.adoc", "b");
+
+            registry.clear();
+
+            assertFalse(registry.contains("a.adoc"));
+            assertFalse(registry.contains("b.adoc"));
+        }
+    }
+}
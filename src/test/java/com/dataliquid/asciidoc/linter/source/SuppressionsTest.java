@@ -0,0 +1,218 @@
+package com.dataliquid.asciidoc.linter.source;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.validator.SourceLocation;
+import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
+
+@DisplayName("Suppressions")
+class SuppressionsTest {
+
+    private static Suppressions scan(String content) {
+        return Suppressions.scan(content.lines().toList());
+    }
+
+    @Nested
+    @DisplayName("scan")
+    class ScanTest {
+
+        @Test
+        @DisplayName("should return none for a source without suppression comments")
+        void shouldReturnNoneWithoutComments() {
+            // Given
+            List<String> lines = List.of("= Title", "", "// an ordinary comment", "Text");
+
+            // When
+            Suppressions suppressions = Suppressions.scan(lines);
+
+            // Then
+            assertSame(Suppressions.NONE, suppressions);
+            assertTrue(suppressions.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should ignore directives in listing blocks")
+        void shouldIgnoreListingBlocks() {
+            // Given
+            String content = "[source,asciidoc]\n------\n// asciidoc-linter-disable-file\n----\n------";
+
+            // When
+            Suppressions suppressions = scan(content);
+
+            // Then
+            assertTrue(suppressions.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should ignore directives in block comments")
+        void shouldIgnoreBlockComments() {
+            // Given
+            String content = "////\nasciidoc-linter-disable-file\n////\n//// asciidoc-linter-disable-file";
+
+            // When
+            Suppressions suppressions = scan(content);
+
+            // Then
+            assertTrue(suppressions.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("disable-file")
+    class DisableFileTest {
+
+        @Test
+        @DisplayName("should suppress every rule without a rule list")
+        void shouldSuppressEveryRule() {
+            // Given
+            Suppressions suppressions = scan("// asciidoc-linter-disable-file\n= Title");
+
+            // When / Then
+            assertTrue(suppressions.isFileSuppressed());
+            assertTrue(suppressions.isSuppressed("paragraph.lines.max", 2));
+        }
+
+        @Test
+        @DisplayName("should suppress the listed rules and prefixes in the whole file")
+        void shouldSuppressListedRules() {
+            // Given
+            Suppressions suppressions = scan("= Title\n// asciidoc-linter-disable-file metadata, block.occurrence.max");
+
+            // When / Then
+            assertFalse(suppressions.isFileSuppressed());
+            assertTrue(suppressions.isSuppressedInFile("metadata"));
+            assertTrue(suppressions.isSuppressedInFile("metadata.required"));
+            assertTrue(suppressions.isSuppressed("block.occurrence.max", 0));
+            assertFalse(suppressions.isSuppressed("block.occurrence.min", 1));
+            assertFalse(suppressions.isSuppressedInFile("metadatax"));
+        }
+    }
+
+    @Nested
+    @DisplayName("disable and enable")
+    class RegionTest {
+
+        @Test
+        @DisplayName("should suppress the rules between the comments")
+        void shouldSuppressBetweenComments() {
+            // Given
+            String content = String
+                    .join("\n", "Text", "// asciidoc-linter-disable paragraph", "Text", "Text",
+                            "// asciidoc-linter-enable paragraph", "Text");
+
+            // When
+            Suppressions suppressions = scan(content);
+
+            // Then
+            assertFalse(suppressions.isSuppressed("paragraph.lines.max", 1));
+            assertTrue(suppressions.isSuppressed("paragraph.lines.max", 3));
+            assertTrue(suppressions.isSuppressed("paragraph", 4));
+            assertFalse(suppressions.isSuppressed("paragraph.lines.max", 6));
+            assertFalse(suppressions.isSuppressed("listing.language.required", 3));
+        }
+
+        @Test
+        @DisplayName("should end every open region on an enable comment without rules")
+        void shouldEndEveryRegion() {
+            // Given
+            String content = String
+                    .join("\n", "// asciidoc-linter-disable paragraph listing", "Text", "// asciidoc-linter-enable",
+                            "Text");
+
+            // When
+            Suppressions suppressions = scan(content);
+
+            // Then
+            assertTrue(suppressions.isSuppressed("listing.title.required", 2));
+            assertFalse(suppressions.isSuppressed("listing.title.required", 4));
+            assertFalse(suppressions.isSuppressed("paragraph.lines.max", 4));
+        }
+
+        @Test
+        @DisplayName("should extend an unclosed region to the end of the file")
+        void shouldExtendUnclosedRegion() {
+            // Given
+            Suppressions suppressions = scan("Text\n// asciidoc-linter-disable\nText\n\nText");
+
+            // When / Then
+            assertFalse(suppressions.isSuppressed("section.title.pattern", 1));
+            assertTrue(suppressions.isSuppressed("section.title.pattern", 5));
+        }
+    }
+
+    @Nested
+    @DisplayName("disable-next-block")
+    class NextBlockTest {
+
+        @Test
+        @DisplayName("should suppress a delimited block with its attribute and title lines")
+        void shouldSuppressDelimitedBlock() {
+            // Given
+            String content = String
+                    .join("\n", "// asciidoc-linter-disable-next-block listing.language", "", "[source]",
+                            ".Example", "----", "code", "", "code", "----", "", "[source]", "----");
+
+            // When
+            Suppressions suppressions = scan(content);
+
+            // Then
+            assertTrue(suppressions.isSuppressed("listing.language.required", 3));
+            assertTrue(suppressions.isSuppressed("listing.language.required", 8));
+            assertTrue(suppressions.isSuppressed("listing.language.required", 9));
+            assertFalse(suppressions.isSuppressed("listing.language.required", 11));
+            assertFalse(suppressions.isSuppressed("listing.title.required", 5));
+        }
+
+        @Test
+        @DisplayName("should suppress a paragraph up to the next blank line")
+        void shouldSuppressParagraph() {
+            // Given
+            String content = String.join("\n", "// asciidoc-linter-disable-next-block", "Line", "Line", "", "Text");
+
+            // When
+            Suppressions suppressions = scan(content);
+
+            // Then
+            assertTrue(suppressions.isSuppressed("paragraph.lines.max", 2));
+            assertTrue(suppressions.isSuppressed("paragraph.lines.max", 3));
+            assertFalse(suppressions.isSuppressed("paragraph.lines.max", 5));
+        }
+    }
+
+    @Nested
+    @DisplayName("isSuppressed")
+    class IsSuppressedTest {
+
+        @Test
+        @DisplayName("should check a message at its start line")
+        void shouldCheckMessageAtStartLine() {
+            // Given
+            Suppressions suppressions = scan("// asciidoc-linter-disable-next-block\nText\n\nText");
+            ValidationMessage suppressed = message(2);
+            ValidationMessage reported = message(4);
+
+            // When / Then
+            assertTrue(suppressions.isSuppressed(suppressed));
+            assertFalse(suppressions.isSuppressed(reported));
+        }
+
+        private ValidationMessage message(int line) {
+            return ValidationMessage
+                    .builder()
+                    .severity(Severity.WARN)
+                    .ruleId("paragraph.lines.max")
+                    .message("Too many lines")
+                    .location(SourceLocation.builder().filename("doc.adoc").startLine(line).build())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.dataliquid.asciidoc.linter.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Options;
+import org.asciidoctor.ast.Document;
+import org.asciidoctor.ast.Section;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dataliquid.asciidoc.linter.config.document.DocumentConfiguration;
+import com.dataliquid.asciidoc.linter.config.rule.SectionConfig;
+
+@DisplayName("DocumentWalker")
+class DocumentWalkerTest {
+
+    private static final String CONTENT = """
+            = Title
+
+            Preamble.
+
+            == Introduction
+
+            Text.
+
+            === Background
+
+            Text.
+
+            == Usage
+
+            Text.
+            """;
+
+    private Asciidoctor asciidoctor;
+
+    @BeforeEach
+    void setUp() {
+        asciidoctor = Asciidoctor.Factory.create();
+    }
+
+    private Document load(String content) {
+        return asciidoctor.load(content, Options.builder().sourcemap(true).toFile(false).build());
+    }
+
+    @Nested
+    @DisplayName("walk")
+    class WalkTest {
+
+        @Test
+        @DisplayName("should enter and leave the sections in document order")
+        void shouldVisitSectionsInDocumentOrder() {
+            // Given
+            List<String> events = new ArrayList<>();
+            Document document = load(CONTENT);
+
+            // When
+            DocumentWalker.walk(document, List.of(new RecordingVisitor("a", events)));
+
+            // Then
+            assertEquals(List
+                    .of("a:start", "a:enter Introduction", "a:enter Background", "a:leave Background",
+                            "a:leave Introduction", "a:enter Usage", "a:leave Usage", "a:end"), events);
+        }
+
+        @Test
+        @DisplayName("should dispatch every section to all visitors before descending")
+        void shouldDispatchToAllVisitorsBeforeDescending() {
+            // Given
+            List<String> events = new ArrayList<>();
+            Document document = load("= Title\n\n== Introduction\n\n=== Background\n");
+
+            // When
+            DocumentWalker
+                    .walk(document, List.of(new RecordingVisitor("a", events), new RecordingVisitor("b", events)));
+
+            // Then
+            assertEquals(List
+                    .of("a:start", "b:start", "a:enter Introduction", "b:enter Introduction", "a:enter Background",
+                            "b:enter Background", "a:leave Background", "b:leave Background",
+                            "a:leave Introduction", "b:leave Introduction", "a:end", "b:end"), events);
+        }
+    }
+
+    @Nested
+    @DisplayName("SectionValidator.Traversal")
+    class SectionTraversalTest {
+
+        @Test
+        @DisplayName("should reject reading the result before the document ended")
+        void shouldRejectResultBeforeEnd() {
+            // Given
+            SectionConfig section = new SectionConfig("introduction", null, 1, null, null, null, null);
+            SectionValidator validator = SectionValidator
+                    .fromConfiguration(new DocumentConfiguration(null, List.of(section)))
+                    .build();
+
+            // When
+            SectionValidator.Traversal traversal = validator.traverse("doc.adoc");
+
+            // Then
+            assertThrows(IllegalStateException.class, traversal::getResult);
+        }
+    }
+
+    private static final class RecordingVisitor implements DocumentVisitor {
+        private final String name;
+        private final List<String> events;
+
+        RecordingVisitor(String name, List<String> events) {
+            this.name = name;
+            this.events = events;
+        }
+
+        @Override
+        public void startDocument(Document document) {
+            events.add(name + ":start");
+        }
+
+        @Override
+        public void enterSection(Section section) {
+            events.add(name + ":enter " + section.getTitle());
+        }
+
+        @Override
+        public void leaveSection(Section section) {
+            events.add(name + ":leave " + section.getTitle());
+        }
+
+        @Override
+        public void endDocument(Document document) {
+            events.add(name + ":end");
+        }
+    }
+}
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -87,6 +88,60 @@ class EnhancedValidationMessageTest {
     @DisplayName("Suggestion Tests")
     class SuggestionTests {
 
+        @Test
+        @DisplayName("should build lazily added suggestions only when they are requested")
+        void shouldBuildLazySuggestionsOnRequest() {
+            // Given
+            AtomicInteger builds = new AtomicInteger();
+            ValidationMessage message = ValidationMessage
+                    .builder()
+                    .severity(Severity.ERROR)
+                    .ruleId("test.rule")
+                    .message("Test error")
+                    .location(SourceLocation.builder().filename("test.adoc").line(10).build())
+                    .addSuggestionLazily(() -> {
+                        builds.incrementAndGet();
+                        return Suggestion.builder().description("Lazy fix").fixedValue("value").build();
+                    })
+                    .missingValueHintLazily(() -> {
+                        builds.incrementAndGet();
+                        return "=".repeat(3) + " Title";
+                    })
+                    .build();
+
+            // When
+            boolean hasSuggestions = message.hasSuggestions();
+
+            // Then
+            assertTrue(hasSuggestions);
+            assertEquals(0, builds.get());
+
+            assertEquals("Lazy fix", message.getSuggestions().get(0).getDescription());
+            assertEquals("value", message.getSuggestions().get(0).getFixedValue());
+            assertEquals(1, builds.get());
+            assertEquals("=== Title", message.getMissingValueHint());
+            assertEquals("=== Title", message.getMissingValueHint());
+            assertEquals(2, builds.get());
+        }
+
+        @Test
+        @DisplayName("should keep eager and lazy suggestions in the order they were added")
+        void shouldKeepSuggestionOrder() {
+            // When
+            ValidationMessage message = ValidationMessage
+                    .builder()
+                    .severity(Severity.WARN)
+                    .ruleId("test.rule")
+                    .message("Test warning")
+                    .location(SourceLocation.builder().filename("test.adoc").line(1).build())
+                    .addSuggestion(Suggestion.builder().description("first").build())
+                    .addSuggestionLazily(() -> Suggestion.builder().description("second").build())
+                    .build();
+
+            // Then
+            assertEquals(List.of("first", "second"),
+                    message.getSuggestions().stream().map(Suggestion::getDescription).toList());
+        }
     }
 
     @Nested
@@ -210,5 +265,39 @@ class EnhancedValidationMessageTest {
             assertNotEquals(message1, message3);
             assertEquals(message1.hashCode(), message2.hashCode());
         }
+
+        @Test
+        @DisplayName("should compare messages without building lazy suggestions and hints")
+        void shouldNotBuildLazyFieldsWhenComparing() {
+            // Given
+            AtomicInteger builds = new AtomicInteger();
+            ValidationMessage message1 = lazyMessage(builds);
+            ValidationMessage message2 = lazyMessage(builds);
+
+            // When
+            boolean equal = message1.equals(message2) && message1.hashCode() == message2.hashCode();
+
+            // Then
+            assertTrue(equal);
+            assertEquals(0, builds.get());
+        }
+
+        private ValidationMessage lazyMessage(AtomicInteger builds) {
+            return ValidationMessage
+                    .builder()
+                    .severity(Severity.ERROR)
+                    .ruleId("test.rule")
+                    .message("Test error")
+                    .location(SourceLocation.builder().filename("test.adoc").line(10).build())
+                    .addSuggestionLazily(() -> {
+                        builds.incrementAndGet();
+                        return Suggestion.builder().description("Lazy fix").build();
+                    })
+                    .missingValueHintLazily(() -> {
+                        builds.incrementAndGet();
+                        return "Title";
+                    })
+                    .build();
+        }
     }
 }
@@ -0,0 +1,159 @@
+package com.dataliquid.asciidoc.linter.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+
+@DisplayName("MessageBudget")
+class MessageBudgetTest {
+
+    private static ValidationMessage message(String ruleId, Severity severity, int line) {
+        return ValidationMessage
+                .builder()
+                .severity(severity)
+                .ruleId(ruleId)
+                .location(SourceLocation.builder().filename("doc.adoc").startLine(line).build())
+                .message("Message at line " + line)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("MessageLimits")
+    class LimitsTest {
+
+        @Test
+        @DisplayName("should return the unlimited instance without limits")
+        void shouldReturnUnlimitedWithoutLimits() {
+            assertSame(MessageLimits.UNLIMITED, MessageLimits.of(0, 0));
+            assertFalse(MessageLimits.of(10, 0).isUnlimited());
+        }
+
+        @Test
+        @DisplayName("should reject negative limits")
+        void shouldRejectNegativeLimits() {
+            assertThrows(IllegalArgumentException.class, () -> MessageLimits.of(-1, 0));
+            assertThrows(IllegalArgumentException.class, () -> MessageLimits.of(0, -1));
+        }
+    }
+
+    @Nested
+    @DisplayName("add")
+    class AddTest {
+
+        @Test
+        @DisplayName("should drop unreported messages without counting them")
+        void shouldDropUnreportedMessages() {
+            // Given
+            MessageBudget budget = MessageLimits.of(2, 0).newBudget(m -> m.getSeverity() == Severity.ERROR);
+            List<ValidationMessage> passed = new ArrayList<>();
+
+            // When
+            budget.add(message("paragraph.lines.max", Severity.WARN, 1), passed::add);
+            budget.add(message("paragraph.lines.max", Severity.ERROR, 2), passed::add);
+
+            // Then
+            assertEquals(1, passed.size());
+            assertEquals(2, passed.get(0).getLocation().getStartLine());
+            assertFalse(budget.isExhausted());
+            assertTrue(budget.summarize().isEmpty());
+        }
+
+        @Test
+        @DisplayName("should cap the messages of every rule separately")
+        void shouldCapPerRule() {
+            // Given
+            MessageBudget budget = MessageLimits.of(0, 2).newBudget(m -> true);
+            List<ValidationMessage> passed = new ArrayList<>();
+
+            // When
+            for (int line = 1; line <= 5; line++) {
+                budget.add(message("paragraph.sentence.occurrence.max", Severity.WARN, line), passed::add);
+            }
+            budget.add(message("listing.title.required", Severity.ERROR, 6), passed::add);
+
+            // Then
+            assertEquals(3, passed.size());
+            assertFalse(budget.isExhausted());
+            List<ValidationMessage> summaries = budget.summarize();
+            assertEquals(1, summaries.size());
+            assertEquals(RuleIds.Limit.MESSAGES_PER_RULE, summaries.get(0).getRuleId());
+            assertEquals(3, summaries.get(0).getLocation().getStartLine());
+            assertTrue(summaries.get(0).getMessage().startsWith("3 more messages of rule"));
+        }
+
+        @Test
+        @DisplayName("should be exhausted at the file limit and summarize the highest dropped severity")
+        void shouldExhaustAtFileLimit() {
+            // Given
+            MessageBudget budget = MessageLimits.of(2, 0).newBudget(m -> true);
+            List<ValidationMessage> passed = new ArrayList<>();
+
+            // When
+            budget.add(message("paragraph.lines.max", Severity.INFO, 1), passed::add);
+            budget.add(message("paragraph.lines.min", Severity.INFO, 2), passed::add);
+            budget.add(message("listing.title.required", Severity.INFO, 3), passed::add);
+            budget.add(message("listing.language.required", Severity.ERROR, 4), passed::add);
+
+            // Then
+            assertEquals(2, passed.size());
+            assertTrue(budget.isExhausted());
+            List<ValidationMessage> summaries = budget.summarize();
+            assertEquals(1, summaries.size());
+            assertEquals(RuleIds.Limit.MESSAGES_PER_FILE, summaries.get(0).getRuleId());
+            assertEquals(Severity.ERROR, summaries.get(0).getSeverity());
+            assertEquals(2, summaries.get(0).getLocation().getStartLine());
+        }
+
+        @Test
+        @DisplayName("should summarize the file limit when no message was dropped after reaching it")
+        void shouldSummarizeFileLimitWithoutDroppedMessages() {
+            // Given
+            MessageBudget budget = MessageLimits.of(2, 0).newBudget(m -> true);
+            List<ValidationMessage> passed = new ArrayList<>();
+
+            // When
+            budget.add(message("paragraph.lines.max", Severity.INFO, 1), passed::add);
+            budget.add(message("listing.title.required", Severity.WARN, 2), passed::add);
+
+            // Then
+            assertEquals(2, passed.size());
+            assertTrue(budget.isExhausted());
+            List<ValidationMessage> summaries = budget.summarize();
+            assertEquals(1, summaries.size());
+            assertEquals(RuleIds.Limit.MESSAGES_PER_FILE, summaries.get(0).getRuleId());
+            assertEquals(Severity.WARN, summaries.get(0).getSeverity());
+            assertEquals(2, summaries.get(0).getLocation().getStartLine());
+            assertEquals("Validation stopped after reaching the limit of 2 messages per file; "
+                    + "remaining rules were not evaluated", summaries.get(0).getMessage());
+        }
+
+        @Test
+        @DisplayName("should pass on everything when unlimited")
+        void shouldPassEverythingWhenUnlimited() {
+            // Given
+            MessageBudget budget = MessageBudget.unlimited();
+            List<ValidationMessage> passed = new ArrayList<>();
+
+            // When
+            for (int line = 1; line <= 100; line++) {
+                budget.add(message("paragraph.lines.max", Severity.WARN, line), passed::add);
+            }
+
+            // Then
+            assertEquals(100, passed.size());
+            assertFalse(budget.isExhausted());
+            assertTrue(budget.summarize().isEmpty());
+        }
+    }
+}
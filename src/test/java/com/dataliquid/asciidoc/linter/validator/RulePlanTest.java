@@ -0,0 +1,252 @@
+package com.dataliquid.asciidoc.linter.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.blocks.Block;
+import com.dataliquid.asciidoc.linter.config.blocks.BlockType;
+import com.dataliquid.asciidoc.linter.config.blocks.ParagraphBlock;
+import com.dataliquid.asciidoc.linter.config.common.Severity;
+import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
+import com.dataliquid.asciidoc.linter.config.rule.SectionConfig;
+import com.dataliquid.asciidoc.linter.config.rule.TitleConfig;
+
+@DisplayName("RulePlan")
+class RulePlanTest {
+
+    private static final String CONFIG_YAML = """
+            document:
+              sections:
+                - name: title
+                  level: 0
+                  order: 1
+                  subsections:
+                    - name: introduction
+                      level: 1
+                      title:
+                        pattern: "^Intro.*$"
+                        severity: error
+                      allowedBlocks:
+                        - paragraph:
+                            severity: warn
+                        - listing:
+                            order: 2
+                            severity: info
+                        - listing:
+                            name: example
+                            order: 1
+                            severity: error
+                    - name: details
+                      level: 1
+                      subsections:
+                        - name: background
+                          level: 2
+            """;
+
+    private RulePlan plan;
+
+    @BeforeEach
+    void setUp() {
+        LinterConfiguration config = new ConfigurationLoader().loadConfiguration(CONFIG_YAML);
+        plan = RulePlan.compile(config);
+    }
+
+    private SectionConfig introduction() {
+        return plan.getLevel1Sections().get(0);
+    }
+
+    @Nested
+    @DisplayName("sections")
+    class SectionsTest {
+
+        @Test
+        @DisplayName("should use level 0 subsections for level 1 sections")
+        void shouldUseLevel0SubsectionsForLevel1Sections() {
+            assertEquals(1, plan.getLevel0Sections().size());
+            assertSame(plan.getLevel0Sections().get(0).subsections(), plan.getLevel1Sections());
+            assertEquals(1, plan.getOrderedRootSections().size());
+        }
+
+        @Test
+        @DisplayName("should index sections of every scope by level")
+        void shouldIndexSectionsByLevel() {
+            List<SectionConfig> level1 = plan.getLevel1Sections();
+            SectionConfig details = level1.get(1);
+
+            assertEquals(level1, plan.getSectionsAtLevel(level1, 1));
+            assertTrue(plan.getSectionsAtLevel(level1, 2).isEmpty());
+            assertEquals("background", plan.getSectionsAtLevel(details.subsections(), 2).get(0).name());
+        }
+
+        @Test
+        @DisplayName("should filter scopes that are not part of the plan")
+        void shouldFilterUnknownScopes() {
+            List<SectionConfig> scope = List.copyOf(plan.getLevel1Sections());
+
+            assertEquals(2, plan.getSectionsAtLevel(scope, 1).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("isHeaderOnly")
+    class HeaderOnlyTest {
+
+        @Test
+        @DisplayName("should require the body when sections are configured")
+        void shouldRequireBodyWhenSectionsAreConfigured() {
+            assertFalse(plan.isHeaderOnly());
+        }
+
+        @Test
+        @DisplayName("should only need the header for metadata rules")
+        void shouldOnlyNeedHeaderForMetadataRules() {
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration("""
+                    document:
+                      metadata:
+                        attributes:
+                          - name: author
+                            required: true
+                            severity: error
+                    """);
+
+            assertTrue(RulePlan.compile(config).isHeaderOnly());
+        }
+    }
+
+    @Nested
+    @DisplayName("getTitlePattern")
+    class TitlePatternTest {
+
+        @Test
+        @DisplayName("should return the same compiled pattern on every call")
+        void shouldReturnSameCompiledPattern() {
+            TitleConfig title = introduction().title();
+
+            Pattern pattern = plan.getTitlePattern(title);
+
+            assertSame(pattern, plan.getTitlePattern(title));
+            assertTrue(pattern.matcher("Introduction").matches());
+        }
+
+        @Test
+        @DisplayName("should compile patterns of unknown title configurations")
+        void shouldCompileUnknownTitleConfigurations() {
+            Pattern pattern = plan.getTitlePattern(new TitleConfig("^Other$", null));
+
+            assertTrue(pattern.matcher("Other").matches());
+            assertNull(plan.getTitlePattern(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("getBlockIndex")
+    class BlockIndexTest {
+
+        @Test
+        @DisplayName("should find blocks by name before falling back to type")
+        void shouldFindBlocksByNameBeforeType() {
+            RulePlan.BlockIndex index = plan.getBlockIndex(introduction());
+            List<Block> listings = index.getBlocks(BlockType.LISTING);
+
+            assertEquals(2, listings.size());
+            assertSame(listings.get(1), index.find(BlockType.LISTING, "example"));
+            assertSame(listings.get(0), index.find(BlockType.LISTING, "unknown"));
+            assertSame(listings.get(0), index.find(BlockType.LISTING, null));
+            assertNull(index.find(BlockType.TABLE, null));
+        }
+
+        @Test
+        @DisplayName("should sort ordered blocks by order")
+        void shouldSortOrderedBlocks() {
+            List<Block> ordered = plan.getBlockIndex(introduction()).getOrderedBlocks();
+
+            assertEquals(List.of(1, 2), ordered.stream().map(Block::getOrder).toList());
+            assertEquals("example", ordered.get(0).getName());
+        }
+
+        @Test
+        @DisplayName("should reuse the index of a compiled section")
+        void shouldReuseIndexOfCompiledSection() {
+            assertSame(plan.getBlockIndex(introduction()), plan.getBlockIndex(introduction()));
+        }
+    }
+
+    @Nested
+    @DisplayName("minimum severity")
+    class MinimumSeverityTest {
+
+        private static final String PARAGRAPH_YAML = """
+                document:
+                  sections:
+                    - name: body
+                      level: 1
+                      allowedBlocks:
+                        - paragraph:
+                            severity: warn
+                            occurrence:
+                              min: 1
+                              severity: error
+                            lines:
+                              max: 10
+                            sentence:
+                              occurrence:
+                                max: 5
+                                severity: error
+                              words:
+                                max: 20
+                                severity: info
+                """;
+
+        private ParagraphBlock paragraph(Severity minimumSeverity) {
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration(PARAGRAPH_YAML);
+            RulePlan compiled = RulePlan.compile(config, minimumSeverity);
+            return (ParagraphBlock) compiled
+                    .getBlockIndex(compiled.getLevel1Sections().get(0))
+                    .find(BlockType.PARAGRAPH, null);
+        }
+
+        @Test
+        @DisplayName("should leave out rules below the minimum severity")
+        void shouldLeaveOutRulesBelowMinimum() {
+            // When
+            ParagraphBlock block = paragraph(Severity.ERROR);
+
+            // Then
+            assertEquals(Severity.WARN, block.getSeverity());
+            assertEquals(1, block.getOccurrence().min());
+            assertNull(block.getLines(), "lines fall back to the block severity");
+            assertEquals(5, block.getSentence().getOccurrence().max());
+            assertNull(block.getSentence().getWords());
+        }
+
+        @Test
+        @DisplayName("should keep every rule at the default minimum severity")
+        void shouldKeepEveryRuleByDefault() {
+            // Given
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration(PARAGRAPH_YAML);
+            Block configured = config.document().sections().get(0).allowedBlocks().get(0);
+
+            // When
+            RulePlan compiled = RulePlan.compile(config);
+
+            // Then
+            assertEquals(Severity.INFO, compiled.getMinimumSeverity());
+            assertSame(configured, compiled.getBlockIndex(compiled.getLevel1Sections().get(0)).getBlocks().get(0));
+            assertTrue(compiled.isReported(Severity.INFO));
+            assertNull(paragraph(Severity.WARN).getSentence().getWords());
+            assertFalse(RulePlan.compile(config, Severity.WARN).isReported(Severity.INFO));
+        }
+    }
+}
@@ -344,6 +344,71 @@ class ValidationResultTest {
             assertEquals(1, messagesByLine.get(15).size()); // anotherError
         }
 
+        @Test
+        @DisplayName("should group messages by rule in order of first occurrence")
+        void shouldGroupMessagesByRule() {
+            // Given
+            ValidationResult resultWithRepeatedRule = ValidationResult
+                    .builder()
+                    .addMessages(result.getMessages())
+                    .addMessage(errorMessage)
+                    .build();
+
+            // When
+            Map<String, List<ValidationMessage>> messagesByRule = resultWithRepeatedRule.getMessagesByRule();
+
+            // Then
+            assertEquals(List.of("test.error", "another.error", "file2.error", "test.info"),
+                    List.copyOf(messagesByRule.keySet()));
+            assertEquals(2, messagesByRule.get("test.error").size());
+            assertEquals(4, resultWithRepeatedRule.getErrorCount());
+        }
+
+        @Test
+        @DisplayName("should not change groups of a built result when the builder is reused")
+        void shouldKeepGroupsOfBuiltResult() {
+            // Given
+            ValidationResult.Builder builder = ValidationResult.builder().addMessage(errorMessage);
+            ValidationResult first = builder.build();
+
+            // When
+            builder.addMessage(anotherErrorInFile1);
+
+            // Then
+            assertEquals(1, first.getErrorCount());
+            assertEquals(1, first.getMessagesByFile().get("test1.adoc").size());
+            assertThrows(UnsupportedOperationException.class,
+                    () -> first.getMessagesByFile().get("test1.adoc").add(errorMessage));
+            assertEquals(List.of("test.error"), List.copyOf(first.getMessagesByRule().keySet()));
+            assertThrows(UnsupportedOperationException.class,
+                    () -> first.getMessagesByRule().get("test.error").add(errorMessage));
+            assertEquals(2, builder.build().getMessagesBySeverity(Severity.ERROR).size());
+        }
+
+        @Test
+        @DisplayName("should return the unmodifiable line index of a file")
+        void shouldReturnUnmodifiableLineIndex() {
+            // When
+            Map<Integer, List<ValidationMessage>> messagesByLine = result.getMessagesByLine("test1.adoc");
+
+            // Then
+            assertEquals(List.of(10, 15), List.copyOf(messagesByLine.keySet()));
+            assertEquals(List.of(errorMessage, infoMessage), messagesByLine.get(10));
+            assertThrows(UnsupportedOperationException.class, () -> messagesByLine.get(10).add(errorMessage));
+            assertThrows(UnsupportedOperationException.class, () -> messagesByLine.remove(15));
+        }
+
+        @Test
+        @DisplayName("should order the messages of a file by line and keep the order of a line")
+        void shouldOrderMessagesOfFileByLine() {
+            // When
+            List<ValidationMessage> file1Messages = result.getMessagesByFile().get("test1.adoc");
+
+            // Then
+            // Added as error (line 10), another error (line 15), info (line 10)
+            assertEquals(List.of(errorMessage, infoMessage, anotherErrorInFile1), file1Messages);
+        }
+
         @Test
         @DisplayName("should return empty map for unknown file")
         void shouldReturnEmptyMapForUnknownFile() {
@@ -0,0 +1,107 @@
+package com.dataliquid.asciidoc.linter.validator.block;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.asciidoctor.ast.Block;
+import org.asciidoctor.ast.StructuralNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BlockSource")
+class BlockSourceTest {
+
+    @Nested
+    @DisplayName("source")
+    class SourceTest {
+
+        @Test
+        @DisplayName("should return raw lines without converting the block")
+        void shouldReturnRawLinesWithoutConverting() {
+            Block block = mock(Block.class);
+            when(block.getLines()).thenReturn(List.of("First *bold* line", "", "Second line"));
+
+            assertEquals("First *bold* line\n\nSecond line", BlockSource.source(block));
+            verify(block, never()).getContent();
+        }
+
+        @Test
+        @DisplayName("should collect the source of compound block children")
+        void shouldCollectSourceOfCompoundBlockChildren() {
+            Block first = mock(Block.class);
+            when(first.getLines()).thenReturn(List.of("One"));
+            Block second = mock(Block.class);
+            when(second.getLines()).thenReturn(List.of("Two", "Three"));
+            Block sidebar = mock(Block.class);
+            when(sidebar.getLines()).thenReturn(List.of());
+            when(sidebar.getBlocks()).thenReturn(List.of(first, second));
+
+            assertEquals(List.of("One", "Two", "Three"), BlockSource.lines(sidebar));
+            verify(sidebar, never()).getContent();
+        }
+
+        @Test
+        @DisplayName("should fall back to content for nodes without source access")
+        void shouldFallBackToContentForNodesWithoutSourceAccess() {
+            StructuralNode node = mock(StructuralNode.class);
+            when(node.getContent()).thenReturn("Custom content");
+
+            assertEquals("Custom content", BlockSource.source(node));
+        }
+
+        @Test
+        @DisplayName("should return empty string for empty block")
+        void shouldReturnEmptyStringForEmptyBlock() {
+            Block block = mock(Block.class);
+            when(block.getLines()).thenReturn(List.of());
+
+            assertEquals("", BlockSource.source(block));
+        }
+    }
+
+    @Nested
+    @DisplayName("stripInlineMarkup")
+    class StripInlineMarkupTest {
+
+        @Test
+        @DisplayName("should remove formatting marks")
+        void shouldRemoveFormattingMarks() {
+            assertEquals("bold, italic, mono and highlight",
+                    BlockSource.stripInlineMarkup("*bold*, _italic_, `mono` and #highlight#"));
+            assertEquals("unconstrained", BlockSource.stripInlineMarkup("**uncon**strained"));
+        }
+
+        @Test
+        @DisplayName("should keep link text and cross reference labels")
+        void shouldKeepLinkTextAndCrossReferenceLabels() {
+            assertEquals("See the docs and Setup.",
+                    BlockSource.stripInlineMarkup("See https://example.com[the docs] and <<setup,Setup>>."));
+        }
+
+        @Test
+        @DisplayName("should keep macro text or target")
+        void shouldKeepMacroTextOrTarget() {
+            assertEquals("Press Ctrl+C, see icon.png",
+                    BlockSource.stripInlineMarkup("Press kbd:[Ctrl+C], see image:icon.png[]"));
+        }
+
+        @Test
+        @DisplayName("should leave sentence punctuation intact")
+        void shouldLeaveSentencePunctuationIntact() {
+            assertEquals("First sentence. Second one! Third?",
+                    BlockSource.stripInlineMarkup("First *sentence*. Second one! Third?"));
+        }
+
+        @Test
+        @DisplayName("should return empty string for null")
+        void shouldReturnEmptyStringForNull() {
+            assertEquals("", BlockSource.stripInlineMarkup(null));
+        }
+    }
+}
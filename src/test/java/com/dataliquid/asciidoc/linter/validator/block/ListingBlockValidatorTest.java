@@ -381,7 +381,7 @@ class ListingBlockValidatorTest {
             ListingBlock.CalloutsConfig calloutsConfig = new ListingBlock.CalloutsConfig(false, null, Severity.WARN);
             ListingBlock config = new ListingBlock(null, Severity.ERROR, null, null, null, null, null, calloutsConfig);
 
-            when(mockBlock.getContent()).thenReturn("public class Test { // <1>\n    // code\n}");
+            when(mockBlock.getLines()).thenReturn(lines("public class Test { // <1>\n    // code\n}"));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -403,7 +403,7 @@ class ListingBlockValidatorTest {
             ListingBlock.CalloutsConfig calloutsConfig = new ListingBlock.CalloutsConfig(false, null, Severity.WARN);
             ListingBlock config = new ListingBlock(null, Severity.ERROR, null, null, null, null, null, calloutsConfig);
 
-            when(mockBlock.getContent()).thenReturn("public class Test { // <1>\n    // code\n}");
+            when(mockBlock.getLines()).thenReturn(lines("public class Test { // <1>\n    // code\n}"));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -423,7 +423,7 @@ class ListingBlockValidatorTest {
             // No severity set
             ListingBlock config = new ListingBlock(null, Severity.ERROR, null, null, null, null, null, calloutsConfig);
 
-            when(mockBlock.getContent()).thenReturn("public class Test { // <1>\n    // code\n}");
+            when(mockBlock.getLines()).thenReturn(lines("public class Test { // <1>\n    // code\n}"));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -443,7 +443,7 @@ class ListingBlockValidatorTest {
             ListingBlock.CalloutsConfig calloutsConfig = new ListingBlock.CalloutsConfig(true, null, Severity.WARN);
             ListingBlock config = new ListingBlock(null, Severity.ERROR, null, null, null, null, null, calloutsConfig);
 
-            when(mockBlock.getContent()).thenReturn("public class Test { // <1>\n    // code\n}");
+            when(mockBlock.getLines()).thenReturn(lines("public class Test { // <1>\n    // code\n}"));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -459,7 +459,7 @@ class ListingBlockValidatorTest {
             ListingBlock.CalloutsConfig calloutsConfig = new ListingBlock.CalloutsConfig(true, 2, Severity.ERROR);
             ListingBlock config = new ListingBlock(null, Severity.ERROR, null, null, null, null, null, calloutsConfig);
 
-            when(mockBlock.getContent()).thenReturn("code // <1>\nmore // <2>\nagain // <3>");
+            when(mockBlock.getLines()).thenReturn(lines("code // <1>\nmore // <2>\nagain // <3>"));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -485,7 +485,7 @@ class ListingBlockValidatorTest {
             LineConfig lineConfig = new LineConfig(5, null, Severity.INFO);
             ListingBlock config = new ListingBlock(null, Severity.ERROR, null, null, null, lineConfig, null, null);
 
-            when(mockBlock.getContent()).thenReturn("line1\nline2\nline3");
+            when(mockBlock.getLines()).thenReturn(lines("line1\nline2\nline3"));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -512,7 +512,7 @@ class ListingBlockValidatorTest {
             for (int i = 1; i <= 51; i++) {
                 content.append("line ").append(i).append("\n");
             }
-            when(mockBlock.getContent()).thenReturn(content.toString());
+            when(mockBlock.getLines()).thenReturn(lines(content.toString()));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -544,9 +544,9 @@ class ListingBlockValidatorTest {
             when(mockBlock.hasAttribute("language")).thenReturn(true);
             when(mockBlock.getAttribute("language")).thenReturn("javascript"); // Not allowed
             when(mockBlock.getTitle()).thenReturn(null); // Missing
-            when(mockBlock.getContent())
-                    .thenReturn("line1\nline2\nline3\nline4\nline5\nline6\nline7\nline8\nline9\nline10\nline11"); // Too
-                                                                                                                  // long
+            // Too long
+            when(mockBlock.getLines())
+                    .thenReturn(lines("line1\nline2\nline3\nline4\nline5\nline6\nline7\nline8\nline9\nline10\nline11"));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -565,7 +565,7 @@ class ListingBlockValidatorTest {
             LineConfig lineConfig = new LineConfig(1, null, Severity.ERROR);
             ListingBlock config = new ListingBlock(null, Severity.ERROR, null, null, null, lineConfig, null, null);
 
-            when(mockBlock.getContent()).thenReturn("");
+            when(mockBlock.getLines()).thenReturn(lines(""));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -582,7 +582,7 @@ class ListingBlockValidatorTest {
             ListingBlock.CalloutsConfig calloutsConfig = new ListingBlock.CalloutsConfig(false, null, Severity.ERROR);
             ListingBlock config = new ListingBlock(null, Severity.ERROR, null, null, null, null, null, calloutsConfig);
 
-            when(mockBlock.getContent()).thenReturn(null);
+            when(mockBlock.getLines()).thenReturn(lines(null));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -591,4 +591,8 @@ class ListingBlockValidatorTest {
             assertTrue(messages.isEmpty()); // No content means no callouts
         }
     }
+
+    private static List<String> lines(String content) {
+        return content == null ? null : content.lines().toList();
+    }
 }
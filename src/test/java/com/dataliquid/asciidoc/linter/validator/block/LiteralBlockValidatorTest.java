@@ -45,7 +45,7 @@ class LiteralBlockValidatorTest {
         // Default setup
         when(mockContext.createLocation(any())).thenReturn(mockLocation);
         when(mockContext.getFilename()).thenReturn("test.adoc");
-        when(mockBlock.getContent()).thenReturn("Line 1\nLine 2");
+        when(mockBlock.getLines()).thenReturn(lines("Line 1\nLine 2"));
         when(mockBlock.getSourceLocation()).thenReturn(null);
     }
 
@@ -162,7 +162,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should validate min lines")
         void shouldValidateMinLines() {
             // Given
-            when(mockBlock.getContent()).thenReturn("Line 1");
+            when(mockBlock.getLines()).thenReturn(lines("Line 1"));
 
             LiteralBlock config = new LiteralBlock(null, Severity.INFO, null, null, null,
                     new LinesConfig(3, null, Severity.ERROR), null);
@@ -190,7 +190,7 @@ class LiteralBlockValidatorTest {
                     sb.append("\n");
                 sb.append("Line");
             }
-            when(mockBlock.getContent()).thenReturn(sb.toString());
+            when(mockBlock.getLines()).thenReturn(lines(sb.toString()));
 
             LiteralBlock config = new LiteralBlock(null, Severity.INFO, null, null, null,
                     new LinesConfig(null, 50, Severity.WARN), null);
@@ -211,7 +211,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should handle content fallback when lines are null")
         void shouldHandleContentFallbackWhenLinesAreNull() {
             // Given
-            when(mockBlock.getContent()).thenReturn("Line 1\nLine 2\nLine 3");
+            when(mockBlock.getLines()).thenReturn(lines("Line 1\nLine 2\nLine 3"));
 
             LiteralBlock config = new LiteralBlock(null, Severity.INFO, null, null, null,
                     new LinesConfig(1, 5, Severity.INFO), null);
@@ -232,7 +232,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should skip validation when not required")
         void shouldSkipValidationWhenNotRequired() {
             // Given
-            when(mockBlock.getContent()).thenReturn("  Line 1\n    Line 2");
+            when(mockBlock.getLines()).thenReturn(lines("  Line 1\n    Line 2"));
 
             LiteralBlock config = new LiteralBlock(null, Severity.INFO, null, null, null, null,
                     new IndentationConfig(false, true, null, null, Severity.ERROR));
@@ -249,7 +249,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should validate min spaces")
         void shouldValidateMinSpaces() {
             // Given
-            when(mockBlock.getContent()).thenReturn("Line 1\n  Line 2");
+            when(mockBlock.getLines()).thenReturn(lines("Line 1\n  Line 2"));
 
             LiteralBlock config = new LiteralBlock(null, Severity.INFO, null, null, null, null,
                     new IndentationConfig(true, false, 2, null, Severity.WARN));
@@ -273,7 +273,7 @@ class LiteralBlockValidatorTest {
         @DisplayName("should validate max spaces")
         void shouldValidateMaxSpaces() {
             // Given
-            when(mockBlock.getContent()).thenReturn("    Line 1\n          Line 2");
+            when(mockBlock.getLines()).thenReturn(lines("    Line 1\n          Line 2"));
 
             LiteralBlock config = new LiteralBlock(null, Severity.INFO, null, null, null, null,
                     new IndentationConfig(true, false, null, 8, Severity.ERROR));
@@ -295,8 +295,8 @@ class LiteralBlockValidatorTest {
         @DisplayName("should validate consistent indentation")
         void shouldValidateConsistentIndentation() {
             // Given
-            when(mockBlock.getContent()).thenReturn("  Line 1\n" + "  Line 2\n" + "    Line 3\n" + // Inconsistent
-                    "  Line 4");
+            when(mockBlock.getLines()).thenReturn(lines("  Line 1\n" + "  Line 2\n" + "    Line 3\n" + // Inconsistent
+                    "  Line 4"));
 
             LiteralBlock config = new LiteralBlock(null, Severity.INFO, null, null, null, null,
                     new IndentationConfig(true, true, null, null, Severity.INFO));
@@ -318,9 +318,9 @@ class LiteralBlockValidatorTest {
         @DisplayName("should skip empty lines for indentation check")
         void shouldSkipEmptyLinesForIndentationCheck() {
             // Given
-            when(mockBlock.getContent()).thenReturn("  Line 1\n" + "\n" + // Empty line
+            when(mockBlock.getLines()).thenReturn(lines("  Line 1\n" + "\n" + // Empty line
                     "  Line 2\n" + "   \n" + // Whitespace only
-                    "  Line 3");
+                    "  Line 3"));
 
             LiteralBlock config = new LiteralBlock(null, Severity.INFO, null, null, null, null,
                     new IndentationConfig(true, true, null, null, Severity.ERROR));
@@ -336,9 +336,9 @@ class LiteralBlockValidatorTest {
         @DisplayName("should count tabs as 4 spaces")
         void shouldCountTabsAs4Spaces() {
             // Given
-            when(mockBlock.getContent()).thenReturn("\tLine 1\n" + // 1 tab = 4 spaces
+            when(mockBlock.getLines()).thenReturn(lines("\tLine 1\n" + // 1 tab = 4 spaces
                     "    Line 2" // 4 spaces
-            );
+            ));
 
             LiteralBlock config = new LiteralBlock(null, Severity.INFO, null, null, null, null,
                     new IndentationConfig(true, true, 4, 4, Severity.WARN));
@@ -360,8 +360,9 @@ class LiteralBlockValidatorTest {
         void shouldValidateAllRulesTogether() {
             // Given
             when(mockBlock.getTitle()).thenReturn("Valid Config");
-            when(mockBlock.getContent())
-                    .thenReturn("  server:\n" + "    host: localhost\n" + "    port: 8080\n" + "    timeout: 30s");
+            when(mockBlock.getLines())
+                    .thenReturn(
+                            lines("  server:\n" + "    host: localhost\n" + "    port: 8080\n" + "    timeout: 30s"));
 
             LiteralBlock config = new LiteralBlock("Literal Block", Severity.INFO, null, null,
                     new TitleConfig(false, 5, 50, Severity.INFO), new LinesConfig(1, 50, Severity.WARN),
@@ -379,7 +380,7 @@ class LiteralBlockValidatorTest {
         void shouldCollectMultipleValidationErrors() {
             // Given
             when(mockBlock.getTitle()).thenReturn("Hi"); // Too short
-            when(mockBlock.getContent()).thenReturn("Line"); // Too few lines
+            when(mockBlock.getLines()).thenReturn(lines("Line")); // Too few lines
 
             LiteralBlock config = new LiteralBlock(null, Severity.INFO, null, null,
                     new TitleConfig(false, 5, null, Severity.ERROR), new LinesConfig(3, null, Severity.WARN),
@@ -407,7 +408,7 @@ class LiteralBlockValidatorTest {
         void shouldUseNestedSeverityWhenSpecified() {
             // Given
             when(mockBlock.getTitle()).thenReturn("Hi");
-            when(mockBlock.getContent()).thenReturn("Line");
+            when(mockBlock.getLines()).thenReturn(lines("Line"));
 
             LiteralBlock config = new LiteralBlock(null, Severity.ERROR, null, null, // Block severity
                     new TitleConfig(false, 5, null, Severity.INFO), // Override with INFO
@@ -450,7 +451,7 @@ class LiteralBlockValidatorTest {
         void shouldFallbackToBlockSeverityWhenNull() {
             // Given
             when(mockBlock.getTitle()).thenReturn(null);
-            when(mockBlock.getContent()).thenReturn("Line");
+            when(mockBlock.getLines()).thenReturn(lines("Line"));
 
             LiteralBlock config = new LiteralBlock(null, Severity.WARN, null, null, // Block severity
                     new TitleConfig(true, null, null, null), // No severity specified
@@ -467,4 +468,8 @@ class LiteralBlockValidatorTest {
             assertTrue(messages.stream().allMatch(m -> m.getSeverity() == Severity.WARN));
         }
     }
+
+    private static List<String> lines(String content) {
+        return content == null ? null : content.lines().toList();
+    }
 }
@@ -247,7 +247,7 @@ class VerseBlockValidatorTest {
             VerseBlock.ContentConfig contentConfig = new VerseBlock.ContentConfig(20, null, null, false);
             VerseBlock config = new VerseBlock(null, Severity.ERROR, null, null, null, null, contentConfig);
 
-            when(mockBlock.getContent()).thenReturn("Short verse");
+            when(mockBlock.getLines()).thenReturn(lines("Short verse"));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -271,7 +271,7 @@ class VerseBlockValidatorTest {
 
             // Create long content
             String longContent = "This is a very long verse that exceeds the maximum length allowed";
-            when(mockBlock.getContent()).thenReturn(longContent);
+            when(mockBlock.getLines()).thenReturn(lines(longContent));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -292,7 +292,7 @@ class VerseBlockValidatorTest {
             VerseBlock.ContentConfig contentConfig = new VerseBlock.ContentConfig(10, 100, null, false);
             VerseBlock config = new VerseBlock(null, Severity.ERROR, null, null, null, null, contentConfig);
 
-            when(mockBlock.getContent()).thenReturn("This is a perfect verse");
+            when(mockBlock.getLines()).thenReturn(lines("This is a perfect verse"));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -354,7 +354,7 @@ class VerseBlockValidatorTest {
             VerseBlock.ContentConfig contentConfig = new VerseBlock.ContentConfig(10, null, null, false);
             VerseBlock config = new VerseBlock(null, Severity.ERROR, null, null, null, null, contentConfig);
 
-            when(mockBlock.getContent()).thenReturn("Short");
+            when(mockBlock.getLines()).thenReturn(lines("Short"));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -382,7 +382,7 @@ class VerseBlockValidatorTest {
             when(mockBlock.hasAttribute("author")).thenReturn(true);
             when(mockBlock.getAttribute("author")).thenReturn("anonymous"); // Invalid pattern
             when(mockBlock.hasAttribute("citetitle")).thenReturn(false); // Missing
-            when(mockBlock.getContent()).thenReturn("Short verse");
+            when(mockBlock.getLines()).thenReturn(lines("Short verse"));
 
             // when
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -399,7 +399,7 @@ class VerseBlockValidatorTest {
             VerseBlock.ContentConfig contentConfig = new VerseBlock.ContentConfig(1, null, null, false);
             VerseBlock config = new VerseBlock(null, Severity.ERROR, null, null, null, null, contentConfig);
 
-            when(mockBlock.getContent()).thenReturn("");
+            when(mockBlock.getLines()).thenReturn(lines(""));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -416,7 +416,7 @@ class VerseBlockValidatorTest {
             VerseBlock.ContentConfig contentConfig = new VerseBlock.ContentConfig(1, null, null, false);
             VerseBlock config = new VerseBlock(null, Severity.ERROR, null, null, null, null, contentConfig);
 
-            when(mockBlock.getContent()).thenReturn(null);
+            when(mockBlock.getLines()).thenReturn(lines(null));
 
             // When
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -446,7 +446,7 @@ class VerseBlockValidatorTest {
             when(mockBlock.getAttribute("attribution")).thenReturn(null);
             when(mockBlock.hasAttribute("citetitle")).thenReturn(true);
             when(mockBlock.getAttribute("citetitle")).thenReturn("Hamlet (1603)");
-            when(mockBlock.getContent()).thenReturn("To be, or not to be,\nthat is the question");
+            when(mockBlock.getLines()).thenReturn(lines("To be, or not to be,\nthat is the question"));
 
             // when
             List<ValidationMessage> messages = validator.validate(mockBlock, config, context);
@@ -455,4 +455,8 @@ class VerseBlockValidatorTest {
             assertTrue(messages.isEmpty()); // All validations pass
         }
     }
+
+    private static List<String> lines(String content) {
+        return content == null ? null : content.lines().toList();
+    }
 }
@@ -21,8 +21,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import com.dataliquid.asciidoc.linter.Linter;
+import com.dataliquid.asciidoc.linter.cache.ResultCache;
 import com.dataliquid.asciidoc.linter.config.LinterConfiguration;
+import com.dataliquid.asciidoc.linter.config.common.Severity;
 import com.dataliquid.asciidoc.linter.config.loader.ConfigurationLoader;
+import com.dataliquid.asciidoc.linter.profile.ProfileCategory;
+import com.dataliquid.asciidoc.linter.profile.ProfileEntry;
+import com.dataliquid.asciidoc.linter.profile.Profiler;
+import com.dataliquid.asciidoc.linter.validator.MessageLimits;
+import com.dataliquid.asciidoc.linter.validator.RuleIds;
 import com.dataliquid.asciidoc.linter.validator.ValidationMessage;
 import com.dataliquid.asciidoc.linter.validator.ValidationResult;
 
@@ -210,6 +217,489 @@ class LinterTest {
         }
     }
 
+    @Nested
+    @DisplayName("validateFiles with multiple threads")
+    class ParallelValidateFilesTest {
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException when threads is less than one")
+        void shouldThrowIllegalArgumentExceptionWhenThreadsIsLessThanOne() {
+            assertThrows(IllegalArgumentException.class, () -> Linter.builder().threads(0).build());
+        }
+
+        @Test
+        @DisplayName("should return results in input order with same messages as sequential run")
+        void shouldReturnResultsInInputOrderWithSameMessagesAsSequentialRun(@TempDir Path tempDir)
+                throws IOException {
+            String configYaml = """
+                    document:
+                      sections:
+                        - name: introduction
+                          level: 1
+                          occurrence:
+                            min: 1
+                            max: 1
+                    """;
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration(configYaml);
+
+            List<Path> files = new java.util.ArrayList<>();
+            for (int i = 5; i > 0; i--) {
+                Path file = tempDir.resolve("file" + i + ".adoc");
+                String body = i % 2 == 0 ? "== Introduction\n\nContent" : "== Other\n\nContent";
+                Files.writeString(file, "= Document " + i + "\n\n" + body);
+                files.add(file);
+            }
+
+            Linter parallelLinter = Linter.builder().threads(3).build();
+            try {
+                Map<Path, ValidationResult> sequential = linter.validateFiles(files, config);
+                Map<Path, ValidationResult> parallel = parallelLinter.validateFiles(files, config);
+
+                assertEquals(files, List.copyOf(parallel.keySet()));
+                for (Path file : files) {
+                    assertEquals(sequential.get(file).getMessages(), parallel.get(file).getMessages());
+                }
+            } finally {
+                parallelLinter.close();
+            }
+        }
+
+        @Test
+        @DisplayName("should stream results in input order when more files than in flight are queued")
+        void shouldStreamResultsInInputOrder(@TempDir Path tempDir) throws IOException {
+            LinterConfiguration config = new LinterConfiguration(null);
+            List<Path> files = new java.util.ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                Path file = tempDir.resolve("file" + i + ".adoc");
+                Files.writeString(file, "= Document " + i + "\n\nContent");
+                files.add(file);
+            }
+
+            Linter parallelLinter = Linter.builder().threads(2).build();
+            try {
+                List<Path> delivered = new java.util.ArrayList<>();
+                parallelLinter.validateFiles(files, config, (file, result) -> {
+                    assertEquals(java.util.Set.of(file.toString()), result.getScannedFiles());
+                    delivered.add(file);
+                });
+
+                assertEquals(files, delivered);
+            } finally {
+                parallelLinter.close();
+            }
+        }
+
+        @Test
+        @DisplayName("should propagate listener exceptions and stop validating")
+        void shouldPropagateListenerExceptions(@TempDir Path tempDir) throws IOException {
+            LinterConfiguration config = new LinterConfiguration(null);
+            Path file1 = tempDir.resolve("file1.adoc");
+            Path file2 = tempDir.resolve("file2.adoc");
+            Files.writeString(file1, "= Document 1");
+            Files.writeString(file2, "= Document 2");
+            List<Path> delivered = new java.util.ArrayList<>();
+
+            assertThrows(IllegalStateException.class, () -> linter.validateFiles(List.of(file1, file2), config,
+                    (file, result) -> {
+                        delivered.add(file);
+                        throw new IllegalStateException("stop");
+                    }));
+            assertEquals(List.of(file1), delivered);
+        }
+    }
+
+    @Nested
+    @DisplayName("result cache")
+    class ResultCacheTest {
+
+        @Test
+        @DisplayName("should replay cached result for unchanged file and revalidate changed file")
+        void shouldReplayCachedResultForUnchangedFile(@TempDir Path tempDir) throws IOException {
+            String configYaml = """
+                    document:
+                      sections:
+                        - name: introduction
+                          level: 1
+                          occurrence:
+                            min: 1
+                            max: 1
+                    """;
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration(configYaml);
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "= Document\n\nContent");
+
+            ResultCache cache = new ResultCache(tempDir.resolve("cache"), "test");
+            Linter cachingLinter = Linter.builder().resultCache(cache).build();
+            try {
+                ValidationResult first = cachingLinter.validateFile(file, config);
+                ValidationResult second = cachingLinter.validateFile(file, config);
+
+                assertTrue(first.hasMessages());
+                assertEquals(first.getMessages(), second.getMessages());
+                assertEquals(1, cache.getHits());
+                assertEquals(1, cache.getMisses());
+
+                Files.writeString(file, "= Document\n\n== Introduction\n\nContent");
+                ValidationResult third = cachingLinter.validateFile(file, config);
+
+                assertFalse(third.hasMessages());
+                assertEquals(2, cache.getMisses());
+            } finally {
+                cachingLinter.close();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("metadata-only configuration")
+    class MetadataOnlyTest {
+
+        @Test
+        @DisplayName("should validate header attributes when the body is not parsed")
+        void shouldValidateHeaderAttributesWithoutBody(@TempDir Path tempDir) throws IOException {
+            String configYaml = """
+                    document:
+                      metadata:
+                        attributes:
+                          - name: revdate
+                            pattern: "^\\\\d{4}-\\\\d{2}-\\\\d{2}$"
+                            severity: error
+                          - name: keywords
+                            required: true
+                            severity: error
+                    """;
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration(configYaml);
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "= Document\n:revdate: yesterday\n\n== Section\n\nContent\n");
+
+            ValidationResult result = linter.validateFile(file, config);
+
+            List<ValidationMessage> messages = result.getMessages();
+            assertEquals(2, messages.size());
+            assertTrue(messages.stream().anyMatch(message -> message.getLocation().getStartLine() == 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("minimum severity")
+    class MinimumSeverityTest {
+
+        private static final String CONFIG_YAML = """
+                document:
+                  metadata:
+                    attributes:
+                      - name: keywords
+                        required: true
+                        severity: warn
+                  sections:
+                    - name: introduction
+                      level: 1
+                      title:
+                        pattern: "^Introduction$"
+                        severity: info
+                """;
+
+        private List<Severity> severities(Severity minimumSeverity, Path file) throws IOException {
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration(CONFIG_YAML);
+            Linter filteringLinter = Linter.builder().minimumSeverity(minimumSeverity).build();
+            try {
+                return filteringLinter
+                        .validateFile(file, config)
+                        .getMessages()
+                        .stream()
+                        .map(ValidationMessage::getSeverity)
+                        .toList();
+            } finally {
+                filteringLinter.close();
+            }
+        }
+
+        @Test
+        @DisplayName("should drop section and metadata messages below the minimum severity")
+        void shouldDropMessagesBelowMinimumSeverity(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "= Document\n\n== Overview\n\nContent\n");
+
+            // When / Then
+            assertEquals(List.of(Severity.WARN, Severity.INFO), severities(Severity.INFO, file));
+            assertEquals(List.of(Severity.WARN), severities(Severity.WARN, file));
+            assertEquals(List.of(), severities(Severity.ERROR, file));
+        }
+    }
+
+    @Nested
+    @DisplayName("message limits")
+    class MessageLimitsTest {
+
+        private static final String CONFIG_YAML = """
+                document:
+                  metadata:
+                    attributes:
+                      - name: author
+                        required: true
+                        severity: error
+                      - name: revnumber
+                        required: true
+                        severity: error
+                      - name: keywords
+                        required: true
+                        severity: error
+                """;
+
+        private List<ValidationMessage> validate(MessageLimits messageLimits, Path file) throws IOException {
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration(CONFIG_YAML);
+            Linter limitedLinter = Linter.builder().messageLimits(messageLimits).build();
+            try {
+                return limitedLinter.validateFile(file, config).getMessages();
+            } finally {
+                limitedLinter.close();
+            }
+        }
+
+        @Test
+        @DisplayName("should stop at the per-file limit and summarize it")
+        void shouldStopAtFileLimit(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "= Document\n\nContent\n");
+
+            // When
+            List<ValidationMessage> messages = validate(MessageLimits.of(2, 0), file);
+
+            // Then
+            assertEquals(3, messages.size());
+            ValidationMessage summary = messages.get(2);
+            assertEquals(RuleIds.Limit.MESSAGES_PER_FILE, summary.getRuleId());
+            assertEquals(Severity.ERROR, summary.getSeverity());
+            assertTrue(summary.getMessage().contains("limit of 2 messages per file"), summary.getMessage());
+        }
+
+        @Test
+        @DisplayName("should stop at the per-rule limit and count the suppressed messages")
+        void shouldStopAtRuleLimit(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "= Document\n\nContent\n");
+
+            // When
+            List<ValidationMessage> messages = validate(MessageLimits.of(0, 1), file);
+
+            // Then
+            assertEquals(2, messages.size());
+            ValidationMessage summary = messages.get(1);
+            assertEquals(RuleIds.Limit.MESSAGES_PER_RULE, summary.getRuleId());
+            assertTrue(summary.getMessage().startsWith("2 more messages of rule '" + messages.get(0).getRuleId()),
+                    summary.getMessage());
+        }
+
+        @Test
+        @DisplayName("should report every message without limits")
+        void shouldReportEveryMessageWithoutLimits(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "= Document\n\nContent\n");
+
+            // When
+            List<ValidationMessage> messages = validate(MessageLimits.UNLIMITED, file);
+
+            // Then
+            assertEquals(3, messages.size());
+            assertTrue(messages.stream().noneMatch(message -> message.getRuleId().startsWith("limit.")));
+        }
+    }
+
+    @Nested
+    @DisplayName("validateContent")
+    class ValidateContentTest {
+
+        private static final String CONFIG_YAML = """
+                document:
+                  sections:
+                    - name: introduction
+                      level: 1
+                      occurrence:
+                        min: 1
+                        max: 1
+                """;
+
+        @Test
+        @DisplayName("should not keep the content in the source registry of the linter")
+        void shouldNotKeepContentInSourceRegistry() {
+            // Given
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration(CONFIG_YAML);
+
+            // When
+            ValidationResult result = linter.validateContent("= My Title\n\nContent", config);
+
+            // Then
+            assertTrue(result.getScannedFiles().contains("my_title.adoc"));
+            assertTrue(result.hasMessages());
+            assertFalse(linter.getSourceRegistry().contains("my_title.adoc"));
+        }
+
+        @Test
+        @DisplayName("should not replace a registered source with the same name")
+        void shouldNotReplaceRegisteredSourceWithSameName() {
+            // Given
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration(CONFIG_YAML);
+            linter.getSourceRegistry().register("my_title.adoc", "= Registered");
+
+            // When
+            linter.validateContent("= My Title\n\nContent", config);
+
+            // Then
+            assertEquals("= Registered", linter.getSourceRegistry().getContent("my_title.adoc"));
+        }
+
+        @Test
+        @DisplayName("should skip content suppressed for the whole file")
+        void shouldSkipContentSuppressedForWholeFile() {
+            // Given
+            LinterConfiguration config = new ConfigurationLoader().loadConfiguration(CONFIG_YAML);
+
+            // When
+            ValidationResult result = linter
+                    .validateContent("// asciidoc-linter-disable-file\n= My Title\n\nContent", config);
+
+            // Then
+            assertFalse(result.hasMessages());
+            assertEquals(1, result.getScannedFileCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("suppression comments")
+    class SuppressionTest {
+
+        private static final String CONFIG_YAML = """
+                document:
+                  metadata:
+                    attributes:
+                      - name: author
+                        required: true
+                        severity: error
+                  sections:
+                    - name: body
+                      level: 1
+                      allowedBlocks:
+                        - paragraph:
+                            severity: error
+                            lines:
+                              max: 1
+                """;
+
+        private static final String PARAGRAPHS = """
+                == Body
+
+                First line
+                second line
+
+                Third line
+                fourth line
+                """;
+
+        private LinterConfiguration config;
+
+        @BeforeEach
+        void setUp() {
+            config = new ConfigurationLoader().loadConfiguration(CONFIG_YAML);
+        }
+
+        private List<String> ruleIds(ValidationResult result) {
+            return result.getMessages().stream().map(ValidationMessage::getRuleId).toList();
+        }
+
+        @Test
+        @DisplayName("should skip a suppressed file without parsing it")
+        void shouldSkipSuppressedFileWithoutParsing(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "// asciidoc-linter-disable-file\n= Document\n\n" + PARAGRAPHS);
+            Profiler profiler = Profiler.create();
+            Linter profiledLinter = Linter.builder().profiler(profiler).build();
+
+            try {
+                // When
+                ValidationResult result = profiledLinter.validateFile(file, config);
+
+                // Then
+                assertFalse(result.hasMessages());
+                assertEquals(1, result.getScannedFileCount());
+                assertTrue(profiler
+                        .getEntries(ProfileCategory.PHASE)
+                        .stream()
+                        .noneMatch(entry -> "parse".equals(entry.getName())));
+            } finally {
+                profiledLinter.close();
+            }
+        }
+
+        @Test
+        @DisplayName("should not run the validator of rules suppressed for the whole file")
+        void shouldNotRunValidatorOfSuppressedRules(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "// asciidoc-linter-disable-file metadata\n= Document\n\n" + PARAGRAPHS);
+            Profiler profiler = Profiler.create();
+            Linter profiledLinter = Linter.builder().profiler(profiler).build();
+
+            try {
+                // When
+                ValidationResult result = profiledLinter.validateFile(file, config);
+
+                // Then
+                assertTrue(ruleIds(result).stream().noneMatch(ruleId -> ruleId.startsWith("metadata")));
+                assertEquals(2, result.getMessages().size());
+                List<String> phases = profiler
+                        .getEntries(ProfileCategory.PHASE)
+                        .stream()
+                        .map(ProfileEntry::getName)
+                        .toList();
+                assertTrue(phases.contains("parse"), phases.toString());
+                assertFalse(phases.contains("metadata"), phases.toString());
+            } finally {
+                profiledLinter.close();
+            }
+        }
+
+        @Test
+        @DisplayName("should drop the messages of the block after disable-next-block")
+        void shouldDropMessagesOfNextBlock(@TempDir Path tempDir) throws IOException {
+            // Given
+            Path file = tempDir.resolve("doc.adoc");
+            Files.writeString(file, "= Document\n:author: Jane Doe\n\n" + PARAGRAPHS);
+            Path suppressedFile = tempDir.resolve("suppressed.adoc");
+            Files
+                    .writeString(suppressedFile, "= Document\n:author: Jane Doe\n\n"
+                            + PARAGRAPHS.replace("First line", "// asciidoc-linter-disable-next-block\nFirst line"));
+
+            // When
+            ValidationResult result = linter.validateFile(file, config);
+            ValidationResult suppressed = linter.validateFile(suppressedFile, config);
+
+            // Then
+            assertEquals(2, result.getMessages().size());
+            assertEquals(1, suppressed.getMessages().size());
+            assertEquals(10, suppressed.getMessages().get(0).getLocation().getStartLine());
+        }
+
+        @Test
+        @DisplayName("should drop the messages of the block after disable-next-block in content")
+        void shouldDropMessagesOfNextBlockInContent() {
+            // Given
+            String content = "= Document\n:author: Jane Doe\n\n"
+                    + PARAGRAPHS.replace("Third line", "// asciidoc-linter-disable-next-block\nThird line");
+
+            // When
+            ValidationResult result = linter.validateContent(content, config);
+
+            // Then
+            assertEquals(1, result.getMessages().size());
+            assertEquals(6, result.getMessages().get(0).getLocation().getStartLine());
+        }
+    }
+
     @Nested
     @DisplayName("validateDirectory")
     class ValidateDirectoryTest {
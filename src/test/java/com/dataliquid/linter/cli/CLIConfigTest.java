@@ -101,9 +101,20 @@ class CLIConfigTest {
             // Then
             assertEquals("console", config.getReportFormat());
             assertEquals(Severity.ERROR, config.getFailLevel());
+            assertEquals(Severity.INFO, config.getMinSeverity());
+            assertEquals(0, config.getMaxMessagesPerFile());
+            assertEquals(0, config.getMaxMessagesPerRule());
             assertNotNull(config.getBaseDirectory());
             assertNull(config.getConfigFile());
             assertNull(config.getReportOutput());
+            assertEquals(1, config.getThreads());
+        }
+
+        @Test
+        @DisplayName("should throw exception for thread count below one")
+        void shouldThrowExceptionForThreadCountBelowOne() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> CLIConfig.builder().inputPatterns(Arrays.asList("*.adoc")).threads(0).build());
         }
     }
 
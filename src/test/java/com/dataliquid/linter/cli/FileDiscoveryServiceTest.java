@@ -230,6 +230,128 @@ class FileDiscoveryServiceTest {
             // Then
             assertEquals(3, files.size());
         }
+
+        @Test
+        @DisplayName("should apply every pattern only to the directories it can reach")
+        void shouldApplyPatternsToReachableDirectories() throws IOException {
+            // Given
+            Path guideDir = tempDir.resolve("docs").resolve("guide");
+            Path moduleDir = tempDir.resolve("modules").resolve("core").resolve("docs");
+            Files.createDirectories(guideDir);
+            Files.createDirectories(moduleDir.resolve("api"));
+
+            Files.createFile(tempDir.resolve("docs").resolve("index.adoc"));
+            Files.createFile(guideDir.resolve("guide.adoc"));
+            Files.createFile(moduleDir.resolve("core.adoc"));
+            Files.createFile(moduleDir.resolve("api").resolve("api.adoc"));
+
+            CLIConfig config = CLIConfig
+                    .builder()
+                    .inputPatterns(Arrays.asList("docs/*.adoc", "modules/*/docs/**/*.adoc"))
+                    .baseDirectory(tempDir)
+                    .build();
+
+            // When
+            List<Path> files = service.discoverFiles(config);
+
+            // Then
+            List<String> relativePaths = files
+                    .stream()
+                    .map(p -> tempDir.relativize(p).toString().replace(java.io.File.separatorChar, '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+            assertEquals(List
+                    .of("docs/index.adoc", "modules/core/docs/api/api.adoc", "modules/core/docs/core.adoc"),
+                    relativePaths);
+        }
+    }
+
+    @Nested
+    @DisplayName("Exclusions")
+    class Exclusions {
+
+        private List<String> discover(CLIConfig config) throws IOException {
+            return service
+                    .discoverFiles(config)
+                    .stream()
+                    .map(p -> tempDir.relativize(p).toString().replace(java.io.File.separatorChar, '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        @Test
+        @DisplayName("should skip directories matching an exclude pattern")
+        void shouldSkipExcludedDirectories() throws IOException {
+            // Given
+            Files.createDirectories(tempDir.resolve("docs").resolve("node_modules").resolve("pkg"));
+            Files.createFile(tempDir.resolve("docs").resolve("index.adoc"));
+            Files.createFile(tempDir.resolve("docs").resolve("node_modules").resolve("pkg").resolve("README.adoc"));
+            Files.createFile(tempDir.resolve("docs").resolve("draft.adoc"));
+
+            CLIConfig config = CLIConfig
+                    .builder()
+                    .inputPatterns(Arrays.asList("**/*.adoc"))
+                    .excludePatterns(Arrays.asList("**/node_modules/**", "**/draft.adoc"))
+                    .baseDirectory(tempDir)
+                    .build();
+
+            // When
+            List<String> files = discover(config);
+
+            // Then
+            assertEquals(List.of("docs/index.adoc"), files);
+            assertFalse(service.matches(tempDir.resolve("docs/node_modules/pkg/README.adoc"), config));
+            assertTrue(service.matches(tempDir.resolve("docs/index.adoc"), config));
+        }
+
+        @Test
+        @DisplayName("should skip paths listed in ignore files")
+        void shouldSkipIgnoredPaths() throws IOException {
+            // Given
+            Files.createDirectories(tempDir.resolve("build").resolve("docs"));
+            Files.createDirectories(tempDir.resolve("docs").resolve("generated"));
+            Files.writeString(tempDir.resolve(".gitignore"), "# build output\nbuild/\n*.tmp.adoc\n!keep.tmp.adoc\n");
+            Files.writeString(tempDir.resolve("docs").resolve(".gitignore"), "/generated/\n");
+            Files.createFile(tempDir.resolve("build").resolve("docs").resolve("out.adoc"));
+            Files.createFile(tempDir.resolve("docs").resolve("generated").resolve("api.adoc"));
+            Files.createFile(tempDir.resolve("docs").resolve("index.adoc"));
+            Files.createFile(tempDir.resolve("docs").resolve("notes.tmp.adoc"));
+            Files.createFile(tempDir.resolve("docs").resolve("keep.tmp.adoc"));
+
+            CLIConfig config = CLIConfig
+                    .builder()
+                    .inputPatterns(Arrays.asList("**/*.adoc"))
+                    .ignoreFileNames(Arrays.asList(".gitignore"))
+                    .baseDirectory(tempDir)
+                    .build();
+
+            // When
+            List<String> files = discover(config);
+
+            // Then
+            assertEquals(List.of("docs/index.adoc", "docs/keep.tmp.adoc"), files);
+        }
+
+        @Test
+        @DisplayName("should still find explicitly named files")
+        void shouldFindExplicitlyNamedFiles() throws IOException {
+            // Given
+            Files.createDirectories(tempDir.resolve("build"));
+            Files.createFile(tempDir.resolve("build").resolve("out.adoc"));
+
+            CLIConfig config = CLIConfig
+                    .builder()
+                    .inputPatterns(Arrays.asList("build/out.adoc"))
+                    .excludePatterns(Arrays.asList("build/**"))
+                    .baseDirectory(tempDir)
+                    .build();
+
+            // When
+            List<String> files = discover(config);
+
+            // Then
+            assertEquals(List.of("build/out.adoc"), files);
+        }
     }
 
     @Nested